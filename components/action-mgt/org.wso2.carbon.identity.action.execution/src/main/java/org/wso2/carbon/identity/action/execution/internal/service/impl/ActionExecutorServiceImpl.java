@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.action.execution.internal.service.impl;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -68,6 +69,7 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -85,6 +87,9 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
     private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final ObjectWriter REQUEST_WRITER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY).writer();
+    private static final ObjectWriter RESPONSE_WRITER = new ObjectMapper().writer();
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private final APIClient apiClient;
@@ -253,7 +258,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
         try {
             authenticationMethod = getAuthenticationMethod(action.getId(), endpointAuthentication);
-            String payload = serializeRequest(actionRequest);
+            byte[] payload = serializeRequest(actionRequest);
 
             logActionRequest(action, payload);
 
@@ -293,11 +298,11 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private ActionInvocationResponse executeActionAsynchronously(Action action,
                                                                  AuthMethods.AuthMethod authenticationMethod,
-                                                                 String payload) throws ActionExecutionException {
+                                                                 byte[] payload) throws ActionExecutionException {
 
         String apiEndpoint = action.getEndpoint().getUri();
         CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()),
+                () -> apiClient.callAPI(ActionType.valueOf(action.getType().getActionType()), action.getId(),
                         apiEndpoint, authenticationMethod, payload), executorService);
         try {
             return actionExecutor.get();
@@ -307,7 +312,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
-    private void logActionRequest(Action action, String payload) {
+    private void logActionRequest(Action action, byte[] payload) {
 
         DIAGNOSTIC_LOGGER.logActionRequest(action);
         if (LOG.isDebugEnabled()) {
@@ -317,7 +322,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                     action.getType().getActionType(),
                     action.getId(),
                     action.getEndpoint().getAuthentication(),
-                    payload));
+                    new String(payload, StandardCharsets.UTF_8)));
         }
     }
 
@@ -527,37 +532,31 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
-    private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
+    private byte[] serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
 
-        ObjectMapper requestObjectmapper = new ObjectMapper();
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(request);
+        // Serialize straight to UTF-8 bytes, which are sent as the request entity without an intermediate string.
+        return REQUEST_WRITER.writeValueAsBytes(request);
     }
 
     private String serializeSuccessResponse(ActionInvocationSuccessResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeIncompleteResponse(ActionInvocationIncompleteResponse response)
             throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeErrorResponse(ActionInvocationErrorResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeFailureResponse(ActionInvocationFailureResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private List<PerformableOperation> validatePerformableOperations(
@@ -21,8 +21,6 @@ package org.wso2.carbon.identity.action.execution.internal.service.impl;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
 import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
 
@@ -40,9 +38,8 @@ public class ResponseDataDeserializer extends JsonDeserializer<ResponseData> {
             throws IOException {
 
         ActionType actionType = (ActionType) ctxt.getAttribute(ACTION_TYPE_ATTR_NAME);
-        JsonNode node = p.getCodec().readTree(p);
-        ObjectMapper mapper = (ObjectMapper) p.getCodec();
-        return mapper.treeToValue(node,
+        // Bind directly from the current parser, which works with both ObjectMapper and ObjectReader based parsing.
+        return ctxt.readValue(p,
                 ActionInvocationResponseClassFactory.getInvocationSuccessResponseDataClass(actionType));
     }
 }
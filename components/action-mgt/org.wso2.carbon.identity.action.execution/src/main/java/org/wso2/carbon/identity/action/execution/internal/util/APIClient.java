@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.action.execution.internal.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,11 +31,10 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.conn.ConnectTimeoutException;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionInvocationException;
 import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
@@ -47,8 +47,12 @@ import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
-import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is responsible for making API calls to the external services.
@@ -58,7 +62,32 @@ public class APIClient {
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(ResponseData.class, new ResponseDataDeserializer()));
+    private static final ObjectReader TREE_READER = OBJECT_MAPPER.reader();
+    private static final ObjectReader INCOMPLETE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationIncompleteResponse.class);
+    private static final ObjectReader FAILURE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationFailureResponse.class);
+    private static final ObjectReader ERROR_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationErrorResponse.class);
+    private static final ObjectReader DEFAULT_SUCCESS_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationSuccessResponse.class);
+    private static final Map<ActionType, ObjectReader> SUCCESS_RESPONSE_READERS = new EnumMap<>(ActionType.class);
+
+    static {
+        // The response data class is resolved by the deserializer at read time based on the action type attribute.
+        for (ActionType actionType : ActionType.values()) {
+            SUCCESS_RESPONSE_READERS.put(actionType, DEFAULT_SUCCESS_RESPONSE_READER
+                    .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
+        }
+    }
+
     private final CloseableHttpClient httpClient;
+    private final ActionCircuitBreaker circuitBreaker;
+    private final long retryBackoffInitialDelay;
+    private final long retryBackoffMaxDelay;
+    private final long metricsLogIntervalNanos;
 
     public APIClient() {
 
@@ -76,23 +105,79 @@ public class APIClient {
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        // Limit the connections per endpoint host so that a slow endpoint cannot exhaust the whole pool.
+        int maxPerRoute = ActionExecutorConfig.getInstance().getHttpConnectionPoolSizePerRoute();
+        if (maxPerRoute > 0) {
+            connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        }
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
+
+        circuitBreaker = new ActionCircuitBreaker(
+                ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold(),
+                ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis());
+        retryBackoffInitialDelay = ActionExecutorConfig.getInstance().getHttpRetryBackoffInitialDelayInMillis();
+        retryBackoffMaxDelay = ActionExecutorConfig.getInstance().getHttpRetryBackoffMaxDelayInMillis();
+        metricsLogIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+                ActionExecutorConfig.getInstance().getMetricsLogIntervalInMillis());
     }
 
-    public ActionInvocationResponse callAPI(ActionType actionType, String url, AuthMethods.AuthMethod authMethod,
-                                            String payload) {
+    public ActionInvocationResponse callAPI(ActionType actionType, String actionId, String url,
+                                            AuthMethods.AuthMethod authMethod, byte[] payload) {
 
         HttpPost httpPost = new HttpPost(url);
+        if (!circuitBreaker.allowRequest(actionId)) {
+            DIAGNOSTIC_LOGGER.logAPICallRejected(actionId, httpPost,
+                    ActionExecutionMetrics.getInstance().recordRejection(actionId));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipped calling API: " + url + " of action: " + actionId +
+                        " as the circuit of the action is open.");
+            }
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("External endpoint of the action is temporarily not called due to continuous failures.")
+                    .build();
+        }
         setRequestEntity(httpPost, payload, authMethod, actionType);
 
-        return executeRequest(actionType, httpPost);
+        long startTime = System.nanoTime();
+        ActionInvocationResponse actionInvocationResponse = executeRequest(actionType, httpPost);
+        recordInvocation(actionId, httpPost, actionInvocationResponse, System.nanoTime() - startTime);
+        return actionInvocationResponse;
     }
 
-    private void setRequestEntity(HttpPost httpPost, String jsonRequest, AuthMethods.AuthMethod authMethod,
+    private void recordInvocation(String actionId, HttpPost request, ActionInvocationResponse response,
+                                  long durationNanos) {
+
+        // An error response returned by the endpoint means the endpoint is reachable, hence only errors without a
+        // response count as endpoint failures for the circuit breaker.
+        if (response.isError() && response.getResponse() == null) {
+            if (circuitBreaker.recordFailure(actionId)) {
+                LOG.warn("External endpoint: " + request.getURI() + " of action: " + actionId + " failed " +
+                        "continuously. The endpoint will not be called until the circuit open duration elapses.");
+            }
+        } else {
+            circuitBreaker.recordSuccess(actionId);
+        }
+
+        if (actionId == null) {
+            return;
+        }
+        ActionExecutionMetrics.ActionMetrics actionMetrics =
+                ActionExecutionMetrics.getInstance().record(actionId, durationNanos, response.isError());
+        if (actionMetrics.claimLogTurn(metricsLogIntervalNanos)) {
+            DIAGNOSTIC_LOGGER.logActionMetrics(actionId, request, actionMetrics);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request for external endpoint: " + request.getURI() + " of action: " + actionId +
+                    (response.isError() ? " failed" : " completed") + " in " +
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms.");
+        }
+    }
+
+    private void setRequestEntity(HttpPost httpPost, byte[] jsonRequest, AuthMethods.AuthMethod authMethod,
                                   ActionType actionType) {
 
-        StringEntity entity = new StringEntity(jsonRequest, StandardCharsets.UTF_8);
+        ByteArrayEntity entity = new ByteArrayEntity(jsonRequest);
         if (authMethod != null) {
             authMethod.applyAuth(httpPost);
         }
@@ -128,6 +213,9 @@ public class APIClient {
                 request.releaseConnection();
             }
             attempts++;
+            if (attempts < retryCount && !waitBeforeRetry(attempts)) {
+                break;
+            }
         }
 
         LOG.warn("Maximum retry attempts reached for API: " + request.getURI(), throwable);
@@ -135,6 +223,32 @@ public class APIClient {
                 .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
     }
 
+    /**
+     * Wait before the next attempt using exponential backoff with jitter, so that retries of concurrent requests
+     * to an unavailable endpoint are spread out instead of hitting the endpoint at the same time.
+     *
+     * @param attempt Number of attempts made so far.
+     * @return False if the thread was interrupted while waiting.
+     */
+    private boolean waitBeforeRetry(int attempt) {
+
+        if (retryBackoffInitialDelay <= 0) {
+            return true;
+        }
+        long delay = retryBackoffInitialDelay << Math.min(attempt - 1, 16);
+        if (retryBackoffMaxDelay > 0) {
+            delay = Math.min(delay, retryBackoffMaxDelay);
+        }
+        long jitteredDelay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            Thread.sleep(jitteredDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
 
         int statusCode = response.getStatusLine().getStatusCode();
@@ -226,60 +340,57 @@ public class APIClient {
 
         // If an error response is received, return the error response in order to communicate back to the client.
         if (isAcceptablePayload(responseEntity)) {
-            return deserialize(responseEntity, ActionInvocationErrorResponse.class);
+            return deserializeErrorResponse(responseEntity);
         }
         return null;
     }
 
-    private String validateJsonResponse(HttpEntity responseEntity) throws ActionInvocationException {
+    private void validateJsonResponse(HttpEntity responseEntity) throws ActionInvocationException {
 
         if (!isAcceptablePayload(responseEntity)) {
             throw new ActionInvocationException("The response content type is not application/json.");
         }
-
-        try {
-            return EntityUtils.toString(responseEntity);
-        } catch (IOException e) {
-            throw new ActionInvocationException("Reading JSON response failed.", e);
-        }
     }
 
     private ActionInvocationResponse.APIResponse deserializeSuccessOrFailureResponse(ActionType actionType,
                                                                                      HttpEntity responseEntity)
             throws ActionInvocationException {
 
-        try {
-            String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            String actionStatus = rootNode.path(ACTION_STATUS).asText();
+        validateJsonResponse(responseEntity);
+        try (InputStream content = responseEntity.getContent()) {
+            // Parse the payload once from the stream and bind the parsed tree based on the action status.
+            JsonNode rootNode = TREE_READER.readTree(content);
+            String actionStatus = rootNode == null ? "" : rootNode.path(ACTION_STATUS).asText();
             if (actionStatus.isEmpty()) {
                 throw new ActionInvocationException("Reading JSON response failed.");
             }
             if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                // Configure dynamic deserializer for the extended ResponseData class based on the action type.
-                SimpleModule module = new SimpleModule();
-                module.addDeserializer(ResponseData.class, new ResponseDataDeserializer());
-                objectMapper.setConfig(objectMapper.getDeserializationConfig()
-                        .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
-                objectMapper.registerModule(module);
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+                return getSuccessResponseReader(actionType).readValue(rootNode);
             } else if (actionStatus.equals(ActionExecutionStatus.Status.INCOMPLETE.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationIncompleteResponse.class);
+                return INCOMPLETE_RESPONSE_READER.readValue(rootNode);
             } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+                return FAILURE_RESPONSE_READER.readValue(rootNode);
             }
         } catch (IOException e) {
             throw new ActionInvocationException("Reading JSON response failed.", e);
         }
     }
 
-    private <T> T deserialize(HttpEntity responseEntity, Class<T> returnType) throws ActionInvocationException {
+    private ObjectReader getSuccessResponseReader(ActionType actionType) {
 
-        try {
-            String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
+        // Without an action type, the deserializer falls back to the default response data class.
+        if (actionType == null) {
+            return DEFAULT_SUCCESS_RESPONSE_READER;
+        }
+        return SUCCESS_RESPONSE_READERS.get(actionType);
+    }
+
+    private ActionInvocationErrorResponse deserializeErrorResponse(HttpEntity responseEntity)
+            throws ActionInvocationException {
+
+        validateJsonResponse(responseEntity);
+        try (InputStream content = responseEntity.getContent()) {
+            return ERROR_RESPONSE_READER.readValue(content);
         } catch (IOException e) {
             throw new ActionInvocationException("Parsing JSON response failed.", e);
         }
@@ -40,6 +40,9 @@ public class ActionAPIVersionResolver {
      */
     public static String resolveAPIVersion(ActionType actionType) {
 
+        if (actionType == null) {
+            return "v1";
+        }
         switch (actionType) {
             case PRE_UPDATE_PASSWORD:
             case AUTHENTICATION:
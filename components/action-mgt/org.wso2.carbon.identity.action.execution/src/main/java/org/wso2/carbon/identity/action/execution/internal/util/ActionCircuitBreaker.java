@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker kept per action ID.
+ * <p>
+ * Once an action fails the configured number of times in a row, the circuit of the action is opened and the action
+ * endpoint is not called until the open duration elapses. After that a single trial invocation is allowed, which
+ * closes the circuit on success or opens it again on failure.
+ */
+public class ActionCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public ActionCircuitBreaker(int failureThreshold, long openDurationMillis) {
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * Check whether the circuit breaker is enabled.
+     *
+     * @return True if a positive failure threshold is configured.
+     */
+    public boolean isEnabled() {
+
+        return failureThreshold > 0;
+    }
+
+    /**
+     * Check whether the endpoint of the given action can be called.
+     *
+     * @param actionId Action ID.
+     * @return False if the circuit of the action is open.
+     */
+    public boolean allowRequest(String actionId) {
+
+        if (!isEnabled() || actionId == null) {
+            return true;
+        }
+        Circuit circuit = circuits.get(actionId);
+        if (circuit == null || circuit.openedAt.get() == 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() - circuit.openedAt.get() < openDurationMillis) {
+            return false;
+        }
+        // Open duration has elapsed. Let a single request through to probe the endpoint.
+        return circuit.trialInProgress.compareAndSet(false, true);
+    }
+
+    /**
+     * Record a successful invocation of the given action, closing and discarding its circuit.
+     *
+     * @param actionId Action ID.
+     */
+    public void recordSuccess(String actionId) {
+
+        if (!isEnabled() || actionId == null) {
+            return;
+        }
+        // Only failing actions are tracked, so that the circuits do not grow with the number of actions.
+        circuits.remove(actionId);
+    }
+
+    /**
+     * Record a failed invocation of the given action.
+     *
+     * @param actionId Action ID.
+     * @return True if this failure opened the circuit of the action.
+     */
+    public boolean recordFailure(String actionId) {
+
+        if (!isEnabled() || actionId == null) {
+            return false;
+        }
+        Circuit circuit = circuits.computeIfAbsent(actionId, k -> new Circuit());
+        int failures = circuit.consecutiveFailures.incrementAndGet();
+        if (circuit.trialInProgress.get() || (failures >= failureThreshold && circuit.openedAt.get() == 0)) {
+            circuit.openedAt.set(System.currentTimeMillis());
+            circuit.trialInProgress.set(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the circuit of the given action is currently open.
+     *
+     * @param actionId Action ID.
+     * @return True if the circuit is open.
+     */
+    public boolean isOpen(String actionId) {
+
+        Circuit circuit = circuits.get(actionId);
+        return circuit != null && circuit.openedAt.get() != 0;
+    }
+
+    /**
+     * Failure state of the circuit of a single action.
+     */
+    private static class Circuit {
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong openedAt = new AtomicLong();
+        private final AtomicBoolean trialInProgress = new AtomicBoolean();
+    }
+}
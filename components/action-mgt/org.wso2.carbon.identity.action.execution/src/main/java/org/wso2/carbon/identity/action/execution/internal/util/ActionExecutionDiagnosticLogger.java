@@ -231,6 +231,48 @@ public class ActionExecutionDiagnosticLogger {
                         DiagnosticLog.ResultStatus.FAILED));
     }
 
+    public void logAPICallRejected(String actionId, HttpPost request,
+                                   ActionExecutionMetrics.ActionMetrics actionMetrics) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = initializeDiagnosticLogBuilder(
+                ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
+                "Request for external endpoint " + request.getURI() + " for action is not sent as the endpoint " +
+                        "failed continuously.",
+                DiagnosticLog.ResultStatus.FAILED);
+        triggerLogEvent(addActionMetricsParams(diagnosticLogBuilder, actionId, actionMetrics));
+    }
+
+    public void logActionMetrics(String actionId, HttpPost request,
+                                 ActionExecutionMetrics.ActionMetrics actionMetrics) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = initializeDiagnosticLogBuilder(
+                ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
+                "Latency and error metrics of the external endpoint " + request.getURI() + " for action.",
+                DiagnosticLog.ResultStatus.SUCCESS);
+        triggerLogEvent(addActionMetricsParams(diagnosticLogBuilder, actionId, actionMetrics));
+    }
+
+    private DiagnosticLog.DiagnosticLogBuilder addActionMetricsParams(
+            DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder, String actionId,
+            ActionExecutionMetrics.ActionMetrics actionMetrics) {
+
+        return diagnosticLogBuilder
+                .configParam("resourceId", actionId)
+                .configParam("invocationCount", actionMetrics.getInvocationCount())
+                .configParam("errorCount", actionMetrics.getErrorCount())
+                .configParam("rejectedCount", actionMetrics.getRejectedCount())
+                .configParam("averageLatency", actionMetrics.getAverageLatencyMillis())
+                .configParam("maxLatency", actionMetrics.getMaxLatencyMillis());
+    }
+
     private DiagnosticLog.DiagnosticLogBuilder addActionConfigParams(
             DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder, Action action) {
 
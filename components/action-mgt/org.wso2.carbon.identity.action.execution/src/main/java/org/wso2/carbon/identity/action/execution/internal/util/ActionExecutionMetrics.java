@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps per action latency and error counts of the external endpoint invocations.
+ * <p>
+ * Metrics are kept for at most {@link #MAX_TRACKED_ACTIONS} actions. When a new action is recorded at that limit,
+ * the metrics of the action which was invoked least recently are discarded.
+ */
+public class ActionExecutionMetrics {
+
+    public static final int MAX_TRACKED_ACTIONS = 1000;
+    private static final ActionExecutionMetrics INSTANCE = new ActionExecutionMetrics();
+
+    private final Map<String, ActionMetrics> actionMetrics = new ConcurrentHashMap<>();
+
+    private ActionExecutionMetrics() {
+
+    }
+
+    public static ActionExecutionMetrics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Record an invocation of the endpoint of the given action.
+     *
+     * @param actionId      Action ID.
+     * @param durationNanos Time taken for the invocation including the retries, in nanoseconds.
+     * @param error         Whether the invocation ended with an error.
+     * @return Updated metrics of the action.
+     */
+    public ActionMetrics record(String actionId, long durationNanos, boolean error) {
+
+        ActionMetrics metrics = getOrCreateActionMetrics(actionId);
+        metrics.record(durationNanos, error);
+        return metrics;
+    }
+
+    /**
+     * Record an invocation rejected without calling the endpoint because the circuit of the action is open.
+     *
+     * @param actionId Action ID.
+     * @return Updated metrics of the action.
+     */
+    public ActionMetrics recordRejection(String actionId) {
+
+        ActionMetrics metrics = getOrCreateActionMetrics(actionId);
+        metrics.rejectedCount.incrementAndGet();
+        metrics.lastRecordedAt = System.nanoTime();
+        return metrics;
+    }
+
+    /**
+     * Get the metrics of all the actions that have been invoked at least once.
+     *
+     * @return Unmodifiable map of action ID to metrics.
+     */
+    public Map<String, ActionMetrics> getActionMetrics() {
+
+        return Collections.unmodifiableMap(actionMetrics);
+    }
+
+    public void reset() {
+
+        actionMetrics.clear();
+    }
+
+    private ActionMetrics getOrCreateActionMetrics(String actionId) {
+
+        ActionMetrics metrics = actionMetrics.get(actionId);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (actionMetrics.size() >= MAX_TRACKED_ACTIONS) {
+            evictLeastRecentlyRecorded();
+        }
+        return actionMetrics.computeIfAbsent(actionId, k -> new ActionMetrics());
+    }
+
+    private void evictLeastRecentlyRecorded() {
+
+        String eldestActionId = null;
+        long eldestRecordedAt = Long.MAX_VALUE;
+        for (Map.Entry<String, ActionMetrics> entry : actionMetrics.entrySet()) {
+            if (entry.getValue().lastRecordedAt < eldestRecordedAt) {
+                eldestRecordedAt = entry.getValue().lastRecordedAt;
+                eldestActionId = entry.getKey();
+            }
+        }
+        if (eldestActionId != null) {
+            actionMetrics.remove(eldestActionId);
+        }
+    }
+
+    /**
+     * Latency and error counts of a single action.
+     */
+    public static class ActionMetrics {
+
+        private final AtomicLong invocationCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong rejectedCount = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong lastLoggedAt = new AtomicLong(System.nanoTime());
+        private volatile long lastRecordedAt = System.nanoTime();
+
+        void record(long durationNanos, boolean error) {
+
+            lastRecordedAt = System.nanoTime();
+            invocationCount.incrementAndGet();
+            if (error) {
+                errorCount.incrementAndGet();
+            }
+            totalNanos.addAndGet(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+        }
+
+        /**
+         * Claim the turn to log the metrics of the action. At most one caller gets the turn per interval, so the
+         * metrics are logged periodically while the action is invoked, without a separate scheduler.
+         *
+         * @param intervalNanos Minimum interval between two logs, in nanoseconds.
+         * @return True if the caller should log the metrics now.
+         */
+        public boolean claimLogTurn(long intervalNanos) {
+
+            if (intervalNanos <= 0) {
+                return false;
+            }
+            long now = System.nanoTime();
+            long lastLogged = lastLoggedAt.get();
+            return now - lastLogged >= intervalNanos && lastLoggedAt.compareAndSet(lastLogged, now);
+        }
+
+        public long getInvocationCount() {
+
+            return invocationCount.get();
+        }
+
+        public long getErrorCount() {
+
+            return errorCount.get();
+        }
+
+        public long getRejectedCount() {
+
+            return rejectedCount.get();
+        }
+
+        public long getAverageLatencyMillis() {
+
+            long count = invocationCount.get();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / count);
+        }
+
+        public long getMaxLatencyMillis() {
+
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+    }
+}
@@ -49,9 +49,25 @@ public class ActionExecutorConfig {
             "Actions.HTTPClient.HTTPConnectionRequestTimeout";
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
+    private static final String HTTP_CONNECTION_POOL_SIZE_PER_ROUTE_PROPERTY =
+            "Actions.HTTPClient.HTTPConnectionPoolSizePerRoute";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_RETRY_BACKOFF_INITIAL_DELAY_PROPERTY =
+            "Actions.HTTPClient.RetryBackoff.InitialDelay";
+    private static final String HTTP_RETRY_BACKOFF_MAX_DELAY_PROPERTY = "Actions.HTTPClient.RetryBackoff.MaxDelay";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.OpenDuration";
+    private static final String METRICS_LOG_INTERVAL_PROPERTY = "Actions.HTTPClient.MetricsLogInterval";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
+    private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE_PER_ROUTE = 20;
+    private static final int DEFAULT_HTTP_RETRY_BACKOFF_INITIAL_DELAY_IN_MILLIS = 0;
+    private static final int DEFAULT_HTTP_RETRY_BACKOFF_MAX_DELAY_IN_MILLIS = 1000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 0;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
+    private static final int DEFAULT_METRICS_LOG_INTERVAL_IN_MILLIS = 60000;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
@@ -132,6 +148,73 @@ public class ActionExecutorConfig {
         return poolSizePropertyValue;
     }
 
+    /**
+     * Returns the maximum number of HTTP connections per external endpoint host based on the system configuration.
+     * This keeps a single slow endpoint from holding all the connections of the pool.
+     *
+     * @return The HTTP connection pool size per route, or the default if the property is missing or invalid.
+     */
+    public int getHttpConnectionPoolSizePerRoute() {
+
+        return parseIntConfig(HTTP_CONNECTION_POOL_SIZE_PER_ROUTE_PROPERTY,
+                DEFAULT_HTTP_CONNECTION_POOL_SIZE_PER_ROUTE);
+    }
+
+    /**
+     * Retrieves the initial delay before retrying a failed HTTP request. The delay is doubled for each subsequent
+     * retry up to the maximum retry delay. Backoff is disabled by default, in which case retries are immediate.
+     *
+     * @return The initial retry backoff delay int value in milliseconds.
+     */
+    public int getHttpRetryBackoffInitialDelayInMillis() {
+
+        return parseIntConfig(HTTP_RETRY_BACKOFF_INITIAL_DELAY_PROPERTY,
+                DEFAULT_HTTP_RETRY_BACKOFF_INITIAL_DELAY_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum delay before retrying a failed HTTP request.
+     *
+     * @return The maximum retry backoff delay int value in milliseconds.
+     */
+    public int getHttpRetryBackoffMaxDelayInMillis() {
+
+        return parseIntConfig(HTTP_RETRY_BACKOFF_MAX_DELAY_PROPERTY, DEFAULT_HTTP_RETRY_BACKOFF_MAX_DELAY_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the number of consecutive failed invocations of an action after which the action endpoint is not
+     * called until the circuit open duration elapses. A value less than or equal to zero, which is the default,
+     * disables the circuit breaker.
+     *
+     * @return The circuit breaker failure threshold.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY, DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the duration for which an action endpoint is not called once its circuit is opened.
+     *
+     * @return The circuit open duration int value in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseIntConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY, DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the minimum interval between two diagnostic logs of the latency and error metrics of an action.
+     * A value less than or equal to zero disables the metrics logs.
+     *
+     * @return The metrics log interval int value in milliseconds.
+     */
+    public int getMetricsLogIntervalInMillis() {
+
+        return parseIntConfig(METRICS_LOG_INTERVAL_PROPERTY, DEFAULT_METRICS_LOG_INTERVAL_IN_MILLIS);
+    }
+
     /**
      * Retrieves the HTTP read timeout configuration.
      * If the configuration value is invalid or missing, the default timeout value is parsed.
@@ -140,7 +223,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpReadTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
+        return parseIntConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
     }
 
     /**
@@ -151,7 +234,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionRequestTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
+        return parseIntConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
                 DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS);
     }
 
@@ -163,22 +246,22 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
+        return parseIntConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
-    private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
+    private int parseIntConfig(String propertyName, int defaultValue) {
 
-        int timeoutPropertyValue = defaultTimeout;
-        String timeoutValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(timeoutTypeName);
-        if (StringUtils.isNotBlank(timeoutValue)) {
+        int propertyValue = defaultValue;
+        String value = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isNotBlank(value)) {
             try {
-                timeoutPropertyValue = Integer.parseInt(timeoutValue);
+                propertyValue = Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                LOG.debug("Failed to read " + timeoutTypeName + " property in identity.xml." +
-                        " Expects a number. Using the default value: " + defaultTimeout, e);
+                LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                        " Expects a number. Using the default value: " + defaultValue, e);
             }
         }
-        return timeoutPropertyValue;
+        return propertyValue;
     }
 
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
@@ -88,6 +88,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -390,13 +391,13 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
 
-        String payload = getJSONRequestPayload(actionExecutionRequest);
+        byte[] payload = getJSONRequestPayload(actionExecutionRequest);
         // Verify that the HTTP client was called with the expected request
-        verify(apiClient).callAPI(any(), any(), any(), eq(payload));
+        verify(apiClient).callAPI(any(), any(), any(), any(), aryEq(payload));
     }
 
     @Test
@@ -421,13 +422,13 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
 
-        String payload = getJSONRequestPayload(actionExecutionRequest);
+        byte[] payload = getJSONRequestPayload(actionExecutionRequest);
         // Verify that the HTTP client was called with the expected request
-        verify(apiClient).callAPI(any(), any(), any(), eq(payload));
+        verify(apiClient).callAPI(any(), any(), any(), any(), aryEq(payload));
     }
 
     @Test
@@ -458,7 +459,7 @@ public class ActionExecutorServiceImplTest {
 
         ActionInvocationResponse actionInvocationResponse =
                 createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -506,7 +507,7 @@ public class ActionExecutorServiceImplTest {
                 actionExecutionRequest);
 
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -543,7 +544,7 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createFailureActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         ActionExecutionStatus expectedStatus = new FailedStatus(new Failure("Error_reason",
                 "Error_description"));
@@ -582,7 +583,7 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createIncompleteActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         ActionExecutionStatus expectedStatus = new IncompleteStatus.Builder().build();
         when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
@@ -622,7 +623,7 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
     }
@@ -648,7 +649,7 @@ public class ActionExecutorServiceImplTest {
                 mock(ActionExecutionRequest.class));
 
         ActionInvocationResponse actionInvocationResponse = createErrorActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPI(any(), any(), any(), any(), any())).thenReturn(actionInvocationResponse);
 
         ActionExecutionStatus expectedStatus = new ErrorStatus(new Error("Error_message",
                 "Error_description"));
@@ -667,12 +668,12 @@ public class ActionExecutorServiceImplTest {
         assertEquals(actionExecutionStatusWithActionIds.getStatus(), expectedStatus.getStatus());
     }
 
-    private String getJSONRequestPayload(ActionExecutionRequest actionExecutionRequest) throws JsonProcessingException {
+    private byte[] getJSONRequestPayload(ActionExecutionRequest actionExecutionRequest) throws JsonProcessingException {
 
         ObjectMapper requestObjectmapper = new ObjectMapper();
         requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(actionExecutionRequest);
+        return requestObjectmapper.writeValueAsBytes(actionExecutionRequest);
     }
 
     private ActionInvocationResponse createSuccessActionInvocationResponse() throws Exception {
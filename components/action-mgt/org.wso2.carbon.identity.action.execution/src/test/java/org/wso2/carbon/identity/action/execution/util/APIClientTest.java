@@ -29,6 +29,8 @@ import org.apache.http.conn.ConnectTimeoutException;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -46,6 +48,7 @@ import org.wso2.carbon.identity.action.execution.api.model.ActionType;
 import org.wso2.carbon.identity.action.execution.api.model.Operation;
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionInvocationResponseClassFactory;
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionCircuitBreaker;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
 import org.wso2.carbon.identity.action.management.api.model.AuthProperty;
@@ -73,6 +76,9 @@ import static org.testng.Assert.assertTrue;
 
 public class APIClientTest {
 
+    private static final String ACTION_ID = "actionId";
+    private static final byte[] PAYLOAD = "{}".getBytes(StandardCharsets.UTF_8);
+
     @Mock
     private CloseableHttpClient httpClient;
 
@@ -122,7 +128,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
         assertNotNull(apiResponse);
         assertNull(apiResponse.getResponse());
         assertFalse(apiResponse.isRetry());
@@ -151,7 +157,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
         assertNotNull(apiResponse);
         assertTrue(apiResponse.isError());
         assertFalse(apiResponse.isRetry());
@@ -178,7 +184,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(apiResponse);
         assertNotNull(apiResponse.getResponse());
@@ -201,6 +207,31 @@ public class APIClientTest {
         assertNull(apiResponse.getErrorLog());
     }
 
+    @Test
+    public void testCallAPISuccessResponseWithoutActionType() throws Exception {
+
+        String successResponse = "{\"actionStatus\":\"SUCCESS\",\"operations\":[" +
+                "{\"op\":\"remove\",\"path\":\"/accessToken/claims/0\"}]}";
+
+        when(httpClient.execute(any(HttpPost.class))).thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+
+        InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(successResponse.getBytes(
+                StandardCharsets.UTF_8)));
+        entity.setContentType(ContentType.APPLICATION_JSON.getMimeType());
+        when(httpResponse.getEntity()).thenReturn(entity);
+
+        ActionInvocationResponse apiResponse = apiClient.callAPI(null, ACTION_ID, "http://example.com", null,
+                PAYLOAD);
+
+        assertNotNull(apiResponse);
+        assertTrue(apiResponse.getResponse() instanceof ActionInvocationSuccessResponse);
+        assertEquals(((ActionInvocationSuccessResponse) apiResponse.getResponse()).getOperations().get(0).getOp(),
+                Operation.REMOVE);
+        assertNull(apiResponse.getErrorLog());
+    }
+
     @Test
     public void testCallAPIAcceptablePayloadForIncompleteResponse() throws Exception {
 
@@ -218,7 +249,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(apiResponse);
         assertNotNull(apiResponse.getResponse());
@@ -258,7 +289,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(apiResponse);
         assertTrue(apiResponse.isError());
@@ -289,7 +320,7 @@ public class APIClientTest {
                 .build();
         AuthMethods.AuthMethod bearAuth = new AuthMethods.BearerAuth(Collections.singletonList(authProperty));
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", bearAuth, "{}");
+                ACTION_ID, "http://example.com", bearAuth, PAYLOAD);
 
         assertNotNull(apiResponse);
         assertNotNull(apiResponse.getResponse());
@@ -334,7 +365,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
         assertNotNull(apiResponse);
         assertTrue(apiResponse.isError());
         assertFalse(apiResponse.isRetry());
@@ -385,7 +416,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
         assertNotNull(apiResponse);
         assertTrue(apiResponse.isError());
         if ((int) statusCode == 500 || (int) statusCode == 502) { // This is a retry
@@ -430,7 +461,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(apiResponse);
         assertNotNull(apiResponse.getResponse());
@@ -466,7 +497,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(response);
         assertTrue(response.isSuccess());
@@ -491,7 +522,7 @@ public class APIClientTest {
         when(httpResponse.getEntity()).thenReturn(entity);
 
         ActionInvocationResponse response = apiClient.callAPI(ActionType.AUTHENTICATION,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(response);
         assertTrue(response.isSuccess());
@@ -504,7 +535,7 @@ public class APIClientTest {
                 .thenThrow(new SocketTimeoutException("Read Timeout"));
 
         ActionInvocationResponse response = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
 
         assertNotNull(response);
         assertTrue(response.isError());
@@ -518,13 +549,55 @@ public class APIClientTest {
         when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected exception"));
 
         ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
-                "http://example.com", null, "{}");
+                ACTION_ID, "http://example.com", null, PAYLOAD);
         assertNotNull(apiResponse);
         assertTrue(apiResponse.isError());
         assertEquals(apiResponse.getErrorLog(),
                 "Failed to execute the action request or maximum retry attempts reached.");
     }
 
+    @Test
+    public void testCallAPIWritesPayloadToRequestEntity() throws Exception {
+
+        when(httpClient.execute(any(HttpPost.class))).thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(
+                "{\"actionStatus\":\"SUCCESS\"}".getBytes(StandardCharsets.UTF_8)));
+        entity.setContentType(ContentType.APPLICATION_JSON.getMimeType());
+        when(httpResponse.getEntity()).thenReturn(entity);
+
+        byte[] payload = "{\"actionType\":\"PRE_ISSUE_ACCESS_TOKEN\"}".getBytes(StandardCharsets.UTF_8);
+        apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, ACTION_ID, "http://example.com", null, payload);
+
+        ArgumentCaptor<HttpPost> requestCaptor = ArgumentCaptor.forClass(HttpPost.class);
+        verify(httpClient).execute(requestCaptor.capture());
+        assertEquals(EntityUtils.toByteArray(requestCaptor.getValue().getEntity()), payload);
+        assertEquals(requestCaptor.getValue().getFirstHeader("Content-type").getValue(), "application/json");
+    }
+
+    @Test
+    public void testCallAPIIsSkippedWhenCircuitIsOpen() throws Exception {
+
+        setField(apiClient, "circuitBreaker", new ActionCircuitBreaker(2, 60000));
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected exception"));
+
+        apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, ACTION_ID, "http://example.com", null, PAYLOAD);
+        apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, ACTION_ID, "http://example.com", null, PAYLOAD);
+        ActionInvocationResponse apiResponse = apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN,
+                ACTION_ID, "http://example.com", null, PAYLOAD);
+
+        assertNotNull(apiResponse);
+        assertTrue(apiResponse.isError());
+        assertEquals(apiResponse.getErrorLog(),
+                "External endpoint of the action is temporarily not called due to continuous failures.");
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+
+        // Circuits are kept per action, so other actions are still invoked.
+        apiClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, "otherActionId", "http://example.com", null, PAYLOAD);
+        verify(httpClient, times(3)).execute(any(HttpPost.class));
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field = target.getClass().getDeclaredField(fieldName);
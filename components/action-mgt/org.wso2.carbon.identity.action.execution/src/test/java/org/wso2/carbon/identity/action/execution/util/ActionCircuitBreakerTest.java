@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionCircuitBreaker;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ActionCircuitBreakerTest {
+
+    private static final String ACTION_ID = "actionId";
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(3, 60000);
+
+        assertFalse(circuitBreaker.recordFailure(ACTION_ID));
+        assertFalse(circuitBreaker.recordFailure(ACTION_ID));
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+        assertTrue(circuitBreaker.recordFailure(ACTION_ID));
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        assertTrue(circuitBreaker.isOpen(ACTION_ID));
+        assertTrue(circuitBreaker.allowRequest("otherActionId"));
+    }
+
+    @Test
+    public void testSuccessResetsConsecutiveFailures() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 60000);
+
+        circuitBreaker.recordFailure(ACTION_ID);
+        circuitBreaker.recordSuccess(ACTION_ID);
+        assertFalse(circuitBreaker.recordFailure(ACTION_ID));
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+    }
+
+    @Test
+    public void testSingleTrialRequestAfterOpenDuration() throws Exception {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(1, 50);
+
+        assertTrue(circuitBreaker.recordFailure(ACTION_ID));
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        Thread.sleep(100);
+
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+
+        // A failed trial opens the circuit again.
+        assertTrue(circuitBreaker.recordFailure(ACTION_ID));
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        Thread.sleep(100);
+
+        // A successful trial closes the circuit.
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+        circuitBreaker.recordSuccess(ACTION_ID);
+        assertFalse(circuitBreaker.isOpen(ACTION_ID));
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+    }
+
+    @Test
+    public void testCircuitBreakerDisabled() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(0, 60000);
+
+        assertFalse(circuitBreaker.recordFailure(ACTION_ID));
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+    }
+}
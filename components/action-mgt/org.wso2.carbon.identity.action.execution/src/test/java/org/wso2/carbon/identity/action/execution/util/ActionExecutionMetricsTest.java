@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ActionExecutionMetricsTest {
+
+    @AfterMethod
+    public void tearDown() {
+
+        ActionExecutionMetrics.getInstance().reset();
+    }
+
+    @Test
+    public void testRecordInvocations() {
+
+        ActionExecutionMetrics metrics = ActionExecutionMetrics.getInstance();
+        metrics.record("actionId", 2_000_000L, false);
+        metrics.record("actionId", 4_000_000L, true);
+        ActionExecutionMetrics.ActionMetrics actionMetrics = metrics.recordRejection("actionId");
+
+        assertEquals(actionMetrics.getInvocationCount(), 2);
+        assertEquals(actionMetrics.getErrorCount(), 1);
+        assertEquals(actionMetrics.getRejectedCount(), 1);
+        assertEquals(actionMetrics.getAverageLatencyMillis(), 3);
+        assertEquals(actionMetrics.getMaxLatencyMillis(), 4);
+    }
+
+    @Test
+    public void testTrackedActionsAreBounded() {
+
+        ActionExecutionMetrics metrics = ActionExecutionMetrics.getInstance();
+        for (int i = 0; i < ActionExecutionMetrics.MAX_TRACKED_ACTIONS; i++) {
+            metrics.record("actionId" + i, 1_000_000L, false);
+        }
+        // Keep the first action recently used, so that the second action is the least recently recorded one.
+        metrics.record("actionId0", 1_000_000L, false);
+
+        metrics.record("newActionId", 1_000_000L, false);
+
+        assertEquals(metrics.getActionMetrics().size(), ActionExecutionMetrics.MAX_TRACKED_ACTIONS);
+        assertTrue(metrics.getActionMetrics().containsKey("actionId0"));
+        assertTrue(metrics.getActionMetrics().containsKey("newActionId"));
+        assertFalse(metrics.getActionMetrics().containsKey("actionId1"));
+    }
+
+    @Test
+    public void testClaimLogTurn() throws Exception {
+
+        ActionExecutionMetrics.ActionMetrics actionMetrics =
+                ActionExecutionMetrics.getInstance().record("actionId", 1_000_000L, false);
+        long oneHour = TimeUnit.HOURS.toNanos(1);
+
+        assertFalse(actionMetrics.claimLogTurn(0));
+        assertFalse(actionMetrics.claimLogTurn(oneHour));
+        Thread.sleep(1);
+        assertTrue(actionMetrics.claimLogTurn(TimeUnit.MILLISECONDS.toNanos(1)));
+        // The turn was just claimed, so the next log is due only after another interval.
+        assertFalse(actionMetrics.claimLogTurn(TimeUnit.MILLISECONDS.toNanos(1) + oneHour));
+    }
+}
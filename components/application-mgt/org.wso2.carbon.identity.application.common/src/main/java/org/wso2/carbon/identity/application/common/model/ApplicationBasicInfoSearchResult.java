@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.common.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of applications listed with cursor based pagination.
+ */
+public class ApplicationBasicInfoSearchResult implements Serializable {
+
+    private static final long serialVersionUID = 4871023465901245811L;
+
+    private List<ApplicationBasicInfo> applications = new ArrayList<>();
+    private String nextCursor;
+
+    public List<ApplicationBasicInfo> getApplications() {
+
+        return applications;
+    }
+
+    public void setApplications(List<ApplicationBasicInfo> applications) {
+
+        this.applications = applications;
+    }
+
+    /**
+     * Get the cursor to request the next page with.
+     *
+     * @return Cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+}
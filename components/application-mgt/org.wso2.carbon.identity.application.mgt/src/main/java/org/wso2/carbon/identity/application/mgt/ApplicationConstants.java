@@ -127,6 +127,18 @@ public class ApplicationConstants {
     public static final String TRUSTED_APP_CONSENT_REQUIRED_PROPERTY = "ApplicationMgt.TrustedAppConsentRequired";
     public static final String TRUSTED_APP_MAX_THUMBPRINT_COUNT_PROPERTY =
             "ApplicationMgt.TrustedAppMaxThumbprintCount";
+    public static final String CACHE_WARM_UP_ENABLED_PROPERTY = "ApplicationMgt.CacheWarmUp.Enable";
+    public static final String CACHE_WARM_UP_TENANTS_PROPERTY = "ApplicationMgt.CacheWarmUp.Tenants";
+    public static final String CACHE_WARM_UP_MAX_APPLICATIONS_PROPERTY =
+            "ApplicationMgt.CacheWarmUp.MaxApplicationsPerTenant";
+    public static final String CACHE_WARM_UP_CONCURRENCY_PROPERTY = "ApplicationMgt.CacheWarmUp.Concurrency";
+    public static final int DEFAULT_CACHE_WARM_UP_MAX_APPLICATIONS = 100;
+    public static final int DEFAULT_CACHE_WARM_UP_CONCURRENCY = 4;
+    public static final String APPROXIMATE_APPLICATION_COUNT_ENABLED_PROPERTY =
+            "ApplicationMgt.ApproximateApplicationCount.Enable";
+    public static final String APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY =
+            "ApplicationMgt.ApproximateApplicationCount.ValidityPeriod";
+    public static final int DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD = 60;
 
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
@@ -21,6 +21,7 @@ import org.apache.commons.lang.NotImplementedException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementServerException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.GroupBasicInfo;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
@@ -477,6 +478,27 @@ public abstract class ApplicationManagementService implements ApplicationPaginat
         return getApplicationBasicInfo(tenantDomain, username, filter, offset, limit, false);
     }
 
+    /**
+     * Get basic application information for a matching filter with cursor based pagination. Applications are
+     * ordered by name and the cursor of the next page is returned with each page.
+     *
+     * @param tenantDomain         Tenant domain.
+     * @param username             User name.
+     * @param filter               Application name filter.
+     * @param after                Cursor returned with the previous page. Null or empty for the first page.
+     * @param limit                Maximum number of applications in the page.
+     * @param excludeSystemPortals Exclude system portals.
+     * @return Applications of the page with the cursor of the next page.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    public ApplicationBasicInfoSearchResult getApplicationBasicInfoByCursor(String tenantDomain, String username,
+                                                                            String filter, String after, int limit,
+                                                                            Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        throw new NotImplementedException();
+    }
+
     /**
      * Retrieve application basic information using the application name.
      *
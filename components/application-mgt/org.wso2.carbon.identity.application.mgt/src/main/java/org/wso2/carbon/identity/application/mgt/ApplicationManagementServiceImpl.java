@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.IdentityApplicationRegistrationFailureException;
 import org.wso2.carbon.identity.application.common.exception.AuthenticatorMgtException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.DefaultAuthenticationSequence;
@@ -160,6 +161,8 @@ import javax.xml.transform.stream.StreamResult;
 
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.APPLICATION_ALREADY_EXISTS;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.APPLICATION_NOT_FOUND;
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_CURSOR;
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_LIMIT;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_REQUEST;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_TENANT_DOMAIN;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.OPERATION_FORBIDDEN;
@@ -197,6 +200,7 @@ import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENA
 public class ApplicationManagementServiceImpl extends ApplicationManagementService {
 
     private static final Log log = LogFactory.getLog(ApplicationManagementServiceImpl.class);
+    private static final String APPLICATION_LIST_CURSOR_SEPARATOR = ":";
     private static volatile ApplicationManagementServiceImpl appMgtService;
     private ApplicationValidatorManager applicationValidatorManager = new ApplicationValidatorManager();
     private String message;
@@ -641,6 +645,75 @@ public class ApplicationManagementServiceImpl extends ApplicationManagementServi
         return applicationBasicInfoArray;
     }
 
+    @Override
+    public ApplicationBasicInfoSearchResult getApplicationBasicInfoByCursor(String tenantDomain, String username,
+                                                                            String filter, String after, int limit,
+                                                                            Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        if (limit <= 0) {
+            throw new IdentityApplicationManagementClientException(INVALID_LIMIT.getCode(),
+                    "Invalid limit requested. Limit value should be greater than zero.");
+        }
+        String afterAppName = null;
+        int afterAppId = 0;
+        if (StringUtils.isNotEmpty(after)) {
+            String[] cursor = decodeApplicationListCursor(after);
+            afterAppId = Integer.parseInt(cursor[0]);
+            afterAppName = cursor[1];
+        }
+
+        ApplicationBasicInfo[] applicationBasicInfoArray;
+        try {
+            startTenantFlow(tenantDomain, username);
+            ApplicationDAO appDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+            if (!(appDAO instanceof PaginatableFilterableApplicationDAO)) {
+                throw new UnsupportedOperationException("Application filtering and pagination not supported in " +
+                        appDAO.getClass().getName() + " with tenant domain: " + tenantDomain);
+            }
+            // One more application than requested is read to find out whether there is a next page.
+            applicationBasicInfoArray = ((PaginatableFilterableApplicationDAO) appDAO).getApplicationBasicInfoAfter(
+                    filter, afterAppName, afterAppId, limit + 1, excludeSystemPortals);
+        } finally {
+            endTenantFlow();
+        }
+
+        ApplicationBasicInfoSearchResult searchResult = new ApplicationBasicInfoSearchResult();
+        if (applicationBasicInfoArray.length > limit) {
+            ApplicationBasicInfo lastApplication = applicationBasicInfoArray[limit - 1];
+            searchResult.setApplications(new ArrayList<>(Arrays.asList(applicationBasicInfoArray).subList(0, limit)));
+            searchResult.setNextCursor(encodeApplicationListCursor(lastApplication));
+        } else {
+            searchResult.setApplications(new ArrayList<>(Arrays.asList(applicationBasicInfoArray)));
+        }
+        return searchResult;
+    }
+
+    private String encodeApplicationListCursor(ApplicationBasicInfo application) {
+
+        String cursor = application.getApplicationId() + APPLICATION_LIST_CURSOR_SEPARATOR +
+                application.getApplicationName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeApplicationListCursor(String cursor) throws IdentityApplicationManagementClientException {
+
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] cursorParts = decodedCursor.split(APPLICATION_LIST_CURSOR_SEPARATOR, 2);
+            if (cursorParts.length == 2 && cursorParts[0].matches("\\d{1,9}") &&
+                    StringUtils.isNotEmpty(cursorParts[1])) {
+                return cursorParts;
+            }
+        } catch (IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while decoding the application list cursor: " + cursor, e);
+            }
+        }
+        throw new IdentityApplicationManagementClientException(INVALID_CURSOR.getCode(),
+                "Invalid cursor requested for application listing.");
+    }
+
     @Override
     public ApplicationBasicInfo getApplicationBasicInfoByName(String name, String tenantDomain)
             throws IdentityApplicationManagementException {
@@ -1315,6 +1315,43 @@ public class ApplicationMgtUtil {
         return Boolean.parseBoolean(IdentityUtil.getProperty(TRUSTED_APP_CONSENT_REQUIRED_PROPERTY));
     }
 
+    /**
+     * Check whether the application count of a listing can be served from a periodically refreshed value instead of
+     * counting the applications on every request.
+     *
+     * @return True if approximate application count is enabled.
+     */
+    public static boolean isApproximateApplicationCountEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                ApplicationConstants.APPROXIMATE_APPLICATION_COUNT_ENABLED_PROPERTY));
+    }
+
+    /**
+     * Get the period in seconds for which an approximate application count is reused.
+     *
+     * @return Validity period of an approximate application count in seconds.
+     */
+    public static int getApproximateApplicationCountValidityPeriod() {
+
+        String validityPeriod = IdentityUtil.getProperty(
+                ApplicationConstants.APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY);
+        if (StringUtils.isNotBlank(validityPeriod)) {
+            try {
+                int validityPeriodValue = Integer.parseInt(validityPeriod.trim());
+                if (validityPeriodValue >= 0) {
+                    return validityPeriodValue;
+                }
+            } catch (NumberFormatException e) {
+                // Handled below by falling back to the default validity period.
+            }
+            log.warn("Invalid value: " + validityPeriod + " configured for the approximate application count " +
+                    "validity period. Defaulting to: " +
+                    ApplicationConstants.DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD);
+        }
+        return ApplicationConstants.DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD;
+    }
+
     /**
      * Get the latest applicable version of the application.
      *
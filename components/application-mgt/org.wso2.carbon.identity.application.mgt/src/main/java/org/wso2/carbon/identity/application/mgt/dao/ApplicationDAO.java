@@ -64,6 +64,26 @@ public interface ApplicationDAO {
      */
     ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException;
 
+    /**
+     * Get the service providers of the given application ids with all the configurations.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers in the order of the given ids. Applications that do not exist are skipped.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    default List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplication(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
     /**
      * @return
      * @throws IdentityApplicationManagementException
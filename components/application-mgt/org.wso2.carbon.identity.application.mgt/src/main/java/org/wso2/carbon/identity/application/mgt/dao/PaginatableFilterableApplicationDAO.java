@@ -113,6 +113,26 @@ public interface PaginatableFilterableApplicationDAO extends ApplicationDAO {
         return null;
     }
 
+    /**
+     * Get the basic application information for a matching filter, ordered by application name and ID, which comes
+     * after the given application. Unlike offset based pagination, the cost of a page does not grow with its depth.
+     *
+     * @param filter               Application name filter.
+     * @param afterAppName         Name of the last application of the previous page. Null for the first page.
+     * @param afterAppId           ID of the last application of the previous page.
+     * @param limit                Count value.
+     * @param excludeSystemPortals Exclude system portals.
+     * @return An array of {@link ApplicationBasicInfo} instances matching the given filter within the given limit.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    default ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, String afterAppName, int afterAppId,
+                                                                int limit, Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        throw new UnsupportedOperationException("Cursor based pagination is not supported in " +
+                getClass().getName());
+    }
+
     /**
      * Get count of applications.
      *
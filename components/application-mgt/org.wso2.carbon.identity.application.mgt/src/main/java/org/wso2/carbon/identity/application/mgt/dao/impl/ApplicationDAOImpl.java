@@ -128,6 +128,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -235,6 +237,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final int MAX_APPLICATIONS_PER_BULK_QUERY = 100;
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -302,6 +305,49 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    /**
+     * Get the service provider properties of the given set of service providers with a single query.
+     *
+     * @param dbConnection database connection
+     * @param spIds        SP Ids
+     * @return service provider properties mapped to the SP Id. Every given SP Id has an entry.
+     */
+    private Map<Integer, List<ServiceProviderProperty>> getServicePropertiesBySpIds(Connection dbConnection,
+                                                                                    List<Integer> spIds)
+            throws SQLException {
+
+        Map<Integer, List<ServiceProviderProperty>> spProperties = new HashMap<>();
+        for (Integer spId : spIds) {
+            spProperties.put(spId, new ArrayList<>());
+        }
+        try {
+            String sqlStmt = String.format(isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                    ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS, getParameterList(spIds.size()));
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt)) {
+                for (int i = 0; i < spIds.size(); i++) {
+                    prepStmt.setInt(i + 1, spIds.get(i));
+                }
+                try (ResultSet rs = prepStmt.executeQuery()) {
+                    while (rs.next()) {
+                        ServiceProviderProperty property = new ServiceProviderProperty();
+                        property.setName(rs.getString("NAME"));
+                        property.setValue(rs.getString("VALUE"));
+                        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                        spProperties.get(rs.getInt("SP_ID")).add(property);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + spIds, e);
+        }
+        return spProperties;
+    }
+
+    private static String getParameterList(int size) {
+
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
     /**
      * Add Service provider properties
      *
@@ -1327,106 +1373,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws SQLException
-     */
-    private InboundProvisioningConfig getInboundProvisioningConfiguration(int applicationId,
-                                                                          Connection connection, int tenantID)
-            throws SQLException {
-
-        PreparedStatement inboundProConfigPrepStmt = null;
-        InboundProvisioningConfig inBoundProvisioningConfig = new InboundProvisioningConfig();
-        ResultSet resultSet = null;
-
-        try {
-
-            inboundProConfigPrepStmt = connection.prepareStatement(
-                    ApplicationMgtDBQueries.LOAD_PRO_PROPERTIES_BY_APP_ID);
-            // PROVISIONING_USERSTORE_DOMAIN
-            inboundProConfigPrepStmt.setInt(1, tenantID);
-            inboundProConfigPrepStmt.setInt(2, applicationId);
-            resultSet = inboundProConfigPrepStmt.executeQuery();
-
-            while (resultSet.next()) {
-                inBoundProvisioningConfig.setProvisioningUserStore(resultSet.getString(1));
-                inBoundProvisioningConfig.setDumbMode("1".equals(resultSet.getString(2)));
-            }
-
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(inboundProConfigPrepStmt);
-        }
-        return inBoundProvisioningConfig;
-    }
-
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws SQLException
-     */
-    private OutboundProvisioningConfig getOutboundProvisioningConfiguration(int applicationId,
-                                                                            Connection connection, int tenantID)
-            throws SQLException {
-
-        PreparedStatement outboundProConfigPrepStmt = null;
-        OutboundProvisioningConfig outBoundProvisioningConfig = new OutboundProvisioningConfig();
-        ResultSet resultSet = null;
-        List<IdentityProvider> idpProConnectors = new ArrayList<IdentityProvider>();
-
-        try {
-
-            outboundProConfigPrepStmt = connection.prepareStatement(
-                    ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_ID);
-            // IDP_NAME, CONNECTOR_NAM
-            outboundProConfigPrepStmt.setInt(1, applicationId);
-            outboundProConfigPrepStmt.setInt(2, tenantID);
-            resultSet = outboundProConfigPrepStmt.executeQuery();
-
-            while (resultSet.next()) {
-                ProvisioningConnectorConfig proConnector = null;
-                IdentityProvider fedIdp = null;
-
-                fedIdp = new IdentityProvider();
-                fedIdp.setIdentityProviderName(resultSet.getString(1));
-
-                proConnector = new ProvisioningConnectorConfig();
-                proConnector.setName(resultSet.getString(2));
-
-                if ("1".equals(resultSet.getString(3))) {
-                    JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
-                    jitConfig.setProvisioningEnabled(true);
-                    fedIdp.setJustInTimeProvisioningConfig(jitConfig);
-                }
-
-                if ("1".equals(resultSet.getString(4))) {
-                    proConnector.setBlocking(true);
-                } else {
-                    proConnector.setBlocking(false);
-                }
-
-                if ("1".equals(resultSet.getString(5))) {
-                    proConnector.setRulesEnabled(true);
-                } else {
-                    proConnector.setRulesEnabled(false);
-                }
-
-                fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
-                idpProConnectors.add(fedIdp);
-
-            }
-
-            outBoundProvisioningConfig.setProvisioningIdentityProviders(idpProConnectors.toArray(new
-                    IdentityProvider[idpProConnectors.size()]));
-
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(outboundProConfigPrepStmt);
-        }
-        return outBoundProvisioningConfig;
-    }
-
     /**
      * @param applicationId
      * @param localAndOutboundAuthConfig
@@ -2186,6 +2132,105 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return appInfo.toArray(new ApplicationBasicInfo[0]);
     }
 
+    @Override
+    public ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, String afterAppName, int afterAppId,
+                                                               int limit, Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        validateAttributesForPagination(0, limit);
+
+        int tenantID = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        boolean isFiltered = StringUtils.isNotBlank(filter) && !filter.equals(ASTERISK);
+        List<String> filterValues = Collections.emptyList();
+        String sqlQuery;
+        if (isFiltered) {
+            FilterData filterData = getFilterDataForDBQuery(filter);
+            filterValues = filterData.getFilterValues();
+            sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AND_FILTER_AFTER_APP,
+                    populateSystemPortalsExcludeQuery(excludeSystemPortals, true), filterData.getFilterString(),
+                    afterAppName == null ? StringUtils.EMPTY :
+                            ApplicationMgtDBQueries.APP_NAME_AND_ID_AFTER_BY_TABLE_NAME);
+        } else {
+            sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_AFTER_APP,
+                    populateSystemPortalsExcludeQuery(excludeSystemPortals, false),
+                    afterAppName == null ? StringUtils.EMPTY : ApplicationMgtDBQueries.APP_NAME_AND_ID_AFTER);
+        }
+
+        List<ApplicationBasicInfo> appInfo = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            boolean isLimitFirst = false;
+            if (databaseProductName.contains("MySQL")
+                    || databaseProductName.contains("MariaDB")
+                    || databaseProductName.contains("H2")
+                    || databaseProductName.contains("PostgreSQL")) {
+                sqlQuery = String.format(ApplicationMgtDBQueries.LIMIT_APPS_AFTER_APP_MYSQL, sqlQuery);
+            } else if (databaseProductName.contains("Oracle")) {
+                sqlQuery = String.format(ApplicationMgtDBQueries.LIMIT_APPS_AFTER_APP_ORACLE, sqlQuery);
+            } else if (databaseProductName.contains("Microsoft")) {
+                sqlQuery = String.format(ApplicationMgtDBQueries.LIMIT_APPS_AFTER_APP_MSSQL, sqlQuery);
+            } else if (databaseProductName.contains("DB2")) {
+                sqlQuery = String.format(ApplicationMgtDBQueries.LIMIT_APPS_AFTER_APP_DB2SQL, sqlQuery);
+            } else if (databaseProductName.contains("INFORMIX")) {
+                sqlQuery = String.format(ApplicationMgtDBQueries.LIMIT_APPS_AFTER_APP_INFORMIX, sqlQuery);
+                isLimitFirst = true;
+            } else {
+                log.error("Error while loading applications from DB: Database driver could not be identified or " +
+                        "not supported.");
+                throw new IdentityApplicationManagementException("Error while loading applications from DB: " +
+                        "Database driver could not be identified or not supported.");
+            }
+            try (PreparedStatement getAppNamesStmt = connection.prepareStatement(sqlQuery)) {
+                populateApplicationSearchAfterQuery(getAppNamesStmt, tenantID, filterValues, afterAppName,
+                        afterAppId, limit, isLimitFirst);
+                try (ResultSet appNameResultSet = getAppNamesStmt.executeQuery()) {
+                    while (appNameResultSet.next()) {
+                        appInfo.add(buildApplicationBasicInfo(appNameResultSet));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while loading applications from DB: " +
+                    e.getMessage(), e);
+        }
+        return appInfo.toArray(new ApplicationBasicInfo[0]);
+    }
+
+    /**
+     * Set values to the prepared statement of a cursor based application listing.
+     *
+     * @param getAppNamesStmt Prepared statement.
+     * @param tenantID        Tenant ID.
+     * @param filterValues    Filter values.
+     * @param afterAppName    Name of the last application of the previous page, or null for the first page.
+     * @param afterAppId      ID of the last application of the previous page.
+     * @param limit           Maximum number of applications to return.
+     * @param isLimitFirst    Whether the row limit is the first parameter of the query.
+     * @throws SQLException If an error occurs while setting the values.
+     */
+    private void populateApplicationSearchAfterQuery(PreparedStatement getAppNamesStmt, int tenantID,
+                                                     List<String> filterValues, String afterAppName, int afterAppId,
+                                                     int limit, boolean isLimitFirst) throws SQLException {
+
+        int parameterIndex = 1;
+        if (isLimitFirst) {
+            getAppNamesStmt.setInt(parameterIndex++, limit);
+        }
+        getAppNamesStmt.setInt(parameterIndex++, tenantID);
+        getAppNamesStmt.setString(parameterIndex++, LOCAL_SP);
+        for (String filterValue : filterValues) {
+            getAppNamesStmt.setString(parameterIndex++, resolveSQLFilter(filterValue));
+        }
+        if (afterAppName != null) {
+            getAppNamesStmt.setString(parameterIndex++, afterAppName);
+            getAppNamesStmt.setString(parameterIndex++, afterAppName);
+            getAppNamesStmt.setInt(parameterIndex++, afterAppId);
+        }
+        if (!isLimitFirst) {
+            getAppNamesStmt.setInt(parameterIndex, limit);
+        }
+    }
+
     /**
      * Get query to exclude system portals if excludeSystemPortals is true.
      *
@@ -2239,14 +2284,125 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
 
-            // Load basic application data
-            ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
-            if (serviceProvider == null) {
-                return null;
+            List<ServiceProvider> serviceProviders = getApplications(connection,
+                    Collections.singletonList(applicationId));
+            return serviceProviders.isEmpty() ? null : serviceProviders.get(0);
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
+
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+        List<Integer> distinctApplicationIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < distinctApplicationIds.size(); from += MAX_APPLICATIONS_PER_BULK_QUERY) {
+                List<Integer> chunk = distinctApplicationIds.subList(from,
+                        Math.min(from + MAX_APPLICATIONS_PER_BULK_QUERY, distinctApplicationIds.size()));
+                serviceProviders.addAll(getApplications(connection, chunk));
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
+            return serviceProviders;
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    applicationIds, e);
+        }
+    }
+
+    /**
+     * Load the given applications with set-based queries. The basic data, the SP properties and the authentication
+     * scripts of all the applications are read with one query each. The inbound authentication configurations,
+     * authentication steps, outbound provisioning connectors, claim mappings, SP claim dialects, role mappings,
+     * request path authenticators, trusted app metadata, associated roles and discoverable groups are read with one
+     * query each per tenant of the applications. Hence, the number of queries does not depend on the number of
+     * applications.
+     * <p>
+     * The certificate, the android attestation credentials, the registry permissions and the names of the
+     * associated roles are not stored in these tables, and are still resolved per application through their
+     * services.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @return Loaded applications in the order of the given IDs. Applications that do not exist are skipped.
+     */
+    private List<ServiceProvider> getApplications(Connection connection, List<Integer> applicationIds)
+            throws SQLException, IdentityApplicationManagementException, CertificateRetrievingException {
+
+        Map<Integer, ServiceProvider> basicApplications = getBasicApplicationData(connection, applicationIds);
+        if (basicApplications.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> existingApplicationIds = new ArrayList<>(basicApplications.keySet());
+        Map<Integer, List<ServiceProviderProperty>> properties =
+                getServicePropertiesBySpIds(connection, existingApplicationIds);
+        Map<Integer, AuthenticationScriptConfig> authenticationScriptConfigs =
+                getScriptConfigurations(connection, existingApplicationIds);
 
+        Map<Integer, List<ServiceProvider>> applicationsOfTenants = new HashMap<>();
+        for (ServiceProvider serviceProvider : basicApplications.values()) {
+            applicationsOfTenants.computeIfAbsent(IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain()),
+                    k -> new ArrayList<>()).add(serviceProvider);
+        }
+        for (Map.Entry<Integer, List<ServiceProvider>> tenantApplications : applicationsOfTenants.entrySet()) {
+            loadApplicationConfigurations(connection, tenantApplications.getKey(), tenantApplications.getValue(),
+                    properties, authenticationScriptConfigs);
+        }
+        return new ArrayList<>(basicApplications.values());
+    }
+
+    /**
+     * Load the configurations of the given applications of a tenant on top of their basic data.
+     *
+     * @param connection                  Database connection.
+     * @param tenantID                    Tenant ID of the applications.
+     * @param serviceProviders            Service providers with the basic application data.
+     * @param properties                  SP properties mapped to the application ID.
+     * @param authenticationScriptConfigs Authentication scripts mapped to the application ID.
+     */
+    private void loadApplicationConfigurations(Connection connection, int tenantID,
+                                               List<ServiceProvider> serviceProviders,
+                                               Map<Integer, List<ServiceProviderProperty>> properties,
+                                               Map<Integer, AuthenticationScriptConfig> authenticationScriptConfigs)
+            throws SQLException, IdentityApplicationManagementException, CertificateRetrievingException {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        Map<String, String> allowedRoleAudiences = new HashMap<>();
+        for (ServiceProvider serviceProvider : serviceProviders) {
+            applicationIds.add(serviceProvider.getApplicationID());
+            allowedRoleAudiences.put(serviceProvider.getApplicationResourceId(),
+                    getAllowedRoleAudience(properties.get(serviceProvider.getApplicationID())));
+        }
+
+        Map<Integer, DiscoverableGroup[]> discoverableGroups = getDiscoverableGroups(connection, applicationIds,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        Map<Integer, SpTrustedAppMetadata> trustedAppMetadata =
+                getSpTrustedAppMetadata(connection, applicationIds, tenantID, properties);
+        Map<Integer, InboundAuthenticationConfig> inboundAuthenticationConfigs =
+                getInboundAuthenticationConfigs(connection, applicationIds, tenantID);
+        Map<Integer, AuthenticationStep[]> authenticationSteps =
+                getAuthenticationSteps(connection, applicationIds, tenantID);
+        Map<Integer, OutboundProvisioningConfig> outboundProvisioningConfigs =
+                getOutboundProvisioningConfigurations(connection, applicationIds, tenantID);
+        Map<Integer, List<ClaimMapping>> claimMappings = getClaimMappings(connection, applicationIds, tenantID);
+        Map<Integer, List<String>> spClaimDialects = getSpClaimDialects(connection, applicationIds, tenantID);
+        Map<Integer, List<RoleMapping>> roleMappings = getRoleMappings(connection, applicationIds, tenantID);
+        Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticators =
+                getRequestPathAuthenticators(connection, applicationIds, tenantID);
+        Map<String, AssociatedRolesConfig> associatedRoles =
+                getAssociatedRoles(connection, allowedRoleAudiences, tenantID);
+
+        for (ServiceProvider serviceProvider : serviceProviders) {
+            int applicationId = serviceProvider.getApplicationID();
+            List<ServiceProviderProperty> propertyList = properties.get(applicationId);
+
+            serviceProvider.setDiscoverableGroups(discoverableGroups.get(applicationId));
             serviceProvider.setJwksUri(getJwksUri(propertyList));
             serviceProvider.setTemplateId(getTemplateId(propertyList));
             serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
@@ -2264,41 +2420,41 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                         (getAndroidAttestationServiceCredentials(serviceProvider));
             }
             serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
+            serviceProvider.setTrustedAppMetadata(trustedAppMetadata.get(applicationId));
+            serviceProvider.setInboundAuthenticationConfig(inboundAuthenticationConfigs.get(applicationId));
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    serviceProvider.getLocalAndOutBoundAuthenticationConfig();
+            AuthenticationStep[] applicationAuthenticationSteps = authenticationSteps.get(applicationId);
+            localAndOutboundAuthenticationConfig.setAuthenticationSteps(applicationAuthenticationSteps);
+            localAndOutboundAuthenticationConfig.setAuthenticationType(resolveAuthenticationType(applicationId,
+                    localAndOutboundAuthenticationConfig.getAuthenticationType(), applicationAuthenticationSteps));
+            AuthenticationScriptConfig authenticationScriptConfig = authenticationScriptConfigs.get(applicationId);
+            if (authenticationScriptConfig != null) {
+                localAndOutboundAuthenticationConfig.setAuthenticationScriptConfig(authenticationScriptConfig);
+            }
+            readAndSetConfigurationsFromProperties(propertyList, localAndOutboundAuthenticationConfig);
 
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
+            serviceProvider.setOutboundProvisioningConfig(outboundProvisioningConfigs.get(applicationId));
 
             // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
+            ClaimConfig claimConfig = serviceProvider.getClaimConfig();
+            claimConfig.setClaimMappings(claimMappings.get(applicationId).toArray(new ClaimMapping[0]));
+            claimConfig.setSpClaimDialects(spClaimDialects.get(applicationId).toArray(new String[0]));
 
             // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
             PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+            permissionAndRoleConfig.setRoleMappings(roleMappings.get(applicationId).toArray(new RoleMapping[0]));
             serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
 
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators.get(applicationId)
+                    .toArray(new RequestPathAuthenticatorConfig[0]));
 
             serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
             serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
 
             // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+            serviceProvider.setAssociatedRolesConfig(associatedRoles.get(serviceProvider.getApplicationResourceId()));
             // Will be supported with 'Advance Consent Management Feature'.
             /*
             ConsentConfig consentConfig = serviceProvider.getConsentConfig();
@@ -2311,72 +2467,421 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
             String serviceProviderName = serviceProvider.getApplicationName();
             loadApplicationPermissions(serviceProviderName, serviceProvider);
-            return serviceProvider;
-        } catch (SQLException | CertificateRetrievingException e) {
-            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
-                    e);
         }
     }
 
+    /**
+     * Get the outbound provisioning configurations of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return Outbound provisioning configurations mapped to the application ID. Every given application ID has an
+     * entry.
+     * @throws SQLException If an error occurs while reading the provisioning connectors.
+     */
+    private Map<Integer, OutboundProvisioningConfig> getOutboundProvisioningConfigurations(
+            Connection connection, List<Integer> applicationIds, int tenantID) throws SQLException {
+
+        Map<Integer, List<IdentityProvider>> appIdpProConnectors = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            appIdpProConnectors.put(applicationId, new ArrayList<>());
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement outboundProConfigPrepStmt = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(outboundProConfigPrepStmt, applicationIds);
+            outboundProConfigPrepStmt.setInt(index, tenantID);
+            try (ResultSet resultSet = outboundProConfigPrepStmt.executeQuery()) {
+                // APP_ID, IDP_NAME, CONNECTOR_NAME, IS_JIT_ENABLED, BLOCKING, RULE_ENABLED
+                while (resultSet.next()) {
+                    IdentityProvider fedIdp = new IdentityProvider();
+                    fedIdp.setIdentityProviderName(resultSet.getString(2));
+
+                    ProvisioningConnectorConfig proConnector = new ProvisioningConnectorConfig();
+                    proConnector.setName(resultSet.getString(3));
+
+                    if ("1".equals(resultSet.getString(4))) {
+                        JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
+                        jitConfig.setProvisioningEnabled(true);
+                        fedIdp.setJustInTimeProvisioningConfig(jitConfig);
+                    }
+                    proConnector.setBlocking("1".equals(resultSet.getString(5)));
+                    proConnector.setRulesEnabled("1".equals(resultSet.getString(6)));
+
+                    fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
+                    appIdpProConnectors.get(resultSet.getInt(1)).add(fedIdp);
+                }
+            }
+        }
+
+        Map<Integer, OutboundProvisioningConfig> outboundProvisioningConfigs = new HashMap<>();
+        for (Map.Entry<Integer, List<IdentityProvider>> entry : appIdpProConnectors.entrySet()) {
+            OutboundProvisioningConfig outBoundProvisioningConfig = new OutboundProvisioningConfig();
+            outBoundProvisioningConfig.setProvisioningIdentityProviders(
+                    entry.getValue().toArray(new IdentityProvider[0]));
+            outboundProvisioningConfigs.put(entry.getKey(), outBoundProvisioningConfig);
+        }
+        return outboundProvisioningConfigs;
+    }
+
+    /**
+     * Get the claim mappings of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return Claim mappings mapped to the application ID. Every given application ID has an entry.
+     * @throws SQLException If an error occurs while reading the claim mappings.
+     */
+    private Map<Integer, List<ClaimMapping>> getClaimMappings(Connection connection, List<Integer> applicationIds,
+                                                              int tenantID) throws SQLException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Reading Claim Mappings of Applications " + applicationIds);
+        }
+        Map<Integer, List<ClaimMapping>> claimMappings = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            claimMappings.put(applicationId, new ArrayList<>());
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_CLAIM_MAPPINGS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement get = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(get, applicationIds);
+            get.setInt(index, tenantID);
+            try (ResultSet resultSet = get.executeQuery()) {
+                // APP_ID, IDP_CLAIM, SP_CLAIM, IS_REQUESTED, IS_MANDATORY, DEFAULT_VALUE
+                while (resultSet.next()) {
+                    ClaimMapping claimMapping = new ClaimMapping();
+                    Claim localClaim = new Claim();
+                    Claim remoteClaim = new Claim();
+
+                    localClaim.setClaimUri(resultSet.getString(2));
+                    remoteClaim.setClaimUri(resultSet.getString(3));
+                    claimMapping.setRequested("1".equalsIgnoreCase(resultSet.getString(4)));
+                    claimMapping.setMandatory("1".equalsIgnoreCase(resultSet.getString(5)));
+
+                    if (remoteClaim.getClaimUri() == null
+                            || remoteClaim.getClaimUri().trim().length() == 0) {
+                        remoteClaim.setClaimUri(localClaim.getClaimUri());
+                    }
+
+                    if (localClaim.getClaimUri() == null
+                            || localClaim.getClaimUri().trim().length() == 0) {
+                        localClaim.setClaimUri(remoteClaim.getClaimUri());
+                    }
+
+                    claimMapping.setDefaultValue(resultSet.getString(6));
+                    claimMapping.setLocalClaim(localClaim);
+                    claimMapping.setRemoteClaim(remoteClaim);
+                    claimMappings.get(resultSet.getInt(1)).add(claimMapping);
+
+                    if (log.isDebugEnabled()) {
+                        log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
+                                + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
+                    }
+                }
+            }
+        }
+        return claimMappings;
+    }
+
+    /**
+     * Get the SP claim dialects of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return SP claim dialects mapped to the application ID. Every given application ID has an entry.
+     * @throws SQLException If an error occurs while reading the SP claim dialects.
+     */
+    private Map<Integer, List<String>> getSpClaimDialects(Connection connection, List<Integer> applicationIds,
+                                                          int tenantID) throws SQLException {
+
+        Map<Integer, List<String>> spClaimDialects = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            spClaimDialects.put(applicationId, new ArrayList<>());
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement loadSPDialectsPrepStmt = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(loadSPDialectsPrepStmt, applicationIds);
+            loadSPDialectsPrepStmt.setInt(index, tenantID);
+            try (ResultSet loadSPDialectsResultSet = loadSPDialectsPrepStmt.executeQuery()) {
+                while (loadSPDialectsResultSet.next()) {
+                    String spDialect = loadSPDialectsResultSet.getString(2);
+                    if (spDialect != null && !spDialect.isEmpty()) {
+                        spClaimDialects.get(loadSPDialectsResultSet.getInt(1)).add(spDialect);
+                    }
+                }
+            }
+        }
+        return spClaimDialects;
+    }
+
+    /**
+     * Get the role mappings of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return Role mappings mapped to the application ID. Every given application ID has an entry.
+     * @throws SQLException If an error occurs while reading the role mappings.
+     */
+    private Map<Integer, List<RoleMapping>> getRoleMappings(Connection connection, List<Integer> applicationIds,
+                                                            int tenantID) throws SQLException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Reading Role Mapping of Applications " + applicationIds);
+        }
+        Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            roleMappings.put(applicationId, new ArrayList<>());
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_ROLE_MAPPINGS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement getRoleMappings = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(getRoleMappings, applicationIds);
+            getRoleMappings.setInt(index, tenantID);
+            try (ResultSet resultSet = getRoleMappings.executeQuery()) {
+                // APP_ID, IDP_ROLE, SP_ROLE
+                while (resultSet.next()) {
+                    RoleMapping roleMapping = new RoleMapping();
+                    LocalRole localRole = new LocalRole();
+                    localRole.setLocalRoleName(resultSet.getString(2));
+                    roleMapping.setLocalRole(localRole);
+                    roleMapping.setRemoteRole(resultSet.getString(3));
+                    roleMappings.get(resultSet.getInt(1)).add(roleMapping);
+
+                    if (log.isDebugEnabled()) {
+                        log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
+                                + " SPRole: " + roleMapping.getRemoteRole());
+                    }
+                }
+            }
+        }
+        return roleMappings;
+    }
+
+    /**
+     * Get the request path authenticators of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return Request path authenticators mapped to the application ID. Every given application ID has an entry.
+     * @throws SQLException If an error occurs while reading the request path authenticators.
+     */
+    private Map<Integer, List<RequestPathAuthenticatorConfig>> getRequestPathAuthenticators(
+            Connection connection, List<Integer> applicationIds, int tenantID) throws SQLException {
+
+        Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticators = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            requestPathAuthenticators.put(applicationId, new ArrayList<>());
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement loadReqPathAuthenticators = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(loadReqPathAuthenticators, applicationIds);
+            loadReqPathAuthenticators.setInt(index, tenantID);
+            try (ResultSet authResultSet = loadReqPathAuthenticators.executeQuery()) {
+                while (authResultSet.next()) {
+                    RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+                    reqAuth.setName(authResultSet.getString(2));
+                    requestPathAuthenticators.get(authResultSet.getInt(1)).add(reqAuth);
+                }
+            }
+        }
+        return requestPathAuthenticators;
+    }
+
+    /**
+     * Get the trusted app metadata of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @param spProperties   SP properties mapped to the application ID.
+     * @return Trusted app metadata mapped to the application ID. Applications without trusted app configurations
+     * have no entry.
+     * @throws SQLException If an error occurs while reading the trusted app configurations.
+     */
+    private Map<Integer, SpTrustedAppMetadata> getSpTrustedAppMetadata(
+            Connection connection, List<Integer> applicationIds, int tenantID,
+            Map<Integer, List<ServiceProviderProperty>> spProperties) throws SQLException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving trusted app configurations for applications: " + applicationIds);
+        }
+        Map<Integer, SpTrustedAppMetadata> trustedAppMetadata = new HashMap<>();
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_TRUSTED_APPS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement loadAppConfigs = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(loadAppConfigs, applicationIds);
+            loadAppConfigs.setInt(index, tenantID);
+            try (ResultSet appConfigResultSet = loadAppConfigs.executeQuery()) {
+                // SP_ID, PLATFORM_TYPE, APP_IDENTIFIER, THUMBPRINTS, IS_FIDO_TRUSTED
+                while (appConfigResultSet.next()) {
+                    SpTrustedAppMetadata spTrustedAppMetadata = trustedAppMetadata.computeIfAbsent(
+                            appConfigResultSet.getInt(1), k -> new SpTrustedAppMetadata());
+                    // There should be maximum two entries for each service provider. One for Android and one for iOS.
+                    PlatformType platformType = PlatformType.valueOf(appConfigResultSet.getString(2));
+                    if (PlatformType.ANDROID.equals(platformType)) {
+                        spTrustedAppMetadata.setAndroidPackageName(appConfigResultSet.getString(3));
+                        if (appConfigResultSet.getString(4) != null) {
+                            spTrustedAppMetadata.setAndroidThumbprints(
+                                    appConfigResultSet.getString(4).split(ATTRIBUTE_SEPARATOR));
+                        } else {
+                            spTrustedAppMetadata.setAndroidThumbprints(new String[0]);
+                        }
+                    } else if (PlatformType.IOS.equals(platformType)) {
+                        spTrustedAppMetadata.setAppleAppId(appConfigResultSet.getString(3));
+                    }
+                    spTrustedAppMetadata.setIsFidoTrusted(appConfigResultSet.getBoolean(5));
+                }
+            }
+        }
+
+        for (Map.Entry<Integer, SpTrustedAppMetadata> entry : trustedAppMetadata.entrySet()) {
+            // If consent required property is disabled, consent is always considered as granted.
+            entry.getValue().setIsConsentGranted(!ApplicationMgtUtil.isTrustedAppConsentRequired() ||
+                    getTrustedAppConsent(spProperties.get(entry.getKey())));
+        }
+        return trustedAppMetadata;
+    }
+
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, allowedAudience, connection, tenantID);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, String allowedAudience,
+                                                     Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
+        return getAssociatedRoles(connection, Collections.singletonMap(applicationId, allowedAudience), tenantID)
+                .get(applicationId);
+    }
+
+    /**
+     * Get the associated roles of the given applications of a tenant. The role IDs of the applications with the
+     * application audience are read with a single query, and the organization audience roles are listed once for
+     * all the applications with the organization audience.
+     *
+     * @param connection       Database connection.
+     * @param allowedAudiences Allowed role audiences mapped to the application resource ID.
+     * @param tenantID         Tenant ID of the applications.
+     * @return Associated roles configurations mapped to the application resource ID. Every given application has an
+     * entry.
+     * @throws IdentityApplicationManagementException If an error occurs while retrieving the associated roles.
+     */
+    private Map<String, AssociatedRolesConfig> getAssociatedRoles(Connection connection,
+                                                                  Map<String, String> allowedAudiences, int tenantID)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
-        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
-        List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
-        if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
-            try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
-                    ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
-                preparedStatement.setString(ApplicationMgtDBQueries.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_APP_ID,
-                        applicationId);
+        // Application resource ID -> associated role IDs.
+        Map<String, List<String>> associatedRoleIds = new HashMap<>();
+        boolean hasOrganizationAudience = false;
+        for (Map.Entry<String, String> entry : allowedAudiences.entrySet()) {
+            if (RoleConstants.APPLICATION.equalsIgnoreCase(entry.getValue())) {
+                associatedRoleIds.put(entry.getKey(), new ArrayList<>());
+            } else if (RoleConstants.ORGANIZATION.equalsIgnoreCase(entry.getValue())) {
+                hasOrganizationAudience = true;
+            }
+        }
+
+        if (!associatedRoleIds.isEmpty()) {
+            List<String> applicationAudienceAppIds = new ArrayList<>(associatedRoleIds.keySet());
+            String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES_BY_APP_IDS,
+                    getParameterList(applicationAudienceAppIds.size()));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlStmt)) {
+                for (int i = 0; i < applicationAudienceAppIds.size(); i++) {
+                    preparedStatement.setString(i + 1, applicationAudienceAppIds.get(i));
+                }
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     while (resultSet.next()) {
-                        associatedRoleIds.add(resultSet.getString(1));
+                        associatedRoleIds.get(resultSet.getString(1)).add(resultSet.getString(2));
                     }
                 }
-
-                associatedRolesConfig.setRoles(buildAssociatedRolesWithRoleName(associatedRoleIds, tenantDomain));
-            } catch (SQLException | IdentityRoleManagementException e) {
+            } catch (SQLException e) {
                 throw new IdentityApplicationManagementException(
-                        "Error while retrieving associated roles for application ID: " + applicationId, e);
+                        "Error while retrieving associated roles for application IDs: " + applicationAudienceAppIds,
+                        e);
             }
-        } else if (RoleConstants.ORGANIZATION.equalsIgnoreCase(allowedAudience)) {
-            ApplicationManagementServiceComponentHolder holder = ApplicationManagementServiceComponentHolder.
-                    getInstance();
-            RoleManagementService roleManagementService = holder.getRoleManagementServiceV2();
+        }
+
+        List<RoleBasicInfo> organizationAudienceRoles = null;
+        if (hasOrganizationAudience) {
+            RoleManagementService roleManagementService = ApplicationManagementServiceComponentHolder.getInstance()
+                    .getRoleManagementServiceV2();
             try {
                 List<RoleBasicInfo> chunkOfRoles;
                 int offset = 1;
                 int maximumPage = IdentityUtil.getMaximumItemPerPage();
-                List<RoleBasicInfo> allRoles = new ArrayList<>();
                 if (roleManagementService != null) {
+                    organizationAudienceRoles = new ArrayList<>();
                     do {
                         chunkOfRoles = roleManagementService.
                                 getRoles(RoleConstants.AUDIENCE + SPACE + RoleConstants.EQ + SPACE +
                                                 RoleConstants.ORGANIZATION, maximumPage, offset, null, null,
                                         tenantDomain);
                         if (!chunkOfRoles.isEmpty()) {
-                            allRoles.addAll(chunkOfRoles);
+                            organizationAudienceRoles.addAll(chunkOfRoles);
                             offset += chunkOfRoles.size(); // Move to the next chunk
                         }
                     } while (chunkOfRoles.size() == maximumPage);
-
-                    List<String> roleIds = allRoles.stream().map(RoleBasicInfo::getId).collect(Collectors.
-                            toList());
-                    associatedRolesConfig.setRoles(buildAssociatedRolesWithRoleName(roleIds, tenantDomain));
                 }
             } catch (IdentityRoleManagementException e) {
                 throw new IdentityApplicationManagementException("Error while retrieving associated roles for " +
-                        "application ID: " + applicationId, e);
+                        "application IDs: " + allowedAudiences.keySet(), e);
+            }
+        }
+
+        Map<String, AssociatedRolesConfig> associatedRolesConfigs = new HashMap<>();
+        for (Map.Entry<String, String> entry : allowedAudiences.entrySet()) {
+            String applicationId = entry.getKey();
+            String allowedAudience = entry.getValue();
+            AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
+            if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
+                try {
+                    associatedRolesConfig.setRoles(buildAssociatedRolesWithRoleName(
+                            associatedRoleIds.get(applicationId), tenantDomain));
+                } catch (IdentityRoleManagementException e) {
+                    throw new IdentityApplicationManagementException(
+                            "Error while retrieving associated roles for application ID: " + applicationId, e);
+                }
+            } else if (RoleConstants.ORGANIZATION.equalsIgnoreCase(allowedAudience)
+                    && organizationAudienceRoles != null) {
+                // Role names are already available in the listed roles.
+                associatedRolesConfig.setRoles(organizationAudienceRoles.stream()
+                        .map(role -> new RoleV2(role.getId(), role.getName()))
+                        .toArray(RoleV2[]::new));
             }
 
+            associatedRolesConfig.setAllowedAudience(StringUtils.isNotBlank(allowedAudience) ?
+                    allowedAudience.toLowerCase() : RoleConstants.ORGANIZATION);
+            associatedRolesConfigs.put(applicationId, associatedRolesConfig);
         }
+        return associatedRolesConfigs;
+    }
+
+    private String getAllowedRoleAudience(List<ServiceProviderProperty> propertyList) {
 
-        associatedRolesConfig.setAllowedAudience(
-                StringUtils.isNotBlank(allowedAudience) ? allowedAudience.toLowerCase() : RoleConstants.ORGANIZATION);
-        return associatedRolesConfig;
+        return propertyList.stream()
+                .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                .findFirst()
+                .map(ServiceProviderProperty::getValue)
+                .orElse(StringUtils.EMPTY);
     }
 
     private RoleV2[] buildAssociatedRolesWithRoleName(List<String> roleIds, String tenantDomain)
@@ -2657,92 +3162,193 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
+                serviceProvider = buildBasicApplicationData(rs);
+                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection,
+                        serviceProvider.getTenantDomain()));
+            }
 
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+            return serviceProvider;
+        } finally {
+            IdentityApplicationManagementUtil.closeResultSet(rs);
+            IdentityApplicationManagementUtil.closeStatement(prepStmt);
+        }
+    }
 
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
+    /**
+     * Get the basic data of the given applications with a single query. In addition to the data read by
+     * {@link #getBasicApplicationData(int, Connection)}, the authentication type, the local subject identifier
+     * options and the inbound provisioning configuration are read from the same row. The authentication type is
+     * resolved against the authentication steps once they are loaded. The discoverable groups are not read.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @return Basic application data mapped to the application ID, in the order of the given IDs. Applications that
+     * do not exist are skipped.
+     * @throws SQLException                           If an error occurs while reading the applications.
+     * @throws IdentityApplicationManagementException If an error occurs while building the applications.
+     */
+    private Map<Integer, ServiceProvider> getBasicApplicationData(Connection connection, List<Integer> applicationIds)
+            throws SQLException, IdentityApplicationManagementException {
 
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+        if (log.isDebugEnabled()) {
+            log.debug("Loading Basic Application Data of application IDs: " + applicationIds);
+        }
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+            setApplicationIds(prepStmt, applicationIds);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(rs);
+
+                    LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                            serviceProvider.getLocalAndOutBoundAuthenticationConfig();
+                    localAndOutboundAuthenticationConfig.setAuthenticationType(
+                            rs.getString(ApplicationTableColumns.AUTH_TYPE));
+                    localAndOutboundAuthenticationConfig.setUseTenantDomainInLocalSubjectIdentifier(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_USE_TENANT_DOMAIN_SUBJECT)));
+                    localAndOutboundAuthenticationConfig.setUseUserstoreDomainInLocalSubjectIdentifier(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_USE_USER_DOMAIN_SUBJECT)));
+
+                    setMappedLocalSubjectConfig(serviceProvider.getClaimConfig(),
+                            rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID));
+
+                    InboundProvisioningConfig inboundProvisioningConfig = new InboundProvisioningConfig();
+                    inboundProvisioningConfig.setProvisioningUserStore(
+                            rs.getString(ApplicationTableColumns.PROVISIONING_USERSTORE_DOMAIN));
+                    inboundProvisioningConfig.setDumbMode(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_DUMB_MODE)));
+                    serviceProvider.setInboundProvisioningConfig(inboundProvisioningConfig);
+
+                    serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+                }
+            }
+        }
 
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+        Map<Integer, ServiceProvider> orderedServiceProviders = new LinkedHashMap<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+            if (serviceProvider != null) {
+                orderedServiceProviders.put(applicationId, serviceProvider);
+            }
+        }
+        return orderedServiceProviders;
+    }
 
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs)
+            throws SQLException, IdentityApplicationManagementException {
 
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        try {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+            serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+            serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+            serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+            serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+            serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+            serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+            if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+                serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                        rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+            }
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+            if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+                String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                    serviceProvider.setAccessUrl(consoleAccessUrl);
                 }
             }
+            if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+                String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                    serviceProvider.setAccessUrl(myAccountAccessUrl);
+                }
+            }
+
+            serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+
+            User owner = new User();
+            owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+            owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+            owner.setTenantDomain(getUserTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                    rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                            rs.getString(ApplicationTableColumns.USERNAME)));
+            serviceProvider.setOwner(owner);
+            serviceProvider.setTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+            claimConfig.setLocalClaimDialect(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+            claimConfig.setAlwaysSendMappedLocalSubjectId(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+            serviceProvider.setClaimConfig(claimConfig);
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    new LocalAndOutboundAuthenticationConfig();
+            localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+            localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+            localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                    rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+            serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+            serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+            // Will be supported with 'Advance Consent Management Feature'.
+            /*
+            ConsentConfig consentConfig = new ConsentConfig();
+            consentConfig.setEnabled("1".equals(rs.getString(18)));
+            serviceProvider.setConsentConfig(consentConfig);
+            */
+
+            if (log.isDebugEnabled()) {
+                log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                        + " ApplicationName: " + serviceProvider.getApplicationName()
+                        + " UserName: " + serviceProvider.getOwner().getUserName()
+                        + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+            }
 
             return serviceProvider;
         } catch (URLBuilderException e) {
             throw new IdentityApplicationManagementException(
                     "Error occurred when resolving origin of the access URL with placeholders", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(rs);
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
     }
 
+    private void setMappedLocalSubjectConfig(ClaimConfig claimConfig, String sendLocalSubjectId) {
+
+        switch (StringUtils.defaultString(sendLocalSubjectId)) {
+            case "1":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(false);
+                break;
+            case "2":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(true);
+                break;
+            default:
+                claimConfig.setAlwaysSendMappedLocalSubjectId(false);
+                claimConfig.setMappedLocalSubjectMandatory(false);
+        }
+    }
+
+    private static int setApplicationIds(PreparedStatement prepStmt, List<Integer> applicationIds)
+            throws SQLException {
+
+        int index = 1;
+        for (Integer applicationId : applicationIds) {
+            prepStmt.setInt(index++, applicationId);
+        }
+        return index;
+    }
+
     private boolean getBooleanValue(String booleanValueAsString) throws SQLException {
 
         return "1".equals(booleanValueAsString);
@@ -2973,69 +3579,99 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private InboundAuthenticationConfig getInboundAuthenticationConfig(int applicationId, Connection connection, int
             tenantID) throws SQLException {
 
+        return getInboundAuthenticationConfigs(connection, Collections.singletonList(applicationId), tenantID)
+                .get(applicationId);
+    }
+
+    /**
+     * Get the inbound authentication configurations of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantID       Tenant ID of the applications.
+     * @return Inbound authentication configurations mapped to the application ID. Every given application ID has an
+     * entry.
+     * @throws SQLException If an error occurs while reading the inbound authentication configurations.
+     */
+    private Map<Integer, InboundAuthenticationConfig> getInboundAuthenticationConfigs(Connection connection,
+                                                                                     List<Integer> applicationIds,
+                                                                                     int tenantID)
+            throws SQLException {
+
         if (log.isDebugEnabled()) {
-            log.debug("Reading Clients of Application " + applicationId);
+            log.debug("Reading Clients of Applications " + applicationIds);
+        }
+        // Application ID -> inbound auth type:inbound auth key -> inbound authentication request config.
+        Map<Integer, Map<String, InboundAuthenticationRequestConfig>> appInboundAuthenticationRequestConfigs =
+                new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            appInboundAuthenticationRequestConfigs.put(applicationId, new HashMap<>());
         }
-        Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap =
-                new HashMap<String, InboundAuthenticationRequestConfig>();
-
-        PreparedStatement getClientInfo = null;
-        ResultSet resultSet = null;
 
-        try {
-            getClientInfo = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_ID);
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement getClientInfo = connection.prepareStatement(sqlStmt)) {
+            int index = setApplicationIds(getClientInfo, applicationIds);
+            getClientInfo.setInt(index, tenantID);
+            try (ResultSet resultSet = getClientInfo.executeQuery()) {
+                while (resultSet.next()) {
+                    Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap =
+                            appInboundAuthenticationRequestConfigs.get(resultSet.getInt(1));
+                    String authKey = resultSet.getString(2);
+                    //this is done to handle empty string added to oracle database as null.
+                    if (authKey == null) {
+                        authKey = new String();
+                    }
+                    String authType = resultSet.getString(3);
+                    String propName = resultSet.getString(4);
+                    String propValue = resultSet.getString(5);
+                    String configType = resultSet.getString(6);
 
-            getClientInfo.setInt(1, applicationId);
-            getClientInfo.setInt(2, tenantID);
-            resultSet = getClientInfo.executeQuery();
+                    String mapKey = authType + ":" + authKey;
 
-            while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
+                    InboundAuthenticationRequestConfig inboundAuthRequest = null;
+                    if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
+                        inboundAuthRequest = new InboundAuthenticationRequestConfig();
+                    }
+                    inboundAuthRequest.setInboundAuthKey(authKey);
+                    inboundAuthRequest.setInboundAuthType(authType);
+                    inboundAuthRequest.setInboundConfigType(configType);
 
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
+                    boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+                    AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                            .getInboundAuthenticatorConfig(authType + ":" + configType);
                     if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
+                        inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+                    }
+                    if (propName != null) {
+                        Property prop = new Property();
+                        prop.setName(propName);
+                        prop.setValue(propValue);
+                        if (isCustomAuthenticator && customAuthenticator != null) {
+                            Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                            if (mappedProperty != null) {
+                                prop.setDisplayName(mappedProperty.getDisplayName());
+                            }
                         }
+                        inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
+                                inboundAuthRequest.getProperties())));
                     }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
-                            inboundAuthRequest.getProperties())));
+                    inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
                 }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
             }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getClientInfo);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+
+        Map<Integer, InboundAuthenticationConfig> inboundAuthenticationConfigs = new HashMap<>();
+        for (Map.Entry<Integer, Map<String, InboundAuthenticationRequestConfig>> entry :
+                appInboundAuthenticationRequestConfigs.entrySet()) {
+            inboundAuthenticationConfigs.put(entry.getKey(), buildInboundAuthenticationConfig(entry.getValue()));
+        }
+        return inboundAuthenticationConfigs;
+    }
+
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -3092,138 +3728,132 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
      * @param propertyList
      * @return
      * @throws SQLException
-     */
-    private LocalAndOutboundAuthenticationConfig getLocalAndOutboundAuthenticationConfig(
-            int applicationId, Connection connection, int tenantId, List<ServiceProviderProperty> propertyList)
-            throws SQLException, IdentityApplicationManagementException {
-
-        PreparedStatement getStepInfoPrepStmt = null;
-        ResultSet stepInfoResultSet = null;
-
-        if (log.isDebugEnabled()) {
-            log.debug("Reading Steps of Application " + applicationId);
-        }
-
-        try {
-            getStepInfoPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_ID);
-            // STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP
-            getStepInfoPrepStmt.setInt(1, applicationId);
-            stepInfoResultSet = getStepInfoPrepStmt.executeQuery();
-
-            Map<String, AuthenticationStep> authSteps = new HashMap<>();
-            Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
-            Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
-
-            while (stepInfoResultSet.next()) {
+     */
+    private LocalAndOutboundAuthenticationConfig getLocalAndOutboundAuthenticationConfig(
+            int applicationId, Connection connection, int tenantId, List<ServiceProviderProperty> propertyList)
+            throws SQLException, IdentityApplicationManagementException {
 
-                String step = String.valueOf(stepInfoResultSet.getInt(1));
-                AuthenticationStep authStep;
+        AuthenticationStep[] authenticationSteps = getAuthenticationSteps(connection,
+                Collections.singletonList(applicationId), tenantId).get(applicationId);
+        return getLocalAndOutboundAuthenticationConfig(applicationId, connection, tenantId, propertyList,
+                authenticationSteps);
+    }
 
-                if (authSteps.containsKey(step)) {
-                    authStep = authSteps.get(step);
-                } else {
-                    authStep = new AuthenticationStep();
-                    authStep.setStepOrder(stepInfoResultSet.getInt(1));
-                    stepLocalAuth.put(step, new ArrayList<LocalAuthenticatorConfig>());
-                    stepFedIdPAuthenticators.put(step,
-                            new HashMap<String, List<FederatedAuthenticatorConfig>>());
-                }
+    /**
+     * Get the authentication steps of the given applications of a tenant. The steps, their authenticators and the
+     * federation hub flags of the identity providers are read with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantId       Tenant ID of the applications.
+     * @return Authentication steps ordered by the step order, mapped to the application ID. Every given application
+     * ID has an entry.
+     * @throws SQLException If an error occurs while reading the steps.
+     */
+    private Map<Integer, AuthenticationStep[]> getAuthenticationSteps(Connection connection,
+                                                                     List<Integer> applicationIds, int tenantId)
+            throws SQLException {
 
-                int authenticatorId = stepInfoResultSet.getInt(2);
-                Map<String, String> authenticatorInfo = getAuthenticatorInfo(connection, tenantId,
-                        authenticatorId);
-
-                if (authenticatorInfo != null
-                        && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
-                        && ApplicationConstants.LOCAL_IDP_NAME.equals(authenticatorInfo
-                        .get("idpName"))) {
-                    LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
-                    localAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    localAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    localAuthenticator.setDefinedByType(DefinedByType.valueOf(
-                            authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
-                    stepLocalAuth.get(step).add(localAuthenticator);
-                } else {
-                    Map<String, List<FederatedAuthenticatorConfig>> stepFedIdps = stepFedIdPAuthenticators
-                            .get(step);
+        // Application ID -> step order -> step.
+        Map<Integer, Map<Integer, AuthenticationStep>> appSteps = new HashMap<>();
+        // Application ID -> step order -> IdP name -> federated authenticators.
+        Map<Integer, Map<Integer, Map<String, List<FederatedAuthenticatorConfig>>>> appStepIdPs = new HashMap<>();
+        Map<String, Boolean> federationHubIdPs = new HashMap<>();
+        // Application ID -> step order -> local authenticators.
+        Map<Integer, Map<Integer, List<LocalAuthenticatorConfig>>> appStepLocalAuthenticators = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            appSteps.put(applicationId, new HashMap<>());
+            appStepIdPs.put(applicationId, new HashMap<>());
+            appStepLocalAuthenticators.put(applicationId, new HashMap<>());
+        }
 
-                    if (!stepFedIdps.containsKey(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME))) {
-                        stepFedIdps.put(authenticatorInfo.get(ApplicationConstants.IDP_NAME),
-                                new ArrayList<FederatedAuthenticatorConfig>());
+        if (log.isDebugEnabled()) {
+            log.debug("Reading Steps of Applications " + applicationIds);
+        }
+
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_STEP_AUTHENTICATORS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+            int index = 1;
+            for (Integer applicationId : applicationIds) {
+                prepStmt.setInt(index++, applicationId);
+            }
+            prepStmt.setInt(index++, tenantId);
+            prepStmt.setInt(index++, tenantId);
+            prepStmt.setInt(index++, MultitenantConstants.SUPER_TENANT_ID);
+            prepStmt.setInt(index, MultitenantConstants.SUPER_TENANT_ID);
+
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                // APP_ID, STEP_ORDER, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP, IDP_NAME, AUTHENTICATOR_NAME,
+                // AUTHENTICATOR_DISPLAY_NAME, DEFINED_BY, IS_FEDERATION_HUB, IDP_TENANT_ID
+                while (rs.next()) {
+                    int applicationId = rs.getInt(1);
+                    int stepOrder = rs.getInt(2);
+                    AuthenticationStep authStep = appSteps.get(applicationId).computeIfAbsent(stepOrder, k -> {
+                        AuthenticationStep step = new AuthenticationStep();
+                        step.setStepOrder(k);
+                        return step;
+                    });
+                    authStep.setSubjectStep("1".equals(rs.getString(3)));
+                    authStep.setAttributeStep("1".equals(rs.getString(4)));
+
+                    String idpName = rs.getString(5);
+                    DefinedByType definedByType = DefinedByType.valueOf(rs.getString(8));
+                    if (ApplicationConstants.LOCAL_IDP_NAME.equals(idpName)) {
+                        LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
+                        localAuthenticator.setName(rs.getString(6));
+                        localAuthenticator.setDisplayName(rs.getString(7));
+                        localAuthenticator.setDefinedByType(definedByType);
+                        appStepLocalAuthenticators.get(applicationId)
+                                .computeIfAbsent(stepOrder, k -> new ArrayList<>()).add(localAuthenticator);
+                    } else {
+                        FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
+                        fedAuthenticator.setName(rs.getString(6));
+                        fedAuthenticator.setDisplayName(rs.getString(7));
+                        fedAuthenticator.setDefinedByType(definedByType);
+                        appStepIdPs.get(applicationId).computeIfAbsent(stepOrder, k -> new HashMap<>())
+                                .computeIfAbsent(idpName, k -> new ArrayList<>()).add(fedAuthenticator);
+                        // Hub flag is looked up by the IdP name within the tenant, so shared IdPs are not hubs.
+                        federationHubIdPs.put(idpName, "1".equals(rs.getString(9)) && rs.getInt(10) == tenantId);
                     }
-
-                    List<FederatedAuthenticatorConfig> idpAuths = stepFedIdps.get(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME));
-                    FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
-                    fedAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    fedAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    fedAuthenticator.setDefinedByType(DefinedByType.valueOf(
-                            authenticatorInfo.get(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE)));
-                    idpAuths.add(fedAuthenticator);
                 }
-
-                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(3)));
-                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(4)));
-
-                authSteps.put(step, authStep);
             }
+        }
 
-            LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration
-                    = new LocalAndOutboundAuthenticationConfig();
-
-            AuthenticationStep[] authenticationSteps = new AuthenticationStep[authSteps.size()];
-
-            int authStepCount = 0;
-
-            for (Entry<String, AuthenticationStep> entry : authSteps.entrySet()) {
-
+        Map<Integer, AuthenticationStep[]> authenticationSteps = new HashMap<>();
+        for (Integer applicationId : applicationIds) {
+            Map<Integer, AuthenticationStep> steps = appSteps.get(applicationId);
+            for (Entry<Integer, AuthenticationStep> entry : steps.entrySet()) {
                 AuthenticationStep authStep = entry.getValue();
-                String stepId = entry.getKey();
-
-                List<LocalAuthenticatorConfig> localAuthenticatorList = stepLocalAuth.get(stepId);
-
-                if (localAuthenticatorList != null && localAuthenticatorList.size() > 0) {
+                List<LocalAuthenticatorConfig> localAuthenticators =
+                        appStepLocalAuthenticators.get(applicationId).get(entry.getKey());
+                if (CollectionUtils.isNotEmpty(localAuthenticators)) {
                     authStep.setLocalAuthenticatorConfigs(
-                            localAuthenticatorList.toArray(
-                                    new LocalAuthenticatorConfig[localAuthenticatorList.size()]));
+                            localAuthenticators.toArray(new LocalAuthenticatorConfig[0]));
                 }
-
-                Map<String, List<FederatedAuthenticatorConfig>> idpList = stepFedIdPAuthenticators
-                        .get(stepId);
-
-                if (idpList != null && idpList.size() > 0) {
-                    IdentityProvider[] fedIdpList = new IdentityProvider[idpList.size()];
-                    int idpCount = 0;
-
-                    for (Entry<String, List<FederatedAuthenticatorConfig>> idpEntry : idpList
-                            .entrySet()) {
-                        String idpName = idpEntry.getKey();
-                        List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
+                Map<String, List<FederatedAuthenticatorConfig>> idpList =
+                        appStepIdPs.get(applicationId).get(entry.getKey());
+                if (idpList != null && !idpList.isEmpty()) {
+                    List<IdentityProvider> fedIdpList = new ArrayList<>();
+                    for (Entry<String, List<FederatedAuthenticatorConfig>> idpEntry : idpList.entrySet()) {
                         IdentityProvider idp = new IdentityProvider();
-                        idp.setIdentityProviderName(idpName);
-                        idp.setFederationHub(isFederationHubIdP(idpName, connection, tenantId));
+                        idp.setIdentityProviderName(idpEntry.getKey());
+                        idp.setFederationHub(federationHubIdPs.get(idpEntry.getKey()));
                         idp.setFederatedAuthenticatorConfigs(
-                                fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
+                                idpEntry.getValue().toArray(new FederatedAuthenticatorConfig[0]));
                         idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
-                        fedIdpList[idpCount++] = idp;
+                        fedIdpList.add(idp);
                     }
-                    authStep.setFederatedIdentityProviders(fedIdpList);
+                    authStep.setFederatedIdentityProviders(fedIdpList.toArray(new IdentityProvider[0]));
                 }
-
-                authenticationSteps[authStepCount++] = authStep;
             }
 
-            Arrays.sort(authenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
+            AuthenticationStep[] appAuthenticationSteps = steps.values().toArray(new AuthenticationStep[0]);
+            Arrays.sort(appAuthenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
 
-            int numSteps = authenticationSteps.length;
+            int numSteps = appAuthenticationSteps.length;
             // We check if the steps have consecutive step numbers.
-            if (numSteps > 0 && authenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
+            if (numSteps > 0 && appAuthenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
                 if (log.isDebugEnabled()) {
                     log.debug("Authentication steps of Application with id: " + applicationId + "  do not have " +
                             "consecutive numbers. This was possibility due to a IDP force deletion. Fixing the step " +
@@ -3231,71 +3861,84 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 }
                 // Iterate through the steps and fix step order.
                 int count = 1;
-                for (AuthenticationStep step : authenticationSteps) {
+                for (AuthenticationStep step : appAuthenticationSteps) {
                     step.setStepOrder(count++);
                 }
             }
+            authenticationSteps.put(applicationId, appAuthenticationSteps);
+        }
+        return authenticationSteps;
+    }
 
-            localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
+    private LocalAndOutboundAuthenticationConfig getLocalAndOutboundAuthenticationConfig(
+            int applicationId, Connection connection, int tenantId, List<ServiceProviderProperty> propertyList,
+            AuthenticationStep[] authenticationSteps) throws SQLException, IdentityApplicationManagementException {
 
-            String authType = getAuthenticationType(applicationId, tenantId, connection);
-            if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
-                    || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
-                if (ArrayUtils.isEmpty(authenticationSteps)) {
-                    // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
-                    // happen due to a force delete of a federated identity provider referred by the SP. So we change
-                    // the authType to 'default'.
-                    if (log.isDebugEnabled()) {
-                        log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
-                                applicationId +
-                                " has zero authentication step. This was possibility due to a IDP force deletion. " +
-                                " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
-                    }
-                    authType = ApplicationConstants.AUTH_TYPE_DEFAULT;
-                }
-            }
+        LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration
+                = new LocalAndOutboundAuthenticationConfig();
 
-            localAndOutboundConfiguration.setAuthenticationType(authType);
+        localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
 
-            AuthenticationScriptConfig authenticationScriptConfig = getScriptConfiguration(applicationId, connection);
-            if (authenticationScriptConfig != null) {
-                localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
+        String authType = getAuthenticationType(applicationId, tenantId, connection);
+        localAndOutboundConfiguration.setAuthenticationType(
+                resolveAuthenticationType(applicationId, authType, authenticationSteps));
+
+        AuthenticationScriptConfig authenticationScriptConfig = getScriptConfiguration(applicationId, connection);
+        if (authenticationScriptConfig != null) {
+            localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
+        }
+
+        PreparedStatement localAndOutboundConfigPrepStmt = null;
+        ResultSet localAndOutboundConfigResultSet = null;
+
+        try {
+            localAndOutboundConfigPrepStmt = connection
+                    .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
+            localAndOutboundConfigPrepStmt.setInt(1, tenantId);
+            localAndOutboundConfigPrepStmt.setInt(2, applicationId);
+            localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
+
+            if (localAndOutboundConfigResultSet.next()) {
+                localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(1)));
+                localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(2)));
+                localAndOutboundConfiguration.setEnableAuthorization("1"
+                        .equals(localAndOutboundConfigResultSet.getString(3)));
+                localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
+                        .equals(localAndOutboundConfigResultSet.getString(4)));
+                localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
+                        .getString(5));
+
+                readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
             }
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
+            IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+        }
+
+        return localAndOutboundConfiguration;
+    }
 
-            PreparedStatement localAndOutboundConfigPrepStmt = null;
-            ResultSet localAndOutboundConfigResultSet = null;
+    private String resolveAuthenticationType(int applicationId, String authType,
+                                             AuthenticationStep[] authenticationSteps) {
 
-            try {
-                localAndOutboundConfigPrepStmt = connection
-                        .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
-                localAndOutboundConfigPrepStmt.setInt(1, tenantId);
-                localAndOutboundConfigPrepStmt.setInt(2, applicationId);
-                localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
-
-                if (localAndOutboundConfigResultSet.next()) {
-                    localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(1)));
-                    localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(2)));
-                    localAndOutboundConfiguration.setEnableAuthorization("1"
-                            .equals(localAndOutboundConfigResultSet.getString(3)));
-                    localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
-                            .equals(localAndOutboundConfigResultSet.getString(4)));
-                    localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
-                            .getString(5));
-
-                    readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
+        if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
+                || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
+            if (ArrayUtils.isEmpty(authenticationSteps)) {
+                // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
+                // happen due to a force delete of a federated identity provider referred by the SP. So we change
+                // the authType to 'default'.
+                if (log.isDebugEnabled()) {
+                    log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
+                            applicationId +
+                            " has zero authentication step. This was possibility due to a IDP force deletion. " +
+                            " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
                 }
-            } finally {
-                IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
-                IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+                return ApplicationConstants.AUTH_TYPE_DEFAULT;
             }
-
-            return localAndOutboundConfiguration;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getStepInfoPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(stepInfoResultSet);
         }
+        return authType;
     }
 
     private void readAndSetConfigurationsFromProperties(List<ServiceProviderProperty> propertyList,
@@ -3323,18 +3966,39 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private AuthenticationScriptConfig getScriptConfiguration(int applicationId, Connection connection)
             throws SQLException, IdentityApplicationManagementException {
 
-        try (PreparedStatement localAndOutboundConfigScriptPrepStmt = connection
-                .prepareStatement(ApplicationMgtDBQueries.LOAD_SCRIPT_BY_APP_ID_QUERY);) {
+        return getScriptConfigurations(connection, Collections.singletonList(applicationId)).get(applicationId);
+    }
+
+    /**
+     * Get the authentication scripts of the given applications with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @return Authentication scripts mapped to the application ID. Applications without a script have no entry.
+     * @throws SQLException                           If an error occurs while reading the scripts.
+     * @throws IdentityApplicationManagementException If a script content cannot be read.
+     */
+    private Map<Integer, AuthenticationScriptConfig> getScriptConfigurations(Connection connection,
+                                                                             List<Integer> applicationIds)
+            throws SQLException, IdentityApplicationManagementException {
 
-            localAndOutboundConfigScriptPrepStmt.setInt(1, applicationId);
+        Map<Integer, AuthenticationScriptConfig> authenticationScriptConfigs = new HashMap<>();
+        String sqlStmt = String.format(ApplicationMgtDBQueries.LOAD_SCRIPTS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement localAndOutboundConfigScriptPrepStmt = connection.prepareStatement(sqlStmt)) {
+            setApplicationIds(localAndOutboundConfigScriptPrepStmt, applicationIds);
             try (ResultSet localAndOutboundConfigScriptResultSet = localAndOutboundConfigScriptPrepStmt
                     .executeQuery()) {
-                if (localAndOutboundConfigScriptResultSet.next()) {
+                while (localAndOutboundConfigScriptResultSet.next()) {
+                    int applicationId = localAndOutboundConfigScriptResultSet.getInt(1);
+                    if (authenticationScriptConfigs.containsKey(applicationId)) {
+                        continue;
+                    }
                     AuthenticationScriptConfig authenticationScriptConfig = new AuthenticationScriptConfig();
 
                     try {
-                        boolean isEnabled = "1".equals(localAndOutboundConfigScriptResultSet.getString(2));
-                        InputStream scriptBinaryStream = localAndOutboundConfigScriptResultSet.getBinaryStream(1);
+                        boolean isEnabled = "1".equals(localAndOutboundConfigScriptResultSet.getString(3));
+                        InputStream scriptBinaryStream = localAndOutboundConfigScriptResultSet.getBinaryStream(2);
                         String targetString = StringUtils.EMPTY;
                         if (scriptBinaryStream != null) {
                             targetString = IOUtils.toString(scriptBinaryStream);
@@ -3346,216 +4010,11 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                                 "Could not read the Script for application : " + applicationId, e);
                     }
 
-                    return authenticationScriptConfig;
-                }
-            }
-        }
-        return null;
-    }
-
-    private boolean isFederationHubIdP(String idPName, Connection connection, int tenantId)
-            throws SQLException {
-
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
-
-        try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_HUB_IDP_BY_NAME);
-
-            get.setString(1, idPName);
-            get.setInt(2, tenantId);
-            resultSet = get.executeQuery();
-
-            if (resultSet.next()) {
-                return "1".equals(resultSet.getString(1));
-            }
-
-            return false;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
-        }
-
-    }
-
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private ClaimConfig getClaimConfiguration(int applicationId, Connection connection, int tenantID)
-            throws IdentityApplicationManagementException {
-
-        ClaimConfig claimConfig = new ClaimConfig();
-        ArrayList<ClaimMapping> claimMappingList = new ArrayList<ClaimMapping>();
-        List<String> spDialectList = new ArrayList<String>();
-
-        if (log.isDebugEnabled()) {
-            log.debug("Reading Claim Mappings of Application " + applicationId);
-        }
-
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
-        try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_CLAIM_MAPPING_BY_APP_ID);
-            // IDP_CLAIM, SP_CLAIM, IS_REQUESTED
-            get.setInt(1, applicationId);
-            get.setInt(2, tenantID);
-            resultSet = get.executeQuery();
-
-            while (resultSet.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-                Claim localClaim = new Claim();
-                Claim remoteClaim = new Claim();
-
-                localClaim.setClaimUri(resultSet.getString(1));
-                remoteClaim.setClaimUri(resultSet.getString(2));
-
-                String requested = resultSet.getString(3);
-
-                if ("1".equalsIgnoreCase(requested)) {
-                    claimMapping.setRequested(true);
-                } else {
-                    claimMapping.setRequested(false);
-                }
-
-                String mandatory = resultSet.getString(4);
-
-                if ("1".equalsIgnoreCase(mandatory)) {
-                    claimMapping.setMandatory(true);
-                } else {
-                    claimMapping.setMandatory(false);
-                }
-
-                if (remoteClaim.getClaimUri() == null
-                        || remoteClaim.getClaimUri().trim().length() == 0) {
-                    remoteClaim.setClaimUri(localClaim.getClaimUri());
-                }
-
-                if (localClaim.getClaimUri() == null
-                        || localClaim.getClaimUri().trim().length() == 0) {
-                    localClaim.setClaimUri(remoteClaim.getClaimUri());
-                }
-
-                claimMapping.setDefaultValue(resultSet.getString(5));
-
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
-
-                claimMappingList.add(claimMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
-                            + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
-                }
-            }
-
-            claimConfig.setClaimMappings(claimMappingList.toArray(new ClaimMapping[claimMappingList
-                    .size()]));
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
-        }
-
-        PreparedStatement loadClaimConfigsPrepStmt = null;
-        ResultSet loadClaimConfigsResultSet = null;
-
-        try {
-            loadClaimConfigsPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_CLAIM_CONIFG_BY_APP_ID);
-            loadClaimConfigsPrepStmt.setInt(1, tenantID);
-            loadClaimConfigsPrepStmt.setInt(2, applicationId);
-            loadClaimConfigsResultSet = loadClaimConfigsPrepStmt.executeQuery();
-
-            while (loadClaimConfigsResultSet.next()) {
-                claimConfig.setRoleClaimURI(loadClaimConfigsResultSet.getString(1));
-                claimConfig.setLocalClaimDialect("1".equals(loadClaimConfigsResultSet.getString(2)));
-
-                switch (loadClaimConfigsResultSet.getString(3)) {
-                    case "1":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                        break;
-                    case "2":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(true);
-                        break;
-                    default:
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(false);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                }
-            }
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadClaimConfigsPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(loadClaimConfigsResultSet);
-        }
-
-        PreparedStatement loadSPDialectsPrepStmt = null;
-        ResultSet loadSPDialectsResultSet = null;
-
-        try {
-            loadSPDialectsPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_ID);
-            loadSPDialectsPrepStmt.setInt(1, tenantID);
-            loadSPDialectsPrepStmt.setInt(2, applicationId);
-            loadSPDialectsResultSet = loadSPDialectsPrepStmt.executeQuery();
-
-            while (loadSPDialectsResultSet.next()) {
-                String spDialect = loadSPDialectsResultSet.getString(1);
-                if (spDialect != null && !spDialect.isEmpty()) {
-                    spDialectList.add(spDialect);
+                    authenticationScriptConfigs.put(applicationId, authenticationScriptConfig);
                 }
             }
-            claimConfig.setSpClaimDialects(spDialectList.toArray(new String[spDialectList.size()]));
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadClaimConfigsPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(loadClaimConfigsResultSet);
-        }
-
-        return claimConfig;
-    }
-
-    /**
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private RequestPathAuthenticatorConfig[] getRequestPathAuthenticators(int applicationId,
-                                                                          Connection connection, int tenantID)
-            throws IdentityApplicationManagementException {
-
-        PreparedStatement loadReqPathAuthenticators = null;
-        ResultSet authResultSet = null;
-        List<RequestPathAuthenticatorConfig> authenticators = new ArrayList<RequestPathAuthenticatorConfig>();
-
-        try {
-            loadReqPathAuthenticators = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID);
-            loadReqPathAuthenticators.setInt(1, applicationId);
-            loadReqPathAuthenticators.setInt(2, tenantID);
-            authResultSet = loadReqPathAuthenticators.executeQuery();
-
-            while (authResultSet.next()) {
-                RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
-                reqAuth.setName(authResultSet.getString(1));
-                authenticators.add(reqAuth);
-            }
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadReqPathAuthenticators);
-            IdentityApplicationManagementUtil.closeResultSet(authResultSet);
         }
-
-        return authenticators.toArray(new RequestPathAuthenticatorConfig[authenticators.size()]);
+        return authenticationScriptConfigs;
     }
 
     /**
@@ -3618,63 +4077,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
-    /**
-     * Get trusted app metadata of the application.
-     *
-     * @param applicationId  Application ID.
-     * @param connection     Database connection.
-     * @param tenantID       Tenant ID.
-     * @param spPropertyList Sp property list.
-     * @return trustedAppMetadata Trusted app configurations.
-     * @throws IdentityApplicationManagementException If an error occurs while retrieving trusted app configurations.
-     */
-    private SpTrustedAppMetadata getSpTrustedAppMetadata(int applicationId, Connection connection, int tenantID,
-                                                         List<ServiceProviderProperty> spPropertyList)
-            throws IdentityApplicationManagementException {
-
-        if (log.isDebugEnabled()) {
-            log.debug("Retrieving trusted app configurations for application: " + applicationId);
-        }
-        SpTrustedAppMetadata spTrustedAppMetadata = null;
-
-        try (PreparedStatement loadAppConfigs = connection
-                .prepareStatement(ApplicationMgtDBQueries.LOAD_TRUSTED_APPS_BY_APP_ID)) {
-            loadAppConfigs.setInt(1, applicationId);
-            loadAppConfigs.setInt(2, tenantID);
-
-            try (ResultSet appConfigResultSet = loadAppConfigs.executeQuery()) {
-                while (appConfigResultSet.next()) {
-                    if (spTrustedAppMetadata == null) {
-                        spTrustedAppMetadata = new SpTrustedAppMetadata();
-                    }
-                    // There should be maximum two entries for each service provider. One for Android and one for iOS.
-                    PlatformType platformType = PlatformType.valueOf(appConfigResultSet.getString(1));
-                    if (PlatformType.ANDROID.equals(platformType)) {
-                        spTrustedAppMetadata.setAndroidPackageName(appConfigResultSet.getString(2));
-                        if (appConfigResultSet.getString(3) != null) {
-                            spTrustedAppMetadata.setAndroidThumbprints(
-                                    appConfigResultSet.getString(3).split(ATTRIBUTE_SEPARATOR));
-                        } else {
-                            spTrustedAppMetadata.setAndroidThumbprints(new String[0]);
-                        }
-                    } else if (PlatformType.IOS.equals(platformType)) {
-                        spTrustedAppMetadata.setAppleAppId(appConfigResultSet.getString(2));
-                    }
-                    spTrustedAppMetadata.setIsFidoTrusted(appConfigResultSet.getBoolean(4));
-                }
-                if (spTrustedAppMetadata != null) {
-                    // If consent required property is disabled, consent is always considered as granted.
-                    spTrustedAppMetadata.setIsConsentGranted(!ApplicationMgtUtil.isTrustedAppConsentRequired() ||
-                            getTrustedAppConsent(spPropertyList));
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving trusted app configurations.", e);
-        }
-        return spTrustedAppMetadata;
-    }
-
     /**
      * Update trusted app metadata of the application.
      *
@@ -3747,56 +4149,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
-    /**
-     * Reads the claim mappings for a given appID
-     *
-     * @param applicationId
-     * @param connection
-     * @return
-     * @throws IdentityApplicationManagementException
-     */
-    private List<RoleMapping> getRoleMappingOfApplication(int applicationId, Connection connection,
-                                                          int tenantID) throws IdentityApplicationManagementException {
-
-        ArrayList<RoleMapping> roleMappingList = new ArrayList<RoleMapping>();
-
-        if (log.isDebugEnabled()) {
-            log.debug("Reading Role Mapping of Application " + applicationId);
-        }
-
-        PreparedStatement getClientInfo = null;
-        ResultSet resultSet = null;
-        try {
-            getClientInfo = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_ROLE_MAPPING_BY_APP_ID);
-            // IDP_ROLE, SP_ROLE
-            getClientInfo.setInt(1, applicationId);
-            getClientInfo.setInt(2, tenantID);
-            resultSet = getClientInfo.executeQuery();
-
-            while (resultSet.next()) {
-                RoleMapping roleMapping = new RoleMapping();
-                LocalRole localRole = new LocalRole();
-                localRole.setLocalRoleName(resultSet.getString(1));
-                roleMapping.setLocalRole(localRole);
-                roleMapping.setRemoteRole(resultSet.getString(2));
-                roleMappingList.add(roleMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
-                            + " SPRole: " + roleMapping.getRemoteRole());
-                }
-            }
-
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getClientInfo);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
-        }
-        return roleMappingList;
-    }
-
     /**
      * Get count of applications for user
      *
@@ -5056,41 +5408,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return authId;
     }
 
-    /**
-     * @param conn
-     * @param tenantId
-     * @param authenticatorId
-     * @return
-     * @throws SQLException
-     */
-    private Map<String, String> getAuthenticatorInfo(Connection conn, int tenantId,
-                                                     int authenticatorId) throws SQLException {
-
-        PreparedStatement prepStmt = null;
-        ResultSet rs = null;
-        String sqlStmt = ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES;
-        Map<String, String> returnData = new HashMap<String, String>();
-        try {
-            prepStmt = conn.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, authenticatorId);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setInt(3, tenantId);
-            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
-            prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                returnData.put(ApplicationConstants.IDP_NAME, rs.getString(1));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(2));
-                returnData
-                        .put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(3));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(4));
-            }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
-        }
-        return returnData;
-    }
-
     /**
      * @param conn
      * @param tenantId
@@ -6852,19 +7169,51 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private DiscoverableGroup[] getDiscoverableGroups(int applicationId, Connection connection, String tenantDomain)
             throws IdentityApplicationManagementException {
 
+        return getDiscoverableGroups(connection, Collections.singletonList(applicationId), tenantDomain)
+                .get(applicationId);
+    }
+
+    /**
+     * Retrieve the discoverable groups of the given applications of a tenant with a single query.
+     *
+     * @param connection     Database connection.
+     * @param applicationIds Application IDs.
+     * @param tenantDomain   Tenant domain of the applications.
+     * @return Discoverable groups mapped to the application ID. Applications without discoverable groups have no
+     * entry.
+     * @throws IdentityApplicationManagementException If an error occurred while retrieving discoverable groups.
+     */
+    private Map<Integer, DiscoverableGroup[]> getDiscoverableGroups(Connection connection,
+                                                                    List<Integer> applicationIds,
+                                                                    String tenantDomain)
+            throws IdentityApplicationManagementException {
+
         if (log.isDebugEnabled()) {
-            log.debug("Retrieving discoverable groups for application with ID: " + applicationId);
+            log.debug("Retrieving discoverable groups for applications with IDs: " + applicationIds);
         }
 
-        List<DiscoverableGroup> discoverableGroups = new ArrayList<>();
+        Map<Integer, List<DiscoverableGroup>> appDiscoverableGroups = new HashMap<>();
+        List<DiscoverableGroup> discoverableGroups = null;
         List<GroupBasicInfo> currentIteratingDomainGroups = new ArrayList<>();
-        try (PreparedStatement statement = connection.prepareStatement(
-                ApplicationMgtDBQueries.GET_GROUP_ASSOCIATIONS_BY_APP_ID)) {
-            statement.setInt(1, applicationId);
+        String sqlStmt = String.format(ApplicationMgtDBQueries.GET_GROUP_ASSOCIATIONS_BY_APP_IDS,
+                getParameterList(applicationIds.size()));
+        try (PreparedStatement statement = connection.prepareStatement(sqlStmt)) {
+            setApplicationIds(statement, applicationIds);
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    String groupID = resultSet.getString(1);
-                    String domainName = resultSet.getString(2);
+                    int applicationId = resultSet.getInt(1);
+                    if (!appDiscoverableGroups.containsKey(applicationId)) {
+                        // Rows are ordered by the application ID. Close the last domain of the previous application.
+                        if (!currentIteratingDomainGroups.isEmpty()) {
+                            addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain,
+                                    null, null);
+                            currentIteratingDomainGroups.clear();
+                        }
+                        discoverableGroups = new ArrayList<>();
+                        appDiscoverableGroups.put(applicationId, discoverableGroups);
+                    }
+                    String groupID = resultSet.getString(2);
+                    String domainName = resultSet.getString(3);
                     addDiscoverableGroup(discoverableGroups, currentIteratingDomainGroups, tenantDomain, domainName,
                             groupID);
                 }
@@ -6874,12 +7223,16 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             }
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException(
-                    "Error while retrieving discoverable groups for the application", e);
+                    "Error while retrieving discoverable groups for the applications", e);
         }
-        if (!discoverableGroups.isEmpty()) {
-            return discoverableGroups.toArray(new DiscoverableGroup[0]);
+
+        Map<Integer, DiscoverableGroup[]> discoverableGroupsOfApps = new HashMap<>();
+        for (Map.Entry<Integer, List<DiscoverableGroup>> entry : appDiscoverableGroups.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                discoverableGroupsOfApps.put(entry.getKey(), entry.getValue().toArray(new DiscoverableGroup[0]));
+            }
         }
-        return null;
+        return discoverableGroupsOfApps;
     }
 
     /**
@@ -189,6 +189,28 @@ public class ApplicationMgtDBQueries {
             "LEFT OUTER JOIN SP_INBOUND_AUTH ON SP_APP.ID = SP_INBOUND_AUTH.APP_ID " +
             "WHERE SP_APP.TENANT_ID = ? AND SP_APP.APP_NAME <> ? %s AND (%s) ORDER BY SP_APP.ID desc";
 
+    public static final String LOAD_APP_NAMES_BY_TENANT_AFTER_APP = "SELECT ID, APP_NAME, VERSION, DESCRIPTION, " +
+            "UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM SP_APP WHERE TENANT_ID = ? AND " +
+            "APP_NAME != ? %s %s ORDER BY APP_NAME, ID";
+
+    public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_AFTER_APP = "SELECT DISTINCT SP_APP.ID, " +
+            "SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, SP_APP.IMAGE_URL, " +
+            "SP_APP.ACCESS_URL, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID FROM SP_APP " +
+            "LEFT JOIN SP_INBOUND_AUTH ON SP_APP.ID = SP_INBOUND_AUTH.APP_ID WHERE SP_APP.TENANT_ID = ? " +
+            "AND SP_APP.APP_NAME != ? %s AND (%s) %s ORDER BY SP_APP.APP_NAME, SP_APP.ID";
+
+    public static final String APP_NAME_AND_ID_AFTER = "AND (APP_NAME > ? OR (APP_NAME = ? AND ID > ?))";
+    public static final String APP_NAME_AND_ID_AFTER_BY_TABLE_NAME = "AND (SP_APP.APP_NAME > ? OR " +
+            "(SP_APP.APP_NAME = ? AND SP_APP.ID > ?))";
+
+    // Row limits applied on top of the above cursor queries.
+    public static final String LIMIT_APPS_AFTER_APP_MYSQL = "%s LIMIT ?";
+    public static final String LIMIT_APPS_AFTER_APP_ORACLE = "SELECT * FROM (%s) WHERE ROWNUM <= ?";
+    public static final String LIMIT_APPS_AFTER_APP_MSSQL = "%s OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+    public static final String LIMIT_APPS_AFTER_APP_DB2SQL = "SELECT * FROM (SELECT APPS.*, ROW_NUMBER() OVER " +
+            "(ORDER BY APPS.APP_NAME, APPS.ID) AS rn FROM (%s) APPS) WHERE rn <= ? ORDER BY rn";
+    public static final String LIMIT_APPS_AFTER_APP_INFORMIX = "SELECT FIRST ? * FROM (%s)";
+
     public static final String LOAD_APP_ID_BY_CLIENT_ID_AND_TYPE =
             "SELECT APP_ID FROM SP_AUTH_STEP WHERE CLIENT_ID = ? "
                     + "AND CLIENT_TYPE= ? AND TENANT_ID = ?";
@@ -223,30 +245,91 @@ public class ApplicationMgtDBQueries {
 
     public static final String LOAD_AUTH_TYPE_BY_APP_ID = "SELECT AUTH_TYPE FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_APP_NAME_BY_APP_ID = "SELECT APP_NAME FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_CLIENTS_INFO_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_CLIENTS_INFO_BY_APP_ID = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, PROP_NAME, " +
             "PROP_VALUE,INBOUND_CONFIG_TYPE FROM  SP_INBOUND_AUTH WHERE APP_ID = ? AND TENANT_ID = ?";
+    /**
+     * @deprecated Authentication steps are loaded with {@link #LOAD_STEP_AUTHENTICATORS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_STEPS_INFO_BY_APP_ID = "SELECT STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, " +
             "IS_ATTRIBUTE_STEP "
             + "FROM SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP "
             + "ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID "
             + "WHERE APP_ID = ?";
     public static final String LOAD_STEP_ID_BY_APP_ID = "SELECT ID FROM SP_AUTH_STEP WHERE APP_ID = ?";
+    /**
+     * @deprecated The hub flag of an IdP is loaded with {@link #LOAD_STEP_AUTHENTICATORS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_HUB_IDP_BY_NAME =
             "SELECT IS_FEDERATION_HUB FROM IDP WHERE NAME = ? AND TENANT_ID = ?";
+    public static final String LOAD_STEP_AUTHENTICATORS_BY_APP_IDS = "SELECT S.APP_ID, S.STEP_ORDER, " +
+            "S.IS_SUBJECT_STEP, S.IS_ATTRIBUTE_STEP, A.NAME, B.NAME, B.DISPLAY_NAME, B.DEFINED_BY, " +
+            "A.IS_FEDERATION_HUB, A.TENANT_ID FROM SP_AUTH_STEP S INNER JOIN SP_FEDERATED_IDP F ON S.ID = F.ID " +
+            "INNER JOIN IDP_AUTHENTICATOR B ON F.AUTHENTICATOR_ID = B.ID INNER JOIN IDP A ON A.ID = B.IDP_ID " +
+            "WHERE S.APP_ID IN (%s) AND ((A.TENANT_ID = ? AND B.TENANT_ID = ?) OR " +
+            "(A.TENANT_ID = ? AND A.NAME LIKE 'SHARED_%%' AND B.TENANT_ID = ?))";
+    public static final String LOAD_BASIC_APP_INFO_BY_APP_IDS = "SELECT ID, TENANT_ID, APP_NAME, VERSION, " +
+            "USER_STORE, USERNAME, DESCRIPTION, ROLE_CLAIM, AUTH_TYPE, PROVISIONING_USERSTORE_DOMAIN, " +
+            "IS_DUMB_MODE, IS_LOCAL_CLAIM_DIALECT, IS_SEND_LOCAL_SUBJECT_ID, IS_SEND_AUTH_LIST_OF_IDPS, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, " +
+            "SUBJECT_CLAIM_URI, IS_SAAS_APP, UUID, IMAGE_URL, ACCESS_URL, IS_DISCOVERABLE " +
+            "FROM SP_APP WHERE ID IN (%s)";
+    public static final String GET_GROUP_ASSOCIATIONS_BY_APP_IDS = "SELECT APP_ID, GROUP_ID, DOMAIN_NAME FROM " +
+            "APP_GROUP_ASSOCIATION WHERE APP_ID IN (%s) ORDER BY APP_ID, DOMAIN_NAME";
+    public static final String LOAD_CLIENTS_INFO_BY_APP_IDS = "SELECT APP_ID, INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, " +
+            "PROP_NAME, PROP_VALUE, INBOUND_CONFIG_TYPE FROM SP_INBOUND_AUTH WHERE APP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_SCRIPTS_BY_APP_IDS = "SELECT APP_ID, CONTENT, IS_ENABLED FROM SP_AUTH_SCRIPT " +
+            "WHERE APP_ID IN (%s)";
+    public static final String LOAD_PRO_CONNECTORS_BY_APP_IDS = "SELECT APP_ID, IDP_NAME, CONNECTOR_NAME, " +
+            "IS_JIT_ENABLED, BLOCKING, RULE_ENABLED FROM SP_PROVISIONING_CONNECTOR WHERE APP_ID IN (%s) AND " +
+            "TENANT_ID = ?";
+    public static final String LOAD_CLAIM_MAPPINGS_BY_APP_IDS = "SELECT APP_ID, IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
+            "IS_MANDATORY, DEFAULT_VALUE FROM SP_CLAIM_MAPPING WHERE APP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_SP_DIALECTS_BY_APP_IDS = "SELECT APP_ID, SP_DIALECT FROM SP_CLAIM_DIALECT " +
+            "WHERE APP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS = "SELECT APP_ID, AUTHENTICATOR_NAME FROM " +
+            "SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_TRUSTED_APPS_BY_APP_IDS = "SELECT SP_ID, PLATFORM_TYPE, APP_IDENTIFIER, " +
+            "THUMBPRINTS, IS_FIDO_TRUSTED FROM SP_TRUSTED_APPS WHERE SP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_ROLE_MAPPINGS_BY_APP_IDS = "SELECT APP_ID, IDP_ROLE, SP_ROLE FROM " +
+            "SP_ROLE_MAPPING WHERE APP_ID IN (%s) AND TENANT_ID = ?";
+    public static final String LOAD_ASSOCIATED_ROLES_BY_APP_IDS = "SELECT APP_ID, ROLE_ID FROM " +
+            "APP_ROLE_ASSOCIATION WHERE APP_ID IN (%s)";
 
+    /**
+     * @deprecated Use {@link #LOAD_CLAIM_MAPPINGS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_CLAIM_MAPPING_BY_APP_ID = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
             "IS_MANDATORY, DEFAULT_VALUE " +
             "FROM SP_CLAIM_MAPPING WHERE APP_ID = ? AND TENANT_ID = ?";
     public static final String LOAD_CLAIM_MAPPING_BY_APP_NAME = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED," +
             " IS_MANDATORY, DEFAULT_VALUE "
             + "FROM SP_CLAIM_MAPPING WHERE APP_ID = (SELECT ID FROM SP_APP WHERE APP_NAME = ? AND TENANT_ID = ?)";
+    /**
+     * @deprecated Use {@link #LOAD_ROLE_MAPPINGS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_ROLE_MAPPING_BY_APP_ID =
             "SELECT IDP_ROLE, SP_ROLE FROM SP_ROLE_MAPPING WHERE APP_ID" +
                     " = ? AND TENANT_ID = ?";
 
+    /**
+     * @deprecated Use {@link #LOAD_BASIC_APP_INFO_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_CLAIM_CONIFG_BY_APP_ID = "SELECT ROLE_CLAIM, IS_LOCAL_CLAIM_DIALECT, " +
             "IS_SEND_LOCAL_SUBJECT_ID FROM SP_APP WHERE TENANT_ID= ? AND ID = ?";
 
+    /**
+     * @deprecated Use {@link #LOAD_SP_DIALECTS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_SP_DIALECTS_BY_APP_ID = "SELECT SP_DIALECT FROM SP_CLAIM_DIALECT WHERE" +
             " TENANT_ID= ? AND APP_ID = ?";
     public static final String STORE_SP_DIALECTS_BY_APP_ID =
@@ -257,13 +340,29 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID = "SELECT IS_USE_TENANT_DOMAIN_SUBJECT, " +
             "IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, IS_SEND_AUTH_LIST_OF_IDPS, SUBJECT_CLAIM_URI FROM " +
             "SP_APP WHERE TENANT_ID= ? AND ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_SCRIPTS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_SCRIPT_BY_APP_ID_QUERY = "SELECT CONTENT, IS_ENABLED" +
             " FROM SP_AUTH_SCRIPT WHERE APP_ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID = "SELECT AUTHENTICATOR_NAME FROM " +
             "SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID = ? AND TENANT_ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_BASIC_APP_INFO_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_PRO_PROPERTIES_BY_APP_ID =
             "SELECT PROVISIONING_USERSTORE_DOMAIN, IS_DUMB_MODE FROM " +
                     "SP_APP WHERE TENANT_ID= ? AND ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_PRO_CONNECTORS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_PRO_CONNECTORS_BY_APP_ID = "SELECT IDP_NAME, CONNECTOR_NAME, IS_JIT_ENABLED, " +
             "BLOCKING, RULE_ENABLED FROM " +
             "SP_PROVISIONING_CONNECTOR WHERE " +
@@ -271,6 +370,10 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_UM_PERMISSIONS = "SELECT UM_ID, UM_RESOURCE_ID FROM UM_PERMISSION WHERE " +
             "UM_RESOURCE_ID LIKE ?";
     public static final String LOAD_UM_PERMISSIONS_W = "SELECT UM_ID FROM UM_PERMISSION WHERE UM_RESOURCE_ID = ?";
+    /**
+     * @deprecated Use {@link #LOAD_TRUSTED_APPS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_TRUSTED_APPS_BY_APP_ID = "SELECT PLATFORM_TYPE, APP_IDENTIFIER, " +
             "THUMBPRINTS, IS_FIDO_TRUSTED FROM SP_TRUSTED_APPS WHERE SP_ID = ? AND TENANT_ID = ?";
     public static final String LOAD_TRUSTED_APPS_BY_PLATFORM_TYPE = "SELECT APP_IDENTIFIER, THUMBPRINTS, " +
@@ -309,6 +412,10 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_IDP_AUTHENTICATOR_ID = "SELECT A.ID FROM IDP_AUTHENTICATOR A JOIN IDP B ON A" +
             ".IDP_ID= B.ID WHERE A.NAME =? AND B.NAME=? AND ((A.TENANT_ID =? AND B.TENANT_ID =?) OR (B.TENANT_ID=? " +
             "AND B.NAME LIKE 'SHARED_%'))";
+    /**
+     * @deprecated IdP and authenticator names are loaded with {@link #LOAD_STEP_AUTHENTICATORS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES = "SELECT A.NAME, B.NAME, B.DISPLAY_NAME," +
             " B.DEFINED_BY FROM IDP A JOIN IDP_AUTHENTICATOR B ON A.ID = B.IDP_ID WHERE B.ID =? AND ((A.TENANT_ID =?" +
             " AND B.TENANT_ID =?) OR  (A.TENANT_ID=? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID=?))";
@@ -322,6 +429,12 @@ public class ApplicationMgtDBQueries {
     public static final String GET_SP_METADATA_BY_SP_ID_H2 = "SELECT ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
             "SP_METADATA WHERE SP_ID = ?";
 
+    public static final String GET_SP_METADATA_BY_SP_IDS = "SELECT SP_ID, NAME, VALUE, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (%s)";
+
+    public static final String GET_SP_METADATA_BY_SP_IDS_H2 = "SELECT SP_ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (%s)";
+
     public static final String GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY = "SELECT VALUE FROM SP_METADATA WHERE " +
             "SP_ID=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_ID + "; AND " +
             "NAME=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME + ";";
@@ -615,6 +728,10 @@ public class ApplicationMgtDBQueries {
     public static final String DELETE_APPLICATION_ROLE_ASSOCIATIONS = "DELETE FROM APP_ROLE_ASSOCIATION WHERE " +
             "APP_ID=:" +  SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_APP_ID + ";";
 
+    /**
+     * @deprecated Use {@link #LOAD_ASSOCIATED_ROLES_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String LOAD_ASSOCIATED_ROLES = "SELECT ROLE_ID FROM APP_ROLE_ASSOCIATION WHERE " +
             "APP_ID=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_APP_ID + ";";
 
@@ -626,6 +743,10 @@ public class ApplicationMgtDBQueries {
             "DOMAIN_NAME) VALUES (?, ?, ?)";
     public static final String DELETE_APP_GROUP_ASSOCIATION_BY_APP_ID =
             "DELETE FROM APP_GROUP_ASSOCIATION WHERE APP_ID = ?";
+    /**
+     * @deprecated Use {@link #GET_GROUP_ASSOCIATIONS_BY_APP_IDS}.
+     */
+    @Deprecated
     public static final String GET_GROUP_ASSOCIATIONS_BY_APP_ID =
             "SELECT GROUP_ID, DOMAIN_NAME FROM APP_GROUP_ASSOCIATION WHERE APP_ID = ? ORDER BY DOMAIN_NAME";
   
@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.ClaimConfig;
@@ -32,6 +33,7 @@ import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthent
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.SpTrustedAppMetadata;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCache;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheKey;
@@ -54,6 +56,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderID
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderIDCacheKey;
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderResourceIdCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderResourceIdCacheKey;
+import org.wso2.carbon.identity.application.mgt.internal.cache.SingleFlightLoader;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppByPlatformTypeCache;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheKey;
@@ -61,8 +64,16 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatfor
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
 
@@ -73,6 +84,16 @@ import static org.wso2.carbon.identity.application.common.util.IdentityApplicati
 public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     private static final Log log = LogFactory.getLog(CacheBackedApplicationDAO.class);
+    private static final String KEY_SEPARATOR = "|";
+    private static final int WARM_UP_CHUNK_SIZE = 50;
+    private static final String WARM_UP_THREAD_NAME_PREFIX = "application-cache-warm-up-worker-";
+
+    // Concurrent cache misses of the same application are loaded from the database only once.
+    private static final SingleFlightLoader<String, ServiceProvider> applicationLoader = new SingleFlightLoader<>();
+    private static final SingleFlightLoader<String, String> inboundKeyLoader = new SingleFlightLoader<>();
+    private static final SingleFlightLoader<String, ApplicationBasicInfo> applicationBasicInfoLoader =
+            new SingleFlightLoader<>();
+    private static final Map<String, ApplicationCount> approximateApplicationCounts = new ConcurrentHashMap<>();
 
     private ApplicationDAO appDAO;
 
@@ -119,19 +140,53 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     public ServiceProvider getApplication(int appId) throws IdentityApplicationManagementException {
 
-        ServiceProvider serviceProvider = getApplicationFromCache(appId,
-                CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        ServiceProvider serviceProvider = getApplicationFromCache(appId, tenantDomain);
         if (serviceProvider == null) {
-            serviceProvider = appDAO.getApplication(appId);
+            serviceProvider = applicationLoader.load(buildLoaderKey("id", tenantDomain, String.valueOf(appId)), () -> {
+                ServiceProvider application = appDAO.getApplication(appId);
+                if (application != null) {
+                    addToCache(application, application.getTenantDomain());
+                }
+                return application;
+            });
             if (serviceProvider == null) {
                 throw new IdentityApplicationManagementException(
                         "Error while getting the service provider for appId: " + appId);
             }
-            addToCache(serviceProvider, serviceProvider.getTenantDomain());
         }
         return serviceProvider;
     }
 
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new LinkedHashMap<>();
+        List<Integer> missedApplicationIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            serviceProviders.put(applicationId, serviceProvider);
+            if (serviceProvider == null) {
+                missedApplicationIds.add(applicationId);
+            }
+        }
+        if (!missedApplicationIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(missedApplicationIds)) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+        List<ServiceProvider> loadedServiceProviders = new ArrayList<>();
+        for (ServiceProvider serviceProvider : serviceProviders.values()) {
+            if (serviceProvider != null) {
+                loadedServiceProviders.add(serviceProvider);
+            }
+        }
+        return loadedServiceProviders;
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -162,13 +217,17 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
             if (log.isDebugEnabled()) {
                 log.debug("Inbound Auth Key Cache is missing for " + clientId);
             }
-            appName = appDAO.getServiceProviderNameByClientId(clientId, type, tenantDomain);
-            if (tenantDomain != null) {
-                ServiceProviderCacheInboundAuthKey clientKey = new ServiceProviderCacheInboundAuthKey(clientId, type);
-                ServiceProviderCacheInboundAuthEntry clientEntry = new ServiceProviderCacheInboundAuthEntry(appName,
-                        tenantDomain);
-                appCacheByInboundAuth.addToCache(clientKey, clientEntry, tenantDomain);
-            }
+            appName = inboundKeyLoader.load(buildLoaderKey("name", tenantDomain, type, clientId), () -> {
+                String name = appDAO.getServiceProviderNameByClientId(clientId, type, tenantDomain);
+                if (tenantDomain != null) {
+                    ServiceProviderCacheInboundAuthKey clientKey =
+                            new ServiceProviderCacheInboundAuthKey(clientId, type);
+                    ServiceProviderCacheInboundAuthEntry clientEntry = new ServiceProviderCacheInboundAuthEntry(name,
+                            tenantDomain);
+                    appCacheByInboundAuth.addToCache(clientKey, clientEntry, tenantDomain);
+                }
+                return name;
+            });
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Inbound Auth Key Cache is present for " + clientId);
@@ -208,13 +267,14 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
             log.debug("Resource ID is not present in the cache for " + cacheKey + " Hence getting it from DB.");
         }
 
-        resourceId = appDAO.getApplicationResourceIDByInboundKey(inboundKey, inboundType, tenantDomain);
-
-        ApplicationResourceIDCacheInboundAuthEntry clientEntry =
-                new ApplicationResourceIDCacheInboundAuthEntry(resourceId);
-        resourceIDCacheByInboundAuth.addToCache(cacheKey, clientEntry, tenantDomain);
-
-        return resourceId;
+        return inboundKeyLoader.load(buildLoaderKey("resourceId", tenantDomain, inboundType, inboundKey), () -> {
+            String applicationResourceId =
+                    appDAO.getApplicationResourceIDByInboundKey(inboundKey, inboundType, tenantDomain);
+            ApplicationResourceIDCacheInboundAuthEntry clientEntry =
+                    new ApplicationResourceIDCacheInboundAuthEntry(applicationResourceId);
+            resourceIDCacheByInboundAuth.addToCache(cacheKey, clientEntry, tenantDomain);
+            return applicationResourceId;
+        });
     }
 
     public boolean isApplicationExists(String applicationName, String tenantDomain) throws
@@ -233,7 +293,9 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         // Clear the trusted app cache only if trusted app metadata is available in the SP to be added.
         validateAndClearTrustedAppCache(application.getTrustedAppMetadata());
-        return appDAO.createApplication(application, tenantDomain);
+        int applicationId = appDAO.createApplication(application, tenantDomain);
+        clearApproximateApplicationCount();
+        return applicationId;
     }
 
     public void updateApplication(ServiceProvider serviceProvider, String tenantDomain) throws
@@ -260,6 +322,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is available in the SP to be deleted.
         validateAndClearTrustedAppCache(serviceProvider.getTrustedAppMetadata());
         appDAO.deleteApplication(applicationName);
+        clearApproximateApplicationCount();
     }
 
     public ApplicationBasicInfo[] getAllApplicationBasicInfo() throws IdentityApplicationManagementException {
@@ -360,6 +423,21 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         }
     }
 
+    @Override
+    public ApplicationBasicInfo[] getApplicationBasicInfoAfter(String filter, String afterAppName, int afterAppId,
+                                                               int limit, Boolean excludeSystemPortals)
+            throws IdentityApplicationManagementException {
+
+        if (appDAO instanceof PaginatableFilterableApplicationDAO) {
+            // No need to cache the returned list.
+            return ((PaginatableFilterableApplicationDAO) appDAO).getApplicationBasicInfoAfter(filter, afterAppName,
+                    afterAppId, limit, excludeSystemPortals);
+        } else {
+            throw new UnsupportedOperationException("This operation only supported in" +
+                    " PaginatableFilterableApplicationDAO only.");
+        }
+    }
+
     public int getCountOfAllApplications() throws IdentityApplicationManagementException {
 
         if (appDAO instanceof PaginatableFilterableApplicationDAO) {
@@ -380,7 +458,24 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
             throws IdentityApplicationManagementException {
 
         if (appDAO instanceof PaginatableFilterableApplicationDAO) {
-            return ((PaginatableFilterableApplicationDAO) appDAO).getCountOfApplications(filter, excludeSystemPortals);
+            if (!ApplicationMgtUtil.isApproximateApplicationCountEnabled() ||
+                    (StringUtils.isNotBlank(filter) && !"*".equals(filter))) {
+                return ((PaginatableFilterableApplicationDAO) appDAO).getCountOfApplications(filter,
+                        excludeSystemPortals);
+            }
+            // Unfiltered counts are requested with every page of the application listing. Reuse the count for the
+            // validity period instead of counting all the applications of the tenant on every request.
+            String countKey = buildLoaderKey(String.valueOf(CarbonContext.getThreadLocalCarbonContext().getTenantId()),
+                    String.valueOf(Boolean.TRUE.equals(excludeSystemPortals)));
+            ApplicationCount applicationCount = approximateApplicationCounts.get(countKey);
+            if (applicationCount == null || applicationCount.isExpired()) {
+                int count = ((PaginatableFilterableApplicationDAO) appDAO).getCountOfApplications(filter,
+                        excludeSystemPortals);
+                applicationCount = new ApplicationCount(count, System.currentTimeMillis() + TimeUnit.SECONDS
+                        .toMillis(ApplicationMgtUtil.getApproximateApplicationCountValidityPeriod()));
+                approximateApplicationCounts.put(countKey, applicationCount);
+            }
+            return applicationCount.count;
         } else {
             throw new UnsupportedOperationException("This operation only supported in" +
                     " PaginatableFilterableApplicationDAO only.");
@@ -446,10 +541,15 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ApplicationBasicInfo appBasicInfo = getApplicationBasicInfoFromCacheByResourceId(resourceId, tenantDomain);
         if (appBasicInfo == null) {
             // Cache miss, fetch from DB.
-            appBasicInfo = appDAO.getApplicationBasicInfoByResourceId(resourceId, tenantDomain);
-            if (appBasicInfo != null) {
-                addAppBasicInfoToCache(appBasicInfo, tenantDomain);
-            }
+            appBasicInfo = applicationBasicInfoLoader.load(buildLoaderKey("resourceId", tenantDomain, resourceId),
+                    () -> {
+                        ApplicationBasicInfo basicInfo =
+                                appDAO.getApplicationBasicInfoByResourceId(resourceId, tenantDomain);
+                        if (basicInfo != null) {
+                            addAppBasicInfoToCache(basicInfo, tenantDomain);
+                        }
+                        return basicInfo;
+                    });
         }
         return appBasicInfo;
     }
@@ -476,10 +576,13 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ServiceProvider application = getApplicationFromCacheByResourceId(resourceId, tenantDomain);
         if (application == null) {
             // Cache miss, fetch from DB.
-            application = appDAO.getApplicationByResourceId(resourceId, tenantDomain);
-            if (application != null) {
-                addToCache(application, tenantDomain);
-            }
+            application = applicationLoader.load(buildLoaderKey("resourceId", tenantDomain, resourceId), () -> {
+                ServiceProvider serviceProvider = appDAO.getApplicationByResourceId(resourceId, tenantDomain);
+                if (serviceProvider != null) {
+                    addToCache(serviceProvider, tenantDomain);
+                }
+                return serviceProvider;
+            });
         }
         return application;
     }
@@ -490,7 +593,9 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         // Clear the trusted app cache only if trusted app metadata is available in the SP to be added.
         validateAndClearTrustedAppCache(application.getTrustedAppMetadata());
-        return appDAO.addApplication(application, tenantDomain);
+        String resourceId = appDAO.addApplication(application, tenantDomain);
+        clearApproximateApplicationCount();
+        return resourceId;
     }
 
     @Override
@@ -517,6 +622,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is available in the SP to be deleted.
         validateAndClearTrustedAppCache(serviceProvider.getTrustedAppMetadata());
         appDAO.deleteApplicationByResourceId(resourceId, tenantDomain);
+        clearApproximateApplicationCount();
     }
 
     @Override
@@ -571,6 +677,90 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         appDAO.updateApplicationLocalAndOutboundAuthConfig(serviceProvider, tenantDomain);
     }
 
+    /**
+     * Preload the most recently created applications of the given tenant to the application caches, so that the first
+     * requests after a node start are not all served from the database. The applications are loaded in parallel with
+     * the given number of threads.
+     *
+     * @param tenantDomain    Tenant domain.
+     * @param maxApplications Maximum number of applications to load.
+     * @param concurrency     Maximum number of threads loading the applications.
+     * @return Number of applications added to the cache.
+     * @throws IdentityApplicationManagementException If an error occurs while listing the applications.
+     */
+    public int warmUpCache(String tenantDomain, int maxApplications, int concurrency)
+            throws IdentityApplicationManagementException {
+
+        if (!(appDAO instanceof PaginatableFilterableApplicationDAO)) {
+            throw new UnsupportedOperationException("This operation only supported in" +
+                    " PaginatableFilterableApplicationDAO only.");
+        }
+
+        List<Integer> applicationIds = new ArrayList<>();
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            for (ApplicationBasicInfo basicInfo : ((PaginatableFilterableApplicationDAO) appDAO)
+                    .getApplicationBasicInfo(0, maxApplications, false)) {
+                applicationIds.add(basicInfo.getApplicationId());
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+
+        int threads = Math.max(1, Math.min(concurrency, applicationIds.size()));
+        int chunkSize = Math.min(WARM_UP_CHUNK_SIZE, (applicationIds.size() + threads - 1) / threads);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, WARM_UP_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int from = 0; from < applicationIds.size(); from += chunkSize) {
+                List<Integer> chunk = applicationIds.subList(from, Math.min(from + chunkSize, applicationIds.size()));
+                results.add(executor.submit(() -> warmUpCache(tenantDomain, chunk)));
+            }
+            int loadedCount = 0;
+            for (Future<Integer> result : results) {
+                try {
+                    loadedCount += result.get();
+                } catch (ExecutionException e) {
+                    log.warn("Error while loading applications of tenant: " + tenantDomain + " to the cache.",
+                            e.getCause());
+                }
+            }
+            return loadedCount;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while loading applications of tenant: " +
+                    tenantDomain + " to the cache.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int warmUpCache(String tenantDomain, List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            List<ServiceProvider> serviceProviders = appDAO.getApplications(applicationIds);
+            for (ServiceProvider serviceProvider : serviceProviders) {
+                addToCache(serviceProvider, tenantDomain);
+                getApplicationBasicInfoByResourceId(serviceProvider.getApplicationResourceId(), tenantDomain);
+            }
+            return serviceProviders.size();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
     private void addToCache(ServiceProvider serviceProvider, String tenantDomain) {
 
         if (log.isDebugEnabled()) {
@@ -633,6 +823,18 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         trustedAppByPlatformTypeCache.addToCache(cacheKey, cacheEntry, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
     }
 
+    private static String buildLoaderKey(String... parts) {
+
+        return String.join(KEY_SEPARATOR, parts);
+    }
+
+    private static void clearApproximateApplicationCount() {
+
+        String tenantId = String.valueOf(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+        approximateApplicationCounts.remove(buildLoaderKey(tenantId, String.valueOf(true)));
+        approximateApplicationCounts.remove(buildLoaderKey(tenantId, String.valueOf(false)));
+    }
+
     private ServiceProvider getApplicationFromCache(int appId, String tenantDomain) {
 
         ServiceProvider serviceProvider = null;
@@ -917,4 +1119,24 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         TrustedAppPlatformTypeCacheKey appleCacheKey = new TrustedAppPlatformTypeCacheKey(PlatformType.IOS);
         trustedAppByPlatformTypeCache.clearCacheEntry(appleCacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
     }
+
+    /**
+     * Application count with the time it expires at.
+     */
+    private static class ApplicationCount {
+
+        private final int count;
+        private final long expiryTime;
+
+        ApplicationCount(int count, long expiryTime) {
+
+            this.count = count;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired() {
+
+            return System.currentTimeMillis() >= expiryTime;
+        }
+    }
 }
@@ -39,6 +39,7 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
@@ -50,6 +51,8 @@ import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementServiceIm
 import org.wso2.carbon.identity.application.mgt.DiscoverableApplicationManager;
 import org.wso2.carbon.identity.application.mgt.ai.LoginFlowAIManager;
 import org.wso2.carbon.identity.application.mgt.ai.LoginFlowAIManagerImpl;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.application.mgt.dao.impl.CacheBackedApplicationDAO;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtService;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtServiceImpl;
 import org.wso2.carbon.identity.application.mgt.inbound.protocol.ApplicationInboundAuthConfigHandler;
@@ -72,6 +75,7 @@ import org.wso2.carbon.identity.certificate.management.service.ApplicationCertif
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.listener.ClaimMetadataMgtListener;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManagementInitialize;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -84,6 +88,7 @@ import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -91,6 +96,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * OSGI Service component for Application (aka Service Provider) management.
@@ -103,6 +110,8 @@ public class ApplicationManagementServiceComponent {
     private static Log log = LogFactory.getLog(ApplicationManagementServiceComponent.class);
     private static BundleContext bundleContext;
     private static Map<String, ServiceProvider> fileBasedSPs = new HashMap<String, ServiceProvider>();
+    private static final String CACHE_WARM_UP_THREAD_NAME = "application-cache-warm-up";
+    private ExecutorService cacheWarmUpExecutor;
 
     public static Map<String, ServiceProvider> getFileBasedSPs() {
         return fileBasedSPs;
@@ -164,6 +173,10 @@ public class ApplicationManagementServiceComponent {
             bundleContext.registerService(AuthorizedAPIManagementListener.class, new ConsoleAuthorizedAPIListener(),
                     null);
 
+            if (Boolean.parseBoolean(IdentityUtil.getProperty(ApplicationConstants.CACHE_WARM_UP_ENABLED_PROPERTY))) {
+                startApplicationCacheWarmUp();
+            }
+
             if (log.isDebugEnabled()) {
                 log.debug("Identity ApplicationManagementComponent bundle is activated");
             }
@@ -174,6 +187,11 @@ public class ApplicationManagementServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+
+        if (cacheWarmUpExecutor != null) {
+            cacheWarmUpExecutor.shutdownNow();
+            cacheWarmUpExecutor = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity ApplicationManagementComponent bundle is deactivated");
         }
@@ -253,6 +271,66 @@ public class ApplicationManagementServiceComponent {
         ApplicationManagementServiceComponentHolder.getInstance().setConsentManager(null);
     }
 
+    /**
+     * Load the applications of the configured tenants to the application caches in the background.
+     */
+    private void startApplicationCacheWarmUp() {
+
+        String tenantsConfig = IdentityUtil.getProperty(ApplicationConstants.CACHE_WARM_UP_TENANTS_PROPERTY);
+        String[] tenantDomains = StringUtils.isBlank(tenantsConfig) ?
+                new String[]{MultitenantConstants.SUPER_TENANT_DOMAIN_NAME} : StringUtils.split(tenantsConfig, ",");
+        int maxApplications = getPositiveIntProperty(ApplicationConstants.CACHE_WARM_UP_MAX_APPLICATIONS_PROPERTY,
+                ApplicationConstants.DEFAULT_CACHE_WARM_UP_MAX_APPLICATIONS);
+        int concurrency = getPositiveIntProperty(ApplicationConstants.CACHE_WARM_UP_CONCURRENCY_PROPERTY,
+                ApplicationConstants.DEFAULT_CACHE_WARM_UP_CONCURRENCY);
+
+        ApplicationDAO applicationDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+        if (!(applicationDAO instanceof CacheBackedApplicationDAO)) {
+            return;
+        }
+        cacheWarmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, CACHE_WARM_UP_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        cacheWarmUpExecutor.submit(() -> {
+            for (String tenantDomain : tenantDomains) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                try {
+                    int loadedCount = ((CacheBackedApplicationDAO) applicationDAO).warmUpCache(tenantDomain.trim(),
+                            maxApplications, concurrency);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Loaded " + loadedCount + " applications of tenant: " + tenantDomain +
+                                " to the cache.");
+                    }
+                } catch (IdentityApplicationManagementException | RuntimeException e) {
+                    log.warn("Error while loading the applications of tenant: " + tenantDomain + " to the cache.", e);
+                }
+            }
+        });
+        // Let the warm-up thread exit once the submitted task completes.
+        cacheWarmUpExecutor.shutdown();
+    }
+
+    private int getPositiveIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: "
+                        + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     private void buildFileBasedSPList() {
         String spConfigDirPath = CarbonUtils.getCarbonConfigDirPath() + File.separator + "identity"
                 + File.separator + "service-providers";
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal.cache;
+
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent loads of the same key, so that a value missing in the cache is loaded from the database only
+ * once while other threads asking for the same key wait for that load to complete.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class SingleFlightLoader<K, V> {
+
+    private final ConcurrentMap<K, InFlightLoad<V>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Load the value of the given key. If a load of the same key is already in progress in another thread, wait for it
+     * and return its result instead of loading again.
+     *
+     * @param key    Key to load.
+     * @param loader Loader which reads the value and adds it to the cache.
+     * @return Loaded value.
+     * @throws IdentityApplicationManagementException If the load fails.
+     */
+    public V load(K key, Loader<V> loader) throws IdentityApplicationManagementException {
+
+        InFlightLoad<V> load = new InFlightLoad<>();
+        InFlightLoad<V> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            if (inFlightLoad.owner == Thread.currentThread()) {
+                // Nested load of the same key by the loading thread. Waiting would never complete.
+                return loader.load();
+            }
+            return await(inFlightLoad.result);
+        }
+        try {
+            V value = loader.load();
+            load.result.complete(value);
+            return value;
+        } catch (IdentityApplicationManagementException | RuntimeException e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    private V await(CompletableFuture<V> result) throws IdentityApplicationManagementException {
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while waiting for the application to load.",
+                    e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IdentityApplicationManagementException("Error while loading the application.", cause);
+        }
+    }
+
+    /**
+     * Loads a value.
+     *
+     * @param <V> Value type.
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+
+        V load() throws IdentityApplicationManagementException;
+    }
+
+    /**
+     * Load in progress with the thread performing it.
+     */
+    private static class InFlightLoad<V> {
+
+        private final Thread owner = Thread.currentThread();
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+    }
+}
@@ -39,6 +39,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementServerException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfoSearchResult;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.Claim;
 import org.wso2.carbon.identity.application.common.model.ClaimConfig;
@@ -505,6 +506,44 @@ public class ApplicationManagementServiceImplTest {
         applicationManagementService.deleteApplications(SUPER_TENANT_ID);
     }
 
+    @Test
+    public void testGetApplicationBasicInfoByCursor() throws IdentityApplicationManagementException {
+
+        addApplications();
+
+        // Applications are listed in the order of their names.
+        ApplicationBasicInfoSearchResult firstPage = applicationManagementService.getApplicationBasicInfoByCursor(
+                SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, null, 1, false);
+        Assert.assertEquals(firstPage.getApplications().size(), 1);
+        Assert.assertEquals(firstPage.getApplications().get(0).getApplicationName(), APPLICATION_NAME_1);
+        Assert.assertNotNull(firstPage.getNextCursor());
+
+        ApplicationBasicInfoSearchResult secondPage = applicationManagementService.getApplicationBasicInfoByCursor(
+                SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, firstPage.getNextCursor(), 1, false);
+        Assert.assertEquals(secondPage.getApplications().size(), 1);
+        Assert.assertEquals(secondPage.getApplications().get(0).getApplicationName(), APPLICATION_NAME_2);
+        Assert.assertNull(secondPage.getNextCursor());
+
+        ApplicationBasicInfoSearchResult filteredPage = applicationManagementService.getApplicationBasicInfoByCursor(
+                SUPER_TENANT_DOMAIN_NAME, USERNAME_1, APPLICATION_NAME_FILTER_2, null, 10, false);
+        Assert.assertEquals(filteredPage.getApplications().size(), 1);
+        Assert.assertEquals(filteredPage.getApplications().get(0).getApplicationName(), APPLICATION_NAME_2);
+        Assert.assertNull(filteredPage.getNextCursor());
+
+        // Deleting all added applications.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testGetApplicationBasicInfoByInvalidCursor() {
+
+        Assert.assertThrows(IdentityApplicationManagementClientException.class, () -> applicationManagementService.
+                getApplicationBasicInfoByCursor(SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, "invalid-cursor", 1,
+                        false));
+        Assert.assertThrows(IdentityApplicationManagementClientException.class, () -> applicationManagementService.
+                getApplicationBasicInfoByCursor(SUPER_TENANT_DOMAIN_NAME, USERNAME_1, null, null, 0, false));
+    }
+
     @DataProvider(name = "getOAuthApplicationDataProvider")
     public Object[][] getOAuthApplicationDataProvider() {
 
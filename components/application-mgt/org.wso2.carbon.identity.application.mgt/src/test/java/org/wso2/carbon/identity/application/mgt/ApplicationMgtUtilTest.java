@@ -85,6 +85,8 @@ import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
 import static org.wso2.carbon.base.MultitenantConstants.TENANT_DOMAIN;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DEFAULT_RESULTS_PER_PAGE;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.ENABLE_APPLICATION_ROLE_VALIDATION_PROPERTY;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.ErrorMessage.ERROR_RETRIEVING_USERSTORE_MANAGER;
@@ -626,6 +628,30 @@ public class ApplicationMgtUtilTest {
         }
     }
 
+    @DataProvider(name = "getApproximateApplicationCountValidityPeriodDataProvider")
+    public Object[][] getApproximateApplicationCountValidityPeriodDataProvider() {
+
+        return new Object[][]{
+                {"30", 30},
+                {"0", 0},
+                {"-30", DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD},
+                {"invalid", DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD},
+                {null, DEFAULT_APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD}
+        };
+    }
+
+    @Test(dataProvider = "getApproximateApplicationCountValidityPeriodDataProvider")
+    public void testGetApproximateApplicationCountValidityPeriod(String validityPeriodPropertyValue,
+                                                                 int validityPeriod) {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY))
+                    .thenReturn(validityPeriodPropertyValue);
+
+            assertEquals(ApplicationMgtUtil.getApproximateApplicationCountValidityPeriod(), validityPeriod);
+        }
+    }
+
     @DataProvider(name = "getApplicationUpdatedVersionDataProvider")
     public Object[][] getApplicationUpdatedVersionDataProvider() {
 
@@ -419,6 +419,84 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test retrieving multiple applications at once.",
+            dependsOnMethods = { "testUpdateApplicationForFragmentApp" })
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        ServiceProvider app = applicationDAO.getApplication("test-update-app", SUPER_TENANT_DOMAIN_NAME);
+        ServiceProvider fragmentApp =
+                applicationDAO.getApplication("test-update-fragment-app", SUPER_TENANT_DOMAIN_NAME);
+
+        List<ServiceProvider> serviceProviders = applicationDAO.getApplications(Arrays.asList(
+                fragmentApp.getApplicationID(), -1, app.getApplicationID(), fragmentApp.getApplicationID()));
+        assertEquals(serviceProviders.size(), 2);
+
+        ServiceProvider loadedFragmentApp = serviceProviders.get(0);
+        assertEquals(loadedFragmentApp.getApplicationName(), "test-update-fragment-app");
+        assertEquals(loadedFragmentApp.getSpProperties().length, fragmentApp.getSpProperties().length);
+        assertEquals(loadedFragmentApp.getAssociatedRolesConfig().getRoles().length, 0);
+
+        ServiceProvider loadedApp = serviceProviders.get(1);
+        assertEquals(loadedApp.getApplicationName(), "test-update-app");
+        assertEquals(loadedApp.getSpProperties().length, app.getSpProperties().length);
+        assertEquals(loadedApp.getAssociatedRolesConfig().getRoles().length, 1);
+        assertEquals(loadedApp.getAssociatedRolesConfig().getRoles()[0].getName(), "test-role");
+        assertEquals(loadedApp.getLocalAndOutBoundAuthenticationConfig().getAuthenticationType(),
+                app.getLocalAndOutBoundAuthenticationConfig().getAuthenticationType());
+        assertEquals(loadedApp.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps().length,
+                app.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps().length);
+        assertEquals(loadedApp.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length,
+                app.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length);
+        assertEquals(loadedApp.getClaimConfig().getClaimMappings().length,
+                app.getClaimConfig().getClaimMappings().length);
+        assertEquals(loadedApp.getClaimConfig().isAlwaysSendMappedLocalSubjectId(),
+                app.getClaimConfig().isAlwaysSendMappedLocalSubjectId());
+        assertEquals(loadedApp.getPermissionAndRoleConfig().getRoleMappings().length,
+                app.getPermissionAndRoleConfig().getRoleMappings().length);
+        assertEquals(loadedApp.getRequestPathAuthenticatorConfigs().length,
+                app.getRequestPathAuthenticatorConfigs().length);
+        assertEquals(loadedApp.getInboundProvisioningConfig().isDumbMode(),
+                app.getInboundProvisioningConfig().isDumbMode());
+        assertEquals(loadedApp.getOutboundProvisioningConfig().getProvisioningIdentityProviders().length,
+                app.getOutboundProvisioningConfig().getProvisioningIdentityProviders().length);
+
+        assertTrue(applicationDAO.getApplications(Collections.emptyList()).isEmpty());
+    }
+
+    @Test(description = "Test listing applications with cursor based pagination.",
+            dependsOnMethods = { "testGetApplications" })
+    public void testGetApplicationBasicInfoAfter() throws IdentityApplicationManagementException {
+
+        ApplicationDAOImpl applicationDAO = new ApplicationDAOImpl();
+        ApplicationBasicInfo[] allApplications = applicationDAO.getApplicationBasicInfoAfter(null, null, 0, 100,
+                false);
+        assertTrue(allApplications.length >= 2);
+
+        // Page through all the applications one at a time.
+        List<String> pagedApplicationNames = new ArrayList<>();
+        ApplicationBasicInfo[] page = applicationDAO.getApplicationBasicInfoAfter("*", null, 0, 1, false);
+        while (page.length > 0) {
+            assertEquals(page.length, 1);
+            pagedApplicationNames.add(page[0].getApplicationName());
+            page = applicationDAO.getApplicationBasicInfoAfter("*", page[0].getApplicationName(),
+                    page[0].getApplicationId(), 1, false);
+        }
+        List<String> sortedApplicationNames = new ArrayList<>(pagedApplicationNames);
+        Collections.sort(sortedApplicationNames);
+        assertEquals(pagedApplicationNames, sortedApplicationNames);
+        assertEquals(pagedApplicationNames.size(), allApplications.length);
+
+        ApplicationBasicInfo[] filteredApplications =
+                applicationDAO.getApplicationBasicInfoAfter("test-update-*", null, 0, 1, false);
+        assertEquals(filteredApplications.length, 1);
+        assertEquals(filteredApplications[0].getApplicationName(), "test-update-app");
+        filteredApplications = applicationDAO.getApplicationBasicInfoAfter("test-update-*",
+                filteredApplications[0].getApplicationName(), filteredApplications[0].getApplicationId(), 10, false);
+        assertEquals(filteredApplications.length, 1);
+        assertEquals(filteredApplications[0].getApplicationName(), "test-update-fragment-app");
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
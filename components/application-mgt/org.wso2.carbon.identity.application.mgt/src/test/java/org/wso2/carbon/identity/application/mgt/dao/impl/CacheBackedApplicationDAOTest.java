@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.application.mgt.dao.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.context.internal.OSGiDataHolder;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.internal.cache.ApplicationBasicInfoByNameCache;
+import org.wso2.carbon.identity.application.mgt.internal.cache.ApplicationBasicInfoByResourceIdCache;
+import org.wso2.carbon.identity.application.mgt.internal.cache.IdentityServiceProviderCache;
+import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderByIDCache;
+import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderByResourceIdCache;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.APPROXIMATE_APPLICATION_COUNT_ENABLED_PROPERTY;
+import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
+
+/**
+ * Unit tests for CacheBackedApplicationDAO.
+ */
+public class CacheBackedApplicationDAOTest {
+
+    private static final int THREAD_COUNT = 5;
+
+    private ApplicationDAOImpl applicationDAO;
+    private CacheBackedApplicationDAO cacheBackedApplicationDAO;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes", "repository").
+                toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome, "conf").toString());
+
+        // The caches and the warm-up resolve the tenant on their own threads, so a static mock cannot be used.
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(SUPER_TENANT_DOMAIN_NAME)).thenReturn(SUPER_TENANT_ID);
+        when(tenantManager.getDomain(SUPER_TENANT_ID)).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        IdentityTenantUtil.setRealmService(realmService);
+        OSGiDataHolder.getInstance().setUserRealmService(realmService);
+    }
+
+    @AfterClass
+    public void tearDownClass() {
+
+        IdentityTenantUtil.setRealmService(null);
+        OSGiDataHolder.getInstance().setUserRealmService(null);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        startSuperTenantFlow();
+        applicationDAO = mock(ApplicationDAOImpl.class);
+        cacheBackedApplicationDAO = new CacheBackedApplicationDAO(applicationDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityServiceProviderCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ServiceProviderByIDCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ServiceProviderByResourceIdCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ApplicationBasicInfoByResourceIdCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        ApplicationBasicInfoByNameCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Test
+    public void testWarmUpCacheLoadsListedApplications() throws Exception {
+
+        ApplicationBasicInfo[] basicInfos = {getBasicInfo(1), getBasicInfo(2), getBasicInfo(3)};
+        when(applicationDAO.getApplicationBasicInfo(0, 10, false)).thenReturn(basicInfos);
+        when(applicationDAO.getApplications(anyList())).thenAnswer(invocation -> {
+            List<ServiceProvider> serviceProviders = new ArrayList<>();
+            for (Integer applicationId : invocation.<List<Integer>>getArgument(0)) {
+                serviceProviders.add(getServiceProvider(applicationId));
+            }
+            return serviceProviders;
+        });
+        for (ApplicationBasicInfo basicInfo : basicInfos) {
+            when(applicationDAO.getApplicationBasicInfoByResourceId(basicInfo.getApplicationResourceId(),
+                    SUPER_TENANT_DOMAIN_NAME)).thenReturn(basicInfo);
+        }
+
+        assertEquals(cacheBackedApplicationDAO.warmUpCache(SUPER_TENANT_DOMAIN_NAME, 10, 2), 3);
+
+        for (ApplicationBasicInfo basicInfo : basicInfos) {
+            assertEquals(cacheBackedApplicationDAO.getApplication(basicInfo.getApplicationId()).getApplicationName(),
+                    basicInfo.getApplicationName());
+            assertEquals(cacheBackedApplicationDAO.getApplicationBasicInfoByResourceId(
+                    basicInfo.getApplicationResourceId(), SUPER_TENANT_DOMAIN_NAME).getApplicationName(),
+                    basicInfo.getApplicationName());
+        }
+        // Every lookup after the warm-up is served from the cache.
+        verify(applicationDAO, never()).getApplication(anyInt());
+        verify(applicationDAO, times(3)).getApplicationBasicInfoByResourceId(anyString(), anyString());
+    }
+
+    @Test
+    public void testWarmUpCacheWithoutApplications() throws Exception {
+
+        when(applicationDAO.getApplicationBasicInfo(0, 10, false)).thenReturn(new ApplicationBasicInfo[0]);
+
+        assertEquals(cacheBackedApplicationDAO.warmUpCache(SUPER_TENANT_DOMAIN_NAME, 10, 2), 0);
+        verify(applicationDAO, never()).getApplications(anyList());
+    }
+
+    @Test
+    public void testConcurrentCacheMissesAreCoalesced() throws Exception {
+
+        int applicationId = 5;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(applicationDAO.getApplication(applicationId)).thenAnswer(invocation -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            assertTrue(releaseLoad.await(5, TimeUnit.SECONDS));
+            return getServiceProvider(applicationId);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<ServiceProvider>> results = new ArrayList<>();
+            results.add(executor.submit(() -> getApplicationInSuperTenant(applicationId)));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < THREAD_COUNT; i++) {
+                results.add(executor.submit(() -> getApplicationInSuperTenant(applicationId)));
+            }
+            // Give the other lookups time to miss the cache and join the in-flight load.
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            for (Future<ServiceProvider> result : results) {
+                ServiceProvider serviceProvider = result.get(5, TimeUnit.SECONDS);
+                assertNotNull(serviceProvider);
+                assertEquals(serviceProvider.getApplicationID(), applicationId);
+            }
+            assertEquals(loadCount.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testApproximateCountIsDroppedAfterApplicationCreation() throws Exception {
+
+        AtomicInteger applicationCount = new AtomicInteger(1);
+        when(applicationDAO.getCountOfApplications("*", false)).thenAnswer(invocation -> applicationCount.get());
+        when(applicationDAO.addApplication(any(ServiceProvider.class), anyString())).thenAnswer(invocation -> {
+            // A listing served while the application is being created should not cache the count of the
+            // applications before the creation.
+            assertEquals(cacheBackedApplicationDAO.getCountOfApplications("*", false), 1);
+            applicationCount.incrementAndGet();
+            return "app-resource-id";
+        });
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(APPROXIMATE_APPLICATION_COUNT_ENABLED_PROPERTY))
+                    .thenReturn("true");
+            identityUtil.when(() -> IdentityUtil.getProperty(APPROXIMATE_APPLICATION_COUNT_VALIDITY_PERIOD_PROPERTY))
+                    .thenReturn("60");
+
+            assertEquals(cacheBackedApplicationDAO.getCountOfApplications("*", false), 1);
+            assertEquals(cacheBackedApplicationDAO.getCountOfApplications("*", false), 1);
+            verify(applicationDAO, times(1)).getCountOfApplications("*", false);
+
+            cacheBackedApplicationDAO.addApplication(getServiceProvider(6), SUPER_TENANT_DOMAIN_NAME);
+            assertEquals(cacheBackedApplicationDAO.getCountOfApplications("*", false), 2);
+            verify(applicationDAO, times(2)).getCountOfApplications("*", false);
+        }
+    }
+
+    private ServiceProvider getApplicationInSuperTenant(int applicationId) throws Exception {
+
+        startSuperTenantFlow();
+        try {
+            return cacheBackedApplicationDAO.getApplication(applicationId);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private static void startSuperTenantFlow() {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(SUPER_TENANT_ID);
+    }
+
+    private static ApplicationBasicInfo getBasicInfo(int applicationId) {
+
+        ApplicationBasicInfo basicInfo = new ApplicationBasicInfo();
+        basicInfo.setApplicationId(applicationId);
+        basicInfo.setApplicationName("app-" + applicationId);
+        basicInfo.setApplicationResourceId("app-resource-id-" + applicationId);
+        return basicInfo;
+    }
+
+    private static ServiceProvider getServiceProvider(int applicationId) {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationID(applicationId);
+        serviceProvider.setApplicationName("app-" + applicationId);
+        serviceProvider.setApplicationResourceId("app-resource-id-" + applicationId);
+        serviceProvider.setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        return serviceProvider;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for SingleFlightLoader.
+ */
+public class SingleFlightLoaderTest {
+
+    private static final int THREAD_COUNT = 5;
+
+    @Test
+    public void testConcurrentLoadsOfSameKeyAreCoalesced() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            Future<String> leader = executor.submit(() -> loader.load("app", () -> {
+                loadCount.incrementAndGet();
+                loadStarted.countDown();
+                await(releaseLoad);
+                return "value";
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < THREAD_COUNT; i++) {
+                followers.add(executor.submit(() -> loader.load("app", () -> {
+                    loadCount.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // Give the followers time to join the in-flight load.
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            assertEquals(leader.get(5, TimeUnit.SECONDS), "value");
+            for (Future<String> follower : followers) {
+                assertEquals(follower.get(5, TimeUnit.SECONDS), "value");
+            }
+            assertEquals(loadCount.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLoadsOfDifferentKeysAreNotCoalesced() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+
+        assertEquals(loader.load("app1", () -> "value1"), "value1");
+        assertEquals(loader.load("app2", () -> "value2"), "value2");
+        // A completed load is not reused.
+        assertEquals(loader.load("app1", () -> "value3"), "value3");
+    }
+
+    @Test
+    public void testFailureIsPropagatedToWaitingThreads() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+        IdentityApplicationManagementException error = new IdentityApplicationManagementException("Load failed.");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> loader.load("app", () -> {
+                loadStarted.countDown();
+                await(releaseLoad);
+                throw error;
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> loader.load("app", () -> "other"));
+            Thread.sleep(200);
+            releaseLoad.countDown();
+
+            assertFailedWith(leader, error);
+            assertFailedWith(follower, error);
+        } finally {
+            executor.shutdownNow();
+        }
+        // The failed load is not kept.
+        assertEquals(loader.load("app", () -> "value"), "value");
+    }
+
+    @Test
+    public void testNestedLoadOfSameKeyInLoadingThread() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+
+        String value = loader.load("app", () -> loader.load("app", () -> "nested") + "-outer");
+        assertEquals(value, "nested-outer");
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertFailedWith(Future<String> future, Exception expected) throws Exception {
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Load should have failed.");
+        } catch (ExecutionException e) {
+            assertSame(e.getCause(), expected);
+        }
+    }
+}
@@ -20,22 +20,24 @@ package org.wso2.carbon.identity.framework.async.operation.status.mgt.api.buffer
 
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.FAILED;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.PARTIALLY_COMPLETED;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.SUCCESS;
 
 /**
- * A thread-safe queue that holds {@link OperationStatus} instances representing
- * the status of individual sub-operations within an asynchronous operation.
+ * A thread-safe holder of the {@link OperationStatus} results of the individual sub-operations within an
+ * asynchronous operation.
  * <p>
- * Provides utility methods to add sub-operation statuses, iterate over them, and
- * compute the overall status of the operation based on individual results.
+ * Sub-operation results are aggregated into counters as they are added, so the overall status of the operation is
+ * computed in constant time regardless of the number of sub-operations.
  */
 public class SubOperationStatusQueue {
 
-    private ConcurrentLinkedQueue<OperationStatus> subOperationList = new ConcurrentLinkedQueue<OperationStatus>();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final AtomicInteger partiallyCompletedCount = new AtomicInteger();
 
     /**
      * Constructs a new empty {@link SubOperationStatusQueue}.
@@ -50,7 +52,13 @@ public class SubOperationStatusQueue {
      */
     public void add(OperationStatus status) {
 
-        this.subOperationList.add(status);
+        if (SUCCESS.equals(status)) {
+            successCount.incrementAndGet();
+        } else if (FAILED.equals(status)) {
+            failedCount.incrementAndGet();
+        } else if (PARTIALLY_COMPLETED.equals(status)) {
+            partiallyCompletedCount.incrementAndGet();
+        }
     }
 
     /**
@@ -67,24 +75,28 @@ public class SubOperationStatusQueue {
      */
     public OperationStatus getOperationStatus() {
 
-        boolean allSuccess = true;
-        boolean allFail = true;
-
-        for (OperationStatus status : subOperationList) {
-            if (PARTIALLY_COMPLETED.equals(status)) {
-                return PARTIALLY_COMPLETED;
-            } else if (FAILED.equals(status)) {
-                allSuccess = false;
-            } else if (SUCCESS.equals(status)) {
-                allFail = false;
-            }
-        }
-
-        if (allSuccess) {
+        if (partiallyCompletedCount.get() > 0) {
+            return PARTIALLY_COMPLETED;
+        } else if (failedCount.get() == 0) {
             return SUCCESS;
-        } else if (allFail) {
+        } else if (successCount.get() == 0) {
             return FAILED;
         }
         return PARTIALLY_COMPLETED;
     }
+
+    public int getSuccessCount() {
+
+        return successCount.get();
+    }
+
+    public int getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    public int getPartiallyCompletedCount() {
+
+        return partiallyCompletedCount.get();
+    }
 }
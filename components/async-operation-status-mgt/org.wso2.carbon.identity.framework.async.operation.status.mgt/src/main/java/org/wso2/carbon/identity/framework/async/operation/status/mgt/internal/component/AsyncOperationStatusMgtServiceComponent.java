@@ -62,6 +62,7 @@ public class AsyncOperationStatusMgtServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.ungetService(bundleCtx.getServiceReference(AsyncOperationStatusMgtService.class));
+            AsyncOperationStatusMgtServiceImpl.shutdown();
             LOG.debug("Async operation status mgt bundle is deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating Async operation status management component.", e);
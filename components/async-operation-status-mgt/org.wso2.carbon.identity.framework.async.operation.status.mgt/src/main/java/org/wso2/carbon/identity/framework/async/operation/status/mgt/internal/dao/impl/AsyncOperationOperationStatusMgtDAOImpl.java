@@ -44,6 +44,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -55,6 +56,9 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_RETRIEVING_ASYNC_OPERATION_STATUS_UNIT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_RETRIEVING_ASYNC_OPERATION_STATUS_UNIT_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_UPDATING_ASYNC_OPERATION_STATUS;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.FAILED;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.PARTIALLY_COMPLETED;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus.SUCCESS;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.CREATE_ASYNC_OPERATION;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.CREATE_ASYNC_OPERATION_UNIT_BATCH;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.DELETE_RECENT_OPERATION_RECORD;
@@ -74,20 +78,24 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.inte
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CREATED_AT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CURSOR_KEY;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.FAILED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_USER_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.LAST_MODIFIED;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_TYPE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.PARTIALLY_COMPLETED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.POLICY;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.RESIDENT_RESOURCE_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS_MESSAGE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUCCESS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_TYPE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.TARGET_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.UNIT_OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_ASYNC_OPERATION;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_ASYNC_OPERATION_UNIT_STATUS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleServerException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.throwRuntimeException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.FilterQueryBuilderUtil.buildFilterQuery;
@@ -147,7 +155,7 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
         Timestamp currentTimestamp = new Timestamp(new Date().getTime());
         NamedJdbcTemplate jdbcTemplate = AsyncOperationStatusMgtDbUtil.getNewTemplate();
         try {
-            jdbcTemplate.withTransaction(template ->
+            jdbcTemplate.withTransaction(template -> {
                 template.executeBatchInsert(CREATE_ASYNC_OPERATION_UNIT_BATCH, statement -> {
                     for (UnitOperationInitDTO context : queue) {
                         statement.setString(UNIT_OPERATION_ID, UUID.randomUUID().toString());
@@ -159,7 +167,18 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                         statement.setTimeStamp(CREATED_AT, currentTimestamp, null);
                         statement.addBatch();
                     }
-                }, null));
+                }, null);
+                // Keep the aggregated unit status counts of the operations in step with the inserted units.
+                for (Map.Entry<String, UnitOperationStatusCount> entry : getUnitStatusCountDelta(queue).entrySet()) {
+                    template.executeUpdate(UPDATE_ASYNC_OPERATION_UNIT_STATUS_COUNT, statement -> {
+                        statement.setInt(SUCCESS_COUNT, entry.getValue().getSuccess());
+                        statement.setInt(FAILED_COUNT, entry.getValue().getFailed());
+                        statement.setInt(PARTIALLY_COMPLETED_COUNT, entry.getValue().getPartiallyCompleted());
+                        statement.setString(OPERATION_ID, entry.getKey());
+                    });
+                }
+                return null;
+            });
         } catch (TransactionException e) {
             throw handleServerException(ERROR_WHILE_PERSISTING_ASYNC_OPERATION_STATUS_UNIT, e);
         }
@@ -309,6 +328,39 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
         });
     }
 
+    private Map<String, UnitOperationStatusCount> getUnitStatusCountDelta(
+            ConcurrentLinkedQueue<UnitOperationInitDTO> queue) {
+
+        Map<String, UnitOperationStatusCount> countDelta = new HashMap<>();
+        for (UnitOperationInitDTO context : queue) {
+            UnitOperationStatusCount count =
+                    countDelta.computeIfAbsent(context.getOperationId(), k -> new UnitOperationStatusCount());
+            if (SUCCESS.name().equals(context.getUnitOperationStatus())) {
+                count.setSuccess(count.getSuccess() + 1);
+            } else if (FAILED.name().equals(context.getUnitOperationStatus())) {
+                count.setFailed(count.getFailed() + 1);
+            } else if (PARTIALLY_COMPLETED.name().equals(context.getUnitOperationStatus())) {
+                count.setPartiallyCompleted(count.getPartiallyCompleted() + 1);
+            }
+        }
+        return countDelta;
+    }
+
+    private UnitOperationStatusCount getUnitOperationStatusCount(ResultSet resultSet)
+            throws SQLException, DataAccessException {
+
+        UnitOperationStatusCount countObj = new UnitOperationStatusCount();
+        countObj.setSuccess(resultSet.getInt(SUCCESS_COUNT));
+        countObj.setFailed(resultSet.getInt(FAILED_COUNT));
+        countObj.setPartiallyCompleted(resultSet.getInt(PARTIALLY_COMPLETED_COUNT));
+        if (!resultSet.wasNull()) {
+            return countObj;
+        }
+        // Operations recorded before the counts were maintained have NULL counts, while new operations start at
+        // zero. Count the unit rows of the former instead.
+        return getUnitOperationStatusCount(resultSet.getString(OPERATION_ID), resultSet.getString(INITIATED_ORG_ID));
+    }
+
     private UnitOperationStatusCount getUnitOperationStatusCount(String operationId, String requestInitiatedOrgId)
             throws  DataAccessException {
 
@@ -401,8 +453,7 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                 .operationPolicy(resultSet.getString(POLICY))
                 .createdTime(Timestamp.valueOf(resultSet.getString(CREATED_AT)))
                 .modifiedTime(Timestamp.valueOf(resultSet.getString(LAST_MODIFIED)))
-                .unitStatusCount(getUnitOperationStatusCount(resultSet.getString(OPERATION_ID),
-                        resultSet.getString(INITIATED_ORG_ID)))
+                .unitStatusCount(getUnitOperationStatusCount(resultSet))
                 .build();
     }
 
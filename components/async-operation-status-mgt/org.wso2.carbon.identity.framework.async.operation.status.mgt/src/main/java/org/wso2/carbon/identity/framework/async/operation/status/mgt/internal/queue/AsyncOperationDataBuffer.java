@@ -25,43 +25,103 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.ErrorMessage.ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleServerException;
 
 /**
- * In-memory queue to store async operations, with database fallback.
+ * In-memory buffer to store unit operations, which are persisted to the database in batches by a dedicated writer
+ * thread.
+ * <p>
+ * Producers only enqueue into a bounded queue and never write to the database. The writer drains the queue into a
+ * segment owned only by the writer and persists the whole segment in a single transaction, once the threshold is
+ * reached or the flush interval elapses. When the buffer is full, producers block until the writer frees up space.
+ * If a segment fails to persist, its units are retried one by one, so that a single bad unit does not drop the
+ * whole segment. Once the buffer is shut down, units are persisted synchronously by the caller.
  */
 public class AsyncOperationDataBuffer {
 
     private static final Log LOG = LogFactory.getLog(AsyncOperationDataBuffer.class);
-    private final ConcurrentLinkedQueue<UnitOperationInitDTO> queue = new ConcurrentLinkedQueue<>();
+    private static final int DEFAULT_CAPACITY_MULTIPLIER = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30000;
+    private static final long ENQUEUE_WAIT_MILLIS = 100;
+    private static final int MAX_UNIT_PERSIST_ATTEMPTS = 3;
+
+    private final LinkedBlockingQueue<UnitOperationInitDTO> queue;
     private final AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO;
     private final int threshold;
-    private final int flushIntervalSeconds;
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final long flushIntervalMillis;
+    private final Object flushLock = new Object();
+    private final Thread writer;
+    private volatile boolean flushRequested;
+    private volatile boolean running = true;
+
+    // Metrics.
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedUnitCount = new AtomicLong();
+    private final AtomicLong failedUnitCount = new AtomicLong();
+    private final AtomicLong totalFlushTimeMillis = new AtomicLong();
+    private volatile int lastFlushSize;
+    private volatile long lastFlushTimeMillis;
 
     public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
                                     int flushIntervalSeconds) {
 
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, threshold * DEFAULT_CAPACITY_MULTIPLIER);
+    }
+
+    /**
+     * @param asyncOperationStatusMgtDAO DAO used to persist the unit operations.
+     * @param threshold                  Number of buffered unit operations which triggers a flush. This is also the
+     *                                   maximum number of unit operations persisted in one transaction.
+     * @param flushIntervalSeconds       Maximum time a unit operation waits in the buffer.
+     * @param capacity                   Maximum number of buffered unit operations before producers are blocked.
+     */
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int capacity) {
+
         this.asyncOperationStatusMgtDAO = asyncOperationStatusMgtDAO;
         this.threshold = threshold;
-        this.flushIntervalSeconds = flushIntervalSeconds;
+        this.flushIntervalMillis = TimeUnit.SECONDS.toMillis(flushIntervalSeconds);
+        this.queue = new LinkedBlockingQueue<>(Math.max(capacity, threshold));
 
-        startPeriodicFlushTask();
+        writer = new Thread(this::runWriter, "async-operation-status-writer");
+        writer.setDaemon(true);
+        writer.start();
     }
 
     /**
-     * Add an operation to the queue. If queue exceeds threshold, persist to DB.
+     * Add an operation to the buffer. If the buffer reaches the threshold, the writer is signalled to persist the
+     * buffered operations. Blocks while the buffer is full. If the buffer has been shut down, the operation is
+     * persisted synchronously instead.
      *
      * @param operation The operation to add.
+     * @throws AsyncOperationStatusMgtException If interrupted while waiting for space in the buffer, or if the
+     *                                          operation could not be persisted after shutdown.
      */
-    public synchronized void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+    public void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
 
-        queue.offer(operation);
-        if (queue.size() >= threshold) {
-            persistToDatabase();
+        try {
+            while (running) {
+                if (queue.offer(operation, ENQUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (running || !queue.remove(operation)) {
+                        if (queue.size() >= threshold && !flushRequested) {
+                            requestFlush();
+                        }
+                        return;
+                    }
+                    // The writer stopped before it could drain this operation.
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleServerException(ERROR_WHILE_BUFFERING_ASYNC_OPERATION_STATUS_UNIT, e);
         }
+        persistUnit(operation);
     }
 
     /**
@@ -79,46 +139,153 @@ public class AsyncOperationDataBuffer {
      *
      * @return The next operation, or null if the queue is empty.
      */
-    public synchronized UnitOperationInitDTO dequeue() {
+    public UnitOperationInitDTO dequeue() {
 
         return queue.poll();
     }
 
     /**
-     * Shuts down the scheduled task.
+     * Stops the writer after persisting the operations remaining in the buffer.
      */
     public void shutdown() {
 
-        scheduler.shutdown();
+        running = false;
+        requestFlush();
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOG.warn(queue.size() + " unit operation records were not persisted before shutdown.");
+        }
+    }
+
+    public int getBufferedUnitCount() {
+
+        return queue.size();
+    }
+
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public long getFlushedUnitCount() {
+
+        return flushedUnitCount.get();
+    }
+
+    public long getFailedUnitCount() {
+
+        return failedUnitCount.get();
+    }
+
+    public int getLastFlushSize() {
+
+        return lastFlushSize;
+    }
+
+    public long getLastFlushTimeMillis() {
+
+        return lastFlushTimeMillis;
+    }
+
+    public long getAverageFlushTimeMillis() {
+
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushTimeMillis.get() / count;
+    }
+
+    private void requestFlush() {
+
+        synchronized (flushLock) {
+            flushRequested = true;
+            flushLock.notifyAll();
+        }
+    }
+
+    private void runWriter() {
+
+        while (true) {
+            synchronized (flushLock) {
+                if (!flushRequested && running) {
+                    try {
+                        flushLock.wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        running = false;
+                    }
+                }
+                flushRequested = false;
+            }
+            boolean stopping = !running;
+            persistToDatabase();
+            if (stopping) {
+                return;
+            }
+        }
     }
 
     /**
-     * Persist queued operations to the database in batch.
+     * Persist the buffered operations to the database, in segments of up to the threshold size.
      */
-    private synchronized void persistToDatabase() throws AsyncOperationStatusMgtException {
+    private void persistToDatabase() {
 
-        if (!queue.isEmpty()) {
-            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(queue);
-            queue.clear();
+        while (true) {
+            ConcurrentLinkedQueue<UnitOperationInitDTO> segment = new ConcurrentLinkedQueue<>();
+            int size = queue.drainTo(segment, threshold);
+            if (size == 0) {
+                return;
+            }
+
+            long startTime = System.currentTimeMillis();
+            try {
+                asyncOperationStatusMgtDAO.registerAsyncStatusUnit(segment);
+                flushedUnitCount.addAndGet(size);
+            } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+                LOG.warn("Error while flushing " + size + " unit operation records to the database. Retrying the " +
+                        "records one by one.", e);
+                persistUnitsIndividually(segment);
+            }
+            long flushTime = System.currentTimeMillis() - startTime;
+            lastFlushSize = size;
+            lastFlushTimeMillis = flushTime;
+            totalFlushTimeMillis.addAndGet(flushTime);
+            flushCount.incrementAndGet();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Flushed " + size + " unit operation records to the database in " + flushTime + " ms.");
+            }
         }
     }
 
     /**
-     * Periodically flushes the queue to avoid long delays for small workloads.
+     * Persist each unit of a failed segment in its own transaction, retrying a unit up to
+     * {@link #MAX_UNIT_PERSIST_ATTEMPTS} times before it is counted as failed.
      */
-    private void startPeriodicFlushTask() {
+    private void persistUnitsIndividually(ConcurrentLinkedQueue<UnitOperationInitDTO> segment) {
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!queue.isEmpty()) {
+        for (UnitOperationInitDTO unit : segment) {
+            for (int attempt = 1; ; attempt++) {
                 try {
-                    persistToDatabase();
-                } catch (AsyncOperationStatusMgtException e) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.error("Error while flushing unit operation records to the database.", e);
+                    persistUnit(unit);
+                    break;
+                } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+                    if (attempt >= MAX_UNIT_PERSIST_ATTEMPTS) {
+                        failedUnitCount.incrementAndGet();
+                        LOG.error("Error while persisting the unit operation record of the operation: " +
+                                unit.getOperationId() + " after " + attempt + " attempts.", e);
+                        break;
                     }
                 }
             }
-        }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+        }
     }
 
+    private void persistUnit(UnitOperationInitDTO unit) throws AsyncOperationStatusMgtException {
+
+        ConcurrentLinkedQueue<UnitOperationInitDTO> single = new ConcurrentLinkedQueue<>();
+        single.add(unit);
+        asyncOperationStatusMgtDAO.registerAsyncStatusUnit(single);
+        flushedUnitCount.incrementAndGet();
+    }
 }
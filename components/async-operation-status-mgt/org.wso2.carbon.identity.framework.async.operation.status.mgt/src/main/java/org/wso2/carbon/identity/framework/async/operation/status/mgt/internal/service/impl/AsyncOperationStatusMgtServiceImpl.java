@@ -88,6 +88,14 @@ public class AsyncOperationStatusMgtServiceImpl implements AsyncOperationStatusM
         return instance;
     }
 
+    /**
+     * Persist the buffered unit operation records and stop the buffer writer.
+     */
+    public static void shutdown() {
+
+        operationDataBuffer.shutdown();
+    }
+
     @Override
     public String registerOperationStatus(OperationInitDTO record, boolean updateIfExists)
             throws AsyncOperationStatusMgtException {
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.excepti
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationResponseDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationStatusCount;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.impl.AsyncOperationOperationStatusMgtDAOImpl;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.models.dos.UnitOperationDO;
@@ -176,11 +177,51 @@ public class AsyncOperationStatusMgtDAOTest {
 
             assertEquals(2, dao.getUnitOperations(fetchedOperationId, RESIDENT_ORG_ID_1,
                     10, null).size());
+
+            UnitOperationStatusCount unitStatusCount =
+                    dao.getOperation(fetchedOperationId, RESIDENT_ORG_ID_1).getUnitStatusCount();
+            assertEquals(1, unitStatusCount.getSuccess());
+            assertEquals(1, unitStatusCount.getFailed());
+            assertEquals(0, unitStatusCount.getPartiallyCompleted());
         } catch (AsyncOperationStatusMgtException e) {
             Assert.fail();
         }
     }
 
+    @Test(priority = 4)
+    public void testUnitStatusCountOfOperationWithoutCounters() throws Exception {
+
+        OperationInitDTO operation1 = new OperationInitDTO(CORR_ID_1, TYPE_USER_SHARE, SUBJECT_TYPE_USER,
+                SUBJECT_ID_1, RESIDENT_ORG_ID_1, INITIATOR_ID_1, POLICY_SELECTIVE_SHARE);
+        String operationId = dao.registerAsyncStatusWithUpdate(operation1);
+
+        UnitOperationStatusCount emptyCount = dao.getOperation(operationId, RESIDENT_ORG_ID_1).getUnitStatusCount();
+        assertEquals(0, emptyCount.getSuccess());
+        assertEquals(0, emptyCount.getFailed());
+        assertEquals(0, emptyCount.getPartiallyCompleted());
+
+        // Simulate an operation recorded before the counters were maintained.
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE IDN_ASYNC_OPERATION_STATUS SET SUCCESS_COUNT = NULL, " +
+                        "FAILED_COUNT = NULL, PARTIALLY_COMPLETED_COUNT = NULL");
+            }
+            connection.commit();
+        }
+        ConcurrentLinkedQueue<UnitOperationInitDTO> list = new ConcurrentLinkedQueue<>();
+        list.add(new UnitOperationInitDTO(operationId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_4, SUCCESS,
+                StringUtils.EMPTY));
+        list.add(new UnitOperationInitDTO(operationId, RESIDENT_ORG_ID_1, RESIDENT_ORG_ID_3, FAILED,
+                "Invalid User Id."));
+        dao.registerAsyncStatusUnit(list);
+
+        UnitOperationStatusCount unitStatusCount =
+                dao.getOperation(operationId, RESIDENT_ORG_ID_1).getUnitStatusCount();
+        assertEquals(1, unitStatusCount.getSuccess());
+        assertEquals(1, unitStatusCount.getFailed());
+        assertEquals(0, unitStatusCount.getPartiallyCompleted());
+    }
+
     @Test(priority = 5)
     public void testGetOperationRecords() {
 
@@ -21,16 +21,29 @@ package org.wso2.carbon.identity.framework.async.operation.status.mgt.queue;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtServerException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.queue.AsyncOperationDataBuffer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -93,6 +106,111 @@ public class AsyncOperationDataBufferTest {
         assertTrue(dataBuffer.isEmpty());
     }
 
+    @Test
+    void testConcurrentProducersDoNotLoseUnits() throws Exception {
+
+        int producerCount = 16;
+        int unitsPerProducer = 2000;
+        Set<UnitOperationInitDTO> persistedUnits = ConcurrentHashMap.newKeySet();
+        AtomicInteger persistedUnitCount = new AtomicInteger();
+        AsyncOperationStatusMgtDAO stressDAO = mock(AsyncOperationStatusMgtDAO.class);
+        doAnswer(invocation -> {
+            Queue<UnitOperationInitDTO> segment = invocation.getArgument(0);
+            assertTrue(segment.size() <= threshold);
+            persistedUnits.addAll(segment);
+            persistedUnitCount.addAndGet(segment.size());
+            // Simulate a slow database so that producers hit the buffer capacity.
+            TimeUnit.MILLISECONDS.sleep(1);
+            return null;
+        }).when(stressDAO).registerAsyncStatusUnit(any());
+
+        AsyncOperationDataBuffer stressBuffer = new AsyncOperationDataBuffer(stressDAO, threshold,
+                flushIntervalSeconds, threshold * 5);
+        ExecutorService producers = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            futures.add(producers.submit(() -> {
+                start.await();
+                for (int j = 0; j < unitsPerProducer; j++) {
+                    stressBuffer.add(new UnitOperationInitDTO());
+                    assertTrue(stressBuffer.getBufferedUnitCount() <= threshold * 5);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        producers.shutdown();
+        stressBuffer.shutdown();
+
+        int expectedUnitCount = producerCount * unitsPerProducer;
+        assertEquals(expectedUnitCount, persistedUnitCount.get());
+        assertEquals(expectedUnitCount, persistedUnits.size());
+        assertEquals(expectedUnitCount, stressBuffer.getFlushedUnitCount());
+        assertEquals(0, stressBuffer.getFailedUnitCount());
+        assertTrue(stressBuffer.isEmpty());
+    }
+
+    @Test
+    void testShutdownFlushesBufferedUnits() throws Exception {
+
+        AsyncOperationStatusMgtDAO shutdownDAO = mock(AsyncOperationStatusMgtDAO.class);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(shutdownDAO, threshold, 60);
+        buffer.add(new UnitOperationInitDTO());
+        buffer.add(new UnitOperationInitDTO());
+
+        buffer.shutdown();
+
+        verify(shutdownDAO, times(1)).registerAsyncStatusUnit(any());
+        assertEquals(2, buffer.getLastFlushSize());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testFailedSegmentFallsBackToPerUnitPersistence() throws Exception {
+
+        AsyncOperationStatusMgtDAO failingDAO = mock(AsyncOperationStatusMgtDAO.class);
+        UnitOperationInitDTO badUnit = new UnitOperationInitDTO();
+        Set<UnitOperationInitDTO> persistedUnits = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            Queue<UnitOperationInitDTO> segment = invocation.getArgument(0);
+            if (segment.contains(badUnit)) {
+                throw new AsyncOperationStatusMgtServerException("Simulated failure.");
+            }
+            persistedUnits.addAll(segment);
+            return null;
+        }).when(failingDAO).registerAsyncStatusUnit(any());
+
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(failingDAO, threshold, 60);
+        buffer.add(new UnitOperationInitDTO());
+        buffer.add(badUnit);
+        buffer.add(new UnitOperationInitDTO());
+        buffer.shutdown();
+
+        assertEquals(2, persistedUnits.size());
+        assertEquals(2, buffer.getFlushedUnitCount());
+        assertEquals(1, buffer.getFailedUnitCount());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testAddAfterShutdownPersistsSynchronously() throws Exception {
+
+        AsyncOperationStatusMgtDAO shutdownDAO = mock(AsyncOperationStatusMgtDAO.class);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(shutdownDAO, 1, 60, 1);
+        buffer.shutdown();
+
+        buffer.add(new UnitOperationInitDTO());
+        buffer.add(new UnitOperationInitDTO());
+
+        verify(shutdownDAO, times(2)).registerAsyncStatusUnit(any());
+        assertEquals(2, buffer.getFlushedUnitCount());
+        assertTrue(buffer.isEmpty());
+    }
+
     private void emptyBuffer() {
 
         while (!dataBuffer.isEmpty()) {
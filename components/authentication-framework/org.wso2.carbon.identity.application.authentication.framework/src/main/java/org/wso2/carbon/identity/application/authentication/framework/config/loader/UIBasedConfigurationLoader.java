@@ -45,8 +45,10 @@ import org.wso2.carbon.identity.application.common.model.script.AuthenticationSc
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -254,8 +256,10 @@ public class UIBasedConfigurationLoader implements SequenceLoader {
                 // retrieve the federated IDP and load
                 if (federatedAuthenticator == null) {
                     try {
+                        // Only the federated authenticators of the IDP are needed to resolve the authenticator.
                         federatedAuthenticator = IdentityProviderManager.getInstance()
-                                .getIdPByName(federatedIDP.getIdentityProviderName(), tenantDomain)
+                                .getIdPByName(federatedIDP.getIdentityProviderName(), tenantDomain,
+                                        Collections.singletonList(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS))
                                 .getDefaultAuthenticatorConfig();
                     } catch (IdentityProviderManagementException e) {
                         throw new FrameworkException(
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfi
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
@@ -40,9 +41,15 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Authentication configuration of an application.
@@ -70,9 +77,21 @@ public class ApplicationConfig implements Serializable, Cloneable {
     private boolean enableAuthorization = false;
     private boolean useUserstoreDomainInRole = false;
     private boolean useUserIdForDefaultSubject = false;
+    private transient Set<String> requiredLocalClaims;
+    private transient boolean claimConfigModified = false;
 
     private static final Log log = LogFactory.getLog(ApplicationConfig.class);
 
+    /*
+     * Application configs are built per request, while the service provider they are built from is cached. Required
+     * local claims are therefore kept against the service provider instance, and dropped once the service provider is
+     * evicted from the application cache and garbage collected.
+     */
+    private static final Map<ServiceProvider, Set<String>> REQUIRED_LOCAL_CLAIMS_BY_APPLICATION =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Pattern SCRIPT_LOCAL_CLAIM_PATTERN =
+            Pattern.compile(Pattern.quote(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT + "/") + "[^'\"`\\s]+");
+
     /**
      * @param application Application details.
      * @deprecated Use {@link #ApplicationConfig(ServiceProvider, String)} instead.
@@ -212,6 +231,7 @@ public class ApplicationConfig implements Serializable, Cloneable {
 
     public void setRoleClaim(String roleClaim) {
         this.roleClaim = roleClaim;
+        onClaimConfigChange();
     }
 
     public String[] getPermissions() {
@@ -234,6 +254,7 @@ public class ApplicationConfig implements Serializable, Cloneable {
 
     public void setClaimMappings(Map<String, String> claimMappings) {
         this.claimMappings = claimMappings;
+        onClaimConfigChange();
     }
 
     public Map<String, String> getRequestedClaimMappings() {
@@ -248,6 +269,7 @@ public class ApplicationConfig implements Serializable, Cloneable {
     public void setRequestedClaims(Map<String, String> requestedClaims) {
 
         this.requestedClaims = requestedClaims;
+        onClaimConfigChange();
     }
 
     public Map<String, String> getMandatoryClaimMappings() {
@@ -262,6 +284,104 @@ public class ApplicationConfig implements Serializable, Cloneable {
     public void setMandatoryClaims(Map<String, String> mandatoryClaims) {
 
         this.mandatoryClaims = mandatoryClaims;
+        onClaimConfigChange();
+    }
+
+    /**
+     * Get the local claim URIs the application needs to be served. These are the local claims mapped to the requested
+     * and mandatory claims, the role claim and the subject claim of the application, and the local claims referred
+     * to in the enabled authentication script of the application. The set is computed once per service provider
+     * instance and shared by the configs built from it, unless the claim configuration of this config is changed
+     * through a setter or depends on the claim dialects of the tenant.
+     *
+     * @return Unmodifiable set of local claim URIs.
+     */
+    public Set<String> getRequiredLocalClaims() {
+
+        Set<String> localClaims = requiredLocalClaims;
+        if (localClaims == null) {
+            if (isRequiredLocalClaimsShareable()) {
+                localClaims = REQUIRED_LOCAL_CLAIMS_BY_APPLICATION.computeIfAbsent(serviceProvider,
+                        application -> buildRequiredLocalClaims());
+            } else {
+                localClaims = buildRequiredLocalClaims();
+            }
+            requiredLocalClaims = localClaims;
+        }
+        return localClaims;
+    }
+
+    private boolean isRequiredLocalClaimsShareable() {
+
+        if (claimConfigModified || serviceProvider == null) {
+            return false;
+        }
+        // Claims of the service provider claim dialects are resolved from the tenant claim metadata, which can change
+        // without the service provider being changed.
+        ClaimConfig claimConfig = serviceProvider.getClaimConfig();
+        return claimConfig == null || ArrayUtils.isEmpty(claimConfig.getSpClaimDialects());
+    }
+
+    private Set<String> buildRequiredLocalClaims() {
+
+        Set<String> claims = new HashSet<>();
+        addMappedLocalClaims(claims, requestedClaims);
+        addMappedLocalClaims(claims, mandatoryClaims);
+        addLocalClaim(claims, roleClaim, claimMappings);
+        addLocalClaim(claims, subjectClaimUri, claimMappings);
+        addScriptLocalClaims(claims);
+        return Collections.unmodifiableSet(claims);
+    }
+
+    /**
+     * Add the local claim URIs written in the enabled authentication script of the application. Claim URIs the script
+     * builds at runtime can not be found this way.
+     *
+     * @param claims Set to add the local claim URIs to.
+     */
+    private void addScriptLocalClaims(Set<String> claims) {
+
+        if (serviceProvider == null || serviceProvider.getLocalAndOutBoundAuthenticationConfig() == null) {
+            return;
+        }
+        AuthenticationScriptConfig scriptConfig = serviceProvider.getLocalAndOutBoundAuthenticationConfig()
+                .getAuthenticationScriptConfig();
+        if (scriptConfig == null || !scriptConfig.isEnabled() || scriptConfig.getContent() == null) {
+            return;
+        }
+        Matcher matcher = SCRIPT_LOCAL_CLAIM_PATTERN.matcher(scriptConfig.getContent());
+        while (matcher.find()) {
+            claims.add(matcher.group());
+        }
+    }
+
+    private void onClaimConfigChange() {
+
+        claimConfigModified = true;
+        requiredLocalClaims = null;
+    }
+
+    private static void addLocalClaim(Set<String> claims, String claimURI, Map<String, String> spToLocalClaimMappings) {
+
+        if (claimURI == null) {
+            return;
+        }
+        String mappedLocalClaim = spToLocalClaimMappings != null ? spToLocalClaimMappings.get(claimURI) : null;
+        if (mappedLocalClaim != null) {
+            claims.add(mappedLocalClaim);
+        } else if (claimURI.startsWith(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT)) {
+            claims.add(claimURI);
+        }
+    }
+
+    private static void addMappedLocalClaims(Set<String> claims, Map<String, String> spToLocalClaimMappings) {
+
+        if (spToLocalClaimMappings == null) {
+            return;
+        }
+        for (String spClaimURI : spToLocalClaimMappings.keySet()) {
+            addLocalClaim(claims, spClaimURI, spToLocalClaimMappings);
+        }
     }
 
     public Map<String, String> getRoleMappings() {
@@ -302,6 +422,7 @@ public class ApplicationConfig implements Serializable, Cloneable {
 
     public void setServiceProvider(ServiceProvider serviceProvider) {
         this.serviceProvider = serviceProvider;
+        onClaimConfigChange();
     }
 
     public boolean isSaaSApp() {
@@ -347,6 +468,9 @@ public class ApplicationConfig implements Serializable, Cloneable {
         applicationConfig.requestedClaims = new HashMap<>(this.requestedClaims);
         applicationConfig.mandatoryClaims = new HashMap<>(this.mandatoryClaims);
         applicationConfig.setPermissions(this.permissions.clone());
+        // The copied claim configuration is the same as the one of this config.
+        applicationConfig.claimConfigModified = this.claimConfigModified;
+        applicationConfig.requiredLocalClaims = this.requiredLocalClaims;
         return applicationConfig;
     }
 
@@ -25,7 +25,6 @@ import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotException;
-import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.wso2.carbon.identity.application.authentication.framework.AsyncProcess;
 import org.wso2.carbon.identity.application.authentication.framework.AuthenticationDecisionEvaluator;
@@ -68,7 +67,6 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SEND_ERROR;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SHOW_PROMPT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
-import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.PROP_CURRENT_NODE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.STEP_OPTIONS;
 
@@ -155,23 +153,17 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 functionMap.forEach(bindings::putMember);
             }
             currentBuilder.set(this);
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
+            context.eval(JsGraalGraphBuilderFactory.getSource(
+                    FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction()));
+            context.eval(JsGraalGraphBuilderFactory.getSource(
+                    FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
 
             String identifier = UUID.randomUUID().toString();
             Optional<JSExecutionMonitorData> optionalScriptExecutionData;
 
             try {
                 startScriptExecutionMonitor(identifier, authenticationContext);
-                context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).build());
+                context.eval(JsGraalGraphBuilderFactory.getSource(script));
 
                 Value onLoginRequestFn = bindings.getMember(JS_FUNC_ON_LOGIN_REQUEST);
                 if (onLoginRequestFn == null) {
@@ -607,11 +599,8 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 TODO: Need to improve the JsSerializable implementation to persist this function in the context
                  without re-evaluating.
                  */
-                context.eval(Source
-                        .newBuilder(POLYGLOT_LANGUAGE,
-                                FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                                POLYGLOT_SOURCE)
-                        .build());
+                context.eval(JsGraalGraphBuilderFactory.getSource(
+                        FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
                 JsFunctionRegistry jsFunctionRegistrar =
                         FrameworkServiceDataHolder.getInstance().getJsFunctionRegistry();
                 if (jsFunctionRegistrar != null) {
@@ -750,7 +739,7 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
 
     private void removeDefaultFunctions(Context context) throws IOException {
 
-        context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, REMOVE_FUNCTIONS, POLYGLOT_SOURCE).build());
+        context.eval(JsGraalGraphBuilderFactory.getSource(REMOVE_FUNCTIONS));
     }
 
     private JSExecutionSupervisor getJSExecutionSupervisor() {
@@ -21,8 +21,10 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthGraphNode;
@@ -42,14 +44,19 @@ import org.wso2.carbon.identity.application.authentication.framework.exception.F
 import org.wso2.carbon.identity.application.authentication.framework.handler.sequence.impl.GraalSelectAcrFromFunction;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
 
 /**
  * Factory to create a Javascript based sequence builder.
@@ -61,11 +68,41 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static volatile Engine sharedEngine;
+    private static volatile JsGraalSourceCache sourceCache;
     private int javascriptResourceLimit = 0;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        initSharedEngine();
+    }
+
+    /**
+     * Get the polyglot source for the given script. When the shared engine is enabled, the source is served from the
+     * source cache so that the engine can reuse the code it has already parsed for the same script.
+     *
+     * @param script Javascript code.
+     * @return Polyglot source of the script.
+     * @throws IOException If the source could not be built.
+     */
+    public static Source getSource(String script) throws IOException {
+
+        JsGraalSourceCache cache = sourceCache;
+        if (cache != null) {
+            return cache.getSource(script);
+        }
+        return Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).build();
+    }
+
+    /**
+     * Get the source cache used with the shared engine.
+     *
+     * @return Source cache, or null if the shared engine is not enabled.
+     */
+    public static JsGraalSourceCache getSourceCache() {
+
+        return sourceCache;
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +143,17 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        Engine engine = sharedEngine;
+        if (engine != null) {
+            // Engine options are configured on the shared engine itself.
+            contextBuilder.engine(engine);
+        } else {
+            contextBuilder.option("engine.WarnInterpreterOnly", "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -176,6 +219,60 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
                 currentNode);
     }
 
+    /**
+     * Close the shared engine, if enabled, and release the code it has cached. Contexts still executing on the shared
+     * engine are cancelled.
+     */
+    public static void closeSharedEngine() {
+
+        synchronized (JsGraalGraphBuilderFactory.class) {
+            JsGraalSourceCache cache = sourceCache;
+            sourceCache = null;
+            if (cache != null) {
+                cache.clear();
+            }
+            Engine engine = sharedEngine;
+            sharedEngine = null;
+            if (engine != null) {
+                try {
+                    engine.close(true);
+                } catch (IllegalStateException e) {
+                    LOG.warn("Error while closing the GraalJS shared engine.", e);
+                }
+            }
+        }
+    }
+
+    private void initSharedEngine() {
+
+        /*
+         * Contexts created on a shared engine reuse the code the engine has already parsed and compiled. All contexts
+         * of the shared engine use the same statement limit, which is a requirement for sharing the engine.
+         */
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE))) {
+            return;
+        }
+        int sourceCacheSize = DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+        String sourceCacheSizeValue = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (sourceCacheSizeValue != null) {
+            try {
+                sourceCacheSize = Integer.parseInt(sourceCacheSizeValue);
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the script source cache size. Defaulting to " +
+                        DEFAULT_GRAALJS_SOURCE_CACHE_SIZE, e);
+            }
+        }
+        synchronized (JsGraalGraphBuilderFactory.class) {
+            if (sharedEngine == null) {
+                sharedEngine = Engine.newBuilder()
+                        .option("engine.WarnInterpreterOnly", "false")
+                        .build();
+                sourceCache = new JsGraalSourceCache(sourceCacheSize);
+                LOG.info("GraalJS shared engine is enabled with a script source cache of size: " + sourceCacheSize);
+            }
+        }
+    }
+
     private void setJavascriptResourceLimit() {
 
         /*
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Bounded LRU cache of polyglot {@link Source} objects keyed by the script content.
+ * <p>
+ * When contexts are created on a shared polyglot engine, evaluating the same {@link Source} instance lets the engine
+ * reuse the already parsed and compiled code instead of parsing the adaptive script again for every login.
+ */
+public class JsGraalSourceCache {
+
+    private final Map<String, Source> sources;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public JsGraalSourceCache(int maxSize) {
+
+        this.sources = Collections.synchronizedMap(new LinkedHashMap<String, Source>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Get the cached source for the given script, building and caching it on a miss.
+     *
+     * @param script Javascript code.
+     * @return Polyglot source of the script.
+     * @throws IOException If the source could not be built.
+     */
+    public Source getSource(String script) throws IOException {
+
+        Source source = sources.get(script);
+        if (source != null) {
+            hitCount.incrementAndGet();
+            return source;
+        }
+        missCount.incrementAndGet();
+        source = Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).build();
+        sources.put(script, source);
+        return source;
+    }
+
+    public int size() {
+
+        return sources.size();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public void clear() {
+
+        sources.clear();
+    }
+}
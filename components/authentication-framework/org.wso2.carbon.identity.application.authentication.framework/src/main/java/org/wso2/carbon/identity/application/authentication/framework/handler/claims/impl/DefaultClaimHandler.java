@@ -78,6 +78,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.FETCH_ONLY_REQUIRED_LOCAL_CLAIMS;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SEND_ONLY_LOCALLY_MAPPED_ROLES_OF_IDP;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.getLocalGroupsClaimURI;
 
@@ -956,12 +957,16 @@ public class DefaultClaimHandler implements ClaimHandler {
         Map<String, String> allLocalClaims = new HashMap<>();
         try {
 
-            org.wso2.carbon.user.api.ClaimMapping[] claimMappings = claimManager
-                    .getAllClaimMappings(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT);
             List<String> localClaimURIs = new ArrayList<>();
-            for (org.wso2.carbon.user.api.ClaimMapping mapping : claimMappings) {
-                String claimURI = mapping.getClaim().getClaimUri();
-                localClaimURIs.add(claimURI);
+            if (isFetchOnlyRequiredLocalClaimsEnabled()) {
+                localClaimURIs.addAll(getRequiredLocalClaimURIs(appConfig));
+            } else {
+                org.wso2.carbon.user.api.ClaimMapping[] claimMappings = claimManager
+                        .getAllClaimMappings(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT);
+                for (org.wso2.carbon.user.api.ClaimMapping mapping : claimMappings) {
+                    String claimURI = mapping.getClaim().getClaimUri();
+                    localClaimURIs.add(claimURI);
+                }
             }
             allLocalClaims = userStore.getUserClaimValuesWithID(authenticatedUser.getUserId(),
                     localClaimURIs.toArray(new String[0]), null);
@@ -985,6 +990,29 @@ public class DefaultClaimHandler implements ClaimHandler {
         return allLocalClaims;
     }
 
+    private boolean isFetchOnlyRequiredLocalClaimsEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(FETCH_ONLY_REQUIRED_LOCAL_CLAIMS));
+    }
+
+    /**
+     * Get the local claims to be fetched from the user store when only the claims required by the application are
+     * fetched. Apart from the claims required by the application, the role, group and IdP type claims used during the
+     * claim handling are fetched.
+     *
+     * @param appConfig Application configuration.
+     * @return Local claim URIs to be fetched.
+     */
+    private Set<String> getRequiredLocalClaimURIs(ApplicationConfig appConfig) {
+
+        Set<String> localClaimURIs = new HashSet<>(appConfig.getRequiredLocalClaims());
+        localClaimURIs.add(getLocalGroupsClaimURI());
+        localClaimURIs.add(FrameworkConstants.ROLES_CLAIM);
+        localClaimURIs.add(FrameworkConstants.GROUPS_CLAIM);
+        localClaimURIs.add(FrameworkConstants.IDP_TYPE_CLAIM);
+        return localClaimURIs;
+    }
+
     private AbstractUserStoreManager getUserStoreManager(String tenantDomain, UserRealm realm) throws
             FrameworkException {
         AbstractUserStoreManager userStore;
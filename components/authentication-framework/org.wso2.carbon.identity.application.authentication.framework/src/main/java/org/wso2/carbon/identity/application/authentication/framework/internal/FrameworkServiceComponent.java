@@ -52,6 +52,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -89,6 +90,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -362,7 +364,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -438,6 +440,10 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        if (FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory()
+                instanceof JsGraalGraphBuilderFactory) {
+            JsGraalGraphBuilderFactory.closeSharedEngine();
+        }
     }
 
     @Reference(
@@ -580,7 +586,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -907,6 +913,40 @@ public class FrameworkServiceComponent {
         return FrameworkServiceDataHolder.getInstance().getSecretConfigManager();
     }
 
+    /**
+     * Build the session serializer used when no serializer is registered through OSGi. The compact serializer is
+     * used if it is enabled in the configuration, else the Java serializer.
+     *
+     * @return Default session serializer.
+     */
+    private static SessionSerializer getDefaultSessionSerializer() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Enable"))) {
+            return new JavaSessionSerializer();
+        }
+        CompactSessionSerializer defaultSerializer = new CompactSessionSerializer();
+        String compressionEnabledValue = IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Compression.Enable");
+        String compressionThresholdValue = IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.CompactSerializer.Compression.Threshold");
+        if (StringUtils.isBlank(compressionEnabledValue) && StringUtils.isBlank(compressionThresholdValue)) {
+            return defaultSerializer;
+        }
+        boolean compressionEnabled = StringUtils.isBlank(compressionEnabledValue) ||
+                Boolean.parseBoolean(compressionEnabledValue);
+        int compressionThreshold = defaultSerializer.getCompressionThreshold();
+        if (StringUtils.isNotBlank(compressionThresholdValue)) {
+            try {
+                compressionThreshold = Integer.parseInt(compressionThresholdValue);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid compact session serializer compression threshold: " + compressionThresholdValue
+                        + ". Default threshold would be used.");
+            }
+        }
+        return new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+    }
+
     /**
      * Load and read the JS function in require.js file.
      */
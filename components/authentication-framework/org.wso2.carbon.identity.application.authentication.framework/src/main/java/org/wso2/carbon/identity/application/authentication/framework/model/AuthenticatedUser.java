@@ -602,4 +602,29 @@ public class AuthenticatedUser extends User {
 
         this.impersonatedUser = impersonatedUser;
     }
+
+    /**
+     * Returns whether the username of this user is case sensitive in its user store.
+     *
+     * @return True if the username is case sensitive.
+     */
+    public boolean isUsernameCaseSensitive() {
+
+        return isUsernameCaseSensitive;
+    }
+
+    /**
+     * Restores the tenant and user store domains of a user read back from a serialized session. The username case
+     * sensitivity is taken as serialized instead of being looked up from the user store again.
+     *
+     * @param tenantDomain            Tenant domain of the user.
+     * @param userStoreDomain         User store domain of the user.
+     * @param isUsernameCaseSensitive Whether the username is case sensitive.
+     */
+    public void restoreDomains(String tenantDomain, String userStoreDomain, boolean isUsernameCaseSensitive) {
+
+        this.tenantDomain = tenantDomain;
+        this.userStoreDomain = userStoreDomain;
+        this.isUsernameCaseSensitive = isUsernameCaseSensitive;
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes session objects into a versioned envelope, optionally compressing the payload.
+ * <p>
+ * Envelope layout: two magic bytes, a format version byte, a flags byte and the payload. Rows written by
+ * {@link JavaSessionSerializer} start with the Java serialization stream magic and are still read as plain Java
+ * serialized objects, so the serializer can be switched on while older rows are present in the session store.
+ * <p>
+ * From format version 2, {@link SequenceConfig}, {@link StepConfig}, {@link AuthenticatedUser} and
+ * {@link AuthHistory} objects in the payload are written through the field codecs in {@link SessionFieldCodecs}.
+ * The rest of the object graph, including the open-ended property maps, is Java serialized. Version 1 rows carry a
+ * plain Java serialized payload and are still read.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final byte MAGIC_FIRST = (byte) 0x57;
+    static final byte MAGIC_SECOND = (byte) 0x53;
+    static final byte FORMAT_VERSION = 2;
+    static final byte JAVA_PAYLOAD_FORMAT_VERSION = 1;
+    static final byte FLAG_DEFLATED = 0x01;
+
+    private static final byte JAVA_STREAM_MAGIC_FIRST = (byte) 0xAC;
+    private static final byte JAVA_STREAM_MAGIC_SECOND = (byte) 0xED;
+    private static final int HEADER_LENGTH = 4;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+
+    public CompactSessionSerializer() {
+
+        this(true, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionEnabled   Whether payloads should be deflated.
+     * @param compressionThreshold Minimum serialized size in bytes for a payload to be deflated.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public boolean isCompressionEnabled() {
+
+        return compressionEnabled;
+    }
+
+    public int getCompressionThreshold() {
+
+        return compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        try {
+            ExposedByteArrayOutputStream serialized = new ExposedByteArrayOutputStream(BUFFER_SIZE);
+            serialized.write(new byte[HEADER_LENGTH]);
+            try (ObjectOutputStream oos = new SessionFieldCodecs.SessionObjectOutputStream(serialized)) {
+                oos.writeObject(value);
+            }
+
+            int payloadLength = serialized.size() - HEADER_LENGTH;
+            if (!compressionEnabled || payloadLength < compressionThreshold) {
+                serialized.writeHeader((byte) 0);
+                return serialized.toInputStream();
+            }
+
+            ExposedByteArrayOutputStream compressed = new ExposedByteArrayOutputStream(payloadLength / 2);
+            compressed.write(new byte[HEADER_LENGTH]);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (OutputStream dos = new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE)) {
+                serialized.writePayloadTo(dos);
+            } finally {
+                deflater.end();
+            }
+            compressed.writeHeader(FLAG_DEFLATED);
+            return compressed.toInputStream();
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, 2);
+            byte[] magic = new byte[2];
+            int read = readFully(pushbackInputStream, magic);
+            if (read > 0) {
+                pushbackInputStream.unread(magic, 0, read);
+            }
+
+            if (read == 2 && magic[0] == JAVA_STREAM_MAGIC_FIRST && magic[1] == JAVA_STREAM_MAGIC_SECOND) {
+                // Row written by the JavaSessionSerializer.
+                return readObject(pushbackInputStream);
+            }
+            if (read < 2 || magic[0] != MAGIC_FIRST || magic[1] != MAGIC_SECOND) {
+                throw new SessionSerializerException("Unrecognized session object format");
+            }
+
+            byte[] header = new byte[HEADER_LENGTH];
+            if (readFully(pushbackInputStream, header) != HEADER_LENGTH) {
+                throw new SessionSerializerException("Truncated session object header");
+            }
+            if (header[2] != FORMAT_VERSION && header[2] != JAVA_PAYLOAD_FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + header[2]);
+            }
+            if ((header[3] & FLAG_DEFLATED) != 0) {
+                return readObject(new InflaterInputStream(pushbackInputStream));
+            }
+            return readObject(pushbackInputStream);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    private Object readObject(InputStream inputStream) throws IOException, ClassNotFoundException {
+
+        ObjectInputStream ois = new ObjectInputStream(inputStream);
+        return ois.readObject();
+    }
+
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Byte array output stream which hands out its internal buffer instead of copying it.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+
+            super(Math.max(size, HEADER_LENGTH));
+        }
+
+        void writeHeader(byte flags) {
+
+            buf[0] = MAGIC_FIRST;
+            buf[1] = MAGIC_SECOND;
+            buf[2] = FORMAT_VERSION;
+            buf[3] = flags;
+        }
+
+        void writePayloadTo(OutputStream outputStream) throws IOException {
+
+            outputStream.write(buf, HEADER_LENGTH, count - HEADER_LENGTH);
+        }
+
+        InputStream toInputStream() {
+
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task to persist and remove session data in batches. Instead of writing one row per queue entry, the task drains
+ * up to the configured batch size from the queue, or whatever is available once the maximum wait time elapses, and
+ * writes the drained entries using JDBC batch statements.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private static final AtomicLong flushedEntryCount = new AtomicLong();
+    private static final AtomicLong flushCount = new AtomicLong();
+    private static final AtomicLong totalFlushTimeMillis = new AtomicLong();
+    private static volatile int lastBatchSize;
+    private static volatile long lastFlushTimeMillis;
+    private static volatile boolean running;
+
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long maxWaitTimeMillis;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long maxWaitTimeMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.maxWaitTimeMillis = maxWaitTimeMillis;
+    }
+
+    @Override
+    public void run() {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Session Context batch persist consumer is started with batch size: " + batchSize +
+                    " and max wait time: " + maxWaitTimeMillis + "ms");
+        }
+
+        running = true;
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // Block until at least one entry is available, then collect the rest of the batch.
+                SessionContextDO first = sessionContextQueue.take();
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Session data batch persist task interrupted.", e);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Persist whatever is left in the queue so that the entries are not lost on shutdown.
+        sessionContextQueue.drainTo(batch);
+        flush(batch);
+    }
+
+    private void fillBatch(List<SessionContextDO> batch) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitTimeMillis);
+        while (batch.size() < batchSize) {
+            sessionContextQueue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                return;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            SessionContextDO next = sessionContextQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<SessionContextDO> batch) {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        SessionDataStore.getInstance().persistSessionDataBatch(batch);
+        long flushTime = System.currentTimeMillis() - startTime;
+
+        lastBatchSize = batch.size();
+        lastFlushTimeMillis = flushTime;
+        flushCount.incrementAndGet();
+        flushedEntryCount.addAndGet(batch.size());
+        totalFlushTimeMillis.addAndGet(flushTime);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Flushed %d session data entries in %d ms. Remaining queue depth: %d",
+                    batch.size(), flushTime, sessionContextQueue.size()));
+        }
+    }
+
+    /**
+     * Get the number of entries written in the most recent batch.
+     *
+     * @return Size of the last flushed batch.
+     */
+    public static int getLastBatchSize() {
+
+        return lastBatchSize;
+    }
+
+    /**
+     * Get the time taken to write the most recent batch.
+     *
+     * @return Latency of the last flush in milliseconds.
+     */
+    public static long getLastFlushTimeMillis() {
+
+        return lastFlushTimeMillis;
+    }
+
+    /**
+     * Get the average time taken to write a batch since the server start.
+     *
+     * @return Average flush latency in milliseconds.
+     */
+    public static long getAverageFlushTimeMillis() {
+
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushTimeMillis.get() / count;
+    }
+
+    /**
+     * Get the total number of session data entries written by the batch persist tasks.
+     *
+     * @return Number of flushed entries.
+     */
+    public static long getFlushedEntryCount() {
+
+        return flushedEntryCount.get();
+    }
+
+    /**
+     * Get the total number of batches written by the batch persist tasks.
+     *
+     * @return Number of flushes.
+     */
+    public static long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public static void shutdown() {
+        running = false;
+    }
+}
@@ -42,6 +42,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -162,6 +168,9 @@ public class SessionDataStore {
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
+    private static boolean batchPersistEnabled = false;
+    private static int persistBatchSize = 100;
+    private static long persistBatchMaxWaitTime = 50L;
     private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
@@ -216,6 +225,19 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            batchPersistEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Enable"));
+            String persistBatchSizeValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size");
+            if (StringUtils.isNotBlank(persistBatchSizeValue)) {
+                persistBatchSize = Integer.parseInt(persistBatchSizeValue);
+            }
+            String persistBatchMaxWaitTimeValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.MaxWaitTime");
+            if (StringUtils.isNotBlank(persistBatchMaxWaitTimeValue)) {
+                persistBatchMaxWaitTime = Long.parseLong(persistBatchMaxWaitTimeValue);
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
@@ -225,8 +247,17 @@ public class SessionDataStore {
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
-            for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+            if (batchPersistEnabled && persistBatchSize > 1) {
+                log.info("Session data batch persistence is enabled with batch size : " + persistBatchSize +
+                        " and max wait time : " + persistBatchMaxWaitTime + "ms");
+                for (int i = 0; i < maxSessionDataPoolSize; i++) {
+                    threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, persistBatchSize,
+                            persistBatchMaxWaitTime));
+                }
+            } else {
+                for (int i = 0; i < maxSessionDataPoolSize; i++) {
+                    threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                }
             }
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
@@ -513,6 +544,17 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
+    }
+
+    /**
+     * Get the number of session data operations waiting to be persisted.
+     *
+     * @return Session data persist queue depth.
+     */
+    public int getSessionContextQueueSize() {
+
+        return sessionContextQueue.size();
     }
 
     /**
@@ -631,27 +673,12 @@ public class SessionDataStore {
             return;
         }
 
-        long validityPeriodNano = 0L;
-
-        if (entry instanceof CacheEntry) {
-            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
-        }
-
-        if (validityPeriodNano == 0L) {
-            validityPeriodNano = getCleanupTimeout(type, tenantId);
-        }
-
         PreparedStatement preparedStatement = null;
         try {
             String sqlQuery = getSessionStoreDBQuery(sqlInsertSTORE, type);
             preparedStatement = connection.prepareStatement(sqlQuery);
-            preparedStatement.setString(1, key);
-            preparedStatement.setString(2, type);
-            preparedStatement.setString(3, OPERATION_STORE);
-            setBlobObject(preparedStatement, entry, 4);
-            preparedStatement.setLong(5, nanoTime);
-            preparedStatement.setLong(6, nanoTime + validityPeriodNano);
-            preparedStatement.setInt(7, tenantId);
+            setStoreOperationParameters(preparedStatement, new SessionContextDO(key, type, entry, nanoTime,
+                    tenantId));
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException | IOException | SessionSerializerException e) {
@@ -666,6 +693,154 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persist a batch of session data operations. STORE and DELETE operations are grouped by the target table and
+     * written with JDBC batch statements in a single transaction. If the batch write fails, the operations are
+     * retried one by one so that a single faulty entry does not discard the whole batch.
+     *
+     * @param sessionContextDOs Session data operations to persist. An entry without a value is a DELETE operation.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+
+        // Operations are evaluated in the order they happened, so that a DELETE is checked against the operations
+        // of the same batch before falling back to the last operation persisted in the DB.
+        List<SessionContextDO> orderedOperations = new ArrayList<>(sessionContextDOs);
+        orderedOperations.sort(Comparator.comparingLong(SessionContextDO::getNanoTime));
+        Map<String, String> lastBatchOperations = new HashMap<>();
+        Map<String, List<SessionContextDO>> storeOperations = new LinkedHashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : orderedOperations) {
+            String type = sessionContextDO.getType();
+            String operationKey = sessionContextDO.getKey() + ":" + type;
+            if (sessionContextDO.getEntry() != null) {
+                storeOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertSTORE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+                lastBatchOperations.put(operationKey, OPERATION_STORE);
+            } else if (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) {
+                tempAuthnContextDataDeleteQueue.push(sessionContextDO);
+            } else if (!isRedundantDeleteOperation(sessionContextDO, lastBatchOperations.get(operationKey))) {
+                deleteOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertDELETE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+                lastBatchOperations.put(operationKey, OPERATION_DELETE);
+            }
+        }
+        if (storeOperations.isEmpty() && deleteOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> storeOperation : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(storeOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : storeOperation.getValue()) {
+                        setStoreOperationParameters(preparedStatement, sessionContextDO);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> deleteOperation : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(deleteOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : deleteOperation.getValue()) {
+                        setDeleteOperationParameters(preparedStatement, sessionContextDO);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while storing a batch of " + sessionContextDOs.size() + " session data operations. " +
+                    "Retrying the operations individually.", e);
+            IdentityDatabaseUtil.closeConnection(connection);
+            connection = null;
+            for (List<SessionContextDO> operations : storeOperations.values()) {
+                for (SessionContextDO sessionContextDO : operations) {
+                    persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                            sessionContextDO.getEntry(), sessionContextDO.getNanoTime(),
+                            sessionContextDO.getTenantId());
+                }
+            }
+            for (List<SessionContextDO> operations : deleteOperations.values()) {
+                for (SessionContextDO sessionContextDO : operations) {
+                    removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                            sessionContextDO.getNanoTime());
+                }
+            }
+            return;
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted a batch of " + sessionContextDOs.size() + " SessionContextData operations to DB.");
+        }
+    }
+
+    /**
+     * Check whether a DELETE operation of a batch can be skipped since the session data is already deleted.
+     *
+     * @param sessionContextDO   DELETE operation.
+     * @param lastBatchOperation Last operation on the same session data earlier in the batch, if any.
+     * @return true if the last operation on the session data is already a DELETE.
+     */
+    private boolean isRedundantDeleteOperation(SessionContextDO sessionContextDO, String lastBatchOperation) {
+
+        if (!checkExistingEntryForDeleteOperationInsert) {
+            return false;
+        }
+        if (lastBatchOperation != null) {
+            return OPERATION_DELETE.equals(lastBatchOperation);
+        }
+        return validateLastOperationOnSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                OPERATION_DELETE);
+    }
+
+    private void setStoreOperationParameters(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException, IOException, SessionSerializerException {
+
+        Object entry = sessionContextDO.getEntry();
+        long nanoTime = sessionContextDO.getNanoTime();
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(sessionContextDO.getType(), sessionContextDO.getTenantId());
+        }
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, entry, 4);
+        preparedStatement.setLong(5, nanoTime);
+        preparedStatement.setLong(6, nanoTime + validityPeriodNano);
+        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+    }
+
+    private void setDeleteOperationParameters(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException {
+
+        long nanoTime = sessionContextDO.getNanoTime();
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_DELETE);
+        preparedStatement.setLong(4, nanoTime);
+        preparedStatement.setLong(5, nanoTime + getCleanupTimeout(sessionContextDO.getType(),
+                MultitenantConstants.INVALID_TENANT_ID));
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
@@ -688,15 +863,9 @@ public class SessionDataStore {
             return;
         }
         PreparedStatement preparedStatement = null;
-
-        long timeoutNano = nanoTime + getCleanupTimeout(type, MultitenantConstants.INVALID_TENANT_ID);
         try {
             preparedStatement = connection.prepareStatement(getSessionStoreDBQuery(sqlInsertDELETE, type));
-            preparedStatement.setString(1, key);
-            preparedStatement.setString(2, type);
-            preparedStatement.setString(3, OPERATION_DELETE);
-            preparedStatement.setLong(4, nanoTime);
-            preparedStatement.setLong(5, timeoutNano);
+            setDeleteOperationParameters(preparedStatement, new SessionContextDO(key, type, null, nanoTime));
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (Exception e) {
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.OptimizedApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthenticationGraph;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.exception.UserIdNotFoundException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.model.ImpersonatedUser;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explicit field codecs used by {@link CompactSessionSerializer}.
+ * <p>
+ * {@link SessionObjectOutputStream} replaces {@link SequenceConfig}, {@link StepConfig}, {@link AuthenticatedUser}
+ * and {@link AuthHistory} instances with codec objects which write their fields one by one, without the class
+ * descriptors and reflective field access of default Java serialization. The step maps and the string lists are
+ * written entry by entry. Nested objects are written with {@link ObjectOutput#writeObject(Object)}, so they are
+ * encoded by their own codec when they have one and shared references are kept. Objects without a codec, such as the
+ * open-ended property maps, {@link AuthenticatorConfig}, {@link ApplicationConfig} and {@link AuthenticationGraph},
+ * fall back to Java serialization.
+ * <p>
+ * Each codec resolves back to the original type when read, so the payload is read with a plain
+ * {@link java.io.ObjectInputStream}. Subclasses of the encoded types are left to Java serialization.
+ */
+final class SessionFieldCodecs {
+
+    private static final int NULL_LENGTH = -1;
+
+    private SessionFieldCodecs() {
+
+    }
+
+    /**
+     * Object output stream which swaps the session model objects for their codecs.
+     */
+    static class SessionObjectOutputStream extends ObjectOutputStream {
+
+        SessionObjectOutputStream(OutputStream outputStream) throws IOException {
+
+            super(outputStream);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+
+            if (obj == null) {
+                return null;
+            }
+            Class<?> type = obj.getClass();
+            if (type == SequenceConfig.class) {
+                return new SequenceConfigCodec((SequenceConfig) obj);
+            }
+            if (type == StepConfig.class) {
+                return new StepConfigCodec((StepConfig) obj);
+            }
+            if (type == AuthenticatedUser.class) {
+                return new AuthenticatedUserCodec((AuthenticatedUser) obj);
+            }
+            if (type == AuthHistory.class) {
+                return new AuthHistoryCodec((AuthHistory) obj);
+            }
+            return obj;
+        }
+    }
+
+    /**
+     * Field codec for {@link SequenceConfig}.
+     */
+    static class SequenceConfigCodec implements Externalizable {
+
+        private static final long serialVersionUID = 4016282437215482731L;
+
+        private SequenceConfig value;
+
+        public SequenceConfigCodec() {
+
+        }
+
+        SequenceConfigCodec(SequenceConfig value) {
+
+            this.value = value;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+
+            writeString(out, value.getName());
+            writeString(out, value.getApplicationId());
+            writeString(out, value.getAuthenticatedIdPs());
+            out.writeBoolean(value.isForceAuthn());
+            out.writeBoolean(value.isCheckAuthn());
+            out.writeBoolean(value.isCompleted());
+            writeStepMap(out, value.getStepMap());
+            writeList(out, value.getReqPathAuthenticators());
+            writeStringList(out, value.getRequestedAcr().isEmpty() ? null : value.getRequestedAcr());
+            out.writeObject(value.getAuthenticatedUser());
+            out.writeObject(value.getAuthenticatedReqPathAuthenticator());
+            out.writeObject(value.getAuthenticationGraph());
+            out.writeObject(value.getApplicationConfig());
+            out.writeObject(value.getOptimizedApplicationConfig());
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+            value = new SequenceConfig();
+            value.setName(readString(in));
+            value.setApplicationId(readString(in));
+            value.setAuthenticatedIdPs(readString(in));
+            value.setForceAuthn(in.readBoolean());
+            value.setCheckAuthn(in.readBoolean());
+            value.setCompleted(in.readBoolean());
+            value.setStepMap(readStepMap(in));
+            value.setReqPathAuthenticators(readList(in));
+            value.setRequestedAcr(readStringList(in));
+            value.setAuthenticatedUser((AuthenticatedUser) in.readObject());
+            value.setAuthenticatedReqPathAuthenticator((AuthenticatorConfig) in.readObject());
+            value.setAuthenticationGraph((AuthenticationGraph) in.readObject());
+            value.setApplicationConfig((ApplicationConfig) in.readObject());
+            value.setOptimizedApplicationConfig((OptimizedApplicationConfig) in.readObject());
+        }
+
+        private Object readResolve() {
+
+            return value;
+        }
+    }
+
+    /**
+     * Field codec for {@link StepConfig}.
+     */
+    static class StepConfigCodec implements Externalizable {
+
+        private static final long serialVersionUID = -3324390627145811032L;
+
+        private StepConfig value;
+
+        public StepConfigCodec() {
+
+        }
+
+        StepConfigCodec(StepConfig value) {
+
+            this.value = value;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+
+            out.writeInt(value.getOrder());
+            writeString(out, value.getLoginPage());
+            writeString(out, value.getAuthenticatedIdP());
+            writeString(out, value.getAuthenticatedAuthenticatorName());
+            out.writeBoolean(value.isSubjectIdentifierStep());
+            out.writeBoolean(value.isSubjectAttributeStep());
+            out.writeBoolean(value.isCompleted());
+            out.writeBoolean(value.isMultiOption());
+            out.writeBoolean(value.isRetrying());
+            out.writeBoolean(value.isForced());
+            out.writeBoolean(value.isSkipPrompt());
+            writeStringList(out, value.getAuthenticatorMappings());
+            writeList(out, value.getAuthenticatorList());
+            out.writeObject(value.getAuthenticatedUser());
+            out.writeObject(value.getAuthenticatedAutenticator());
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+            value = new StepConfig();
+            value.setOrder(in.readInt());
+            value.setLoginPage(readString(in));
+            value.setAuthenticatedIdP(readString(in));
+            value.setAuthenticatedAuthenticatorName(readString(in));
+            value.setSubjectIdentifierStep(in.readBoolean());
+            value.setSubjectAttributeStep(in.readBoolean());
+            value.setCompleted(in.readBoolean());
+            value.setMultiOption(in.readBoolean());
+            value.setRetrying(in.readBoolean());
+            value.setForced(in.readBoolean());
+            value.setSkipPrompt(in.readBoolean());
+            value.setAuthenticatorMappings(readStringList(in));
+            value.setAuthenticatorList(readList(in));
+            value.setAuthenticatedUser((AuthenticatedUser) in.readObject());
+            value.setAuthenticatedAutenticator((AuthenticatorConfig) in.readObject());
+        }
+
+        private Object readResolve() {
+
+            return value;
+        }
+    }
+
+    /**
+     * Field codec for {@link AuthenticatedUser}. The user attribute values are written as strings and their claim
+     * mappings fall back to Java serialization.
+     */
+    static class AuthenticatedUserCodec implements Externalizable {
+
+        private static final long serialVersionUID = 2385309474617702583L;
+
+        private AuthenticatedUser value;
+
+        public AuthenticatedUserCodec() {
+
+        }
+
+        AuthenticatedUserCodec(AuthenticatedUser value) {
+
+            this.value = value;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+
+            writeString(out, value.getUserName());
+            writeString(out, value.getTenantDomain());
+            writeString(out, value.getUserStoreDomain());
+            out.writeBoolean(value.isUsernameCaseSensitive());
+            // The user id getter resolves a missing id from the user store, so only an id which is set is written.
+            writeString(out, value.isUserIdExists() ? getUserId(value) : null);
+            writeString(out, value.getAuthenticatedSubjectIdentifier());
+            out.writeBoolean(value.isFederatedUser());
+            writeString(out, value.getFederatedIdPName());
+            writeString(out, value.getAccessingOrganization());
+            writeString(out, value.getUserResidentOrganization());
+            writeString(out, value.getSharedUserId());
+            writeString(out, value.getUserSharedOrganizationId());
+
+            Map<ClaimMapping, String> userAttributes = value.getUserAttributes();
+            if (userAttributes == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                out.writeInt(userAttributes.size());
+                for (Map.Entry<ClaimMapping, String> attribute : userAttributes.entrySet()) {
+                    out.writeObject(attribute.getKey());
+                    writeString(out, attribute.getValue());
+                }
+            }
+            out.writeObject(value.getImpersonatedUser());
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+            value = new AuthenticatedUser();
+            value.setUserName(readString(in));
+            String tenantDomain = readString(in);
+            String userStoreDomain = readString(in);
+            value.restoreDomains(tenantDomain, userStoreDomain, in.readBoolean());
+            value.setUserId(readString(in));
+            value.setAuthenticatedSubjectIdentifier(readString(in));
+            value.setFederatedUser(in.readBoolean());
+            value.setFederatedIdPName(readString(in));
+            value.setAccessingOrganization(readString(in));
+            value.setUserResidentOrganization(readString(in));
+            value.setSharedUserId(readString(in));
+            value.setUserSharedOrganizationId(readString(in));
+
+            int attributeCount = in.readInt();
+            if (attributeCount == NULL_LENGTH) {
+                value.setUserAttributes(null);
+            } else {
+                Map<ClaimMapping, String> userAttributes = new HashMap<>(capacityFor(attributeCount));
+                for (int i = 0; i < attributeCount; i++) {
+                    userAttributes.put((ClaimMapping) in.readObject(), readString(in));
+                }
+                value.setUserAttributes(userAttributes);
+            }
+            value.setImpersonatedUser((ImpersonatedUser) in.readObject());
+        }
+
+        private Object readResolve() {
+
+            return value;
+        }
+
+        private static String getUserId(AuthenticatedUser user) throws IOException {
+
+            try {
+                return user.getUserId();
+            } catch (UserIdNotFoundException e) {
+                throw new IOException("User id is not available for the authenticated user", e);
+            }
+        }
+    }
+
+    /**
+     * Field codec for {@link AuthHistory}.
+     */
+    static class AuthHistoryCodec implements Externalizable {
+
+        private static final long serialVersionUID = 8811675429503147021L;
+
+        private AuthHistory value;
+
+        public AuthHistoryCodec() {
+
+        }
+
+        AuthHistoryCodec(AuthHistory value) {
+
+            this.value = value;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+
+            writeString(out, value.getAuthenticatorName());
+            writeString(out, value.getIdpName());
+            writeString(out, value.getCode());
+            writeString(out, value.getIdpSessionIndex());
+            writeString(out, value.getRequestType());
+            out.writeLong(value.getDuration());
+            out.writeBoolean(value.isSuccess());
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+
+            value = new AuthHistory(readString(in), readString(in), readString(in));
+            value.setIdpSessionIndex(readString(in));
+            value.setRequestType(readString(in));
+            value.setDuration(in.readLong());
+            value.setSuccess(in.readBoolean());
+        }
+
+        private Object readResolve() {
+
+            return value;
+        }
+    }
+
+    private static void writeStepMap(ObjectOutput out, Map<Integer, StepConfig> stepMap) throws IOException {
+
+        if (stepMap == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(stepMap.size());
+        for (Map.Entry<Integer, StepConfig> step : stepMap.entrySet()) {
+            out.writeInt(step.getKey());
+            out.writeObject(step.getValue());
+        }
+    }
+
+    private static Map<Integer, StepConfig> readStepMap(ObjectInput in) throws IOException, ClassNotFoundException {
+
+        int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        Map<Integer, StepConfig> stepMap = new HashMap<>(capacityFor(size));
+        for (int i = 0; i < size; i++) {
+            stepMap.put(in.readInt(), (StepConfig) in.readObject());
+        }
+        return stepMap;
+    }
+
+    private static void writeList(ObjectOutput out, List<?> list) throws IOException {
+
+        if (list == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(list.size());
+        for (Object element : list) {
+            out.writeObject(element);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> readList(ObjectInput in) throws IOException, ClassNotFoundException {
+
+        int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) in.readObject());
+        }
+        return list;
+    }
+
+    private static void writeStringList(ObjectOutput out, List<String> list) throws IOException {
+
+        if (list == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(list.size());
+        for (String element : list) {
+            writeString(out, element);
+        }
+    }
+
+    private static List<String> readStringList(ObjectInput in) throws IOException {
+
+        int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readString(in));
+        }
+        return list;
+    }
+
+    /**
+     * Writes a nullable string as a length prefixed UTF-8 value. Unlike {@link ObjectOutput#writeUTF(String)}, this
+     * has no 64 KB limit, which matters for user attribute values.
+     */
+    private static void writeString(ObjectOutput out, String value) throws IOException {
+
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ObjectInput in) throws IOException {
+
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int capacityFor(int size) {
+
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -303,6 +303,7 @@ public abstract class FrameworkConstants {
                 + ".ReturnOnlyMappedLocalRoles";
         public static final String SEND_MANUALLY_ADDED_LOCAL_ROLES_OF_IDP = "FederatedRoleManagement"
                 + ".ReturnManuallyAddedLocalRoles";
+        public static final String FETCH_ONLY_REQUIRED_LOCAL_CLAIMS = "ClaimHandler.FetchOnlyRequiredLocalClaims";
 
         /**
          * Configuration name for setting the url for receiving tenant list upon any modification to a tenant
@@ -699,6 +700,9 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE = "AdaptiveAuth.GraalJS.SharedEngine.SourceCacheSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_SIZE = 1000;
     }
 
     /**
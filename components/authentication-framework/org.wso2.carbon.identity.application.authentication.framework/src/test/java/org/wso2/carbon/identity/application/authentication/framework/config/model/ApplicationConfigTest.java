@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link ApplicationConfig}.
+ */
+public class ApplicationConfigTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String COUNTRY_CLAIM = "http://wso2.org/claims/country";
+    private static final String MOBILE_CLAIM = "http://wso2.org/claims/mobile";
+    private static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    private static final String DEPARTMENT_CLAIM = "http://wso2.org/claims/department";
+
+    @Test
+    public void testGetRequiredLocalClaims() {
+
+        ApplicationConfig appConfig = new ApplicationConfig(new ServiceProvider(), TENANT_DOMAIN);
+        Map<String, String> claimMappings = new HashMap<>();
+        claimMappings.put("email", EMAIL_CLAIM);
+        claimMappings.put("country", COUNTRY_CLAIM);
+        claimMappings.put("roles", FrameworkConstants.ROLES_CLAIM);
+        appConfig.setClaimMappings(claimMappings);
+        Map<String, String> requestedClaims = new HashMap<>();
+        requestedClaims.put("email", EMAIL_CLAIM);
+        appConfig.setRequestedClaims(requestedClaims);
+        Map<String, String> mandatoryClaims = new HashMap<>();
+        mandatoryClaims.put(MOBILE_CLAIM, null);
+        appConfig.setMandatoryClaims(mandatoryClaims);
+        appConfig.setRoleClaim("roles");
+
+        Assert.assertEquals(appConfig.getRequiredLocalClaims(), new HashSet<>(Arrays.asList(
+                EMAIL_CLAIM, MOBILE_CLAIM, FrameworkConstants.ROLES_CLAIM)));
+
+        // Changing the requested claims should be reflected in the required local claims.
+        requestedClaims = new HashMap<>();
+        requestedClaims.put("country", COUNTRY_CLAIM);
+        appConfig.setRequestedClaims(requestedClaims);
+        Assert.assertEquals(appConfig.getRequiredLocalClaims(), new HashSet<>(Arrays.asList(
+                COUNTRY_CLAIM, MOBILE_CLAIM, FrameworkConstants.ROLES_CLAIM)));
+    }
+
+    @Test
+    public void testGetRequiredLocalClaimsOfServiceProvider() {
+
+        ServiceProvider serviceProvider = buildServiceProvider("var onLoginRequest = function(context) {\n"
+                + "    var department = context.currentKnownSubject.localClaims['" + DEPARTMENT_CLAIM + "'];\n"
+                + "};", true);
+
+        ApplicationConfig appConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+
+        Assert.assertEquals(appConfig.getRequiredLocalClaims(), new HashSet<>(Arrays.asList(
+                EMAIL_CLAIM, USERNAME_CLAIM, FrameworkConstants.ROLES_CLAIM, DEPARTMENT_CLAIM)));
+    }
+
+    @Test
+    public void testGetRequiredLocalClaimsIgnoresDisabledScript() {
+
+        ServiceProvider serviceProvider = buildServiceProvider("var department = '" + DEPARTMENT_CLAIM + "';",
+                false);
+
+        ApplicationConfig appConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+
+        Assert.assertFalse(appConfig.getRequiredLocalClaims().contains(DEPARTMENT_CLAIM));
+    }
+
+    @Test
+    public void testRequiredLocalClaimsAreSharedByConfigsOfSameServiceProvider() throws Exception {
+
+        ServiceProvider serviceProvider = buildServiceProvider(null, false);
+
+        ApplicationConfig appConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+        ApplicationConfig otherAppConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+        Assert.assertSame(otherAppConfig.getRequiredLocalClaims(), appConfig.getRequiredLocalClaims());
+        Assert.assertSame(((ApplicationConfig) appConfig.clone()).getRequiredLocalClaims(),
+                appConfig.getRequiredLocalClaims());
+
+        // A config of another service provider instance, e.g. after the application is updated, computes its own set.
+        ApplicationConfig updatedAppConfig = new ApplicationConfig(buildServiceProvider(null, false), TENANT_DOMAIN);
+        Assert.assertNotSame(updatedAppConfig.getRequiredLocalClaims(), appConfig.getRequiredLocalClaims());
+        Assert.assertEquals(updatedAppConfig.getRequiredLocalClaims(), appConfig.getRequiredLocalClaims());
+    }
+
+    @Test
+    public void testChangedClaimConfigIsNotShared() {
+
+        ServiceProvider serviceProvider = buildServiceProvider(null, false);
+        ApplicationConfig appConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+        ApplicationConfig changedAppConfig = new ApplicationConfig(serviceProvider, TENANT_DOMAIN);
+        Map<String, String> requestedClaims = new HashMap<>();
+        requestedClaims.put("country", COUNTRY_CLAIM);
+        changedAppConfig.setRequestedClaims(requestedClaims);
+
+        Assert.assertTrue(changedAppConfig.getRequiredLocalClaims().contains(COUNTRY_CLAIM));
+        Assert.assertFalse(appConfig.getRequiredLocalClaims().contains(COUNTRY_CLAIM));
+        Assert.assertFalse(new ApplicationConfig(serviceProvider, TENANT_DOMAIN).getRequiredLocalClaims()
+                .contains(COUNTRY_CLAIM));
+    }
+
+    private ServiceProvider buildServiceProvider(String script, boolean scriptEnabled) {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("testApp");
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(new ClaimMapping[]{
+                ClaimMapping.build(EMAIL_CLAIM, "email", null, true, false),
+                ClaimMapping.build(COUNTRY_CLAIM, "country", null, false, false),
+                ClaimMapping.build(FrameworkConstants.ROLES_CLAIM, "roles", null, false, false)
+        });
+        claimConfig.setRoleClaimURI("roles");
+        serviceProvider.setClaimConfig(claimConfig);
+
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setSubjectClaimUri(USERNAME_CLAIM);
+        if (script != null) {
+            AuthenticationScriptConfig scriptConfig = new AuthenticationScriptConfig();
+            scriptConfig.setContent(script);
+            scriptConfig.setEnabled(scriptEnabled);
+            authenticationConfig.setAuthenticationScriptConfig(scriptConfig);
+        }
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+        return serviceProvider;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalSourceCache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link JsGraalSourceCache}.
+ */
+public class JsGraalSourceCacheTest {
+
+    private static final String SCRIPT_1 = "var onLoginRequest = function(context) { executeStep(1); };";
+    private static final String SCRIPT_2 = "var onLoginRequest = function(context) { executeStep(2); };";
+    private static final String SCRIPT_3 = "var onLoginRequest = function(context) { executeStep(3); };";
+
+    @Test
+    public void testSourceIsReusedForSameScript() throws Exception {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(10);
+        Source first = sourceCache.getSource(SCRIPT_1);
+        Source second = sourceCache.getSource(SCRIPT_1);
+
+        assertSame(second, first);
+        assertEquals(first.getCharacters().toString(), SCRIPT_1);
+        assertEquals(sourceCache.getMissCount(), 1);
+        assertEquals(sourceCache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSourceIsEvicted() throws Exception {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(2);
+        Source first = sourceCache.getSource(SCRIPT_1);
+        sourceCache.getSource(SCRIPT_2);
+        // Access the first script so that the second one becomes the eldest entry.
+        sourceCache.getSource(SCRIPT_1);
+        sourceCache.getSource(SCRIPT_3);
+
+        assertEquals(sourceCache.size(), 2);
+        assertSame(sourceCache.getSource(SCRIPT_1), first);
+        assertEquals(sourceCache.getMissCount(), 3);
+        Source second = sourceCache.getSource(SCRIPT_2);
+        assertEquals(sourceCache.getMissCount(), 4);
+        assertNotSame(second, first);
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -36,13 +37,26 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.api.ClaimManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultClaimHandlerTest {
@@ -58,6 +72,7 @@ public class DefaultClaimHandlerTest {
     private static final String testIdPGroupId = "testIdPGroupId";
     private static final String testIdPGroupName = "admin";
     private static final String applicationId = "testAppId";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
     private static final List<String> mappedApplicationRoles =
             new ArrayList<>(Arrays.asList("adminMapped", "hrMapped"));
 
@@ -146,4 +161,48 @@ public class DefaultClaimHandlerTest {
             Assert.assertEquals(applicationRoles, mappedApplicationRoles);
         }
     }
+
+    @Test
+    public void testRetrieveOnlyRequiredLocalClaims() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(
+                    FrameworkConstants.Config.FETCH_ONLY_REQUIRED_LOCAL_CLAIMS)).thenReturn("true");
+            identityUtil.when(IdentityUtil::getLocalGroupsClaimURI).thenReturn(FrameworkConstants.GROUPS_CLAIM);
+
+            ApplicationConfig appConfig = new ApplicationConfig(new ServiceProvider(), "carbon.super");
+            Map<String, String> claimMappings = new HashMap<>();
+            claimMappings.put("email", EMAIL_CLAIM);
+            claimMappings.put("country", "http://wso2.org/claims/country");
+            appConfig.setClaimMappings(claimMappings);
+            Map<String, String> requestedClaims = new HashMap<>();
+            requestedClaims.put("email", EMAIL_CLAIM);
+            appConfig.setRequestedClaims(requestedClaims);
+
+            AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+            authenticatedUser.setUserId("testUserId");
+            authenticatedUser.setTenantDomain("carbon.super");
+            ClaimManager claimManager = mock(ClaimManager.class);
+            AbstractUserStoreManager userStore = mock(AbstractUserStoreManager.class);
+            Map<String, String> userClaims = new HashMap<>();
+            userClaims.put(EMAIL_CLAIM, "john@wso2.com");
+            when(userStore.getUserClaimValuesWithID(eq("testUserId"), any(String[].class), isNull()))
+                    .thenReturn(userClaims);
+
+            Method retrieveClaims = DefaultClaimHandler.class.getDeclaredMethod("retrieveAllNunNullUserClaimValues",
+                    AuthenticatedUser.class, ClaimManager.class, ApplicationConfig.class,
+                    AbstractUserStoreManager.class);
+            retrieveClaims.setAccessible(true);
+            Object localClaims = retrieveClaims.invoke(new DefaultClaimHandler(), authenticatedUser, claimManager,
+                    appConfig, userStore);
+
+            Assert.assertEquals(localClaims, userClaims);
+            ArgumentCaptor<String[]> claimURIs = ArgumentCaptor.forClass(String[].class);
+            verify(userStore).getUserClaimValuesWithID(eq("testUserId"), claimURIs.capture(), isNull());
+            Assert.assertEquals(new HashSet<>(Arrays.asList(claimURIs.getValue())), new HashSet<>(Arrays.asList(
+                    EMAIL_CLAIM, FrameworkConstants.ROLES_CLAIM, FrameworkConstants.GROUPS_CLAIM,
+                    FrameworkConstants.IDP_TYPE_CLAIM)));
+            verify(claimManager, never()).getAllClaimMappings(anyString());
+        }
+    }
 }
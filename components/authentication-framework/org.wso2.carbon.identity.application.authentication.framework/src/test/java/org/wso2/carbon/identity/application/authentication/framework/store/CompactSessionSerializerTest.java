@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    @Test
+    public void testSerializeAndDeserializeSmallObject() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer();
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("sessionDataKey", "1234");
+
+        byte[] serialized = readBytes(serializer.serializeSessionObject(sessionObject));
+        assertEquals(serialized[0], CompactSessionSerializer.MAGIC_FIRST);
+        assertEquals(serialized[1], CompactSessionSerializer.MAGIC_SECOND);
+        assertEquals(serialized[2], CompactSessionSerializer.FORMAT_VERSION);
+        assertEquals(serialized[3] & CompactSessionSerializer.FLAG_DEFLATED, 0);
+        assertEquals(serializer.deSerializeSessionObject(new ByteArrayInputStream(serialized)), sessionObject);
+    }
+
+    @Test
+    public void testSerializeAndDeserializeCompressedObject() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(true, 128);
+        Map<String, String> sessionObject = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            sessionObject.put("claim" + i, StringUtils.repeat("value", 10));
+        }
+
+        byte[] compact = readBytes(serializer.serializeSessionObject(sessionObject));
+        byte[] java = readBytes(new JavaSessionSerializer().serializeSessionObject(sessionObject));
+        assertEquals(compact[3] & CompactSessionSerializer.FLAG_DEFLATED, CompactSessionSerializer.FLAG_DEFLATED);
+        assertTrue(compact.length < java.length);
+        assertEquals(serializer.deSerializeSessionObject(new ByteArrayInputStream(compact)), sessionObject);
+    }
+
+    @Test
+    public void testDeserializeJavaSerializedObject() throws Exception {
+
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("sessionDataKey", "1234");
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(sessionObject);
+
+        assertEquals(new CompactSessionSerializer().deSerializeSessionObject(javaSerialized), sessionObject);
+    }
+
+    @Test
+    public void testSerializeAndDeserializeSessionContext() throws Exception {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("alice");
+        user.setUserId("4b4414e1-916b-4475-aaee-6b0751c29ff6");
+        user.setAuthenticatedSubjectIdentifier("alice@carbon.super");
+        user.setUserAttributes(new HashMap<>());
+        user.getUserAttributes().put(ClaimMapping.build("http://wso2.org/claims/emailaddress",
+                "http://wso2.org/claims/emailaddress", null, false), "alice@example.com");
+
+        StepConfig firstStep = new StepConfig();
+        firstStep.setOrder(1);
+        firstStep.setAuthenticatedUser(user);
+        firstStep.setAuthenticatedIdP("LOCAL");
+        firstStep.setAuthenticatedAuthenticatorName("BasicAuthenticator");
+        firstStep.setSubjectIdentifierStep(true);
+        firstStep.setCompleted(true);
+        StepConfig secondStep = new StepConfig();
+        secondStep.setOrder(2);
+        secondStep.setAuthenticatedUser(user);
+        secondStep.setAuthenticatedAuthenticatorName("totp");
+        secondStep.setAuthenticatorMappings(Arrays.asList("totp", "email-otp"));
+        secondStep.setCompleted(true);
+
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setName("default");
+        sequenceConfig.setApplicationId("8a9c2c4e-6a87-4bd0-9bd7-7e4df5b5e2f1");
+        sequenceConfig.setAuthenticatedUser(user);
+        sequenceConfig.setCompleted(true);
+        sequenceConfig.getStepMap().put(1, firstStep);
+        sequenceConfig.getStepMap().put(2, secondStep);
+        sequenceConfig.addRequestedAcr("mfa");
+
+        SessionContext sessionContext = new SessionContext();
+        sessionContext.getAuthenticatedSequences().put("travelocity.com", sequenceConfig);
+        sessionContext.addProperty("AuthenticatedUser", user);
+        AuthHistory authHistory = new AuthHistory("BasicAuthenticator", "LOCAL");
+        authHistory.setDuration(120L);
+        authHistory.setSuccess(true);
+        sessionContext.getSessionAuthHistory().push(authHistory);
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(false, 0);
+        byte[] compact = readBytes(serializer.serializeSessionObject(sessionContext));
+        byte[] java = readBytes(new JavaSessionSerializer().serializeSessionObject(sessionContext));
+        assertEquals(compact[2], CompactSessionSerializer.FORMAT_VERSION);
+        assertTrue(compact.length < java.length);
+
+        SessionContext restored = (SessionContext) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(compact));
+        SequenceConfig restoredSequence = restored.getAuthenticatedSequences().get("travelocity.com");
+        assertEquals(restoredSequence.getName(), "default");
+        assertEquals(restoredSequence.getApplicationId(), sequenceConfig.getApplicationId());
+        assertTrue(restoredSequence.isCompleted());
+        assertFalse(restoredSequence.isForceAuthn());
+        assertEquals(restoredSequence.getRequestedAcr(), Arrays.asList("mfa"));
+        assertEquals(restoredSequence.getStepMap().size(), 2);
+
+        AuthenticatedUser restoredUser = restoredSequence.getAuthenticatedUser();
+        assertEquals(restoredUser.getUserName(), "alice");
+        assertEquals(restoredUser.getUserId(), user.getUserId());
+        assertEquals(restoredUser.getUserAttributes(), user.getUserAttributes());
+        // A user shared across the steps and the session properties is restored as one instance.
+        assertSame(restoredSequence.getStepMap().get(1).getAuthenticatedUser(), restoredUser);
+        assertSame(restoredSequence.getStepMap().get(2).getAuthenticatedUser(), restoredUser);
+        assertSame(restored.getProperty("AuthenticatedUser"), restoredUser);
+
+        StepConfig restoredSecondStep = restoredSequence.getStepMap().get(2);
+        assertEquals(restoredSecondStep.getOrder(), 2);
+        assertEquals(restoredSecondStep.getAuthenticatedAuthenticatorName(), "totp");
+        assertEquals(restoredSecondStep.getAuthenticatorMappings(), Arrays.asList("totp", "email-otp"));
+        assertTrue(restoredSequence.getStepMap().get(1).isSubjectIdentifierStep());
+
+        AuthHistory restoredHistory = restored.getSessionAuthHistory().getHistory().get(0);
+        assertEquals(restoredHistory, authHistory);
+        assertEquals(restoredHistory.getDuration(), 120L);
+        assertTrue(restoredHistory.isSuccess());
+    }
+
+    @Test
+    public void testDeserializeJavaPayloadFormatVersion() throws Exception {
+
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("sessionDataKey", "1234");
+        ByteArrayOutputStream row = new ByteArrayOutputStream();
+        row.write(new byte[]{CompactSessionSerializer.MAGIC_FIRST, CompactSessionSerializer.MAGIC_SECOND,
+                CompactSessionSerializer.JAVA_PAYLOAD_FORMAT_VERSION, 0});
+        try (ObjectOutputStream oos = new ObjectOutputStream(row)) {
+            oos.writeObject(sessionObject);
+        }
+
+        assertEquals(new CompactSessionSerializer().deSerializeSessionObject(
+                new ByteArrayInputStream(row.toByteArray())), sessionObject);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeUnsupportedVersion() throws Exception {
+
+        byte[] serialized = readBytes(new CompactSessionSerializer().serializeSessionObject("value"));
+        serialized[2] = (byte) (CompactSessionSerializer.FORMAT_VERSION + 1);
+        new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(serialized));
+    }
+
+    private byte[] readBytes(InputStream inputStream) throws IOException {
+
+        byte[] bytes = new byte[inputStream.available()];
+        int read = inputStream.read(bytes);
+        assertEquals(read, bytes.length);
+        return bytes;
+    }
+}
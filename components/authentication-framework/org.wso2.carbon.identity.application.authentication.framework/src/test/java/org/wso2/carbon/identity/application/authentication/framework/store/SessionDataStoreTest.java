@@ -32,8 +32,11 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -45,6 +48,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -165,6 +169,95 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = "testValidateLastOperationOnSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        List<SessionContextDO> batch = new ArrayList<>();
+        batch.add(new SessionContextDO("00000003", "sessionType", mock(Object.class,
+                withSettings().serializable()), 30003, 1));
+        batch.add(new SessionContextDO("00000004", "sessionType", mock(Object.class,
+                withSettings().serializable()), 30004, 1));
+        batch.add(new SessionContextDO("00000004", "sessionType", null, 30005));
+        batch.add(new SessionContextDO("00000001", "sessionType", null, 30006));
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+            SessionDataStore.getInstance().persistSessionDataBatch(batch);
+        }
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000003", "sessionType",
+                    OPERATION_STORE));
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000004", "sessionType",
+                    OPERATION_DELETE));
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000001", "sessionType",
+                    OPERATION_DELETE));
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatch")
+    public void testPersistSessionDataBatchWithStoreBeforeDelete() throws Exception {
+
+        Field checkExistingEntryField =
+                SessionDataStore.class.getDeclaredField("checkExistingEntryForDeleteOperationInsert");
+        checkExistingEntryField.setAccessible(true);
+        boolean checkExistingEntry = checkExistingEntryField.getBoolean(null);
+        checkExistingEntryField.setBoolean(null, true);
+
+        List<SessionContextDO> deleteBatch = new ArrayList<>();
+        deleteBatch.add(new SessionContextDO("00000006", "sessionType", null, 40000));
+        // A session stored again and then deleted within the same batch, while the DB already has a DELETE.
+        List<SessionContextDO> storeAndDeleteBatch = new ArrayList<>();
+        storeAndDeleteBatch.add(new SessionContextDO("00000006", "sessionType", null, 40002));
+        storeAndDeleteBatch.add(new SessionContextDO("00000006", "sessionType", mock(Object.class,
+                withSettings().serializable()), 40001, 1));
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            sessionDataStore.persistSessionDataBatch(deleteBatch);
+            sessionDataStore.persistSessionDataBatch(storeAndDeleteBatch);
+
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000006", "sessionType",
+                    OPERATION_DELETE));
+        } finally {
+            checkExistingEntryField.setBoolean(null, checkExistingEntry);
+        }
+    }
+
     @Test(dependsOnMethods = "testValidateLastOperationOnSessionData")
     public void testRemoveExpiredSessionData() throws Exception {
 
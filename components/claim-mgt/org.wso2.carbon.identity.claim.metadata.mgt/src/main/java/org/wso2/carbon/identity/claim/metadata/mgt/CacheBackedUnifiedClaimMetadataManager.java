@@ -21,6 +21,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.AssociatedClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataCacheTenantTracker;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataInterner;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
@@ -29,6 +32,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,10 +46,14 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
     ExternalClaimCache externalClaimCache = ExternalClaimCache.getInstance();
     AssociatedClaimCache associatedClaimCache = AssociatedClaimCache.getInstance();
+    ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
+    ClaimMetadataCacheTenantTracker cacheTenantTracker = ClaimMetadataCacheTenantTracker.getInstance();
+    ClaimMetadataInterner claimMetadataInterner = ClaimMetadataInterner.getInstance();
 
     @Override
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
 
+        cacheTenantTracker.recordAccess(tenantId);
         List<ClaimDialect> claimDialectList = claimDialectCache.getClaimDialects(tenantId);
         if (claimDialectList != null && !claimDialectList.isEmpty()) {
             if (log.isDebugEnabled()) {
@@ -55,7 +63,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             return claimDialectList;
         }
 
-        claimDialectList = super.getClaimDialects(tenantId);
+        claimDialectList = claimMetadataInterner.internClaimDialects(super.getClaimDialects(tenantId));
         claimDialectCache.putClaimDialects(tenantId, claimDialectList);
 
         if (log.isDebugEnabled()) {
@@ -78,6 +86,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.addClaimDialect(claimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
+        clearClaimDialectMapping(claimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is added for tenant: " + tenantId +
                     ". Invalidated ClaimDialectCache.");
@@ -91,6 +100,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.renameClaimDialect(oldClaimDialect, newClaimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
         removeExternalClaimCache(oldClaimDialect.getClaimDialectURI(), tenantId);
+        clearClaimDialectMapping(newClaimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + oldClaimDialect.getClaimDialectURI() + " is renamed to new claim dialect: "
                     + newClaimDialect.getClaimDialectURI() + " for tenant: " + tenantId + ". Invalidated " +
@@ -114,13 +124,14 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     @Override
     public List<LocalClaim> getLocalClaims(int tenantId) throws ClaimMetadataException {
 
+        cacheTenantTracker.recordAccess(tenantId);
         List<LocalClaim> localClaimList = localClaimCache.getValueFromCache(tenantId, tenantId);
 
         if (localClaimList == null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache miss for local claim list for tenant: " + tenantId);
             }
-            localClaimList = super.getLocalClaims(tenantId);
+            localClaimList = claimMetadataInterner.internLocalClaims(super.getLocalClaims(tenantId));
             localClaimCache.addToCache(tenantId, new ArrayList<>(localClaimList), tenantId);
         } else {
             if (log.isDebugEnabled()) {
@@ -144,6 +155,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.addLocalClaim(localClaim, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
+        clearClaimDialectMapping(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is added for tenant: " + tenantId +
                     ". Invalidated LocalClaimCache.");
@@ -155,6 +167,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.updateLocalClaim(localClaim, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
+        clearClaimDialectMapping(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
         associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
@@ -179,6 +192,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
 
         super.removeLocalClaim(localClaimURI, tenantId);
         localClaimCache.clearCacheEntry(tenantId, tenantId);
+        clearClaimDialectMapping(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
         associatedClaimCache.clearCacheEntry(localClaimURI, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
@@ -190,6 +204,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI, int tenantId)
             throws ClaimMetadataException {
 
+        cacheTenantTracker.recordAccess(tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
         List<ExternalClaim> externalClaimList = externalClaimCache.getValueFromCache(cacheKey, tenantId);
 
@@ -198,7 +213,8 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
                 log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
                         tenantId);
             }
-            externalClaimList = super.getExternalClaims(externalClaimDialectURI, tenantId);
+            externalClaimList = claimMetadataInterner.internExternalClaims(
+                    super.getExternalClaims(externalClaimDialectURI, tenantId));
             externalClaimCache.addToCache(cacheKey, new ArrayList<>(externalClaimList), tenantId);
         } else {
             if (log.isDebugEnabled()) {
@@ -226,6 +242,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.addExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
@@ -240,6 +257,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.updateExternalClaim(externalClaim, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaim.getClaimDialectURI());
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
@@ -263,6 +281,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         if (StringUtils.isNotBlank(mappedLocalClaim)) {
             associatedClaimCache.clearCacheEntry(mappedLocalClaim, tenantId);
         }
@@ -291,15 +310,35 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         localClaimCache.clear(tenantId);
         externalClaimCache.clear(tenantId);
         associatedClaimCache.clear(tenantId);
+        claimDialectMappingCache.clear(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("All claim dialects are removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache, LocalClaimCache and ExternalClaimCache.");
+                    ". Invalidated ClaimDialectCache, LocalClaimCache, ExternalClaimCache and " +
+                    "ClaimDialectMappingCache.");
+        }
+    }
+
+    @Override
+    public void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, int tenantId)
+            throws ClaimMetadataException {
+
+        super.importClaims(localClaims, externalClaims, tenantId);
+        claimDialectCache.clearClaimDialects(tenantId);
+        localClaimCache.clear(tenantId);
+        externalClaimCache.clear(tenantId);
+        associatedClaimCache.clear(tenantId);
+        claimDialectMappingCache.clear(tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug(localClaims.size() + " local claims and " + externalClaims.size() +
+                    " external claims are imported for tenant: " + tenantId + ". Invalidated ClaimDialectCache, " +
+                    "LocalClaimCache, ExternalClaimCache and ClaimDialectMappingCache.");
         }
     }
 
     @Override
     public List<Claim> getMappedExternalClaims(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
+        cacheTenantTracker.recordAccess(tenantId);
         List<Claim> associatedLocalClaims = associatedClaimCache.getValueFromCache(localClaimURI, tenantId);
         if (associatedLocalClaims == null) {
             if (log.isDebugEnabled()) {
@@ -329,8 +368,14 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         }
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
         externalClaimCache.clearCacheEntry(cacheKey, tenantId);
+        claimDialectMappingCache.clearCacheEntry(cacheKey, tenantId);
         for (String localClaim : mappedLocalClaim) {
             associatedClaimCache.clearCacheEntry(localClaim, tenantId);
         }
     }
+
+    private void clearClaimDialectMapping(String claimDialectURI, int tenantId) {
+
+        claimDialectMappingCache.clearCacheEntry(new ExternalClaimCacheKey(claimDialectURI), tenantId);
+    }
 }
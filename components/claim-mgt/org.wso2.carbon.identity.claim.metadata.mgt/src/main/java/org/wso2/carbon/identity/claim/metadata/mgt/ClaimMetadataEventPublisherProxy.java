@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -239,6 +240,28 @@ public class ClaimMetadataEventPublisherProxy {
         doPublishEvent(event);
     }
 
+    public void publishPreImportClaims(int tenantId, List<LocalClaim> localClaims,
+                                       List<ExternalClaim> externalClaims) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, tenantId);
+        eventProperties.put(IdentityEventConstants.EventProperty.LOCAL_CLAIMS, localClaims);
+        eventProperties.put(IdentityEventConstants.EventProperty.EXTERNAL_CLAIMS, externalClaims);
+        Event event = createEvent(eventProperties, IdentityEventConstants.Event.PRE_IMPORT_CLAIMS);
+        doPublishEvent(event);
+    }
+
+    public void publishPostImportClaims(int tenantId, List<LocalClaim> localClaims,
+                                        List<ExternalClaim> externalClaims) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, tenantId);
+        eventProperties.put(IdentityEventConstants.EventProperty.LOCAL_CLAIMS, localClaims);
+        eventProperties.put(IdentityEventConstants.EventProperty.EXTERNAL_CLAIMS, externalClaims);
+        Event event = createEvent(eventProperties, IdentityEventConstants.Event.POST_IMPORT_CLAIMS);
+        doPublishEvent(event);
+    }
+
 
     private Event createEvent(Map<String, Object> eventProperties, String eventName) {
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+/**
+ * Receives the claim metadata of a tenant one element at a time during an export. Claim dialects are handed over
+ * first, followed by the local claims and then the external claims of each external dialect.
+ */
+public interface ClaimMetadataExportHandler {
+
+    /**
+     * Handle an exported claim dialect.
+     *
+     * @param claimDialect Claim dialect.
+     * @throws ClaimMetadataException If an error occurs while handling the claim dialect.
+     */
+    void handleClaimDialect(ClaimDialect claimDialect) throws ClaimMetadataException;
+
+    /**
+     * Handle an exported local claim.
+     *
+     * @param localClaim Local claim.
+     * @throws ClaimMetadataException If an error occurs while handling the local claim.
+     */
+    void handleLocalClaim(LocalClaim localClaim) throws ClaimMetadataException;
+
+    /**
+     * Handle an exported external claim.
+     *
+     * @param externalClaim External claim.
+     * @throws ClaimMetadataException If an error occurs while handling the external claim.
+     */
+    void handleExternalClaim(ExternalClaim externalClaim) throws ClaimMetadataException;
+}
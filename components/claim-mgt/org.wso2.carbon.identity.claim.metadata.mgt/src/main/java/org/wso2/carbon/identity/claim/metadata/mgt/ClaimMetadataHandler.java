@@ -18,11 +18,17 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCacheEntry;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMetadataCacheTenantTracker;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,76 +58,26 @@ public class ClaimMetadataHandler {
             String otherDialectURI, Set<String> otherClaimURIs, String tenantDomain)
             throws ClaimMetadataException {
 
-        Set<ExternalClaim> returnSet = new HashSet<ExternalClaim>();
-
         if (otherDialectURI == null) {
             String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
             log.error(message);
             throw new ClaimMetadataException(message);
         }
 
+        Map<String, ExternalClaim> mappings = getClaimDialectMapping(otherDialectURI, tenantDomain)
+                .getMappingsByClaimURI();
+        if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
+            return new HashSet<>(mappings.values());
+        }
 
-        try {
-            ClaimMetadataManagementServiceImpl claimMetadataService = new ClaimMetadataManagementServiceImpl();
-
-            if (otherDialectURI.equals(UserCoreConstants.DEFAULT_CARBON_DIALECT) ) {
-
-                List<LocalClaim> localClaims = claimMetadataService.getLocalClaims(tenantDomain);
-
-                if (otherClaimURIs == null|| otherClaimURIs.isEmpty()) {
-
-                    for (LocalClaim localClaim : localClaims) {
-                        ExternalClaim claimMapping = new ExternalClaim(localClaim.getClaimDialectURI(), localClaim
-                                .getClaimURI(), localClaim.getClaimURI());
-                        returnSet.add(claimMapping);
-                    }
-
-                    return returnSet;
-
-                } else {
-
-                    for (LocalClaim localClaim : localClaims) {
-
-                        if (otherClaimURIs.contains(localClaim.getClaimURI())) {
-
-                            ExternalClaim claimMapping = new ExternalClaim(
-                                    otherDialectURI, localClaim.getClaimURI(), localClaim.getClaimURI());
-                            returnSet.add(claimMapping);
-
-                        }
-                    }
-
-                    return returnSet;
-
-                }
-
-            } else {
-
-                List<ExternalClaim> externalClaims = claimMetadataService.getExternalClaims(otherDialectURI,
-                        tenantDomain);
-
-                if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
-
-                    returnSet = new HashSet<ExternalClaim>(externalClaims);
-
-                } else {
-
-                    for (ExternalClaim externalClaim : externalClaims) {
-
-                        if (otherClaimURIs.contains(externalClaim.getClaimURI())) {
-                            returnSet.add(externalClaim);
-                        }
-                    }
-
-                }
-
-                return returnSet;
+        Set<ExternalClaim> returnSet = new HashSet<>();
+        for (String otherClaimURI : otherClaimURIs) {
+            ExternalClaim mapping = mappings.get(otherClaimURI);
+            if (mapping != null) {
+                returnSet.add(mapping);
             }
-
-
-        } catch (ClaimMetadataException e) {
-            throw new ClaimMetadataException(e.getMessage(), e);
         }
+        return returnSet;
     }
 
     /**
@@ -135,16 +91,75 @@ public class ClaimMetadataHandler {
     public Map<String, String> getMappingsMapFromOtherDialectToCarbon(String otherDialectURI, Set<String>
             otherClaimURIs, String tenantDomain, boolean useCarbonDialectAsKey) throws ClaimMetadataException {
 
+        if (otherDialectURI == null) {
+            String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
+            log.error(message);
+            throw new ClaimMetadataException(message);
+        }
+
+        ClaimDialectMappingCacheEntry claimDialectMapping = getClaimDialectMapping(otherDialectURI, tenantDomain);
+        if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
+            if (useCarbonDialectAsKey) {
+                return new HashMap<>(claimDialectMapping.getLocalToDialectClaims());
+            }
+            return new HashMap<>(claimDialectMapping.getDialectToLocalClaims());
+        }
+
+        Map<String, String> dialectToLocalClaims = claimDialectMapping.getDialectToLocalClaims();
         Map<String, String> returnMap = new HashMap<>();
-        Set<ExternalClaim> mappings = getMappingsFromOtherDialectToCarbon(
-                otherDialectURI, otherClaimURIs, tenantDomain);
-        for (ExternalClaim externalClaim : mappings) {
+        for (String otherClaimURI : otherClaimURIs) {
+            String mappedLocalClaim = dialectToLocalClaims.get(otherClaimURI);
+            if (mappedLocalClaim == null) {
+                continue;
+            }
             if (useCarbonDialectAsKey) {
-                returnMap.put(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
+                returnMap.put(mappedLocalClaim, otherClaimURI);
             } else {
-                returnMap.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+                returnMap.put(otherClaimURI, mappedLocalClaim);
             }
         }
         return returnMap;
     }
+
+    /**
+     * Get the precomputed mapping table of the given dialect to the local dialect. The table is built from the claim
+     * metadata on the first lookup and kept in the {@link ClaimDialectMappingCache} until the claim metadata of the
+     * dialect is changed.
+     *
+     * @param otherDialectURI Claim dialect URI.
+     * @param tenantDomain    Tenant domain.
+     * @return Mapping table of the dialect.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claim metadata.
+     */
+    private ClaimDialectMappingCacheEntry getClaimDialectMapping(String otherDialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        ClaimMetadataCacheTenantTracker.getInstance().recordAccess(tenantId);
+        ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(otherDialectURI);
+        ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
+        ClaimDialectMappingCacheEntry claimDialectMapping =
+                claimDialectMappingCache.getValueFromCache(cacheKey, tenantId);
+        if (claimDialectMapping != null) {
+            return claimDialectMapping;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim mappings of dialect: " + otherDialectURI + " in tenant: " +
+                    tenantDomain);
+        }
+        ClaimMetadataManagementServiceImpl claimMetadataService = new ClaimMetadataManagementServiceImpl();
+        List<ExternalClaim> mappings = new ArrayList<>();
+        if (otherDialectURI.equals(UserCoreConstants.DEFAULT_CARBON_DIALECT)) {
+            for (LocalClaim localClaim : claimMetadataService.getLocalClaims(tenantDomain)) {
+                mappings.add(new ExternalClaim(localClaim.getClaimDialectURI(), localClaim.getClaimURI(),
+                        localClaim.getClaimURI()));
+            }
+        } else {
+            mappings.addAll(claimMetadataService.getExternalClaims(otherDialectURI, tenantDomain));
+        }
+        claimDialectMapping = new ClaimDialectMappingCacheEntry(mappings);
+        claimDialectMappingCache.addToCache(cacheKey, claimDialectMapping, tenantId);
+        return claimDialectMapping;
+    }
 }
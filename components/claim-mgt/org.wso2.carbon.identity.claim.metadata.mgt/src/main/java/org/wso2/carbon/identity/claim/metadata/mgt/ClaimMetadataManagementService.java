@@ -244,4 +244,30 @@ public interface ClaimMetadataManagementService {
 
         return null;
     }
+
+    /**
+     * Add or update local and external claims of a tenant in bulk. The whole set is validated before any claim is
+     * persisted and the claims are written in a single transaction. Missing claim dialects are added.
+     *
+     * @param localClaims    Local claims to be added or updated.
+     * @param externalClaims External claims to be added or updated.
+     * @param tenantDomain   Tenant domain.
+     * @throws ClaimMetadataException If the claims are invalid or an error occurs while importing them.
+     */
+    default void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, String tenantDomain)
+            throws ClaimMetadataException {
+
+    }
+
+    /**
+     * Export the claim dialects, local claims and external claims of a tenant to the given handler.
+     *
+     * @param tenantDomain  Tenant domain.
+     * @param exportHandler Handler which receives the exported claim metadata.
+     * @throws ClaimMetadataException If an error occurs while exporting the claim metadata.
+     */
+    default void exportClaims(String tenantDomain, ClaimMetadataExportHandler exportHandler)
+            throws ClaimMetadataException {
+
+    }
 }
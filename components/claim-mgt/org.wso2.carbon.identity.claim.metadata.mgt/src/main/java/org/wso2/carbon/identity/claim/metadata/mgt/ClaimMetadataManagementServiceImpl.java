@@ -46,6 +46,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -690,6 +691,150 @@ public class ClaimMetadataManagementServiceImpl implements ClaimMetadataManageme
         }
     }
 
+    @Override
+    public void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, String tenantDomain)
+            throws ClaimMetadataException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        Map<String, LocalClaim> existingLocalClaims = this.unifiedClaimMetadataManager.getLocalClaims(tenantId)
+                .stream().collect(Collectors.toMap(LocalClaim::getClaimURI, localClaim -> localClaim));
+
+        Set<String> importedLocalClaimURIs = new HashSet<>();
+        for (LocalClaim localClaim : localClaims) {
+            validateImportedLocalClaim(localClaim, existingLocalClaims, tenantId);
+            if (!importedLocalClaimURIs.add(localClaim.getClaimURI())) {
+                throw new ClaimMetadataClientException(ERROR_CODE_EXISTING_LOCAL_CLAIM_URI.getCode(),
+                        String.format(ERROR_CODE_EXISTING_LOCAL_CLAIM_URI.getMessage(), localClaim.getClaimURI()));
+            }
+        }
+
+        Map<String, Map<String, String>> externalClaimMappingsOfDialects = new HashMap<>();
+        Map<String, Set<String>> importedExternalClaimURIsOfDialects = new HashMap<>();
+        for (ExternalClaim externalClaim : externalClaims) {
+            validateImportedExternalClaim(externalClaim);
+            String claimDialectURI = externalClaim.getClaimDialectURI();
+            if (!importedExternalClaimURIsOfDialects.computeIfAbsent(claimDialectURI, k -> new HashSet<>())
+                    .add(externalClaim.getClaimURI())) {
+                throw new ClaimMetadataClientException(ERROR_CODE_EXISTING_EXTERNAL_CLAIM_URI.getCode(),
+                        String.format(ERROR_CODE_EXISTING_EXTERNAL_CLAIM_URI.getMessage(),
+                                externalClaim.getClaimURI(), claimDialectURI));
+            }
+            if (!existingLocalClaims.containsKey(externalClaim.getMappedLocalClaim()) &&
+                    !importedLocalClaimURIs.contains(externalClaim.getMappedLocalClaim())) {
+                throw new ClaimMetadataClientException(ERROR_CODE_MAPPED_TO_INVALID_LOCAL_CLAIM_URI.getCode(),
+                        String.format(ERROR_CODE_MAPPED_TO_INVALID_LOCAL_CLAIM_URI.getMessage(),
+                                externalClaim.getMappedLocalClaim(), ClaimConstants.LOCAL_CLAIM_DIALECT_URI));
+            }
+            // External claim URI to mapped local claim URI of the dialect, as it will be after the import.
+            Map<String, String> externalClaimMappings = externalClaimMappingsOfDialects.get(claimDialectURI);
+            if (externalClaimMappings == null) {
+                externalClaimMappings = new HashMap<>();
+                if (isExistingClaimDialect(claimDialectURI, tenantId)) {
+                    for (ExternalClaim existingExternalClaim : this.unifiedClaimMetadataManager
+                            .getExternalClaims(claimDialectURI, tenantId)) {
+                        externalClaimMappings.put(existingExternalClaim.getClaimURI(),
+                                existingExternalClaim.getMappedLocalClaim());
+                    }
+                }
+                externalClaimMappingsOfDialects.put(claimDialectURI, externalClaimMappings);
+            }
+            externalClaimMappings.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+        }
+
+        for (Map.Entry<String, Map<String, String>> dialect : externalClaimMappingsOfDialects.entrySet()) {
+            Set<String> mappedLocalClaimURIs = new HashSet<>();
+            for (String mappedLocalClaimURI : dialect.getValue().values()) {
+                if (!mappedLocalClaimURIs.add(mappedLocalClaimURI)) {
+                    throw new ClaimMetadataClientException((ERROR_CODE_EXISTING_LOCAL_CLAIM_MAPPING.getCode()),
+                            String.format(ERROR_CODE_EXISTING_LOCAL_CLAIM_MAPPING.getMessage(),
+                                    mappedLocalClaimURI, dialect.getKey()));
+                }
+            }
+        }
+
+        ClaimMetadataEventPublisherProxy.getInstance().publishPreImportClaims(tenantId, localClaims, externalClaims);
+
+        this.unifiedClaimMetadataManager.importClaims(localClaims, externalClaims, tenantId);
+
+        ClaimMetadataEventPublisherProxy.getInstance().publishPostImportClaims(tenantId, localClaims, externalClaims);
+    }
+
+    @Override
+    public void exportClaims(String tenantDomain, ClaimMetadataExportHandler exportHandler)
+            throws ClaimMetadataException {
+
+        List<ClaimDialect> claimDialects = getClaimDialects(tenantDomain);
+        for (ClaimDialect claimDialect : claimDialects) {
+            exportHandler.handleClaimDialect(claimDialect);
+        }
+        for (LocalClaim localClaim : getLocalClaims(tenantDomain)) {
+            exportHandler.handleLocalClaim(localClaim);
+        }
+        // External claims are fetched one dialect at a time to avoid holding the whole claim set in memory.
+        for (ClaimDialect claimDialect : claimDialects) {
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialect.getClaimDialectURI())) {
+                continue;
+            }
+            for (ExternalClaim externalClaim : getExternalClaims(claimDialect.getClaimDialectURI(), tenantDomain)) {
+                exportHandler.handleExternalClaim(externalClaim);
+            }
+        }
+    }
+
+    private void validateImportedLocalClaim(LocalClaim localClaim, Map<String, LocalClaim> existingLocalClaims,
+                                            int tenantId) throws ClaimMetadataException {
+
+        if (localClaim == null || StringUtils.isBlank(localClaim.getClaimURI())) {
+            throw new ClaimMetadataClientException(ERROR_CODE_EMPTY_LOCAL_CLAIM_URI);
+        } else if (localClaim.getMappedAttributes().isEmpty()) {
+            throw new ClaimMetadataClientException(ERROR_CODE_EMPTY_MAPPED_ATTRIBUTES_IN_LOCAL_CLAIM.getCode(),
+                    String.format(ERROR_CODE_EMPTY_MAPPED_ATTRIBUTES_IN_LOCAL_CLAIM.getMessage(), localClaim
+                            .getClaimDialectURI(), localClaim.getClaimURI()));
+        }
+        validateClaimProperties(localClaim.getClaimProperties());
+
+        LocalClaim existingLocalClaim = existingLocalClaims.get(localClaim.getClaimURI());
+        if (existingLocalClaim == null) {
+            validateAndSyncUniquenessClaimProperties(localClaim.getClaimProperties(), null);
+            validateAndSyncAttributeProfileProperties(localClaim.getClaimProperties());
+            validateSharedProfileValueResolvingMethodValue(localClaim);
+        } else {
+            validateAndSyncUniquenessClaimProperties(localClaim.getClaimProperties(),
+                    existingLocalClaim.getClaimProperties());
+            validateAndSyncAttributeProfileProperties(localClaim.getClaimProperties());
+            validateSharedProfileValueResolvingMethodChange(localClaim, existingLocalClaim, tenantId);
+        }
+    }
+
+    private void validateImportedExternalClaim(ExternalClaim externalClaim) throws ClaimMetadataClientException {
+
+        if (externalClaim == null || StringUtils.isBlank(externalClaim.getClaimURI())) {
+            throw new ClaimMetadataClientException(ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI);
+        }
+
+        if (StringUtils.isBlank(externalClaim.getClaimDialectURI())) {
+            throw new ClaimMetadataClientException(ERROR_CODE_EMPTY_EXTERNAL_DIALECT_URI);
+        }
+
+        if (StringUtils.isBlank(externalClaim.getMappedLocalClaim())) {
+            throw new ClaimMetadataClientException(ERROR_CODE_MAPPED_TO_EMPTY_LOCAL_CLAIM_URI);
+        }
+
+        if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(externalClaim.getClaimDialectURI())) {
+            throw new ClaimMetadataClientException(ERROR_CODE_INVALID_EXTERNAL_CLAIM_DIALECT);
+        }
+
+        ClaimConfig claimConfig = IdentityClaimManagementServiceDataHolder.getInstance().getClaimConfig();
+        String claimURIRegex = null;
+        if (claimConfig != null) {
+            claimURIRegex = claimConfig.getClaimUriRegex(externalClaim.getClaimDialectURI());
+        }
+
+        if (claimURIRegex != null && !externalClaim.getClaimURI().matches(claimURIRegex)) {
+            throw new ClaimMetadataClientException(ERROR_CODE_INVALID_EXTERNAL_CLAIM_URI);
+        }
+    }
+
     /**
      * Check whether the properties are valid.
      *
@@ -30,10 +30,16 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Database based claim metadata manager.
@@ -192,6 +198,40 @@ public class DBBasedClaimMetadataManager implements ReadWriteClaimMetadataManage
         this.claimDialectDAO.removeAllClaimDialects(tenantId);
     }
 
+    @Override
+    public void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, int tenantId)
+            throws ClaimMetadataException {
+
+        Set<String> existingClaimDialectURIs = this.claimDialectDAO.getClaimDialects(tenantId).stream()
+                .map(ClaimDialect::getClaimDialectURI)
+                .collect(Collectors.toSet());
+        Set<String> claimDialectURIs = new LinkedHashSet<>();
+        if (!localClaims.isEmpty() || !externalClaims.isEmpty()) {
+            claimDialectURIs.add(ClaimConstants.LOCAL_CLAIM_DIALECT_URI);
+        }
+        for (ExternalClaim externalClaim : externalClaims) {
+            claimDialectURIs.add(externalClaim.getClaimDialectURI());
+        }
+        List<ClaimDialect> newClaimDialects = claimDialectURIs.stream()
+                .filter(claimDialectURI -> !existingClaimDialectURIs.contains(claimDialectURI))
+                .map(ClaimDialect::new)
+                .collect(Collectors.toList());
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                this.claimDialectDAO.addClaimDialects(connection, newClaimDialects, tenantId);
+                this.localClaimDAO.addOrUpdateLocalClaims(connection, localClaims, tenantId);
+                this.externalClaimDAO.addOrUpdateExternalClaims(connection, externalClaims, tenantId);
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (ClaimMetadataException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while importing claims for tenant: " + tenantId, e);
+        }
+    }
+
     @Override
     public boolean isMappedLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
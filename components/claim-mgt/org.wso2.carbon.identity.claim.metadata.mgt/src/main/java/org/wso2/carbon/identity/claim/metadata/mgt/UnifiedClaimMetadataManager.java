@@ -34,6 +34,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -542,6 +543,41 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         this.dbBasedClaimMetadataManager.removeAllClaimDialects(tenantId);
     }
 
+    /**
+     * Add or update local and external claims in bulk.
+     * System default local claims mapped by the external claims are persisted along with them when missing.
+     *
+     * @param localClaims    Local claims.
+     * @param externalClaims External claims.
+     * @param tenantId       Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while importing the claims.
+     */
+    public void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, int tenantId)
+            throws ClaimMetadataException {
+
+        for (LocalClaim localClaim : localClaims) {
+            validateNonModifiableClaimProperties(localClaim);
+        }
+        for (ExternalClaim externalClaim : externalClaims) {
+            externalClaim.getClaimProperties().remove(ClaimConstants.IS_SYSTEM_CLAIM);
+        }
+
+        List<LocalClaim> localClaimsToImport = new ArrayList<>(localClaims);
+        if (!externalClaims.isEmpty()) {
+            Set<String> availableLocalClaimURIs = this.dbBasedClaimMetadataManager.getLocalClaims(tenantId).stream()
+                    .map(LocalClaim::getClaimURI)
+                    .collect(Collectors.toCollection(HashSet::new));
+            localClaims.forEach(localClaim -> availableLocalClaimURIs.add(localClaim.getClaimURI()));
+            for (ExternalClaim externalClaim : externalClaims) {
+                if (availableLocalClaimURIs.add(externalClaim.getMappedLocalClaim())) {
+                    this.systemDefaultClaimMetadataManager.getLocalClaim(externalClaim.getMappedLocalClaim(),
+                            tenantId).ifPresent(localClaimsToImport::add);
+                }
+            }
+        }
+        this.dbBasedClaimMetadataManager.importClaims(localClaimsToImport, externalClaims, tenantId);
+    }
+
     /**
      * Get all external claims mapped to a local claim.
      * @param localClaimURI Local claim URI.
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed, immutable mapping table between the claims of a claim dialect and the local claims of a tenant.
+ */
+public class ClaimDialectMappingCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -2914750358291035472L;
+
+    private final Map<String, ExternalClaim> mappingsByClaimURI;
+    private final Map<String, String> dialectToLocalClaims;
+    private final Map<String, String> localToDialectClaims;
+
+    public ClaimDialectMappingCacheEntry(Collection<ExternalClaim> mappings) {
+
+        Map<String, ExternalClaim> mappingsByClaimURI = new LinkedHashMap<>();
+        Map<String, String> dialectToLocalClaims = new HashMap<>();
+        Map<String, String> localToDialectClaims = new HashMap<>();
+        for (ExternalClaim mapping : mappings) {
+            mappingsByClaimURI.put(mapping.getClaimURI(), mapping);
+            dialectToLocalClaims.put(mapping.getClaimURI(), mapping.getMappedLocalClaim());
+            localToDialectClaims.put(mapping.getMappedLocalClaim(), mapping.getClaimURI());
+        }
+        this.mappingsByClaimURI = Collections.unmodifiableMap(mappingsByClaimURI);
+        this.dialectToLocalClaims = Collections.unmodifiableMap(dialectToLocalClaims);
+        this.localToDialectClaims = Collections.unmodifiableMap(localToDialectClaims);
+    }
+
+    /**
+     * Get the claim mappings of the dialect keyed by the claim URI in the dialect.
+     *
+     * @return Unmodifiable map of claim URI to claim mapping.
+     */
+    public Map<String, ExternalClaim> getMappingsByClaimURI() {
+
+        return mappingsByClaimURI;
+    }
+
+    /**
+     * Get the mapped local claim URIs keyed by the claim URI in the dialect.
+     *
+     * @return Unmodifiable map of dialect claim URI to local claim URI.
+     */
+    public Map<String, String> getDialectToLocalClaims() {
+
+        return dialectToLocalClaims;
+    }
+
+    /**
+     * Get the dialect claim URIs keyed by the mapped local claim URI. When several claims of the dialect are mapped to
+     * the same local claim, the last one of the dialect is kept.
+     *
+     * @return Unmodifiable map of local claim URI to dialect claim URI.
+     */
+    public Map<String, String> getLocalToDialectClaims() {
+
+        return localToDialectClaims;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the number of tenants whose claim metadata is cached in this node. The capacity of the claim caches applies
+ * per tenant, so the claim metadata held in memory otherwise grows with the number of tenants. When more tenants than
+ * the configured maximum have claim metadata cached, the claim caches of the least recently used tenants are cleared.
+ * A non-positive maximum disables the bound.
+ * <p>
+ * The recency is an approximation kept without a global lock: the last access time of a tenant is only updated once
+ * it is older than {@link #ACCESS_TIME_RESOLUTION_NANOS}, so the claim reads of a busy tenant do not write to the map.
+ * Once the maximum is exceeded, a single thread evicts the oldest tenants, along with a tenth of the maximum, so that
+ * the scan over the tracked tenants is amortized over the following new tenants.
+ */
+public class ClaimMetadataCacheTenantTracker {
+
+    private static final Log log = LogFactory.getLog(ClaimMetadataCacheTenantTracker.class);
+    private static final ClaimMetadataCacheTenantTracker instance = new ClaimMetadataCacheTenantTracker();
+    private static final int DEFAULT_MAX_CACHED_TENANTS = 1000;
+    private static final long ACCESS_TIME_RESOLUTION_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    // Tenants with cached claim metadata, mapped to their last access time.
+    private final Map<Integer, Long> cachedTenants = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private volatile Integer maxCachedTenants;
+
+    ClaimMetadataCacheTenantTracker() {
+
+    }
+
+    public static ClaimMetadataCacheTenantTracker getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record that the claim metadata of a tenant was read through the claim caches, and clear the claim caches of
+     * the least recently used tenants if the maximum number of cached tenants is exceeded.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void recordAccess(int tenantId) {
+
+        int maxTenants = getMaxCachedTenants();
+        if (maxTenants <= 0) {
+            return;
+        }
+        for (int evictedTenantId : trackAccess(tenantId, System.nanoTime(), maxTenants)) {
+            clearClaimMetadataCaches(evictedTenantId);
+            if (log.isDebugEnabled()) {
+                log.debug("Claim metadata caches of tenant: " + evictedTenantId + " are cleared as more than " +
+                        maxTenants + " tenants have claim metadata cached.");
+            }
+        }
+    }
+
+    /**
+     * Record the access time of a tenant and stop tracking the least recently used tenants once there are more than
+     * the given maximum. If another thread is already evicting, the tenants are left to that thread.
+     *
+     * @param tenantId   Tenant id.
+     * @param accessTime Access time in nanoseconds, as given by {@link System#nanoTime()}.
+     * @param maxTenants Maximum number of tenants to track.
+     * @return Ids of the tenants which are no longer tracked.
+     */
+    List<Integer> trackAccess(int tenantId, long accessTime, int maxTenants) {
+
+        Long lastAccessTime = cachedTenants.get(tenantId);
+        if (lastAccessTime == null || accessTime - lastAccessTime >= ACCESS_TIME_RESOLUTION_NANOS) {
+            cachedTenants.put(tenantId, accessTime);
+        }
+        if (cachedTenants.size() <= maxTenants || !evicting.compareAndSet(false, true)) {
+            return Collections.emptyList();
+        }
+        try {
+            return evictLeastRecentlyUsed(maxTenants - maxTenants / EVICTION_BATCH_DIVISOR);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private List<Integer> evictLeastRecentlyUsed(int targetTenants) {
+
+        List<Map.Entry<Integer, Long>> tenants = new ArrayList<>(cachedTenants.entrySet());
+        tenants.sort(Map.Entry.comparingByValue());
+        int excessTenants = tenants.size() - targetTenants;
+        List<Integer> evictedTenantIds = new ArrayList<>();
+        for (int i = 0; i < tenants.size() && evictedTenantIds.size() < excessTenants; i++) {
+            Map.Entry<Integer, Long> tenant = tenants.get(i);
+            // A tenant accessed after the snapshot has a new access time, hence it is not removed.
+            if (cachedTenants.remove(tenant.getKey(), tenant.getValue())) {
+                evictedTenantIds.add(tenant.getKey());
+            }
+        }
+        return evictedTenantIds;
+    }
+
+    private void clearClaimMetadataCaches(int tenantId) {
+
+        ClaimDialectCache.getInstance().clearClaimDialects(tenantId);
+        LocalClaimCache.getInstance().clear(tenantId);
+        ExternalClaimCache.getInstance().clear(tenantId);
+        AssociatedClaimCache.getInstance().clear(tenantId);
+        ClaimDialectMappingCache.getInstance().clear(tenantId);
+    }
+
+    private int getMaxCachedTenants() {
+
+        Integer maxTenants = maxCachedTenants;
+        if (maxTenants == null) {
+            maxTenants = DEFAULT_MAX_CACHED_TENANTS;
+            String configuredMaxTenants = IdentityUtil.getProperty(ClaimConstants.MAX_CACHED_TENANTS_CONFIG);
+            if (StringUtils.isNotBlank(configuredMaxTenants)) {
+                try {
+                    maxTenants = Integer.parseInt(configuredMaxTenants.trim());
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid value: " + configuredMaxTenants + " configured for " +
+                            ClaimConstants.MAX_CACHED_TENANTS_CONFIG + ". Using the default value: " +
+                            DEFAULT_MAX_CACHED_TENANTS);
+                }
+            }
+            maxCachedTenants = maxTenants;
+        }
+        return maxTenants;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the immutable parts of the claim metadata cached for each tenant across the tenants of this node. Most
+ * tenants hold the system default claims, hence the same claim URIs, property values, attribute mappings and claim
+ * dialects are otherwise held once per tenant.
+ * <p>
+ * Claim dialects and attribute mappings have no setters, hence a single instance is shared. Local and external
+ * claims are mutable, so a new claim is built for each tenant with the shared strings and attribute mappings, and the
+ * given claims are not modified. Interned values are never removed, and once the number of interned values of a kind
+ * reaches {@link #MAX_INTERNED_VALUES}, new values of that kind are returned as they are.
+ */
+public class ClaimMetadataInterner {
+
+    private static final ClaimMetadataInterner instance = new ClaimMetadataInterner();
+    private static final int MAX_INTERNED_VALUES = 100000;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<String, ClaimDialect> claimDialects = new ConcurrentHashMap<>();
+    private final Map<List<String>, AttributeMapping> attributeMappings = new ConcurrentHashMap<>();
+
+    ClaimMetadataInterner() {
+
+    }
+
+    public static ClaimMetadataInterner getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the claim dialects with a shared instance in place of each claim dialect.
+     *
+     * @param claimDialects Claim dialects.
+     * @return Shared claim dialects.
+     */
+    public List<ClaimDialect> internClaimDialects(List<ClaimDialect> claimDialects) {
+
+        List<ClaimDialect> internedClaimDialects = new ArrayList<>(claimDialects.size());
+        for (ClaimDialect claimDialect : claimDialects) {
+            internedClaimDialects.add(intern(this.claimDialects, claimDialect.getClaimDialectURI(), claimDialect));
+        }
+        return internedClaimDialects;
+    }
+
+    /**
+     * Get copies of the local claims built with the shared strings and attribute mappings.
+     *
+     * @param localClaims Local claims.
+     * @return Copies of the local claims.
+     */
+    public List<LocalClaim> internLocalClaims(List<LocalClaim> localClaims) {
+
+        List<LocalClaim> internedLocalClaims = new ArrayList<>(localClaims.size());
+        for (LocalClaim localClaim : localClaims) {
+            List<AttributeMapping> mappedAttributes = new ArrayList<>(localClaim.getMappedAttributes().size());
+            for (AttributeMapping mappedAttribute : localClaim.getMappedAttributes()) {
+                mappedAttributes.add(internAttributeMapping(mappedAttribute));
+            }
+            internedLocalClaims.add(new LocalClaim(internString(localClaim.getClaimURI()), mappedAttributes,
+                    internClaimProperties(localClaim.getClaimProperties())));
+        }
+        return internedLocalClaims;
+    }
+
+    /**
+     * Get copies of the external claims built with the shared strings.
+     *
+     * @param externalClaims External claims.
+     * @return Copies of the external claims.
+     */
+    public List<ExternalClaim> internExternalClaims(List<ExternalClaim> externalClaims) {
+
+        List<ExternalClaim> internedExternalClaims = new ArrayList<>(externalClaims.size());
+        for (ExternalClaim externalClaim : externalClaims) {
+            internedExternalClaims.add(new ExternalClaim(internString(externalClaim.getClaimDialectURI()),
+                    internString(externalClaim.getClaimURI()), internString(externalClaim.getMappedLocalClaim()),
+                    internClaimProperties(externalClaim.getClaimProperties())));
+        }
+        return internedExternalClaims;
+    }
+
+    private Map<String, String> internClaimProperties(Map<String, String> claimProperties) {
+
+        Map<String, String> internedClaimProperties = new HashMap<>(claimProperties.size() * 4 / 3 + 1);
+        for (Map.Entry<String, String> claimProperty : claimProperties.entrySet()) {
+            internedClaimProperties.put(internString(claimProperty.getKey()), internString(claimProperty.getValue()));
+        }
+        return internedClaimProperties;
+    }
+
+    private AttributeMapping internAttributeMapping(AttributeMapping attributeMapping) {
+
+        return intern(attributeMappings, Arrays.asList(attributeMapping.getUserStoreDomain(),
+                attributeMapping.getAttributeName()), attributeMapping);
+    }
+
+    private String internString(String value) {
+
+        if (value == null) {
+            return null;
+        }
+        return intern(strings, value, value);
+    }
+
+    private <K, V> V intern(Map<K, V> internedValues, K key, V value) {
+
+        if (key == null) {
+            return value;
+        }
+        V internedValue = internedValues.get(key);
+        if (internedValue != null) {
+            return internedValue;
+        }
+        if (internedValues.size() >= MAX_INTERNED_VALUES) {
+            return value;
+        }
+        internedValue = internedValues.putIfAbsent(key, value);
+        return internedValue != null ? internedValue : value;
+    }
+}
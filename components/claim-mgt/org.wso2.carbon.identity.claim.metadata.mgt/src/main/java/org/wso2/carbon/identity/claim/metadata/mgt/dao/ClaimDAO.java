@@ -33,6 +33,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -223,24 +224,7 @@ public class ClaimDAO {
         if (claimId > 0 && claimProperties != null) {
             String query = SQLConstants.ADD_CLAIM_PROPERTY;
             try (PreparedStatement prepStmt = connection.prepareStatement(query);) {
-                prepStmt.setInt(1, claimId);
-                prepStmt.setInt(4, tenantId);
-                for (Map.Entry<String, String> property : claimProperties.entrySet()) {
-                    if (StringUtils.equals(property.getKey(), SUB_ATTRIBUTES_PROPERTY)) {
-                        String[] subAttributes = property.getValue().split(" ");
-                        int subAttributeIndex = 0;
-                        for (String subAttribute : subAttributes) {
-                            subAttributeIndex++;
-                            prepStmt.setString(2, SUB_ATTRIBUTE_PREFIX + subAttributeIndex);
-                            prepStmt.setString(3, subAttribute);
-                            prepStmt.addBatch();
-                        }
-                        continue;
-                    }
-                    prepStmt.setString(2, property.getKey());
-                    prepStmt.setString(3, property.getValue());
-                    prepStmt.addBatch();
-                }
+                addClaimPropertiesToBatch(prepStmt, claimId, claimProperties, tenantId);
                 prepStmt.executeBatch();
             } catch (SQLException e) {
                 throw new ClaimMetadataException("Error while adding claim properties", e);
@@ -248,6 +232,55 @@ public class ClaimDAO {
         }
     }
 
+    /**
+     * Add the properties of several claims as a single JDBC batch.
+     *
+     * @param connection      Database connection.
+     * @param claimProperties Claim properties keyed by the claim ID.
+     * @param tenantId        Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while adding the claim properties.
+     */
+    public void addClaimProperties(Connection connection, Map<Integer, Map<String, String>> claimProperties,
+                                   int tenantId) throws ClaimMetadataException {
+
+        if (claimProperties.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.ADD_CLAIM_PROPERTY)) {
+            for (Map.Entry<Integer, Map<String, String>> claim : claimProperties.entrySet()) {
+                if (claim.getValue() != null) {
+                    addClaimPropertiesToBatch(prepStmt, claim.getKey(), claim.getValue(), tenantId);
+                }
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while adding claim properties", e);
+        }
+    }
+
+    private void addClaimPropertiesToBatch(PreparedStatement prepStmt, int claimId,
+                                           Map<String, String> claimProperties, int tenantId) throws SQLException {
+
+        prepStmt.setInt(1, claimId);
+        prepStmt.setInt(4, tenantId);
+        for (Map.Entry<String, String> property : claimProperties.entrySet()) {
+            if (StringUtils.equals(property.getKey(), SUB_ATTRIBUTES_PROPERTY)) {
+                String[] subAttributes = property.getValue().split(" ");
+                int subAttributeIndex = 0;
+                for (String subAttribute : subAttributes) {
+                    subAttributeIndex++;
+                    prepStmt.setString(2, SUB_ATTRIBUTE_PREFIX + subAttributeIndex);
+                    prepStmt.setString(3, subAttribute);
+                    prepStmt.addBatch();
+                }
+                continue;
+            }
+            prepStmt.setString(2, property.getKey());
+            prepStmt.setString(3, property.getValue());
+            prepStmt.addBatch();
+        }
+    }
+
     protected void deleteClaimProperties(Connection connection, int claimId, int tenantId)
             throws ClaimMetadataException {
 
@@ -261,6 +294,81 @@ public class ClaimDAO {
         }
     }
 
+    /**
+     * Delete the properties of several claims as a single JDBC batch.
+     *
+     * @param connection Database connection.
+     * @param claimIds   IDs of the claims.
+     * @param tenantId   Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while deleting the claim properties.
+     */
+    protected void deleteClaimProperties(Connection connection, Collection<Integer> claimIds, int tenantId)
+            throws ClaimMetadataException {
+
+        if (claimIds.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.DELETE_CLAIM_PROPERTY)) {
+            for (int claimId : claimIds) {
+                prepStmt.setInt(1, claimId);
+                prepStmt.setInt(2, tenantId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while deleting claim properties", e);
+        }
+    }
+
+    /**
+     * Add claims to a dialect as a single JDBC batch. The IDs of the added claims can be retrieved with
+     * {@link #getClaimIds(Connection, String, int)}.
+     *
+     * @param connection      Database connection.
+     * @param claimDialectURI Claim dialect URI.
+     * @param claimURIs       URIs of the claims to be added.
+     * @param tenantId        Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while adding the claims.
+     */
+    public void addClaims(Connection connection, String claimDialectURI, Collection<String> claimURIs, int tenantId)
+            throws ClaimMetadataException {
+
+        if (claimURIs.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.ADD_CLAIM)) {
+            for (String claimURI : claimURIs) {
+                prepStmt.setString(1, claimDialectURI);
+                prepStmt.setInt(2, tenantId);
+                prepStmt.setString(3, claimURI);
+                prepStmt.setInt(4, tenantId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while adding claims to dialect " + claimDialectURI, e);
+        }
+    }
+
+    /**
+     * Get the IDs of the claims of a dialect keyed by the claim URI.
+     *
+     * @param connection      Database connection.
+     * @param claimDialectURI Claim dialect URI.
+     * @param tenantId        Tenant ID.
+     * @return Claim IDs keyed by the claim URI.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claims.
+     */
+    public Map<String, Integer> getClaimIds(Connection connection, String claimDialectURI, int tenantId)
+            throws ClaimMetadataException {
+
+        Map<String, Integer> claimIds = new HashMap<>();
+        for (Map.Entry<Integer, Claim> claim : getClaims(connection, claimDialectURI, tenantId).entrySet()) {
+            claimIds.put(claim.getValue().getClaimURI(), claim.getKey());
+        }
+        return claimIds;
+    }
+
     public int getIdOfClaim(Connection connection, String claimDialectURI, String claimURI, int tenantId) throws
             ClaimMetadataException {
 
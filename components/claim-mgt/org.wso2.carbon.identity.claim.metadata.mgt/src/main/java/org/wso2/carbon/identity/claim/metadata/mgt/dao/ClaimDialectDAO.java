@@ -28,6 +28,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -91,6 +92,32 @@ public class ClaimDialectDAO {
         }
     }
 
+    /**
+     * Add claim dialects as a single JDBC batch within the transaction of the given connection.
+     *
+     * @param connection    Database connection.
+     * @param claimDialects Claim dialects to be added.
+     * @param tenantId      Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while adding the claim dialects.
+     */
+    public void addClaimDialects(Connection connection, Collection<ClaimDialect> claimDialects, int tenantId)
+            throws ClaimMetadataException {
+
+        if (claimDialects.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.ADD_CLAIM_DIALECT)) {
+            for (ClaimDialect claimDialect : claimDialects) {
+                prepStmt.setString(1, claimDialect.getClaimDialectURI());
+                prepStmt.setInt(2, tenantId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while adding claim dialects", e);
+        }
+    }
+
     public void renameClaimDialect(ClaimDialect oldClaimDialect, ClaimDialect newClaimDialect, int tenantId) throws
             ClaimMetadataException {
 
@@ -33,8 +33,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SUB_ATTRIBUTES_PROPERTY;
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SUB_ATTRIBUTE_PREFIX;
@@ -141,6 +144,73 @@ public class ExternalClaimDAO extends ClaimDAO {
     }
 
 
+    /**
+     * Add or update external claims within the transaction of the given connection. Each kind of row of a dialect is
+     * written as a single JDBC batch. The mapped local claims and the dialects must already exist in the database.
+     *
+     * @param connection     Database connection.
+     * @param externalClaims External claims to be added or updated.
+     * @param tenantId       Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while adding or updating the external claims.
+     */
+    public void addOrUpdateExternalClaims(Connection connection, List<ExternalClaim> externalClaims, int tenantId)
+            throws ClaimMetadataException {
+
+        if (externalClaims.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> localClaimIds = getClaimIds(connection, ClaimConstants.LOCAL_CLAIM_DIALECT_URI,
+                tenantId);
+        Map<String, List<ExternalClaim>> externalClaimsOfDialects = new LinkedHashMap<>();
+        for (ExternalClaim externalClaim : externalClaims) {
+            externalClaimsOfDialects.computeIfAbsent(externalClaim.getClaimDialectURI(), k -> new ArrayList<>())
+                    .add(externalClaim);
+        }
+
+        for (Map.Entry<String, List<ExternalClaim>> dialect : externalClaimsOfDialects.entrySet()) {
+            String externalClaimDialectURI = dialect.getKey();
+            Map<String, Integer> claimIds = getClaimIds(connection, externalClaimDialectURI, tenantId);
+            Set<Integer> existingClaimIds = new HashSet<>();
+            List<String> newClaimURIs = new ArrayList<>();
+            for (ExternalClaim externalClaim : dialect.getValue()) {
+                Integer claimId = claimIds.get(externalClaim.getClaimURI());
+                if (claimId == null) {
+                    newClaimURIs.add(externalClaim.getClaimURI());
+                } else {
+                    existingClaimIds.add(claimId);
+                }
+            }
+            if (!newClaimURIs.isEmpty()) {
+                addClaims(connection, externalClaimDialectURI, newClaimURIs, tenantId);
+                claimIds = getClaimIds(connection, externalClaimDialectURI, tenantId);
+            }
+            deleteClaimProperties(connection, existingClaimIds, tenantId);
+
+            Map<Integer, Integer> newClaimMappings = new LinkedHashMap<>();
+            Map<Integer, Integer> updatedClaimMappings = new LinkedHashMap<>();
+            Map<Integer, Map<String, String>> claimProperties = new LinkedHashMap<>();
+            for (ExternalClaim externalClaim : dialect.getValue()) {
+                Integer externalClaimId = claimIds.get(externalClaim.getClaimURI());
+                Integer localClaimId = localClaimIds.get(externalClaim.getMappedLocalClaim());
+                if (externalClaimId == null || localClaimId == null) {
+                    throw new ClaimMetadataException("Unable to resolve the external claim " +
+                            externalClaim.getClaimURI() + " of dialect " + externalClaimDialectURI +
+                            " or its mapped local claim " + externalClaim.getMappedLocalClaim());
+                }
+                if (existingClaimIds.contains(externalClaimId)) {
+                    updatedClaimMappings.put(externalClaimId, localClaimId);
+                } else {
+                    newClaimMappings.put(externalClaimId, localClaimId);
+                }
+                claimProperties.put(externalClaimId, externalClaim.getClaimProperties());
+            }
+            addOrUpdateClaimMappings(connection, SQLConstants.ADD_CLAIM_MAPPING, newClaimMappings, tenantId);
+            addOrUpdateClaimMappings(connection, SQLConstants.UPDATE_CLAIM_MAPPING, updatedClaimMappings, tenantId);
+            addClaimProperties(connection, claimProperties, tenantId);
+        }
+    }
+
     public void removeExternalClaim(String externalClaimDialectURI, String externalClaimURI, int tenantId) throws
             ClaimMetadataException {
 
@@ -229,6 +299,26 @@ public class ExternalClaimDAO extends ClaimDAO {
         }
     }
 
+    private void addOrUpdateClaimMappings(Connection connection, String query, Map<Integer, Integer> claimMappings,
+                                          int tenantId) throws ClaimMetadataException {
+
+        if (claimMappings.isEmpty()) {
+            return;
+        }
+        // Both the insert and the update queries take the local claim ID, the external claim ID and the tenant ID.
+        try (PreparedStatement prepStmt = connection.prepareStatement(query)) {
+            for (Map.Entry<Integer, Integer> claimMapping : claimMappings.entrySet()) {
+                prepStmt.setInt(1, claimMapping.getValue());
+                prepStmt.setInt(2, claimMapping.getKey());
+                prepStmt.setInt(3, tenantId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while adding or updating claim mappings", e);
+        }
+    }
+
     private void updateClaimMapping(Connection connection, int externalClaimId, int localClaimId, int tenantId)
             throws ClaimMetadataException {
 
@@ -36,6 +36,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -299,6 +300,56 @@ public class LocalClaimDAO extends ClaimDAO {
         }
     }
 
+    /**
+     * Add or update local claims within the transaction of the given connection. Each kind of row is written as a
+     * single JDBC batch. The attribute mappings and properties of the claims which already exist are replaced.
+     *
+     * @param connection  Database connection.
+     * @param localClaims Local claims to be added or updated.
+     * @param tenantId    Tenant ID.
+     * @throws ClaimMetadataException If an error occurs while adding or updating the local claims.
+     */
+    public void addOrUpdateLocalClaims(Connection connection, List<LocalClaim> localClaims, int tenantId)
+            throws ClaimMetadataException {
+
+        if (localClaims.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> claimIds = getClaimIds(connection, ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
+        List<Integer> existingClaimIds = new ArrayList<>();
+        List<String> newClaimURIs = new ArrayList<>();
+        for (LocalClaim localClaim : localClaims) {
+            Integer claimId = claimIds.get(localClaim.getClaimURI());
+            if (claimId == null) {
+                newClaimURIs.add(localClaim.getClaimURI());
+            } else {
+                existingClaimIds.add(claimId);
+            }
+        }
+        if (!newClaimURIs.isEmpty()) {
+            addClaims(connection, ClaimConstants.LOCAL_CLAIM_DIALECT_URI, newClaimURIs, tenantId);
+            claimIds = getClaimIds(connection, ClaimConstants.LOCAL_CLAIM_DIALECT_URI, tenantId);
+        }
+
+        deleteClaimAttributeMappings(connection, existingClaimIds, tenantId);
+        deleteClaimProperties(connection, existingClaimIds, tenantId);
+
+        Map<Integer, List<AttributeMapping>> attributeMappings = new LinkedHashMap<>();
+        Map<Integer, Map<String, String>> claimProperties = new LinkedHashMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            Integer claimId = claimIds.get(localClaim.getClaimURI());
+            if (claimId == null) {
+                throw new ClaimMetadataException("Unable to resolve the ID of the local claim " +
+                        localClaim.getClaimURI());
+            }
+            attributeMappings.put(claimId, localClaim.getMappedAttributes());
+            claimProperties.put(claimId, localClaim.getClaimProperties());
+        }
+        addClaimAttributeMappings(connection, attributeMappings, tenantId);
+        addClaimProperties(connection, claimProperties, tenantId);
+    }
+
     public void removeLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
         removeClaim(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, localClaimURI, tenantId);
@@ -368,6 +419,57 @@ public class LocalClaimDAO extends ClaimDAO {
         }
     }
 
+    private void addClaimAttributeMappings(Connection connection,
+                                           Map<Integer, List<AttributeMapping>> attributeMappingsOfClaims,
+                                           int tenantId) throws ClaimMetadataException {
+
+        if (attributeMappingsOfClaims.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.ADD_CLAIM_MAPPED_ATTRIBUTE)) {
+            for (Map.Entry<Integer, List<AttributeMapping>> claim : attributeMappingsOfClaims.entrySet()) {
+                if (claim.getValue() == null) {
+                    continue;
+                }
+                for (AttributeMapping attributeMapping : claim.getValue()) {
+                    if (StringUtils.isBlank(attributeMapping.getUserStoreDomain())) {
+                        throw new ClaimMetadataException("User store domain of mapped Attribute cannot be empty for " +
+                                "the local claim id : " + claim.getKey());
+                    } else if (StringUtils.isBlank(attributeMapping.getAttributeName())) {
+                        throw new ClaimMetadataException("Mapped attribute of the local claim id : " + claim.getKey() +
+                                " cannot be empty");
+                    }
+                    prepStmt.setInt(1, claim.getKey());
+                    prepStmt.setString(2, attributeMapping.getUserStoreDomain());
+                    prepStmt.setString(3, attributeMapping.getAttributeName());
+                    prepStmt.setInt(4, tenantId);
+                    prepStmt.addBatch();
+                }
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while adding attribute mappings", e);
+        }
+    }
+
+    private void deleteClaimAttributeMappings(Connection connection, List<Integer> localClaimIds, int tenantId)
+            throws ClaimMetadataException {
+
+        if (localClaimIds.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLConstants.DELETE_CLAIM_MAPPED_ATTRIBUTE)) {
+            for (int localClaimId : localClaimIds) {
+                prepStmt.setInt(1, localClaimId);
+                prepStmt.setInt(2, tenantId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+        } catch (SQLException e) {
+            throw new ClaimMetadataException("Error while deleting attribute mappings", e);
+        }
+    }
+
     private void deleteClaimAttributeMappings(Connection connection, int localClaimId, int tenantId) throws
             ClaimMetadataException {
 
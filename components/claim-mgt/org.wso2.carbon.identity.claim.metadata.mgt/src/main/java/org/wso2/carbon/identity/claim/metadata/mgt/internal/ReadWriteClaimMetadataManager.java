@@ -136,4 +136,14 @@ public interface ReadWriteClaimMetadataManager extends ReadOnlyClaimMetadataMana
      * @throws ClaimMetadataException if an error occurs during the operation.
      */
     void removeAllClaimDialects(int tenantId) throws ClaimMetadataException;
+
+    /**
+     * Add or update local and external claims in bulk. Missing claim dialects are added.
+     * @param localClaims       Local claims.
+     * @param externalClaims    External claims.
+     * @param tenantId          Tenant ID.
+     * @throws ClaimMetadataException if an error occurs during the operation.
+     */
+    void importClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims, int tenantId)
+            throws ClaimMetadataException;
 }
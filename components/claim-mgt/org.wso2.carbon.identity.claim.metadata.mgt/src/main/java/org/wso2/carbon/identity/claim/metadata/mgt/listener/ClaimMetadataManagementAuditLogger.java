@@ -27,6 +27,8 @@ import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
@@ -120,6 +122,9 @@ public class ClaimMetadataManagementAuditLogger extends AbstractEventHandler {
                     .get(IdentityEventConstants.EventProperty.EXTERNAL_CLAIM_URI);
             String data = "Claim Dialect URI:" + claimDialectUri + ", Claim URI:" + externalClaimUri;
             audit.info(String.format(AUDIT_MESSAGE, initiator, "Delete-External-Claim", externalClaimUri, data, SUCCESS));
+        } else if (IdentityEventConstants.Event.POST_IMPORT_CLAIMS.equals(event.getEventName())) {
+            String data = buildImportedClaimsData(event);
+            audit.info(String.format(AUDIT_MESSAGE, initiator, "Import-Claims", tenantDomain, data, SUCCESS));
         }
     }
 
@@ -209,6 +214,36 @@ public class ClaimMetadataManagementAuditLogger extends AbstractEventHandler {
         return data.toString();
     }
 
+    private String buildImportedClaimsData(Event event) {
+
+        List<LocalClaim> localClaims = (List<LocalClaim>) event.getEventProperties()
+                .get(IdentityEventConstants.EventProperty.LOCAL_CLAIMS);
+        List<ExternalClaim> externalClaims = (List<ExternalClaim>) event.getEventProperties()
+                .get(IdentityEventConstants.EventProperty.EXTERNAL_CLAIMS);
+        StringBuilder data = new StringBuilder();
+        data.append("Local Claim URIs:[");
+        if (CollectionUtils.isNotEmpty(localClaims)) {
+            String joiner = "";
+            for (LocalClaim localClaim : localClaims) {
+                data.append(joiner).append(localClaim.getClaimURI());
+                joiner = ", ";
+            }
+        }
+        data.append("], External Claims:[");
+        if (CollectionUtils.isNotEmpty(externalClaims)) {
+            String joiner = "";
+            for (ExternalClaim externalClaim : externalClaims) {
+                data.append(joiner);
+                joiner = ", ";
+                data.append("{Claim Dialect URI:").append(externalClaim.getClaimDialectURI()).append(", Claim URI:")
+                        .append(externalClaim.getClaimURI()).append(", Mapped Local Claim URI:")
+                        .append(externalClaim.getMappedLocalClaim()).append("}");
+            }
+        }
+        data.append("]");
+        return data.toString();
+    }
+
     /**
      * Get the initiator for audit logs.
      *
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt;
+
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.user.core.claim.inmemory.ClaimConfig;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+
+@WithCarbonHome
+@Test
+public class ClaimMetadataHandlerTest {
+
+    private static final String EXT_CLAIM_DIALECT_1 = "http://abc.org";
+    private static final String EXT_CLAIM_DIALECT_2 = "http://def.org";
+    private static final String EXT_CLAIM_DIALECT_1_CLAIM_1 = "http://abc.org/claim1";
+    private static final String EXT_CLAIM_DIALECT_2_CLAIM_1 = "http://def.org/claim1";
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/email";
+
+    private MockedStatic<IdentityTenantUtil> identityTenantUtilStaticMock;
+    private MockedStatic<IdentityClaimManagementServiceDataHolder> dataHolderStaticMock;
+    private DBBasedClaimMetadataManager dbBasedClaimMetadataManager;
+    private CacheBackedUnifiedClaimMetadataManager claimMetadataManager;
+    private List<ExternalClaim> dialect1Claims;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityTenantUtilStaticMock = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtilStaticMock.when(() -> IdentityTenantUtil.getTenantId(anyString()))
+                .thenReturn(SUPER_TENANT_ID);
+        identityTenantUtilStaticMock.when(() -> IdentityTenantUtil.getTenantDomain(anyInt()))
+                .thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        dataHolderStaticMock = mockStatic(IdentityClaimManagementServiceDataHolder.class);
+        IdentityClaimManagementServiceDataHolder dataHolder = mock(IdentityClaimManagementServiceDataHolder.class);
+        dataHolderStaticMock.when(IdentityClaimManagementServiceDataHolder::getInstance).thenReturn(dataHolder);
+        when(dataHolder.getClaimConfig()).thenReturn(new ClaimConfig());
+
+        dbBasedClaimMetadataManager = mock(DBBasedClaimMetadataManager.class);
+        claimMetadataManager = new CacheBackedUnifiedClaimMetadataManager();
+        setPrivateField(claimMetadataManager, "systemDefaultClaimMetadataManager",
+                mock(SystemDefaultClaimMetadataManager.class));
+        setPrivateField(claimMetadataManager, "dbBasedClaimMetadataManager", dbBasedClaimMetadataManager);
+
+        dialect1Claims = new ArrayList<>();
+        dialect1Claims.add(new ExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_1));
+        ClaimDialectMappingCache.getInstance().clear(SUPER_TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        ClaimDialectMappingCache.getInstance().clear(SUPER_TENANT_ID);
+        identityTenantUtilStaticMock.close();
+        dataHolderStaticMock.close();
+    }
+
+    private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
+
+        Field field = UnifiedClaimMetadataManager.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /**
+     * Test to verify that the dialect mappings are loaded once and then served from the ClaimDialectMappingCache,
+     * and reloaded once an external claim of the dialect is updated.
+     */
+    @Test
+    public void testGetMappingsServedFromCacheUntilExternalClaimUpdate() throws Exception {
+
+        try (MockedConstruction<ClaimMetadataManagementServiceImpl> services = mockConstruction(
+                ClaimMetadataManagementServiceImpl.class,
+                (service, context) -> when(service.getExternalClaims(EXT_CLAIM_DIALECT_1, SUPER_TENANT_DOMAIN_NAME))
+                        .thenAnswer(invocation -> new ArrayList<>(dialect1Claims)))) {
+
+            Map<String, String> mappings = ClaimMetadataHandler.getInstance()
+                    .getMappingsMapFromOtherDialectToCarbon(EXT_CLAIM_DIALECT_1, null, SUPER_TENANT_DOMAIN_NAME, false);
+            assertEquals(mappings, Collections.singletonMap(EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_1));
+            mappings = ClaimMetadataHandler.getInstance()
+                    .getMappingsMapFromOtherDialectToCarbon(EXT_CLAIM_DIALECT_1, null, SUPER_TENANT_DOMAIN_NAME, false);
+            assertEquals(mappings, Collections.singletonMap(EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_1));
+            assertEquals(services.constructed().size(), 1);
+            verify(services.constructed().get(0), times(1))
+                    .getExternalClaims(EXT_CLAIM_DIALECT_1, SUPER_TENANT_DOMAIN_NAME);
+
+            ExternalClaim updatedClaim = new ExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_1,
+                    LOCAL_CLAIM_2);
+            when(dbBasedClaimMetadataManager.getLocalClaim(LOCAL_CLAIM_2, SUPER_TENANT_ID))
+                    .thenReturn(Optional.of(new LocalClaim(LOCAL_CLAIM_2)));
+            when(dbBasedClaimMetadataManager.getExternalClaim(EXT_CLAIM_DIALECT_1, EXT_CLAIM_DIALECT_1_CLAIM_1,
+                    SUPER_TENANT_ID)).thenReturn(Optional.of(dialect1Claims.get(0)));
+            dialect1Claims.set(0, updatedClaim);
+            claimMetadataManager.updateExternalClaim(updatedClaim, SUPER_TENANT_ID);
+
+            mappings = ClaimMetadataHandler.getInstance()
+                    .getMappingsMapFromOtherDialectToCarbon(EXT_CLAIM_DIALECT_1, null, SUPER_TENANT_DOMAIN_NAME, false);
+            assertEquals(mappings, Collections.singletonMap(EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_2));
+            assertEquals(services.constructed().size(), 2);
+        }
+    }
+
+    /**
+     * Test to verify that updating an external claim of one dialect does not evict the cached mappings of another
+     * dialect.
+     */
+    @Test
+    public void testExternalClaimUpdateKeepsMappingsOfOtherDialects() throws Exception {
+
+        try (MockedConstruction<ClaimMetadataManagementServiceImpl> services = mockConstruction(
+                ClaimMetadataManagementServiceImpl.class,
+                (service, context) -> when(service.getExternalClaims(EXT_CLAIM_DIALECT_1, SUPER_TENANT_DOMAIN_NAME))
+                        .thenAnswer(invocation -> new ArrayList<>(dialect1Claims)))) {
+
+            ClaimMetadataHandler.getInstance()
+                    .getMappingsMapFromOtherDialectToCarbon(EXT_CLAIM_DIALECT_1, null, SUPER_TENANT_DOMAIN_NAME, false);
+            assertEquals(services.constructed().size(), 1);
+
+            ExternalClaim otherDialectClaim = new ExternalClaim(EXT_CLAIM_DIALECT_2, EXT_CLAIM_DIALECT_2_CLAIM_1,
+                    LOCAL_CLAIM_2);
+            when(dbBasedClaimMetadataManager.getLocalClaim(LOCAL_CLAIM_2, SUPER_TENANT_ID))
+                    .thenReturn(Optional.of(new LocalClaim(LOCAL_CLAIM_2)));
+            when(dbBasedClaimMetadataManager.getExternalClaim(EXT_CLAIM_DIALECT_2, EXT_CLAIM_DIALECT_2_CLAIM_1,
+                    SUPER_TENANT_ID)).thenReturn(Optional.of(otherDialectClaim));
+            claimMetadataManager.updateExternalClaim(otherDialectClaim, SUPER_TENANT_ID);
+
+            Map<String, String> mappings = ClaimMetadataHandler.getInstance()
+                    .getMappingsMapFromOtherDialectToCarbon(EXT_CLAIM_DIALECT_1, null, SUPER_TENANT_DOMAIN_NAME, false);
+            assertEquals(mappings, Collections.singletonMap(EXT_CLAIM_DIALECT_1_CLAIM_1, LOCAL_CLAIM_1));
+            assertEquals(services.constructed().size(), 1);
+        }
+    }
+}
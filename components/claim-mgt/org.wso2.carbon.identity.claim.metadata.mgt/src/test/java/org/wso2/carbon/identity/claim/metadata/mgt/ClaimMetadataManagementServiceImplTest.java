@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.claim.metadata.mgt;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.AfterMethod;
@@ -51,6 +52,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -1201,6 +1203,124 @@ public class ClaimMetadataManagementServiceImplTest {
                 service.getSupportedLocalClaimsForProfile(SUPER_TENANT_DOMAIN_NAME, profileName));
     }
 
+    @Test
+    public void testImportClaims() throws ClaimMetadataException {
+
+        LocalClaim existingLocalClaim = buildLocalClaim(LOCAL_CLAIM_1, USERNAME_ATTRIBUTE);
+        when(unifiedClaimMetadataManager.getLocalClaims(anyInt()))
+                .thenReturn(Collections.singletonList(existingLocalClaim));
+        when(unifiedClaimMetadataManager.getClaimDialects(anyInt()))
+                .thenReturn(Collections.singletonList(new ClaimDialect(LOCAL_CLAIM_DIALECT)));
+        ClaimMetadataEventPublisherProxy eventPublisherProxy = mock(ClaimMetadataEventPublisherProxy.class);
+        claimMetadataEventPublisherProxy.when(ClaimMetadataEventPublisherProxy::getInstance)
+                .thenReturn(eventPublisherProxy);
+
+        List<LocalClaim> localClaims = Arrays.asList(buildLocalClaim(LOCAL_CLAIM_1, USERNAME_ATTRIBUTE),
+                buildLocalClaim(LOCAL_CLAIM_2, "mail"));
+        List<ExternalClaim> externalClaims = Arrays.asList(
+                new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "username", LOCAL_CLAIM_1),
+                new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "email", LOCAL_CLAIM_2));
+        service.importClaims(localClaims, externalClaims, SUPER_TENANT_DOMAIN_NAME);
+
+        InOrder inOrder = Mockito.inOrder(eventPublisherProxy, unifiedClaimMetadataManager);
+        inOrder.verify(eventPublisherProxy, times(1))
+                .publishPreImportClaims(SUPER_TENANT_ID, localClaims, externalClaims);
+        inOrder.verify(unifiedClaimMetadataManager, times(1))
+                .importClaims(localClaims, externalClaims, SUPER_TENANT_ID);
+        inOrder.verify(eventPublisherProxy, times(1))
+                .publishPostImportClaims(SUPER_TENANT_ID, localClaims, externalClaims);
+        verify(unifiedClaimMetadataManager, never()).addLocalClaim(any(), anyInt());
+        verify(unifiedClaimMetadataManager, never()).addExternalClaim(any(), anyInt());
+    }
+
+    @DataProvider(name = "invalidClaimImportData")
+    public Object[][] invalidClaimImportData() {
+
+        LocalClaim localClaimWithoutAttributes = new LocalClaim(LOCAL_CLAIM_2);
+        localClaimWithoutAttributes.setMappedAttributes(new ArrayList<>());
+
+        return new Object[][]{
+                // Local claim without a URI.
+                {Collections.singletonList(buildLocalClaim(null, USERNAME_ATTRIBUTE)), Collections.emptyList()},
+                // Local claim without mapped attributes.
+                {Collections.singletonList(localClaimWithoutAttributes), Collections.emptyList()},
+                // Same local claim imported twice.
+                {Arrays.asList(buildLocalClaim(LOCAL_CLAIM_2, "mail"), buildLocalClaim(LOCAL_CLAIM_2, "email")),
+                        Collections.emptyList()},
+                // Same external claim imported twice.
+                {Collections.singletonList(buildLocalClaim(LOCAL_CLAIM_2, "mail")), Arrays.asList(
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "email", LOCAL_CLAIM_2),
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "email", LOCAL_CLAIM_1))},
+                // External claim of the local dialect.
+                {Collections.emptyList(), Collections.singletonList(
+                        new ExternalClaim(LOCAL_CLAIM_DIALECT, "email", LOCAL_CLAIM_1))},
+                // External claim mapped to a local claim that neither exists nor is imported.
+                {Collections.emptyList(), Collections.singletonList(
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "email", CUSTOM_CLAIM))},
+                // Two imported external claims of a dialect mapped to the same local claim.
+                {Collections.emptyList(), Arrays.asList(
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "username", LOCAL_CLAIM_1),
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "login", LOCAL_CLAIM_1))},
+                // Imported external claim mapped to a local claim already mapped within the stored dialect.
+                {Collections.emptyList(), Collections.singletonList(
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "login", LOCAL_CLAIM_1))}
+        };
+    }
+
+    @Test(dataProvider = "invalidClaimImportData")
+    public void testImportInvalidClaims(List<LocalClaim> localClaims, List<ExternalClaim> externalClaims)
+            throws ClaimMetadataException {
+
+        when(unifiedClaimMetadataManager.getLocalClaims(anyInt()))
+                .thenReturn(Collections.singletonList(buildLocalClaim(LOCAL_CLAIM_1, USERNAME_ATTRIBUTE)));
+        when(unifiedClaimMetadataManager.getClaimDialects(anyInt())).thenReturn(Arrays.asList(
+                new ClaimDialect(LOCAL_CLAIM_DIALECT), new ClaimDialect(EXTERNAL_CLAIM_DIALECT_URI)));
+        when(unifiedClaimMetadataManager.getExternalClaims(eq(EXTERNAL_CLAIM_DIALECT_URI), anyInt()))
+                .thenReturn(Collections.singletonList(
+                        new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "username", LOCAL_CLAIM_1)));
+        ClaimMetadataEventPublisherProxy eventPublisherProxy = mock(ClaimMetadataEventPublisherProxy.class);
+        claimMetadataEventPublisherProxy.when(ClaimMetadataEventPublisherProxy::getInstance)
+                .thenReturn(eventPublisherProxy);
+
+        assertThrows(ClaimMetadataClientException.class, () ->
+                service.importClaims(localClaims, externalClaims, SUPER_TENANT_DOMAIN_NAME));
+        verify(unifiedClaimMetadataManager, never()).importClaims(any(), any(), anyInt());
+        verify(eventPublisherProxy, never()).publishPreImportClaims(anyInt(), any(), any());
+    }
+
+    @Test
+    public void testExportClaims() throws ClaimMetadataException {
+
+        ClaimDialect localDialect = new ClaimDialect(LOCAL_CLAIM_DIALECT);
+        ClaimDialect externalDialect = new ClaimDialect(EXTERNAL_CLAIM_DIALECT_URI);
+        LocalClaim localClaim = buildLocalClaim(MAPPED_LOCAL_CLAIM_URI, CUSTOM_ATTRIBUTE);
+        when(unifiedClaimMetadataManager.getClaimDialects(anyInt()))
+                .thenReturn(Arrays.asList(localDialect, externalDialect));
+        when(unifiedClaimMetadataManager.getLocalClaims(anyInt())).thenReturn(Collections.singletonList(localClaim));
+        when(unifiedClaimMetadataManager.getExternalClaims(eq(EXTERNAL_CLAIM_DIALECT_URI), anyInt()))
+                .thenReturn(Collections.singletonList(externalClaim));
+        ClaimMetadataExportHandler exportHandler = mock(ClaimMetadataExportHandler.class);
+
+        service.exportClaims(SUPER_TENANT_DOMAIN_NAME, exportHandler);
+
+        InOrder inOrder = Mockito.inOrder(exportHandler);
+        inOrder.verify(exportHandler).handleClaimDialect(localDialect);
+        inOrder.verify(exportHandler).handleClaimDialect(externalDialect);
+        inOrder.verify(exportHandler).handleLocalClaim(localClaim);
+        inOrder.verify(exportHandler).handleExternalClaim(externalClaim);
+        inOrder.verifyNoMoreInteractions();
+        verify(unifiedClaimMetadataManager, never()).getExternalClaims(eq(LOCAL_CLAIM_DIALECT), anyInt());
+    }
+
+    private LocalClaim buildLocalClaim(String claimURI, String attributeName) {
+
+        LocalClaim localClaim = new LocalClaim(claimURI);
+        localClaim.setMappedAttributes(new ArrayList<>());
+        localClaim.getMappedAttributes().add(new AttributeMapping(PRIMARY_DOMAIN, attributeName));
+        localClaim.setClaimProperties(new HashMap<>());
+        return localClaim;
+    }
+
     private String buildProfilePropertyKey(String profileName, String property) {
 
         return ClaimConstants.PROFILES_CLAIM_PROPERTY_PREFIX + profileName +
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimDialectMappingCacheEntry.
+ */
+public class ClaimDialectMappingCacheEntryTest {
+
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+
+    /**
+     * Test to verify that the mapping tables are built in both directions.
+     */
+    @Test
+    public void mappingTablesAreBuiltInBothDirections() {
+
+        ExternalClaim email = new ExternalClaim(OIDC_DIALECT, "email", "http://wso2.org/claims/emailaddress");
+        ExternalClaim givenName = new ExternalClaim(OIDC_DIALECT, "given_name", "http://wso2.org/claims/givenname");
+        ClaimDialectMappingCacheEntry entry = new ClaimDialectMappingCacheEntry(Arrays.asList(email, givenName));
+
+        assertEquals(entry.getMappingsByClaimURI().get("email"), email);
+        assertEquals(entry.getDialectToLocalClaims().get("given_name"), "http://wso2.org/claims/givenname");
+        assertEquals(entry.getLocalToDialectClaims().get("http://wso2.org/claims/emailaddress"), "email");
+        assertNull(entry.getDialectToLocalClaims().get("family_name"));
+    }
+
+    /**
+     * Test to verify that the mapping tables cannot be modified.
+     */
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void mappingTablesAreUnmodifiable() {
+
+        ClaimDialectMappingCacheEntry entry = new ClaimDialectMappingCacheEntry(Collections.emptyList());
+
+        assertTrue(entry.getDialectToLocalClaims().isEmpty());
+        entry.getDialectToLocalClaims().put("email", "http://wso2.org/claims/emailaddress");
+    }
+}
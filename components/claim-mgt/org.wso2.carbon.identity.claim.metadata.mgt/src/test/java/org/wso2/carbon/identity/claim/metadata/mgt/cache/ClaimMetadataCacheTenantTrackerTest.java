@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimMetadataCacheTenantTracker.
+ */
+public class ClaimMetadataCacheTenantTrackerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Test to verify that the least recently used tenants are evicted once the maximum is exceeded.
+     */
+    @Test
+    public void testTrackAccessEvictsLeastRecentlyUsedTenant() {
+
+        ClaimMetadataCacheTenantTracker tracker = new ClaimMetadataCacheTenantTracker();
+
+        assertTrue(tracker.trackAccess(1, SECOND, 2).isEmpty());
+        assertTrue(tracker.trackAccess(2, 2 * SECOND, 2).isEmpty());
+        // Accessing tenant 1 again makes tenant 2 the least recently used one.
+        assertTrue(tracker.trackAccess(1, 3 * SECOND, 2).isEmpty());
+        assertEquals(tracker.trackAccess(3, 4 * SECOND, 2), Collections.singletonList(2));
+        assertEquals(tracker.trackAccess(4, 5 * SECOND, 2), Collections.singletonList(1));
+        // An evicted tenant is tracked again on its next access.
+        assertEquals(tracker.trackAccess(2, 6 * SECOND, 2), Collections.singletonList(3));
+    }
+
+    /**
+     * Test to verify that an access within the access time resolution does not change the recency of a tenant.
+     */
+    @Test
+    public void testTrackAccessWithinResolution() {
+
+        ClaimMetadataCacheTenantTracker tracker = new ClaimMetadataCacheTenantTracker();
+
+        assertTrue(tracker.trackAccess(1, SECOND, 2).isEmpty());
+        assertTrue(tracker.trackAccess(2, SECOND + 1, 2).isEmpty());
+        assertTrue(tracker.trackAccess(1, SECOND + 2, 2).isEmpty());
+        assertEquals(tracker.trackAccess(3, 2 * SECOND + 2, 2), Collections.singletonList(1));
+    }
+
+    /**
+     * Test to verify that the tracked tenants are trimmed down when the maximum is lowered.
+     */
+    @Test
+    public void testTrackAccessWithLowerMaximum() {
+
+        ClaimMetadataCacheTenantTracker tracker = new ClaimMetadataCacheTenantTracker();
+        for (int tenantId = 1; tenantId <= 3; tenantId++) {
+            assertTrue(tracker.trackAccess(tenantId, tenantId * SECOND, 3).isEmpty());
+        }
+
+        assertEquals(tracker.trackAccess(3, 4 * SECOND, 1), Arrays.asList(1, 2));
+        assertTrue(tracker.trackAccess(3, 5 * SECOND, 1).isEmpty());
+    }
+
+    /**
+     * Test to verify that a tenth of the maximum is evicted along with the excess tenants.
+     */
+    @Test
+    public void testTrackAccessEvictsInBatches() {
+
+        ClaimMetadataCacheTenantTracker tracker = new ClaimMetadataCacheTenantTracker();
+        for (int tenantId = 1; tenantId <= 20; tenantId++) {
+            assertTrue(tracker.trackAccess(tenantId, tenantId * SECOND, 20).isEmpty());
+        }
+
+        assertEquals(tracker.trackAccess(21, 21 * SECOND, 20), Arrays.asList(1, 2, 3));
+        assertTrue(tracker.trackAccess(22, 22 * SECOND, 20).isEmpty());
+    }
+}
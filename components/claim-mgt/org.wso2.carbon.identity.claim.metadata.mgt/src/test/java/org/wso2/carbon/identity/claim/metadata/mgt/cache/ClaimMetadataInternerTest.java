@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit test class for ClaimMetadataInterner.
+ */
+public class ClaimMetadataInternerTest {
+
+    private static final String LOCAL_CLAIM_URI = "http://wso2.org/claims/username";
+    private static final String EXTERNAL_DIALECT_URI = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String EXTERNAL_CLAIM_URI = "urn:ietf:params:scim:schemas:core:2.0:User:userName";
+
+    /**
+     * Test to verify that the claim dialects of different tenants share a single instance.
+     */
+    @Test
+    public void testInternClaimDialects() {
+
+        ClaimMetadataInterner interner = new ClaimMetadataInterner();
+
+        ClaimDialect claimDialect = interner.internClaimDialects(
+                Collections.singletonList(new ClaimDialect(new String(EXTERNAL_DIALECT_URI)))).get(0);
+        ClaimDialect otherClaimDialect = interner.internClaimDialects(
+                Collections.singletonList(new ClaimDialect(new String(EXTERNAL_DIALECT_URI)))).get(0);
+        assertSame(otherClaimDialect, claimDialect);
+    }
+
+    /**
+     * Test to verify that the local claims of different tenants share the strings and attribute mappings, while the
+     * claims themselves are copied.
+     */
+    @Test
+    public void testInternLocalClaims() {
+
+        ClaimMetadataInterner interner = new ClaimMetadataInterner();
+        LocalClaim localClaim = buildLocalClaim();
+        LocalClaim otherLocalClaim = buildLocalClaim();
+
+        LocalClaim internedLocalClaim = interner.internLocalClaims(Collections.singletonList(localClaim)).get(0);
+        LocalClaim otherInternedLocalClaim =
+                interner.internLocalClaims(Collections.singletonList(otherLocalClaim)).get(0);
+
+        assertEquals(internedLocalClaim, localClaim);
+        assertNotSame(otherInternedLocalClaim, internedLocalClaim);
+        assertNotSame(otherInternedLocalClaim.getClaimProperties(), internedLocalClaim.getClaimProperties());
+        assertSame(otherInternedLocalClaim.getClaimURI(), internedLocalClaim.getClaimURI());
+        assertSame(otherInternedLocalClaim.getClaimProperty("DisplayName"),
+                internedLocalClaim.getClaimProperty("DisplayName"));
+        assertSame(otherInternedLocalClaim.getMappedAttributes().get(0),
+                internedLocalClaim.getMappedAttributes().get(0));
+
+        // Changing the claim of a tenant does not affect the other tenants.
+        internedLocalClaim.setClaimProperty("DisplayName", "Login Name");
+        assertEquals(otherInternedLocalClaim.getClaimProperty("DisplayName"), "Username");
+        assertEquals(otherLocalClaim.getClaimProperty("DisplayName"), "Username");
+    }
+
+    /**
+     * Test to verify that the external claims of different tenants share the strings.
+     */
+    @Test
+    public void testInternExternalClaims() {
+
+        ClaimMetadataInterner interner = new ClaimMetadataInterner();
+        ExternalClaim externalClaim = new ExternalClaim(new String(EXTERNAL_DIALECT_URI),
+                new String(EXTERNAL_CLAIM_URI), new String(LOCAL_CLAIM_URI));
+        ExternalClaim otherExternalClaim = new ExternalClaim(new String(EXTERNAL_DIALECT_URI),
+                new String(EXTERNAL_CLAIM_URI), new String(LOCAL_CLAIM_URI));
+
+        ExternalClaim internedExternalClaim =
+                interner.internExternalClaims(Collections.singletonList(externalClaim)).get(0);
+        ExternalClaim otherInternedExternalClaim =
+                interner.internExternalClaims(Collections.singletonList(otherExternalClaim)).get(0);
+
+        assertEquals(internedExternalClaim, externalClaim);
+        assertEquals(internedExternalClaim.getMappedLocalClaim(), LOCAL_CLAIM_URI);
+        assertNotSame(otherInternedExternalClaim, internedExternalClaim);
+        assertSame(otherInternedExternalClaim.getClaimURI(), internedExternalClaim.getClaimURI());
+        assertSame(otherInternedExternalClaim.getMappedLocalClaim(), internedExternalClaim.getMappedLocalClaim());
+    }
+
+    private LocalClaim buildLocalClaim() {
+
+        List<AttributeMapping> mappedAttributes = new ArrayList<>();
+        mappedAttributes.add(new AttributeMapping(new String("PRIMARY"), new String("uid")));
+        Map<String, String> claimProperties = new HashMap<>();
+        claimProperties.put(new String("DisplayName"), new String("Username"));
+        return new LocalClaim(new String(LOCAL_CLAIM_URI), mappedAttributes, claimProperties);
+    }
+}
@@ -30,7 +30,9 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -344,4 +346,65 @@ public class ExternalClaimDAOTest {
                 {localClaim1, externalClaim1, externalClaim2, TENANT_ID},
         };
     }
+
+    @Test
+    public void testAddOrUpdateClaimsInBulk() throws Exception {
+
+        ClaimDialectDAO claimDialectDAO = new ClaimDialectDAO();
+        LocalClaimDAO localClaimDAO = new LocalClaimDAO();
+        ExternalClaimDAO externalClaimDAO = new ExternalClaimDAO();
+
+        claimDialectDAO.addClaimDialect(new ClaimDialect(ClaimConstants.LOCAL_CLAIM_DIALECT_URI), TENANT_ID);
+        localClaimDAO.addLocalClaim(localClaim1, TENANT_ID);
+
+        List<LocalClaim> localClaims = new ArrayList<>();
+        localClaims.add(new LocalClaim(localClaim1.getClaimURI(), mappedAttributes2, claimProperties2));
+        localClaims.add(localClaim3);
+        ExternalClaim existingExternalClaim = new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "TestExternalClaimURI1",
+                localClaim1.getClaimURI());
+        List<ExternalClaim> externalClaims = new ArrayList<>();
+        externalClaims.add(new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "TestExternalClaimURI1",
+                localClaim3.getClaimURI(), claimProperties1));
+        externalClaims.add(new ExternalClaim(EXTERNAL_CLAIM_DIALECT_URI, "TestExternalClaimURI2",
+                localClaim1.getClaimURI()));
+
+        List<ClaimDialect> claimDialects = new ArrayList<>();
+        claimDialects.add(new ClaimDialect(EXTERNAL_CLAIM_DIALECT_URI));
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            claimDialectDAO.addClaimDialects(connection, claimDialects, TENANT_ID);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+        externalClaimDAO.addExternalClaim(existingExternalClaim, TENANT_ID);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            localClaimDAO.addOrUpdateLocalClaims(connection, localClaims, TENANT_ID);
+            externalClaimDAO.addOrUpdateExternalClaims(connection, externalClaims, TENANT_ID);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        }
+
+        Map<String, LocalClaim> storedLocalClaims = new HashMap<>();
+        for (LocalClaim localClaim : localClaimDAO.getLocalClaims(TENANT_ID)) {
+            storedLocalClaims.put(localClaim.getClaimURI(), localClaim);
+        }
+        assertEquals(storedLocalClaims.size(), 2);
+        assertEquals(storedLocalClaims.get(localClaim1.getClaimURI()).getMappedAttributes().size(), 1);
+        assertEquals(storedLocalClaims.get(localClaim1.getClaimURI()).getMappedAttributes().get(0).getAttributeName(),
+                attributeMapping2.getAttributeName());
+        assertEquals(storedLocalClaims.get(localClaim1.getClaimURI()).getClaimProperties(), claimProperties2);
+        assertEquals(storedLocalClaims.get(localClaim3.getClaimURI()).getClaimProperties(), claimProperties3);
+
+        Map<String, ExternalClaim> storedExternalClaims = new HashMap<>();
+        for (ExternalClaim externalClaim : externalClaimDAO.getExternalClaims(EXTERNAL_CLAIM_DIALECT_URI,
+                TENANT_ID)) {
+            storedExternalClaims.put(externalClaim.getClaimURI(), externalClaim);
+        }
+        assertEquals(storedExternalClaims.size(), 2);
+        assertEquals(storedExternalClaims.get("TestExternalClaimURI1").getMappedLocalClaim(),
+                localClaim3.getClaimURI());
+        assertEquals(storedExternalClaims.get("TestExternalClaimURI1").getClaimProperties(), claimProperties1);
+        assertEquals(storedExternalClaims.get("TestExternalClaimURI2").getMappedLocalClaim(),
+                localClaim1.getClaimURI());
+
+        claimDialectDAO.removeAllClaimDialects(TENANT_ID);
+    }
 }
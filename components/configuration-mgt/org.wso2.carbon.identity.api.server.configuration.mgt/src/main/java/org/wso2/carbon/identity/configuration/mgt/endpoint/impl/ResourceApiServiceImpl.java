@@ -34,7 +34,9 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_PATH;
@@ -42,6 +44,7 @@ import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.Configura
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getAttributeDTO;
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getAttributeFromDTO;
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getConfigurationManager;
+import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getCurrentRequest;
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getResourceAddFromDTO;
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.getResourceDTO;
 import static org.wso2.carbon.identity.configuration.mgt.endpoint.util.ConfigurationEndpointUtils.handleBadRequestResponse;
@@ -253,8 +256,18 @@ public class ResourceApiServiceImpl extends ResourceApiService {
             String resourceName) {
 
         try {
-            InputStream fileStream = getConfigurationManager().getFileById(resourceType,resourceName,fileId);
-            return Response.ok().type(MediaType.APPLICATION_OCTET_STREAM).entity(fileStream).build();
+            // File content never changes for a given file id, hence the id is a strong entity tag.
+            EntityTag entityTag = new EntityTag(fileId);
+            Request request = getCurrentRequest();
+            Response.ResponseBuilder notModifiedResponse =
+                    request != null ? request.evaluatePreconditions(entityTag) : null;
+            // The file is only read for a 200 response. A matching tag is confirmed with an existence check.
+            if (notModifiedResponse != null &&
+                    getConfigurationManager().isExistingFile(resourceType, resourceName, fileId)) {
+                return notModifiedResponse.build();
+            }
+            InputStream fileStream = getConfigurationManager().getFileById(resourceType, resourceName, fileId);
+            return Response.ok().type(MediaType.APPLICATION_OCTET_STREAM).tag(entityTag).entity(fileStream).build();
         } catch (ConfigurationManagementClientException e) {
             return handleBadRequestResponse(e, LOG);
         } catch (ConfigurationManagementException e) {
@@ -21,6 +21,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
+import org.apache.cxf.jaxrs.impl.RequestImpl;
 import org.apache.cxf.jaxrs.impl.UriInfoImpl;
 import org.apache.cxf.message.Message;
 import org.apache.cxf.phase.PhaseInterceptorChain;
@@ -67,6 +68,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -531,4 +533,19 @@ public class ConfigurationEndpointUtils {
         }
         return loc;
     }
+
+    /**
+     * Get the JAX-RS request of the current invocation, e.g. to evaluate its preconditions. The generated API does not
+     * pass the request to the service implementation, hence it is built from the current CXF message.
+     *
+     * @return Current request, or null if there is no request in progress.
+     */
+    public static Request getCurrentRequest() {
+
+        Message currentMessage = PhaseInterceptorChain.getCurrentMessage();
+        if (currentMessage == null) {
+            return null;
+        }
+        return new RequestImpl(currentMessage.getExchange().getInMessage());
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.identity.configuration.mgt.core;
 
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.NotImplementedException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
@@ -27,6 +28,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceTypeAdd;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 
@@ -321,6 +323,27 @@ public interface ConfigurationManager {
     InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to check whether the given file exists, without reading its content.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id representing the file.
+     * @return true if the file exists.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default boolean isExistingFile(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        try (InputStream fileStream = getFileById(resourceType, resourceName, fileId)) {
+            return fileStream != null;
+        } catch (ConfigurationManagementClientException e) {
+            return false;
+        } catch (IOException e) {
+            throw new ConfigurationManagementException("Error while closing the file: " + fileId, null, e);
+        }
+    }
+
     /**
      * This API is used to delete the given file.
      *
@@ -1065,6 +1065,14 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return fileStream;
     }
 
+    @Override
+    public boolean isExistingFile(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        validateRequest(resourceType, resourceName, fileId);
+        return isFileExists(resourceType, resourceName, fileId);
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
@@ -1133,20 +1141,7 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
     private boolean isFileExists(String resourceTypeName, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        try {
-            getFileById(resourceTypeName, resourceName, fileId);
-        } catch (ConfigurationManagementClientException e) {
-            if (isFileNotExistsError(e)) {
-                return false;
-            }
-            throw e;
-        }
-        return true;
-    }
-
-    private boolean isFileNotExistsError(ConfigurationManagementClientException e) {
-
-        return ERROR_CODE_FILE_DOES_NOT_EXISTS.getCode().equals(e.getErrorCode());
+        return getConfigurationDAO().isExistingFile(resourceTypeName, resourceName, fileId);
     }
 
     @Override
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, node local on-disk cache for frequently read configuration resource files.
+ * <p>
+ * A file id is never reused for different content, so a cached copy stays valid for as long as the file exists.
+ * Callers must confirm the file still exists in the database before serving a cached copy, which keeps the cache
+ * consistent across the cluster without a distributed invalidation. The cache is disabled by default.
+ */
+public class ResourceFileDiskCache {
+
+    private static final Log log = LogFactory.getLog(ResourceFileDiskCache.class);
+
+    private static final String ENABLE_CONFIG = "ConfigurationStore.FileCache.Enable";
+    private static final String MAX_SIZE_CONFIG = "ConfigurationStore.FileCache.MaxSizeInMB";
+    private static final String MAX_FILE_SIZE_CONFIG = "ConfigurationStore.FileCache.MaxFileSizeInKB";
+    private static final long DEFAULT_MAX_SIZE_IN_MB = 100;
+    private static final long DEFAULT_MAX_FILE_SIZE_IN_KB = 5120;
+    private static final String FILE_DIRECTORY_NAME = "config-mgt-files";
+    private static final String TMP_DIRECTORY_NAME = "tmp";
+
+    private static volatile ResourceFileDiskCache instance;
+
+    private final boolean enabled;
+    private final long maxSizeInBytes;
+    private final long maxFileSizeInBytes;
+    private final Map<String, CachedFile> cachedFiles = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedSizeInBytes;
+
+    ResourceFileDiskCache(boolean enabled, long maxSizeInBytes, long maxFileSizeInBytes) {
+
+        this.enabled = enabled;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.maxFileSizeInBytes = Math.min(maxFileSizeInBytes, maxSizeInBytes);
+    }
+
+    public static ResourceFileDiskCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceFileDiskCache.class) {
+                if (instance == null) {
+                    instance = new ResourceFileDiskCache(Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_CONFIG)),
+                            getSizeConfig(MAX_SIZE_CONFIG, DEFAULT_MAX_SIZE_IN_MB) * 1024 * 1024,
+                            getSizeConfig(MAX_FILE_SIZE_CONFIG, DEFAULT_MAX_FILE_SIZE_IN_KB) * 1024);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Whether the file cache is enabled.
+     *
+     * @return true if files should be served through this cache.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Open the cached copy of a file.
+     *
+     * @param fileId Id of the file.
+     * @return Stream over the cached copy, or null if the file is not cached.
+     */
+    public InputStream get(String fileId) {
+
+        CachedFile cachedFile;
+        synchronized (this) {
+            cachedFile = cachedFiles.get(fileId);
+        }
+        if (cachedFile == null) {
+            return null;
+        }
+        try {
+            return Files.newInputStream(cachedFile.path);
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cached copy of the file: " + fileId + " is not readable. Removing it from the cache.", e);
+            }
+            remove(fileId);
+            return null;
+        }
+    }
+
+    /**
+     * Wrap a stream read from the database so that the file is copied to the cache while the caller consumes it.
+     * The copy is added to the cache only if the caller reads the stream to the end and the file is within the
+     * configured file size limit.
+     *
+     * @param fileId     Id of the file.
+     * @param fileStream Stream read from the database.
+     * @return Stream to be handed over to the caller.
+     */
+    public InputStream cacheWhileReading(String fileId, InputStream fileStream) {
+
+        try {
+            Path tempFile = Files.createTempFile(getFileDirectory(), null, null);
+            return new CachingInputStream(fileId, fileStream, tempFile);
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to create a cache entry for the file: " + fileId, e);
+            }
+            return fileStream;
+        }
+    }
+
+    /**
+     * Remove the cached copy of a file.
+     *
+     * @param fileId Id of the file.
+     */
+    public void remove(String fileId) {
+
+        CachedFile cachedFile;
+        synchronized (this) {
+            cachedFile = cachedFiles.remove(fileId);
+            if (cachedFile != null) {
+                cachedSizeInBytes -= cachedFile.size;
+            }
+        }
+        if (cachedFile != null) {
+            deleteQuietly(cachedFile.path);
+        }
+    }
+
+    private void put(String fileId, Path path, long size) {
+
+        Map<String, Path> evictedFiles = new LinkedHashMap<>();
+        synchronized (this) {
+            if (cachedFiles.containsKey(fileId)) {
+                evictedFiles.put(fileId, path);
+            } else {
+                cachedFiles.put(fileId, new CachedFile(path, size));
+                cachedSizeInBytes += size;
+                Iterator<Map.Entry<String, CachedFile>> iterator = cachedFiles.entrySet().iterator();
+                while (cachedSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+                    Map.Entry<String, CachedFile> eldest = iterator.next();
+                    iterator.remove();
+                    cachedSizeInBytes -= eldest.getValue().size;
+                    evictedFiles.put(eldest.getKey(), eldest.getValue().path);
+                }
+            }
+        }
+        evictedFiles.values().forEach(ResourceFileDiskCache::deleteQuietly);
+    }
+
+    /**
+     * Get the node local directory which holds cached and temporary copies of resource files. The directory is
+     * created if it does not exist.
+     *
+     * @return Path of the directory.
+     * @throws IOException If the directory could not be created.
+     */
+    public static Path getFileDirectory() throws IOException {
+
+        return Files.createDirectories(resolveFileDirectory());
+    }
+
+    /**
+     * Delete the files left in the file directory by a previous run of the server. Cache entries are not persisted
+     * across restarts, so these files are never served.
+     */
+    public static void purgeFileDirectory() {
+
+        Path fileDirectory = resolveFileDirectory();
+        if (!Files.isDirectory(fileDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(fileDirectory)) {
+            files.forEach(ResourceFileDiskCache::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Unable to purge the configuration file directory: " + fileDirectory, e);
+        }
+    }
+
+    private static Path resolveFileDirectory() {
+
+        String carbonHome = CarbonUtils.getCarbonHome();
+        if (StringUtils.isBlank(carbonHome)) {
+            return Paths.get(System.getProperty("java.io.tmpdir"), FILE_DIRECTORY_NAME);
+        }
+        return Paths.get(carbonHome, TMP_DIRECTORY_NAME, FILE_DIRECTORY_NAME);
+    }
+
+    private static long getSizeConfig(String configName, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(configName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + configName + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to delete the cached file: " + path, e);
+            }
+        }
+    }
+
+    private static class CachedFile {
+
+        private final Path path;
+        private final long size;
+
+        private CachedFile(Path path, long size) {
+
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Copies the bytes read by the caller to a temporary file and adds it to the cache at the end of the stream.
+     */
+    private class CachingInputStream extends FilterInputStream {
+
+        private final String fileId;
+        private final Path tempFile;
+        private OutputStream copy;
+        private long size;
+
+        private CachingInputStream(String fileId, InputStream fileStream, Path tempFile) throws IOException {
+
+            super(fileStream);
+            this.fileId = fileId;
+            this.tempFile = tempFile;
+            this.copy = Files.newOutputStream(tempFile);
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            int value = super.read();
+            if (value == -1) {
+                complete();
+            } else {
+                copy(new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+
+            int count = super.read(buffer, offset, length);
+            if (count == -1) {
+                complete();
+            } else {
+                copy(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+
+            // Skipped bytes would leave a gap in the copy.
+            abandon();
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            try {
+                super.close();
+            } finally {
+                abandon();
+            }
+        }
+
+        private void copy(byte[] buffer, int offset, int count) {
+
+            if (copy == null) {
+                return;
+            }
+            size += count;
+            if (size > maxFileSizeInBytes) {
+                abandon();
+                return;
+            }
+            try {
+                copy.write(buffer, offset, count);
+            } catch (IOException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to write the cached copy of the file: " + fileId, e);
+                }
+                abandon();
+            }
+        }
+
+        private void complete() {
+
+            if (copy == null) {
+                return;
+            }
+            try {
+                copy.close();
+                copy = null;
+                put(fileId, tempFile, size);
+            } catch (IOException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to write the cached copy of the file: " + fileId, e);
+                }
+                abandon();
+            }
+        }
+
+        private void abandon() {
+
+            if (copy == null) {
+                return;
+            }
+            try {
+                copy.close();
+            } catch (IOException e) {
+                // The partial copy is discarded below.
+            }
+            copy = null;
+            deleteQuietly(tempFile);
+        }
+    }
+}
@@ -404,6 +404,7 @@ public class SQLConstants {
             "  T.NAME AS RESOURCE_TYPE,\n" +
             "  T.DESCRIPTION AS DESCRIPTION,\n" +
             "  F.ID AS FILE_ID,\n" +
+            "  F.NAME AS FILE_NAME,\n" +
             "  A.ID AS ATTR_ID,\n" +
             "  A.ATTR_KEY AS ATTR_KEY,\n" +
             "  A.ATTR_VALUE AS ATTR_VALUE\n" +
@@ -427,6 +428,7 @@ public class SQLConstants {
             "   T.NAME  RESOURCE_TYPE," +
             "   T.DESCRIPTION  DESCRIPTION," +
             "   F.ID  FILE_ID," +
+            "   F.NAME  FILE_NAME," +
             "   A.ID  ATTR_ID," +
             "   A.ATTR_KEY  ATTR_KEY," +
             "   A.ATTR_VALUE  ATTR_VALUE " +
@@ -449,6 +451,7 @@ public class SQLConstants {
             "  T.NAME AS RESOURCE_TYPE,\n" +
             "  T.DESCRIPTION AS DESCRIPTION,\n" +
             "  F.ID AS FILE_ID,\n" +
+            "  F.NAME AS FILE_NAME,\n" +
             "  A.ID AS ATTR_ID,\n" +
             "  A.ATTR_KEY AS ATTR_KEY,\n" +
             "  A.ATTR_VALUE AS ATTR_VALUE\n" +
@@ -496,6 +499,10 @@ public class SQLConstants {
             + "IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE ON "
             + "IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
             + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
+    public static final String GET_FILE_EXISTENCE_BY_ID_SQL = "SELECT IDN_CONFIG_FILE.ID FROM IDN_CONFIG_FILE "
+            + "INNER JOIN IDN_CONFIG_RESOURCE ON IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN "
+            + "IDN_CONFIG_TYPE ON IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
+            + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
     public static final String GET_FILES_BY_RESOURCE_ID_SQL = "SELECT\n" +
             "  ID,\n" +
             "  NAME\n" +
@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 
@@ -240,6 +241,25 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Check whether a file exists without reading its content.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @return true if the file exists.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default boolean isExistingFile(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        try (InputStream fileStream = getFileById(resourceType, resourceName, fileId)) {
+            return fileStream != null;
+        } catch (IOException e) {
+            throw new ConfigurationManagementException("Error while closing the file: " + fileId, null, e);
+        }
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
@@ -233,7 +234,34 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     public InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        ResourceFileDiskCache fileCache = ResourceFileDiskCache.getInstance();
+        if (!fileCache.isEnabled()) {
+            return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        }
+        // Cached copies are served only for files which still exist, as deletions on other nodes are not propagated.
+        if (!configurationDAO.isExistingFile(resourceType, resourceName, fileId)) {
+            fileCache.remove(fileId);
+            return null;
+        }
+        InputStream fileStream = fileCache.get(fileId);
+        if (fileStream != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource file. File id: " + fileId);
+            }
+            return fileStream;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource file. File id: " + fileId);
+        }
+        fileStream = configurationDAO.getFileById(resourceType, resourceName, fileId);
+        return fileStream != null ? fileCache.cacheWhileReading(fileId, fileStream) : null;
+    }
+
+    @Override
+    public boolean isExistingFile(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.isExistingFile(resourceType, resourceName, fileId);
     }
 
     @Override
@@ -255,6 +283,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteFileById(resourceType, resourceName, fileId);
+        ResourceFileDiskCache.getInstance().remove(fileId);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.Template;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
@@ -35,29 +36,34 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceSearchBean;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.configuration.mgt.core.search.ComplexCondition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.PlaceholderSQL;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
 import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveConditionValidator;
 import org.wso2.carbon.identity.configuration.mgt.core.search.exception.PrimitiveConditionValidationException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.sql.Blob;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.time.ZoneOffset.UTC;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
@@ -234,6 +240,8 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
     private static final Log log = LogFactory.getLog(ConfigurationDAOImpl.class);
     private static final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(UTC));
+    private static final int MAX_CACHED_SEARCH_QUERY_SHAPES = 100;
+    private static final Map<String, String> searchQueriesByShape = new ConcurrentHashMap<>();
 
     /**
      * {@inheritDoc}
@@ -250,41 +258,27 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
     @Override
     public Resources getTenantResources(Condition condition) throws ConfigurationManagementException {
 
-        PlaceholderSQL placeholderSQL = buildPlaceholderSQL(condition, useCreatedTimeField());
-        if (placeholderSQL.getQuery().getBytes().length > getMaximumQueryLengthInBytes()) {
-            if (log.isDebugEnabled()) {
-                log.debug("Error building SQL query for the search. Search expression " +
-                        "query length: " + placeholderSQL.getQuery().length() + " exceeds the maximum limit: " +
-                        MAX_QUERY_LENGTH_IN_BYTES_SQL);
-            }
-            throw handleClientException(ERROR_CODE_QUERY_LENGTH_EXCEEDED, null);
-        }
+        boolean useCreatedTime = useCreatedTimeField();
+        PlaceholderSQL placeholderSQL = buildPlaceholderSQL(condition, useCreatedTime);
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
-        List<ConfigurationRawDataCollector> configurationRawDataCollectors;
+        TenantResourcesCollector tenantResourcesCollector = new TenantResourcesCollector();
         try {
-            configurationRawDataCollectors = jdbcTemplate.executeQuery(placeholderSQL.getQuery(),
+            // Rows are grouped into resources as they are read, instead of collecting the raw rows first.
+            jdbcTemplate.executeQuery(placeholderSQL.getQuery(),
                     (resultSet, rowNumber) -> {
-                        ConfigurationRawDataCollector.ConfigurationRawDataCollectorBuilder
-                                configurationRawDataCollectorBuilder =
-                                new ConfigurationRawDataCollector.ConfigurationRawDataCollectorBuilder()
-                                        .setResourceId(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID))
-                                        .setTenantId(resultSet.getInt(DB_SCHEMA_COLUMN_NAME_TENANT_ID))
-                                        .setResourceName(resultSet.getString(DB_SCHEMA_COLUMN_NAME_NAME))
-                                        .setLastModified(resultSet.getTimestamp(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED,
-                                                calendar))
-                                        .setResourceTypeName(resultSet.getString(DB_SCHEMA_COLUMN_NAME_RESOURCE_TYPE))
-                                        .setResourceTypeDescription(resultSet.getString
-                                                (DB_SCHEMA_COLUMN_NAME_DESCRIPTTION))
-                                        .setAttributeKey(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_KEY))
-                                        .setAttributeValue(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_VALUE))
-                                        .setAttributeId(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_ID))
-                                        .setFileId(resultSet.getString(DB_SCHEMA_COLUMN_NAME_FILE_ID));
-                        if (useCreatedTimeField()) {
-                            configurationRawDataCollectorBuilder
-                                    .setCreatedTime(resultSet.getTimestamp(DB_SCHEMA_COLUMN_NAME_CREATED_TIME,
-                                            calendar));
-                        }
-                        return configurationRawDataCollectorBuilder.build();
+                        tenantResourcesCollector.addRow(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID),
+                                resultSet.getInt(DB_SCHEMA_COLUMN_NAME_TENANT_ID),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_NAME),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_RESOURCE_TYPE),
+                                useCreatedTime ?
+                                        resultSet.getTimestamp(DB_SCHEMA_COLUMN_NAME_CREATED_TIME, calendar) : null,
+                                resultSet.getTimestamp(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED, calendar),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_ID),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_KEY),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_VALUE),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_FILE_ID),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_FILE_NAME));
+                        return null;
                     }, preparedStatement -> {
                         for (int count = 0; count < placeholderSQL.getData().size(); count++) {
                             if (placeholderSQL.getData().get(count).getClass().equals(Integer.class)) {
@@ -300,12 +294,7 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
                             }
                         }
                     });
-            /*
-            Database call can contain duplicate data for some columns. Need to filter them in order to build the
-            resource.
-            */
-            return configurationRawDataCollectors == null || configurationRawDataCollectors.size() == 0 ?
-                    null : buildResourcesFromRawData(configurationRawDataCollectors);
+            return tenantResourcesCollector.getResources();
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_SEARCH_TENANT_RESOURCES, null, e);
         }
@@ -1173,91 +1162,120 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
         String queryWithCreatedTime = GET_TENANT_RESOURCES_SELECT_COLUMNS_MYSQL;
         String queryWithOutCreatedTime = GET_TENANT_RESOURCES_SELECT_COLUMNS_MYSQL_WITHOUT_CREATED_TIME;
+        boolean isOracleOrMssql;
 
         try {
-            if (isOracleDB() || isMSSqlDB()) {
+            isOracleOrMssql = isOracleDB() || isMSSqlDB();
+            if (isOracleOrMssql) {
                 queryWithCreatedTime = GET_TENANT_RESOURCES_SELECT_COLUMNS_MSSQL_OR_ORACLE;
             }
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_CHECK_DB_METADATA, e.getMessage(), e);
         }
 
-        StringBuilder sb = new StringBuilder();
-
-        sb.append(
-                useCreatedTime ? queryWithCreatedTime : queryWithOutCreatedTime);
-        sb.append("WHERE\n");
+        /*
+        Condition values are always bound as parameters, hence the structure of the condition tree identifies the
+        query. The shape is taken before the conditions are validated, as the validation maps the conditions in place.
+         */
+        String conditionShape = buildConditionShape(condition);
+        String queryShape = conditionShape == null ? null :
+                (useCreatedTime && isOracleOrMssql ? "O" : "M") + (useCreatedTime ? "C" : "N") + conditionShape;
+        String cachedQuery = queryShape == null ? null : searchQueriesByShape.get(queryShape);
+
+        PrimitiveConditionValidator primitiveConditionValidator =
+                new PrimitiveConditionValidator(new ResourceSearchBean());
+        PlaceholderSQL placeholderSQL;
         try {
-            PlaceholderSQL placeholderSQL = condition.buildQuery(
-                    new PrimitiveConditionValidator(new ResourceSearchBean())
-            );
-            placeholderSQL.setQuery(
-                    sb.append(placeholderSQL.getQuery()).toString()
-            );
-            return placeholderSQL;
+            if (cachedQuery != null) {
+                ArrayList<Object> data = new ArrayList<>();
+                collectConditionData(condition, primitiveConditionValidator, data);
+                placeholderSQL = new PlaceholderSQL();
+                placeholderSQL.setQuery(cachedQuery);
+                placeholderSQL.setData(data);
+                return placeholderSQL;
+            }
+            placeholderSQL = condition.buildQuery(primitiveConditionValidator);
         } catch (PrimitiveConditionValidationException e) {
             throw handleClientException(
                     ERROR_CODE_SEARCH_QUERY_SQL_PROPERTY_PARSE_ERROR, e.getMessage(), e);
         }
-    }
 
-    private Resources buildResourcesFromRawData(List<ConfigurationRawDataCollector> configurationRawDataCollectors) {
-
-        Map<String, Resource> resourcesCollector = new HashMap<>();
-        Map<String, List<Attribute>> attributes = new HashMap<>(0); // attribute list pet resource
-        Map<String, List<ResourceFile>> resourceFiles = new HashMap<>(0); // file list pet resource
-        Map<String, List<String>> attributeKeySet = new HashMap<>();
-        Map<String, List<String>> resourceFileIdSet = new HashMap<>();
+        String query = (useCreatedTime ? queryWithCreatedTime : queryWithOutCreatedTime) + "WHERE\n"
+                + placeholderSQL.getQuery();
+        if (query.getBytes().length > getMaximumQueryLengthInBytes()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error building SQL query for the search. Search expression " +
+                        "query length: " + query.length() + " exceeds the maximum limit: " +
+                        MAX_QUERY_LENGTH_IN_BYTES_SQL);
+            }
+            throw handleClientException(ERROR_CODE_QUERY_LENGTH_EXCEEDED, null);
+        }
+        // Once the cache is full, queries of new shapes are built per search.
+        if (queryShape != null && searchQueriesByShape.size() < MAX_CACHED_SEARCH_QUERY_SHAPES) {
+            searchQueriesByShape.putIfAbsent(queryShape, query);
+        }
+        placeholderSQL.setQuery(query);
+        return placeholderSQL;
+    }
 
-        configurationRawDataCollectors.forEach(configurationRawDataCollector -> {
-            String eachResourceId = configurationRawDataCollector.getResourceId();
-            if (resourcesCollector.get(eachResourceId) == null) {
-                Resource resource = new Resource();
-                resource.setResourceId(configurationRawDataCollector.getResourceId());
-                resource.setResourceName(configurationRawDataCollector.getResourceName());
-                resource.setResourceType(configurationRawDataCollector.getResourceTypeName());
-                resource.setHasFile(configurationRawDataCollector.isHasFile());
-                resource.setHasAttribute(configurationRawDataCollector.isHasAttribute());
-                if (configurationRawDataCollector.getCreatedTime() != null) {
-                    resource.setCreatedTime(configurationRawDataCollector.getCreatedTime().toInstant().toString());
-                }
-                resource.setLastModified(configurationRawDataCollector.getLastModified().toInstant().toString());
-                resource.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(configurationRawDataCollector.getTenantId())
-                );
+    /**
+     * Build a key for the structure of the given condition tree, which is the operators and the properties of the
+     * conditions without their values.
+     *
+     * @param condition Search condition.
+     * @return Shape of the condition, or null if the condition tree contains an unknown condition type.
+     */
+    private String buildConditionShape(Condition condition) {
 
-                // Initialize collectors for the resource
-                attributes.put(eachResourceId, new ArrayList<>());
-                attributeKeySet.put(eachResourceId, new ArrayList<>());
-                resourceFiles.put(eachResourceId, new ArrayList<>());
-                resourceFileIdSet.put(eachResourceId, new ArrayList<>());
+        StringBuilder shape = new StringBuilder();
+        return appendConditionShape(condition, shape) ? shape.toString() : null;
+    }
 
-                resourcesCollector.put(eachResourceId, resource);
-            }
+    private boolean appendConditionShape(Condition condition, StringBuilder shape) {
 
-            if (!attributeKeySet.get(eachResourceId).contains(configurationRawDataCollector.getAttributeKey())) {
-                attributeKeySet.get(eachResourceId).add(configurationRawDataCollector.getAttributeKey());
-                if (configurationRawDataCollector.getAttributeKey() != null) {
-                    attributes.get(eachResourceId).add(new Attribute(
-                            configurationRawDataCollector.getAttributeKey(),
-                            configurationRawDataCollector.getAttributeValue(),
-                            configurationRawDataCollector.getAttributeId()
-                    ));
+        if (condition instanceof PrimitiveCondition) {
+            PrimitiveCondition primitiveCondition = (PrimitiveCondition) condition;
+            shape.append(primitiveCondition.getProperty()).append(' ').append(primitiveCondition.getOperator());
+            return true;
+        }
+        if (!(condition instanceof ComplexCondition)) {
+            return false;
+        }
+        ComplexCondition complexCondition = (ComplexCondition) condition;
+        shape.append(complexCondition.getOperator()).append('(');
+        if (complexCondition.getConditions() != null) {
+            boolean first = true;
+            for (Condition subCondition : complexCondition.getConditions()) {
+                if (!first) {
+                    shape.append(',');
                 }
-            }
-            if (!resourceFileIdSet.get(eachResourceId).contains(configurationRawDataCollector.getFileId())) {
-                resourceFileIdSet.get(eachResourceId).add(configurationRawDataCollector.getFileId());
-                if (configurationRawDataCollector.getFileId() != null) {
-                    resourceFiles.get(eachResourceId).add(new ResourceFile(configurationRawDataCollector.getFileId(),
-                            configurationRawDataCollector.getFileName()));
+                first = false;
+                if (!appendConditionShape(subCondition, shape)) {
+                    return false;
                 }
             }
-        });
-        resourcesCollector.values().forEach(resource -> {
-            resource.setAttributes(attributes.get(resource.getResourceId()));
-            resource.setFiles(resourceFiles.get(resource.getResourceId()));
-        });
-        return new Resources(new ArrayList<>(resourcesCollector.values()));
+        }
+        shape.append(')');
+        return true;
+    }
+
+    /**
+     * Validate the primitive conditions of the given condition tree and collect their values in the order of the
+     * placeholders of the query built by {@link Condition#buildQuery(PrimitiveConditionValidator)}.
+     */
+    private void collectConditionData(Condition condition, PrimitiveConditionValidator primitiveConditionValidator,
+                                      List<Object> data) throws PrimitiveConditionValidationException {
+
+        if (condition instanceof PrimitiveCondition) {
+            data.add(primitiveConditionValidator.validate((PrimitiveCondition) condition).getValue());
+            return;
+        }
+        List<Condition> subConditions = ((ComplexCondition) condition).getConditions();
+        if (subConditions != null) {
+            for (Condition subCondition : subConditions) {
+                collectConditionData(subCondition, primitiveConditionValidator, data);
+            }
+        }
     }
 
     private Resource buildResourceFromRawData(List<ConfigurationRawDataCollector> configurationRawDataCollectors) {
@@ -1441,20 +1459,38 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
     @Override
     public InputStream getFileById(String resourceType, String resourceName, String fileId) throws ConfigurationManagementException {
 
+        /*
+         The file value is copied before returning, so the connection is not held while the caller reads the file.
+         Large files are copied to a temporary file rather than to memory.
+         */
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement preparedStatement = connection.prepareStatement(getFileGetByIdSQL())) {
+            setPreparedStatementForFileGetById(resourceType, resourceName, fileId, preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                try (InputStream fileValue = resultSet.getBinaryStream(DB_SCHEMA_COLUMN_NAME_VALUE)) {
+                    return fileValue == null ? null : FileValueSpool.copyOf(fileValue);
+                }
+            }
+        } catch (DataAccessException | SQLException | IOException | IdentityRuntimeException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
+    @Override
+    public boolean isExistingFile(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
         try {
-            if (isPostgreSQLDB()) {
-                return jdbcTemplate.withTransaction((template) ->
-                        template.fetchSingleRecord(getFileGetByIdSQL(), (resultSet, rowNumber) ->
-                                resultSet.getBinaryStream(DB_SCHEMA_COLUMN_NAME_VALUE), preparedStatement ->
-                        setPreparedStatementForFileGetById(resourceType, resourceName, fileId, preparedStatement)));
-            }
-            Blob fileBlob = jdbcTemplate.withTransaction((template) -> template.fetchSingleRecord(getFileGetByIdSQL(),
-                    (resultSet, rowNumber) -> resultSet.getBlob(DB_SCHEMA_COLUMN_NAME_VALUE), preparedStatement ->
+            String existingFileId = jdbcTemplate.fetchSingleRecord(SQLConstants.GET_FILE_EXISTENCE_BY_ID_SQL,
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID), preparedStatement ->
                             setPreparedStatementForFileGetById(resourceType, resourceName, fileId,
-                                    preparedStatement)));
-            return fileBlob != null ? fileBlob.getBinaryStream() : null;
-        } catch (TransactionException | DataAccessException | SQLException e) {
+                                    preparedStatement));
+            return existingFileId != null;
+        } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
         }
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups the rows of a tenant resource search into {@link Resource} objects as they are read from the result set.
+ * A resource is joined with both its attributes and files, hence the same attribute or file can appear in several
+ * rows and is added only once.
+ */
+class TenantResourcesCollector {
+
+    private final Map<String, ResourceEntry> resourceEntries = new LinkedHashMap<>();
+    private final Map<Integer, String> tenantDomains = new HashMap<>();
+
+    /**
+     * Add a search result row.
+     *
+     * @param resourceId       Id of the resource.
+     * @param tenantId         Tenant id of the resource.
+     * @param resourceName     Name of the resource.
+     * @param resourceTypeName Name of the resource type.
+     * @param createdTime      Created time of the resource, if available.
+     * @param lastModified     Last modified time of the resource.
+     * @param attributeId      Id of the joined attribute, if any.
+     * @param attributeKey     Key of the joined attribute, if any.
+     * @param attributeValue   Value of the joined attribute, if any.
+     * @param fileId           Id of the joined file, if any.
+     * @param fileName         Name of the joined file, if any.
+     */
+    void addRow(String resourceId, int tenantId, String resourceName, String resourceTypeName, Timestamp createdTime,
+                Timestamp lastModified, String attributeId, String attributeKey, String attributeValue,
+                String fileId, String fileName) {
+
+        ResourceEntry resourceEntry = resourceEntries.get(resourceId);
+        if (resourceEntry == null) {
+            Resource resource = new Resource();
+            resource.setResourceId(resourceId);
+            resource.setResourceName(resourceName);
+            resource.setResourceType(resourceTypeName);
+            resource.setHasFile(false);
+            resource.setHasAttribute(false);
+            if (createdTime != null) {
+                resource.setCreatedTime(createdTime.toInstant().toString());
+            }
+            resource.setLastModified(lastModified.toInstant().toString());
+            resource.setTenantDomain(tenantDomains.computeIfAbsent(tenantId, IdentityTenantUtil::getTenantDomain));
+            resource.setAttributes(new ArrayList<>());
+            resource.setFiles(new ArrayList<>());
+            resourceEntry = new ResourceEntry(resource);
+            resourceEntries.put(resourceId, resourceEntry);
+        }
+        if (attributeKey != null && resourceEntry.attributeKeys.add(attributeKey)) {
+            resourceEntry.resource.getAttributes().add(new Attribute(attributeKey, attributeValue, attributeId));
+        }
+        if (fileId != null && resourceEntry.fileIds.add(fileId)) {
+            resourceEntry.resource.getFiles().add(new ResourceFile(fileId, fileName));
+        }
+    }
+
+    /**
+     * Get the collected resources.
+     *
+     * @return Collected resources in the order they were first read, or null if no row was added.
+     */
+    Resources getResources() {
+
+        if (resourceEntries.isEmpty()) {
+            return null;
+        }
+        ArrayList<Resource> resources = new ArrayList<>(resourceEntries.size());
+        resourceEntries.values().forEach(resourceEntry -> resources.add(resourceEntry.resource));
+        return new Resources(resources);
+    }
+
+    private static class ResourceEntry {
+
+        private final Resource resource;
+        private final Set<String> attributeKeys = new HashSet<>();
+        private final Set<String> fileIds = new HashSet<>();
+
+        private ResourceEntry(Resource resource) {
+
+            this.resource = resource;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManagerImpl;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.impl.CachedBackedConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.impl.ConfigurationDAOImpl;
@@ -78,6 +79,8 @@ public class ConfigurationManagerComponent {
         try {
             BundleContext bundleContext = componentContext.getBundleContext();
 
+            // Cached resource files are node local and are not reused after a restart.
+            ResourceFileDiskCache.purgeFileDirectory();
             ConfigurationDAO configurationDAO = new ConfigurationDAOImpl();
             bundleContext.registerService(ConfigurationDAO.class.getName(), configurationDAO, null);
             bundleContext.registerService(ConfigurationDAO.class.getName(),
@@ -24,43 +24,60 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
-import org.wso2.carbon.database.utils.jdbc.ExecuteCallable;
-import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.QueryFilter;
 import org.wso2.carbon.database.utils.jdbc.RowMapper;
 import org.wso2.carbon.database.utils.jdbc.Template;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileDiskCache;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementServerException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.configuration.mgt.core.search.ComplexCondition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.sql.Blob;
-import java.sql.SQLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_SEARCH_BEAN_FIELD_RESOURCE_NAME;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_SEARCH_BEAN_FIELD_TENANT_DOMAIN;
 
 /**
  * Test class for ConfigurationDAOImpl.
@@ -76,6 +93,7 @@ public class ConfigurationDAOImplTest {
     private static final String RESOURCE_ID = "test-resource-id";
     private static final String RESOURCE_NAME = "test-resource-name";
     private static final String FILE_ID = "test-file-id";
+    private static final String FILE_NAME = "test-file-name";
     private static final String FILE_CONTENT = "This is a test file content.";
     private static final String TENANT_DOMAIN = "test-tenant-domain";
     private static final int TENANT_ID = 1;
@@ -115,7 +133,7 @@ public class ConfigurationDAOImplTest {
         resource.setResourceId(RESOURCE_ID);
         resource.setTenantDomain("test-tenant-domain");
         resource.setHasFile(true);
-        ResourceFile resourceFile = new ResourceFile(FILE_ID, "test-file-name");
+        ResourceFile resourceFile = new ResourceFile(FILE_ID, FILE_NAME);
         resourceFile.setInputStream(new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
         resource.setFiles(new ArrayList<ResourceFile>() {{
             add(resourceFile);
@@ -149,29 +167,81 @@ public class ConfigurationDAOImplTest {
         assertNull(dbResourceFile);
 
         // Test the exception scenarios.
-        try (MockedConstruction<Template> mockedConstruction = mockConstruction(Template.class, (mock, context) -> {
-            when(mock.fetchSingleRecord(anyString(), any(RowMapper.class), any(QueryFilter.class))).thenThrow(
-                    DataAccessException.class);
-        })) {
-            assertThrows(ConfigurationManagementServerException.class,
-                    () -> configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID));
-        }
         try (MockedStatic<JdbcUtils> mockedStatic = mockStatic(JdbcUtils.class, CALLS_REAL_METHODS)) {
-            mockedStatic.when(JdbcUtils::isPostgreSQLDB).thenThrow(DataAccessException.class);
+            mockedStatic.when(JdbcUtils::isH2DB).thenThrow(DataAccessException.class);
             assertThrows(ConfigurationManagementServerException.class,
                     () -> configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID));
         }
-        try (MockedStatic<JdbcUtils> mockedStatic = mockStatic(JdbcUtils.class, CALLS_REAL_METHODS)) {
-            Blob blob = mock(Blob.class);
-            when(blob.getBinaryStream()).thenThrow(SQLException.class);
-            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
-            mockedStatic.when(JdbcUtils::getNewTemplate).thenReturn(jdbcTemplate);
-            when(jdbcTemplate.withTransaction(any(ExecuteCallable.class))).thenReturn(blob);
+        try (MockedStatic<IdentityDatabaseUtil> mockedStatic = mockStatic(IdentityDatabaseUtil.class,
+                CALLS_REAL_METHODS)) {
+            mockedStatic.when(() -> IdentityDatabaseUtil.getDBConnection(false))
+                    .thenThrow(IdentityRuntimeException.class);
             assertThrows(ConfigurationManagementServerException.class,
                     () -> configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID));
         }
     }
 
+    @Test(description = "Test that the connection is released before the file is read",
+            dependsOnMethods = "testAddResource")
+    public void testGetFileByIdReleasesConnection() throws Exception {
+
+        Connection connection = spy(IdentityDatabaseUtil.getDataSource().getConnection());
+        try (MockedStatic<IdentityDatabaseUtil> mockedStatic = mockStatic(IdentityDatabaseUtil.class,
+                CALLS_REAL_METHODS)) {
+            mockedStatic.when(() -> IdentityDatabaseUtil.getDBConnection(false)).thenReturn(connection);
+
+            InputStream dbResourceFile = configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID);
+            verify(connection, times(1)).close();
+            String result = new BufferedReader(new InputStreamReader(dbResourceFile, StandardCharsets.UTF_8))
+                    .lines()
+                    .collect(Collectors.joining("\n"));
+            assertEquals(FILE_CONTENT, result);
+
+            // A missing file releases the connection as well.
+            assertNull(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, "wrong-id"));
+            verify(connection, times(2)).close();
+        }
+    }
+
+    @Test(description = "Test that large file values are copied to a temporary file")
+    public void testCopyLargeFileValue() throws Exception {
+
+        byte[] fileValue = new byte[FileValueSpool.IN_MEMORY_LIMIT_IN_BYTES * 2 + 1];
+        Arrays.fill(fileValue, (byte) 'a');
+        Path fileDirectory = ResourceFileDiskCache.getFileDirectory();
+        long filesBefore = countFiles(fileDirectory);
+
+        byte[] copiedValue;
+        try (InputStream copy = FileValueSpool.copyOf(new ByteArrayInputStream(fileValue))) {
+            assertEquals(filesBefore + 1, countFiles(fileDirectory));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = copy.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+            copiedValue = outputStream.toByteArray();
+        }
+        assertTrue(Arrays.equals(fileValue, copiedValue));
+        // The temporary copy is deleted once the stream is closed.
+        assertEquals(filesBefore, countFiles(fileDirectory));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test(description = "Test for isExistingFile method", dependsOnMethods = "testAddResource")
+    public void testIsExistingFile() throws Exception {
+
+        assertTrue(configurationDAO.isExistingFile(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID));
+        assertFalse(configurationDAO.isExistingFile(RESOURCE_TYPE_NAME, RESOURCE_NAME, "wrong-id"));
+        assertFalse(configurationDAO.isExistingFile(RESOURCE_TYPE_NAME, "wrong-resource-name", FILE_ID));
+    }
+
     @Test(description = "Test for getFiles method", dependsOnMethods = "testAddResource")
     public void testGetFiles() throws Exception {
 
@@ -190,8 +260,37 @@ public class ConfigurationDAOImplTest {
         }
     }
 
+    @Test(description = "Test for getTenantResources method", dependsOnMethods = "testAddResource")
+    public void testGetTenantResources() throws Exception {
+
+        Resources resources = configurationDAO.getTenantResources(buildTenantResourceCondition(RESOURCE_NAME));
+        assertEquals(1, resources.getResources().size());
+        Resource resource = resources.getResources().get(0);
+        assertEquals(RESOURCE_ID, resource.getResourceId());
+        assertEquals(TENANT_DOMAIN, resource.getTenantDomain());
+        assertEquals(1, resource.getFiles().size());
+        assertEquals(FILE_ID, resource.getFiles().get(0).getId());
+        assertEquals(FILE_NAME, resource.getFiles().get(0).getName());
+
+        // A search with the same shape but different values reuses the query and binds the new values.
+        assertNull(configurationDAO.getTenantResources(buildTenantResourceCondition("wrong-resource-name")));
+        assertEquals(1, configurationDAO.getTenantResources(buildTenantResourceCondition(RESOURCE_NAME))
+                .getResources().size());
+    }
+
+    private Condition buildTenantResourceCondition(String resourceName) {
+
+        // Conditions are mapped in place while a search validates them, hence new conditions for each search.
+        List<Condition> conditions = new ArrayList<>();
+        conditions.add(new PrimitiveCondition(RESOURCE_SEARCH_BEAN_FIELD_TENANT_DOMAIN,
+                ConditionType.PrimitiveOperator.EQUALS, TENANT_DOMAIN));
+        conditions.add(new PrimitiveCondition(RESOURCE_SEARCH_BEAN_FIELD_RESOURCE_NAME,
+                ConditionType.PrimitiveOperator.EQUALS, resourceName));
+        return new ComplexCondition(ConditionType.ComplexOperator.AND, conditions);
+    }
+
     @Test(description = "Test deleteResourceByName method", dependsOnMethods = {"testAddResource", "testGetFileById",
-            "testGetFiles"})
+            "testGetFiles", "testGetTenantResources"})
     public void testDeleteResourceByName() throws Exception {
 
         // Successfully delete a resource by its name.
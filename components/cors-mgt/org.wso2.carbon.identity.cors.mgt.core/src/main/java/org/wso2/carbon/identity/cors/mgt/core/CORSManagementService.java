@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceExc
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
 
 import java.util.List;
 
@@ -39,6 +40,19 @@ public interface CORSManagementService {
      */
     List<CORSOrigin> getTenantCORSOrigins(String tenantDomain) throws CORSManagementServiceException;
 
+    /**
+     * Check whether an origin is allowed by the CORS Origins belonging to a tenant.
+     *
+     * @param origin       The origin value as sent in the request.
+     * @param tenantDomain The tenant domain.
+     * @return {@code true} if the origin is configured for the tenant, else {@code false}.
+     * @throws CORSManagementServiceException
+     */
+    default boolean isCORSOriginAllowed(String origin, String tenantDomain) throws CORSManagementServiceException {
+
+        return new CORSOriginIndex(getTenantCORSOrigins(tenantDomain)).contains(origin);
+    }
+
     /**
      * Get all the CORS Origins belonging to an application.
      *
@@ -20,6 +20,7 @@ import org.apache.commons.lang.NotImplementedException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceServerException;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
 
 import java.util.List;
 
@@ -58,6 +59,19 @@ public interface CORSOriginDAO {
         throw new NotImplementedException();
     }
 
+    /**
+     * Get the lookup index of the CORS origins by tenant domain.
+     *
+     * @param tenantDomain The tenant domain.
+     * @return Lookup index of the CORS origins belonging to the tenant.
+     * @throws CORSManagementServiceServerException
+     */
+    default CORSOriginIndex getCORSOriginIndexByTenantDomain(String tenantDomain)
+            throws CORSManagementServiceServerException {
+
+        return new CORSOriginIndex(getCORSOriginsByTenantDomain(tenantDomain));
+    }
+
     /**
      * Get the CORS origins of a tenant that are associated with a specific application by application ID.
      *
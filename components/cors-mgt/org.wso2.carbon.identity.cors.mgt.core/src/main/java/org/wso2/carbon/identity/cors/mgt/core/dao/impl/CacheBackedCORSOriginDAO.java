@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCache;
 import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheEntry;
 import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheKey;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
 
 import java.util.Arrays;
 import java.util.List;
@@ -85,6 +86,27 @@ public class CacheBackedCORSOriginDAO extends CORSOriginDAOImpl {
         return getCORSOriginsByTenantId(tenantId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CORSOriginIndex getCORSOriginIndexByTenantDomain(String tenantDomain)
+            throws CORSManagementServiceServerException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        CORSOriginCacheKey cacheKey = new CORSOriginCacheKey(tenantId);
+        CORSOriginCacheEntry cacheEntry = CORSOriginCache.getInstance().getValueFromCache(cacheKey, tenantId);
+        if (cacheEntry == null || cacheEntry.getValidatedOrigins() == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache entry not found for cache key:" + tenantId + ". Building the origin index.");
+            }
+            List<CORSOrigin> corsOrigins = corsOriginDAO.getCORSOriginsByTenantId(tenantId);
+            cacheEntry = new CORSOriginCacheEntry(corsOrigins.toArray(new CORSOrigin[0]));
+            CORSOriginCache.getInstance().addToCache(cacheKey, cacheEntry, tenantId);
+        }
+        return cacheEntry.getOriginIndex();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,9 @@ package org.wso2.carbon.identity.cors.mgt.core.internal.cache;
 
 import org.wso2.carbon.identity.core.cache.CacheEntry;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
+
+import java.util.Arrays;
 
 /**
  * CORS origin container cache entry.
@@ -30,6 +33,8 @@ public class CORSOriginCacheEntry extends CacheEntry {
 
     private final CORSOrigin[] corsOrigins;
 
+    private transient volatile CORSOriginIndex originIndex;
+
     public CORSOriginCacheEntry(CORSOrigin[] corsOrigins) {
 
         this.corsOrigins = corsOrigins;
@@ -39,4 +44,20 @@ public class CORSOriginCacheEntry extends CacheEntry {
 
         return corsOrigins;
     }
+
+    /**
+     * Get the lookup index of the cached origins. The index is built on first access and shared by subsequent
+     * lookups until the entry is replaced by an origin update.
+     *
+     * @return Lookup index of the cached origins.
+     */
+    public CORSOriginIndex getOriginIndex() {
+
+        CORSOriginIndex index = originIndex;
+        if (index == null) {
+            index = new CORSOriginIndex(corsOrigins == null ? null : Arrays.asList(corsOrigins));
+            originIndex = index;
+        }
+        return index;
+    }
 }
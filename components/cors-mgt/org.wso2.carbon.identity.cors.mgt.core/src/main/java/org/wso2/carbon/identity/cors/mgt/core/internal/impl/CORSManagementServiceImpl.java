@@ -38,11 +38,13 @@ import org.wso2.carbon.identity.cors.mgt.core.internal.util.CORSConfigurationUti
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
 import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
@@ -93,6 +95,35 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         return Collections.unmodifiableList(corsOrigins);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCORSOriginAllowed(String origin, String tenantDomain) throws CORSManagementServiceException {
+
+        if (StringUtils.isBlank(origin)) {
+            return false;
+        }
+        Boolean allowed;
+        OrganizationManager organizationManager = CORSManagementServiceHolder.getInstance().getOrganizationManager();
+        try {
+            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            OrgResourceResolverService orgResourceManagementService =
+                    CORSManagementServiceHolder.getInstance().getOrgResourceResolverService();
+            allowed = orgResourceManagementService.getResourcesFromOrgHierarchy(
+                    organizationId,
+                    LambdaExceptionUtils.rethrowFunction(orgId -> isCorsOriginConfigured(origin, orgId)),
+                    new FirstFoundAggregationStrategy<>()
+            );
+        } catch (OrganizationManagementException | OrgResourceHierarchyTraverseException e) {
+            throw new CORSManagementServiceException(
+                    String.format(ERROR_CODE_CORS_CONFIG_RETRIEVE.getDescription(), tenantDomain),
+                    ERROR_CODE_CORS_CONFIG_RETRIEVE.getCode(), e);
+        }
+
+        return Boolean.TRUE.equals(allowed);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -327,6 +358,14 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         return Optional.ofNullable(corsOrigins);
     }
 
+    private Optional<Boolean> isCorsOriginConfigured(String origin, String orgId)
+            throws OrganizationManagementException, CORSManagementServiceServerException {
+
+        CORSOriginIndex originIndex = getCORSOriginDAO().getCORSOriginIndexByTenantDomain(
+                CORSManagementServiceHolder.getInstance().getOrganizationManager().resolveTenantDomain(orgId));
+        return originIndex.contains(origin) ? Optional.of(Boolean.TRUE) : Optional.empty();
+    }
+
     private List<CORSOrigin> mergeAndRemoveDuplicates(
             List<CORSOrigin> corsOrigins, List<CORSOrigin> newCorsOrigins) {
 
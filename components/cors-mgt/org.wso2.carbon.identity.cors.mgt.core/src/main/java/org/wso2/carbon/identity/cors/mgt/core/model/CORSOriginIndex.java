@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.cors.mgt.core.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An immutable lookup index over a set of CORS origins. Matching is done on the exact origin value, the same way
+ * {@link Origin#equals(Object)} compares origins, but in constant time regardless of the number of origins.
+ */
+public class CORSOriginIndex {
+
+    private final Set<String> origins;
+
+    /**
+     * Build an index over the given CORS origins.
+     *
+     * @param corsOrigins The CORS origins to be indexed.
+     */
+    public CORSOriginIndex(Collection<CORSOrigin> corsOrigins) {
+
+        Set<String> originValues = new HashSet<>();
+        if (corsOrigins != null) {
+            for (CORSOrigin corsOrigin : corsOrigins) {
+                if (corsOrigin != null && corsOrigin.getOrigin() != null) {
+                    originValues.add(corsOrigin.getOrigin());
+                }
+            }
+        }
+        this.origins = Collections.unmodifiableSet(originValues);
+    }
+
+    /**
+     * Check whether the given origin is present in the index.
+     *
+     * @param origin The origin value as sent in the request.
+     * @return {@code true} if the origin is indexed, else {@code false}.
+     */
+    public boolean contains(String origin) {
+
+        return StringUtils.isNotBlank(origin) && origins.contains(origin);
+    }
+
+    /**
+     * Get the number of indexed origins.
+     *
+     * @return Number of indexed origins.
+     */
+    public int size() {
+
+        return origins.size();
+    }
+}
@@ -36,12 +36,18 @@ import org.wso2.carbon.identity.cors.mgt.core.constant.TestConstants.SampleApp2;
 import org.wso2.carbon.identity.cors.mgt.core.constant.TestConstants.SampleTenant;
 import org.wso2.carbon.identity.cors.mgt.core.dao.CORSOriginDAO;
 import org.wso2.carbon.identity.cors.mgt.core.dao.impl.CORSOriginDAOImpl;
+import org.wso2.carbon.identity.cors.mgt.core.dao.impl.CacheBackedCORSOriginDAO;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.internal.CORSManagementServiceHolder;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginByAppIdCache;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCache;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheKey;
 import org.wso2.carbon.identity.cors.mgt.core.internal.impl.CORSManagementServiceImpl;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
 import org.wso2.carbon.identity.cors.mgt.core.util.CarbonUtils;
 import org.wso2.carbon.identity.cors.mgt.core.util.ConfigurationManagementUtils;
 import org.wso2.carbon.identity.cors.mgt.core.util.DatabaseUtils;
@@ -55,16 +61,25 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
@@ -440,4 +455,91 @@ public class CORSManagementServiceTests {
         expectedApplicationIds.add(SampleApp2.UUID);
         assertEquals(retrievedCORSOriginApplicationIds, expectedApplicationIds);
     }
+
+    @Test
+    public void testIsCORSOriginAllowed() throws Exception {
+
+        corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_1, SUPER_TENANT_DOMAIN_NAME);
+        mockOrganizationHierarchy(SUPER_TENANT_DOMAIN_NAME);
+
+        assertTrue(corsManagementService.isCORSOriginAllowed(SAMPLE_ORIGIN_LIST_1.get(0), SUPER_TENANT_DOMAIN_NAME));
+        assertFalse(corsManagementService.isCORSOriginAllowed(SAMPLE_ORIGIN_LIST_2.get(0), SUPER_TENANT_DOMAIN_NAME));
+    }
+
+    @Test
+    public void testIsCORSOriginAllowedFromParentOrganization() throws Exception {
+
+        corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_1, SUPER_TENANT_DOMAIN_NAME);
+        // The sample tenant has no origins of its own and is a child organization of the super tenant.
+        mockOrganizationHierarchy(SampleTenant.DOMAIN_NAME, SUPER_TENANT_DOMAIN_NAME);
+
+        assertTrue(corsManagementService.isCORSOriginAllowed(SAMPLE_ORIGIN_LIST_1.get(1), SampleTenant.DOMAIN_NAME));
+        assertFalse(corsManagementService.isCORSOriginAllowed(SAMPLE_ORIGIN_LIST_2.get(1), SampleTenant.DOMAIN_NAME));
+    }
+
+    @Test
+    public void testCORSOriginIndexRebuiltAfterSetCORSOrigins() throws Exception {
+
+        Map<CORSOriginCacheKey, CORSOriginCacheEntry> cacheEntries = new HashMap<>();
+        CORSOriginCache corsOriginCache = mock(CORSOriginCache.class);
+        when(corsOriginCache.getValueFromCache(any(CORSOriginCacheKey.class), anyInt()))
+                .thenAnswer(invocation -> cacheEntries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> cacheEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(corsOriginCache).addToCache(any(CORSOriginCacheKey.class), any(CORSOriginCacheEntry.class),
+                        anyInt());
+        doAnswer(invocation -> cacheEntries.remove(invocation.getArgument(0)))
+                .when(corsOriginCache).clearCacheEntry(any(CORSOriginCacheKey.class), anyInt());
+
+        try (MockedStatic<CORSOriginCache> corsOriginCacheStatic = mockStatic(CORSOriginCache.class);
+             MockedStatic<CORSOriginByAppIdCache> corsOriginByAppIdCache = mockStatic(CORSOriginByAppIdCache.class)) {
+            corsOriginCacheStatic.when(CORSOriginCache::getInstance).thenReturn(corsOriginCache);
+            corsOriginByAppIdCache.when(CORSOriginByAppIdCache::getInstance)
+                    .thenReturn(mock(CORSOriginByAppIdCache.class));
+            CacheBackedCORSOriginDAO cacheBackedCORSOriginDAO = new CacheBackedCORSOriginDAO(corsOriginDAO);
+            CORSManagementServiceHolder.getInstance().setCorsOriginDAO(cacheBackedCORSOriginDAO);
+
+            corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_1, SUPER_TENANT_DOMAIN_NAME);
+            CORSOriginIndex originIndex =
+                    cacheBackedCORSOriginDAO.getCORSOriginIndexByTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+            assertTrue(originIndex.contains(SAMPLE_ORIGIN_LIST_1.get(0)));
+            assertFalse(originIndex.contains(SAMPLE_ORIGIN_LIST_2.get(0)));
+            // The index is served from the cache while the origins are unchanged.
+            assertSame(cacheBackedCORSOriginDAO.getCORSOriginIndexByTenantDomain(SUPER_TENANT_DOMAIN_NAME),
+                    originIndex);
+
+            corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_2, SUPER_TENANT_DOMAIN_NAME);
+            CORSOriginIndex rebuiltOriginIndex =
+                    cacheBackedCORSOriginDAO.getCORSOriginIndexByTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+            assertNotSame(rebuiltOriginIndex, originIndex);
+            assertTrue(rebuiltOriginIndex.contains(SAMPLE_ORIGIN_LIST_2.get(0)));
+        }
+    }
+
+    /**
+     * Mock an organization hierarchy in which each tenant is a child organization of the next one. Resources are
+     * resolved from the first organization of the hierarchy which has them.
+     *
+     * @param tenantDomains Tenant domains of the organizations, starting from the child organization.
+     */
+    private void mockOrganizationHierarchy(String... tenantDomains) throws Exception {
+
+        OrganizationManager mockOrganizationManager = mock(OrganizationManager.class);
+        for (String tenantDomain : tenantDomains) {
+            when(mockOrganizationManager.resolveOrganizationId(tenantDomain)).thenReturn("org-" + tenantDomain);
+            when(mockOrganizationManager.resolveTenantDomain("org-" + tenantDomain)).thenReturn(tenantDomain);
+        }
+        CORSManagementServiceHolder.getInstance().setOrganizationManager(mockOrganizationManager);
+
+        when(orgResourceResolverService.getResourcesFromOrgHierarchy(anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Function<String, Optional<Object>> resourceRetriever = invocation.getArgument(1);
+                    for (String tenantDomain : tenantDomains) {
+                        Optional<Object> resource = resourceRetriever.apply("org-" + tenantDomain);
+                        if (resource.isPresent()) {
+                            return resource.get();
+                        }
+                    }
+                    return null;
+                });
+    }
 }
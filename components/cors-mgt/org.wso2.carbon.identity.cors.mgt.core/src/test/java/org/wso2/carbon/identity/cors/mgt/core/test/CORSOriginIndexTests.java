@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.cors.mgt.core.test;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOriginIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the CORS origin index.
+ */
+public class CORSOriginIndexTests {
+
+    @Test
+    public void testContains() {
+
+        CORSOriginIndex index = new CORSOriginIndex(Arrays.asList(
+                new CORSOrigin("1", "http://example.com"),
+                new CORSOrigin("2", "https://example.com:8443")));
+
+        assertEquals(index.size(), 2);
+        assertTrue(index.contains("http://example.com"));
+        assertTrue(index.contains("https://example.com:8443"));
+        assertFalse(index.contains("https://example.com"));
+        assertFalse(index.contains("HTTP://EXAMPLE.COM"));
+        assertFalse(index.contains(""));
+        assertFalse(index.contains(null));
+    }
+
+    @Test
+    public void testEmptyIndex() {
+
+        CORSOriginIndex index = new CORSOriginIndex(null);
+
+        assertEquals(index.size(), 0);
+        assertFalse(index.contains("http://example.com"));
+    }
+
+    @Test
+    public void testLargeIndex() {
+
+        List<CORSOrigin> corsOrigins = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            corsOrigins.add(new CORSOrigin(String.valueOf(i), "https://app" + i + ".example.com"));
+        }
+        CORSOriginIndex index = new CORSOriginIndex(corsOrigins);
+
+        assertEquals(index.size(), 10000);
+        assertTrue(index.contains("https://app0.example.com"));
+        assertTrue(index.contains("https://app9999.example.com"));
+        assertFalse(index.contains("https://app10000.example.com"));
+    }
+
+    @Test
+    public void testCacheEntryIndexIsReused() {
+
+        CORSOriginCacheEntry cacheEntry = new CORSOriginCacheEntry(
+                new CORSOrigin[]{new CORSOrigin("1", "http://example.com")});
+
+        CORSOriginIndex index = cacheEntry.getOriginIndex();
+        assertTrue(index.contains("http://example.com"));
+        assertSame(cacheEntry.getOriginIndex(), index);
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.core.cache;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.caching.impl.CacheImpl;
@@ -31,16 +32,30 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
 import javax.cache.CacheConfiguration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.Status;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
 
 /**
  * A base class for all cache implementations in Identity modules. This maintains  caches in the tenanted space.
  * A copy of this class is maintained at org.wso2.carbon.identity.organization.management.service.cache component.
+ * <p>
+ * When a local cache capacity is configured, a bounded on-heap {@link BoundedLocalCache} is kept per tenant in front
+ * of the cache. Reads served by the local tier do not start a tenant flow or look up the cache. The local tier is
+ * invalidated by the cache entry listener callbacks, which also fire for cluster invalidation messages. A key served
+ * by the local tier is read from the cache again every half of the cache timeout, so that the cache entry does not
+ * expire while the key is in use. The local tiers of a tenant are discarded when the tenant is unloaded.
  *
  * @param <K> cache key type.
  * @param <V> cache value type.
@@ -49,10 +64,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
     private static final Log log = LogFactory.getLog(BaseCache.class);
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
+    private static final int DEFAULT_LOCAL_CACHE_TIMEOUT_IN_SECONDS = 900;
+    private static final Set<BaseCache<?, ?>> LOCAL_TIER_CACHES = ConcurrentHashMap.newKeySet();
     private CacheBuilder<K, V> cacheBuilder;
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
     private final IdentityCacheConfig identityCacheConfig;
+    private final Map<Integer, TenantCache> tenantCaches = new ConcurrentHashMap<>();
 
     public BaseCache(String cacheName) {
 
@@ -149,9 +167,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.put(key, entry);
+                addToLocalCache(key, entry);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -173,9 +192,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.put(key, entry);
+                addToLocalCache(key, entry);
             }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
@@ -196,10 +216,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
+            invalidateLocalCache(key);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -219,10 +240,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.putIfNoDuplicate(key, entry);
             }
+            invalidateLocalCache(key);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -245,10 +267,14 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        if (isLocalCacheEnabled()) {
+            return getValueWithLocalCache(key, IdentityTenantUtil.getTenantId(tenantDomain));
+        }
+
         try {
             startTenantFlow(tenantDomain);
             Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
+            if (cache != null) {
                 return cache.get(key);
             }
             return null;
@@ -274,10 +300,14 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
+        if (isLocalCacheEnabled()) {
+            return getValueWithLocalCache(key, tenantId);
+        }
+
         try {
             startTenantFlow(tenantId);
             Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
+            if (cache != null) {
                 return cache.get(key);
             }
             return null;
@@ -300,10 +330,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.remove(key);
             }
+            invalidateLocalCache(key);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -323,10 +354,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.remove(key);
             }
+            invalidateLocalCache(key);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -345,10 +377,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.removeAll();
             }
+            clearLocalCache();
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -367,10 +400,11 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
 
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
+            Cache<K, V> cache = getCache();
             if (cache != null) {
                 cache.removeAll();
             }
+            clearLocalCache();
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -407,6 +441,120 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    /**
+     * Get the capacity of the local tier kept per tenant in front of the cache.
+     *
+     * @return Local cache capacity, or -1 if the local tier is not enabled for the cache.
+     */
+    public int getLocalCacheCapacity() {
+
+        if (identityCacheConfig != null && identityCacheConfig.getLocalCacheCapacity() > 0) {
+            return identityCacheConfig.getLocalCacheCapacity();
+        }
+        return -1;
+    }
+
+    public boolean isLocalCacheEnabled() {
+
+        return getLocalCacheCapacity() > 0;
+    }
+
+    /**
+     * Get the cache of the tenant of the current tenant flow. With the local tier enabled the cache is resolved once
+     * per tenant instead of on every call.
+     *
+     * @return Cache of the current tenant.
+     */
+    private Cache<K, V> getCache() {
+
+        if (!isLocalCacheEnabled()) {
+            return getBaseCache();
+        }
+        return getTenantCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId()).getCache();
+    }
+
+    private V getValueWithLocalCache(K key, int tenantId) {
+
+        TenantCache tenantCache = getTenantCache(tenantId);
+        V localValue = tenantCache.localCache.get(key);
+        if (localValue != null && !tenantCache.localCache.isRefreshDue(key, tenantCache.refreshIntervalMillis)) {
+            return localValue;
+        }
+
+        // Read from the cache on a local miss, and periodically on a local hit to extend the access expiry of the
+        // cache entry.
+        long generation = tenantCache.localCache.getGeneration();
+        V value = null;
+        try {
+            startTenantFlow(tenantId);
+            Cache<K, V> cache = tenantCache.getCache();
+            if (cache != null) {
+                value = cache.get(key);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        if (value != null) {
+            tenantCache.localCache.putIfNotInvalidated(key, value, generation);
+        } else if (localValue != null) {
+            tenantCache.localCache.invalidate(key);
+        }
+        return value;
+    }
+
+    private void addToLocalCache(K key, V entry) {
+
+        if (isLocalCacheEnabled()) {
+            getTenantCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId()).localCache
+                    .put(key, entry);
+        }
+    }
+
+    private void invalidateLocalCache(K key) {
+
+        if (isLocalCacheEnabled()) {
+            getTenantCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId()).localCache
+                    .invalidate(key);
+        }
+    }
+
+    private void clearLocalCache() {
+
+        if (isLocalCacheEnabled()) {
+            getTenantCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId()).localCache.clear();
+        }
+    }
+
+    private TenantCache getTenantCache(int tenantId) {
+
+        TenantCache tenantCache = tenantCaches.get(tenantId);
+        if (tenantCache == null) {
+            tenantCache = tenantCaches.computeIfAbsent(tenantId, k -> new TenantCache());
+            LOCAL_TIER_CACHES.add(this);
+        }
+        return tenantCache;
+    }
+
+    /**
+     * Discard the local tiers of the given tenant in all the caches, e.g. when the tenant is unloaded.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public static void clearLocalCaches(int tenantId) {
+
+        for (BaseCache<?, ?> baseCache : LOCAL_TIER_CACHES) {
+            baseCache.removeTenantCache(tenantId);
+        }
+    }
+
+    private void removeTenantCache(int tenantId) {
+
+        TenantCache tenantCache = tenantCaches.remove(tenantId);
+        if (tenantCache != null) {
+            tenantCache.close(tenantId);
+        }
+    }
+
     private void startTenantFlow(String tenantDomain) {
 
         PrivilegedCarbonContext.startTenantFlow();
@@ -422,4 +570,120 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         PrivilegedCarbonContext.getThreadLocalCarbonContext()
                 .setTenantDomain(IdentityTenantUtil.getTenantDomain(tenantId));
     }
+
+    /**
+     * Cache handle and local tier of a single tenant.
+     */
+    private class TenantCache {
+
+        private final BoundedLocalCache<K, V> localCache;
+        private final LocalCacheInvalidationListener<K, V> invalidationListener;
+        private final long refreshIntervalMillis;
+        private volatile Cache<K, V> cache;
+
+        TenantCache() {
+
+            long timeToLive = TimeUnit.SECONDS.toMillis(getCacheTimeout() > 0 ? getCacheTimeout() :
+                    DEFAULT_LOCAL_CACHE_TIMEOUT_IN_SECONDS);
+            this.refreshIntervalMillis = timeToLive / 2;
+            this.localCache = new BoundedLocalCache<>(getLocalCacheCapacity(), timeToLive,
+                    LocalCacheStatistics.getStatistics(
+                            StringUtils.removeStart(cacheName, CachingConstants.LOCAL_CACHE_PREFIX)));
+            this.invalidationListener = new LocalCacheInvalidationListener<>(localCache);
+        }
+
+        /**
+         * Get the cache of the tenant. Should be called within the tenant flow of the tenant.
+         *
+         * @return Cache of the tenant.
+         */
+        Cache<K, V> getCache() {
+
+            Cache<K, V> current = cache;
+            if (current != null && current.getStatus() == Status.STARTED) {
+                return current;
+            }
+            synchronized (this) {
+                current = cache;
+                if (current == null || current.getStatus() != Status.STARTED) {
+                    if (current != null) {
+                        // The previous cache has been stopped. Entries of the local tier may be stale.
+                        localCache.clear();
+                    }
+                    current = getBaseCache();
+                    if (current != null) {
+                        current.registerCacheEntryListener(invalidationListener);
+                    }
+                    cache = current;
+                }
+                return current;
+            }
+        }
+
+        /**
+         * Clear the local tier and stop listening to the cache of the tenant.
+         *
+         * @param tenantId Tenant ID.
+         */
+        synchronized void close(int tenantId) {
+
+            localCache.clear();
+            Cache<K, V> current = cache;
+            cache = null;
+            if (current == null || current.getStatus() != Status.STARTED) {
+                return;
+            }
+            try {
+                startTenantFlow(tenantId);
+                current.unregisterCacheEntryListener(invalidationListener);
+            } catch (RuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while unregistering the local cache listener of cache: " + cacheName +
+                            " for tenant: " + tenantId, e);
+                }
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+    }
+
+    /**
+     * Removes entries from the local tier when they are updated, removed or expired in the cache.
+     */
+    private static class LocalCacheInvalidationListener<K, V> extends AbstractCacheListener<K, V>
+            implements CacheEntryUpdatedListener<K, V>, CacheEntryRemovedListener<K, V>,
+            CacheEntryExpiredListener<K, V> {
+
+        private final BoundedLocalCache<K, V> localCache;
+
+        LocalCacheInvalidationListener(BoundedLocalCache<K, V> localCache) {
+
+            this.localCache = localCache;
+        }
+
+        @Override
+        public boolean isEnable() {
+
+            // Required for the consistency of the local tier, hence cannot be disabled by configuration.
+            return true;
+        }
+
+        @Override
+        public void entryUpdated(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            localCache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryRemoved(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            localCache.invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            localCache.invalidate(event.getKey());
+        }
+    }
 }
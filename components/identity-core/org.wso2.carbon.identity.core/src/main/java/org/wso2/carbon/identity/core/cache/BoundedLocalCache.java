@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded on-heap cache used as the local tier in front of a {@link BaseCache}.
+ * <p>
+ * Entries are kept in least recently used order. When the cache is full, a new entry is admitted only if it has
+ * been requested more often than the least recently used entry, based on a TinyLFU style frequency sketch. This keeps
+ * frequently used entries from being pushed out by one-off lookups.
+ * <p>
+ * Reads do not take a lock. A read looks up the entry in a concurrent map and records the key in a striped read
+ * buffer. The recorded reads are applied to the frequency sketch and the LRU order in batches, by the thread which
+ * acquires the eviction lock, either when a buffer fills up or before a write. Reads recorded while the buffers are
+ * full are dropped, which only makes the LRU order and frequencies approximate.
+ * <p>
+ * A hit in this cache does not access the backing cache, whose entries expire after the last access. Callers use
+ * {@link #isRefreshDue(Object, long)} to access the backing cache entry of a frequently served key periodically.
+ * <p>
+ * Each invalidation advances a generation counter. Values read from the backing cache are only added if no
+ * invalidation happened since the read started. This keeps a concurrent invalidation from being overwritten by a
+ * stale value.
+ *
+ * @param <K> cache key type.
+ * @param <V> cache value type.
+ */
+public class BoundedLocalCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+    private static final int READ_BUFFER_STRIPES =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+
+    private final int capacity;
+    private final long timeToLiveMillis;
+    private final LocalCacheStatistics statistics;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ArrayBlockingQueue<K>[] readBuffers;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // Guarded by the eviction lock.
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<K, Boolean> accessOrder;
+    private volatile long generation;
+
+    /**
+     * Create a local cache.
+     *
+     * @param capacity         Maximum number of entries.
+     * @param timeToLiveMillis Time an entry is kept after it is added. Entries do not expire if not positive.
+     * @param statistics       Statistics to record the hits, misses and evictions of this cache.
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedLocalCache(int capacity, long timeToLiveMillis, LocalCacheStatistics statistics) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Local cache capacity should be positive.");
+        }
+        this.capacity = capacity;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.statistics = statistics;
+        this.sketch = new FrequencySketch(capacity);
+        this.accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+        this.readBuffers = new ArrayBlockingQueue[READ_BUFFER_STRIPES];
+        for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+            readBuffers[i] = new ArrayBlockingQueue<>(READ_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Get the value of the given key.
+     *
+     * @param key Cache key.
+     * @return Cached value, or null if the key is not cached or has expired.
+     */
+    public V get(K key) {
+
+        recordRead(key);
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.isExpired(timeToLiveMillis)) {
+            removeExpired(key, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            statistics.recordMiss();
+            return null;
+        }
+        statistics.recordHit();
+        return entry.value;
+    }
+
+    /**
+     * Get the current invalidation generation, to be passed to {@link #putIfNotInvalidated(Object, Object, long)}.
+     *
+     * @return Current generation.
+     */
+    public long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Add the given value if the cache has not been invalidated since the given generation.
+     *
+     * @param key        Cache key.
+     * @param value      Value read from the backing cache.
+     * @param generation Generation returned by {@link #getGeneration()} before reading the value.
+     */
+    public void putIfNotInvalidated(K key, V value, long generation) {
+
+        evictionLock.lock();
+        try {
+            if (this.generation == generation) {
+                putLocked(key, value);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Add or replace the value of the given key, subject to the admission policy when the cache is full.
+     *
+     * @param key   Cache key.
+     * @param value Value.
+     */
+    public void put(K key, V value) {
+
+        evictionLock.lock();
+        try {
+            putLocked(key, value);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the given key.
+     *
+     * @param key Cache key.
+     */
+    public void invalidate(K key) {
+
+        evictionLock.lock();
+        try {
+            generation++;
+            entries.remove(key);
+            accessOrder.remove(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+
+        evictionLock.lock();
+        try {
+            generation++;
+            entries.clear();
+            accessOrder.clear();
+            for (ArrayBlockingQueue<K> readBuffer : readBuffers) {
+                readBuffer.clear();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Check whether the backing cache entry of the given key should be accessed, so that it does not expire while
+     * the key is served from this cache. At most one caller per refresh interval is told to access it.
+     *
+     * @param key                   Cache key.
+     * @param refreshIntervalMillis Interval in which the backing cache entry should be accessed at least once.
+     * @return True if the caller should access the backing cache entry.
+     */
+    public boolean isRefreshDue(K key, long refreshIntervalMillis) {
+
+        Entry<V> entry = entries.get(key);
+        if (entry == null || refreshIntervalMillis <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long refreshedTime = entry.refreshedTime.get();
+        return now - refreshedTime >= refreshIntervalMillis && entry.refreshedTime.compareAndSet(refreshedTime, now);
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    private void putLocked(K key, V value) {
+
+        if (key == null || value == null) {
+            return;
+        }
+        drainReadBuffers();
+        Entry<V> newEntry = new Entry<>(value);
+        if (entries.containsKey(key) || entries.size() < capacity) {
+            entries.put(key, newEntry);
+            accessOrder.put(key, Boolean.TRUE);
+            return;
+        }
+        Iterator<K> iterator = accessOrder.keySet().iterator();
+        K victim = iterator.next();
+        Entry<V> victimEntry = entries.get(victim);
+        if (victimEntry != null && !victimEntry.isExpired(timeToLiveMillis) &&
+                sketch.frequency(key) <= sketch.frequency(victim)) {
+            // The candidate is not used more often than the entry it would replace.
+            return;
+        }
+        iterator.remove();
+        entries.remove(victim);
+        statistics.recordEviction();
+        entries.put(key, newEntry);
+        accessOrder.put(key, Boolean.TRUE);
+    }
+
+    private void removeExpired(K key, Entry<V> entry) {
+
+        // Expired entries which cannot be removed right away are replaced or evicted by a later write.
+        if (evictionLock.tryLock()) {
+            try {
+                if (entries.remove(key, entry)) {
+                    accessOrder.remove(key);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void recordRead(K key) {
+
+        if (key == null) {
+            return;
+        }
+        ArrayBlockingQueue<K> readBuffer =
+                readBuffers[(int) Thread.currentThread().getId() & (READ_BUFFER_STRIPES - 1)];
+        boolean recorded = readBuffer.offer(key);
+        if ((!recorded || readBuffer.size() >= READ_BUFFER_DRAIN_THRESHOLD) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+                if (!recorded) {
+                    applyRead(key);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+
+        for (ArrayBlockingQueue<K> readBuffer : readBuffers) {
+            K key;
+            while ((key = readBuffer.poll()) != null) {
+                applyRead(key);
+            }
+        }
+    }
+
+    private void applyRead(K key) {
+
+        sketch.increment(key);
+        // Moves the key to the most recently used position, if it is cached.
+        accessOrder.get(key);
+    }
+
+    /**
+     * Cached value with the time it was added.
+     */
+    private static class Entry<V> {
+
+        private final V value;
+        private final long createdTime = System.currentTimeMillis();
+        private final AtomicLong refreshedTime = new AtomicLong(createdTime);
+
+        Entry(V value) {
+
+            this.value = value;
+        }
+
+        boolean isExpired(long timeToLiveMillis) {
+
+            return timeToLiveMillis > 0 && System.currentTimeMillis() - createdTime > timeToLiveMillis;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 bit counters which estimates how often keys were requested. Counters are halved
+     * periodically so that the estimate follows recent usage.
+     */
+    private static class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0xb1f3c6a5, 0x6b43a9b5, 0x1b873593};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+
+            int width = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = capacity * 10;
+        }
+
+        void increment(Object key) {
+
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (counters[i][index] < MAX_COUNT) {
+                    counters[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, counters[i][indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+
+            int h = hash * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
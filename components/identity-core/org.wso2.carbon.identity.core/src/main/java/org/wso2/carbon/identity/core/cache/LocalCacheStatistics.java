@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit, miss and eviction counts of the local tier of a cache, aggregated over all the tenants.
+ */
+public class LocalCacheStatistics {
+
+    private static final Map<String, LocalCacheStatistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Get the statistics of the given cache, creating them if not available.
+     *
+     * @param cacheName Cache name.
+     * @return Statistics of the cache.
+     */
+    public static LocalCacheStatistics getStatistics(String cacheName) {
+
+        return STATISTICS.computeIfAbsent(cacheName, k -> new LocalCacheStatistics());
+    }
+
+    /**
+     * Get the statistics of all the caches with a local tier.
+     *
+     * @return Unmodifiable map of cache name to statistics.
+     */
+    public static Map<String, LocalCacheStatistics> getAllStatistics() {
+
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+
+    void recordHit() {
+
+        hitCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+
+        missCount.incrementAndGet();
+    }
+
+    void recordEviction() {
+
+        evictionCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+
+/**
+ * Discards the local cache tiers of a tenant when the tenant is unloaded.
+ */
+public class LocalCacheTenantUnloadObserver extends AbstractAxis2ConfigurationContextObserver {
+
+    private static final Log LOG = LogFactory.getLog(LocalCacheTenantUnloadObserver.class);
+
+    @Override
+    public void terminatingConfigurationContext(ConfigurationContext configurationContext) {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        BaseCache.clearLocalCaches(tenantId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the local cache tiers of the unloaded tenant: " + tenantId);
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.core.KeyProviderService;
 import org.wso2.carbon.identity.core.KeyStoreManagerExtension;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
 import org.wso2.carbon.identity.core.ServiceURLBuilderFactory;
+import org.wso2.carbon.identity.core.cache.LocalCacheTenantUnloadObserver;
 import org.wso2.carbon.identity.core.migrate.MigrationClient;
 import org.wso2.carbon.identity.core.migrate.MigrationClientException;
 import org.wso2.carbon.identity.core.migrate.MigrationClientStartupObserver;
@@ -55,6 +56,7 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationUser
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
 @Component(
@@ -185,6 +187,10 @@ public class IdentityCoreServiceComponent {
             defaultKeystoreManagerServiceRef = ctxt.getBundleContext().registerService(KeyProviderService.class,
                     defaultKeyProviderService, null);
 
+            // Discard the local cache tiers of a tenant when the tenant is unloaded.
+            ctxt.getBundleContext().registerService(Axis2ConfigurationContextObserver.class.getName(),
+                    new LocalCacheTenantUnloadObserver(), null);
+
             IdentityCoreServiceDataHolder.getInstance()
                     .setTenantQualifiedUrlsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANT_QUALIFIED_URLS)));
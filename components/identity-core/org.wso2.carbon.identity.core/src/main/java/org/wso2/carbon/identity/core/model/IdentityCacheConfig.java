@@ -23,6 +23,7 @@ public class IdentityCacheConfig {
     private boolean isEnabled;
     private int timeout;
     private int capacity;
+    private int localCacheCapacity;
     private boolean isDistributed = true;
     private boolean isTemporary = false;
 
@@ -54,6 +55,14 @@ public class IdentityCacheConfig {
         this.capacity = capacity;
     }
 
+    public int getLocalCacheCapacity() {
+        return localCacheCapacity;
+    }
+
+    public void setLocalCacheCapacity(int localCacheCapacity) {
+        this.localCacheCapacity = localCacheCapacity;
+    }
+
     public IdentityCacheConfigKey getIdentityCacheConfigKey() {
         return identityCacheConfigKey;
     }
@@ -63,6 +63,7 @@ public class IdentityConfigParser {
     private static List<String> cookiesToInvalidateConfigurationHolder = new ArrayList<>();
     private static Map<String, Boolean> storeProcedureBasedDAOConfigurationHolder = new HashMap<>();
     public final static String IS_DISTRIBUTED_CACHE = "isDistributed";
+    public final static String LOCAL_CACHE_CAPACITY = "localCacheCapacity";
     public static final String IS_TEMPORARY = "isTemporary";
     private static final String SERVICE_PROVIDER_CACHE = "ServiceProviderCache";
     private static final String SERVICE_PROVIDER_AUTH_KEY_CACHE = "ServiceProvideCache.InboundAuth";
@@ -395,6 +396,11 @@ public class IdentityConfigParser {
                                 identityCacheConfig.setCapacity(Integer.parseInt(capacity));
                             }
 
+                            String localCacheCapacity = cache.getAttributeValue(new QName(LOCAL_CACHE_CAPACITY));
+                            if (StringUtils.isNotBlank(localCacheCapacity)) {
+                                identityCacheConfig.setLocalCacheCapacity(Integer.parseInt(localCacheCapacity));
+                            }
+
                             String isDistributedCache = cache.getAttributeValue(new QName(IS_DISTRIBUTED_CACHE));
                             if (StringUtils.isNotBlank(isDistributedCache)) {
                                 identityCacheConfig.setDistributed(Boolean.parseBoolean(isDistributedCache));
@@ -155,4 +155,47 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testLocalTier() {
+
+        TestLocalTierCache cache = TestLocalTierCache.getInstance();
+        LocalCacheStatistics statistics = LocalCacheStatistics.getStatistics("TestLocalTierCache");
+        cache.addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), 1);
+
+        long hits = statistics.getHitCount();
+        TestCacheEntry entry = cache.getValueFromCache(new TestCacheKey("test"), 1);
+        assertEquals(entry.getValue(), "value");
+        entry = cache.getValueFromCache(new TestCacheKey("test"), "foo.com");
+        assertEquals(entry.getValue(), "value");
+        assertEquals(statistics.getHitCount(), hits + 2);
+        assertNull(cache.getValueFromCache(new TestCacheKey("test"), "bar.com"));
+
+        cache.addToCache(new TestCacheKey("test"), new TestCacheEntry("newValue"), 1);
+        entry = cache.getValueFromCache(new TestCacheKey("test"), 1);
+        assertEquals(entry.getValue(), "newValue");
+
+        cache.clearCacheEntry(new TestCacheKey("test"), 1);
+        assertNull(cache.getValueFromCache(new TestCacheKey("test"), 1));
+
+        cache.addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), 1);
+        cache.clear(1);
+        assertNull(cache.getValueFromCache(new TestCacheKey("test"), "foo.com"));
+    }
+
+    @Test
+    public void testLocalTierIsClearedOnTenantUnload() {
+
+        TestLocalTierCache cache = TestLocalTierCache.getInstance();
+        LocalCacheStatistics statistics = LocalCacheStatistics.getStatistics("TestLocalTierCache");
+        cache.addToCache(new TestCacheKey("unload"), new TestCacheEntry("value"), 1);
+        assertEquals(cache.getValueFromCache(new TestCacheKey("unload"), 1).getValue(), "value");
+
+        BaseCache.clearLocalCaches(1);
+
+        // The entry is read from the cache again after the local tier of the tenant is discarded.
+        long misses = statistics.getMissCount();
+        assertEquals(cache.getValueFromCache(new TestCacheKey("unload"), 1).getValue(), "value");
+        assertEquals(statistics.getMissCount(), misses + 1);
+    }
 }
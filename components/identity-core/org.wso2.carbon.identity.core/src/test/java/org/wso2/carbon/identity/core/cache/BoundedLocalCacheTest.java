@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test for the bounded local cache.
+ */
+public class BoundedLocalCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+
+        LocalCacheStatistics statistics = new LocalCacheStatistics();
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(2, 0, statistics);
+
+        assertNull(cache.get("key1"));
+        cache.put("key1", "value1");
+        assertEquals(cache.get("key1"), "value1");
+        assertEquals(statistics.getHitCount(), 1);
+        assertEquals(statistics.getMissCount(), 1);
+    }
+
+    @Test
+    public void testAdmissionKeepsFrequentlyUsedEntries() {
+
+        LocalCacheStatistics statistics = new LocalCacheStatistics();
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(2, 0, statistics);
+        cache.put("hot1", "value");
+        cache.put("hot2", "value");
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot1");
+            cache.get("hot2");
+        }
+
+        // A key requested once is not admitted in place of frequently used keys.
+        cache.get("cold");
+        cache.put("cold", "value");
+        assertNull(cache.get("cold"));
+        assertEquals(cache.get("hot1"), "value");
+        assertEquals(cache.get("hot2"), "value");
+        assertEquals(statistics.getEvictionCount(), 0);
+
+        // Once the key is requested more often than the least recently used key, it replaces that key.
+        for (int i = 0; i < 10; i++) {
+            cache.get("warm");
+        }
+        cache.put("warm", "value");
+        assertEquals(cache.get("warm"), "value");
+        assertEquals(cache.size(), 2);
+        assertEquals(statistics.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testPutIsSkippedAfterInvalidation() {
+
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(10, 0, new LocalCacheStatistics());
+
+        long generation = cache.getGeneration();
+        cache.invalidate("key");
+        cache.putIfNotInvalidated("key", "staleValue", generation);
+        assertNull(cache.get("key"));
+
+        cache.putIfNotInvalidated("key", "value", cache.getGeneration());
+        assertEquals(cache.get("key"), "value");
+
+        cache.clear();
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(10, 50, new LocalCacheStatistics());
+        cache.put("key", "value");
+        assertEquals(cache.get("key"), "value");
+
+        Thread.sleep(100);
+        assertNull(cache.get("key"));
+        assertTrue(cache.size() == 0);
+    }
+
+    @Test
+    public void testRefreshIsDueOncePerInterval() throws Exception {
+
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(10, 0, new LocalCacheStatistics());
+        cache.put("key", "value");
+
+        assertFalse(cache.isRefreshDue("key", 50));
+        assertFalse(cache.isRefreshDue("missingKey", 50));
+        Thread.sleep(100);
+        assertTrue(cache.isRefreshDue("key", 50));
+        assertFalse(cache.isRefreshDue("key", 50));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+
+        int capacity = 100;
+        BoundedLocalCache<Integer, Integer> cache =
+                new BoundedLocalCache<>(capacity, 0, new LocalCacheStatistics());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 20000; j++) {
+                    int key = ThreadLocalRandom.current().nextInt(capacity * 5);
+                    Integer value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, key);
+                    } else {
+                        assertEquals(value.intValue(), key);
+                    }
+                    if (j % 1000 == 0) {
+                        cache.invalidate(key);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(cache.size() <= capacity);
+    }
+}
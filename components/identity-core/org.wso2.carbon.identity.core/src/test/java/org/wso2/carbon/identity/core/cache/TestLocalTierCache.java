@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Test cache with a local tier.
+ */
+public class TestLocalTierCache extends BaseCache<TestCacheKey, TestCacheEntry> {
+
+    private static final String CACHE_NAME = "TestLocalTierCache";
+    private static final TestLocalTierCache instance = new TestLocalTierCache();
+
+    private TestLocalTierCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static TestLocalTierCache getInstance() {
+
+        return instance;
+    }
+
+    @Override
+    public int getLocalCacheCapacity() {
+
+        return 10;
+    }
+}
@@ -50,6 +50,10 @@ public class EventDistributionTask implements Runnable {
      * Condition to break event distribution task
      */
     private volatile boolean running;
+    /**
+     * Precomputed enabled modules per event name.
+     */
+    private volatile EventHandlerSubscriptionIndex subscriptionIndex;
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
@@ -75,27 +79,29 @@ public class EventDistributionTask implements Runnable {
             try {
                 final Event event = eventQueue.take();
                 IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-                for (final AbstractEventHandler module : notificationSendingModules) {
-                    // If the module is subscribed to the event, module will be executed.
-                    if (module.isEnabled(eventContext)) {
-                        // Create a runnable and submit to the thread pool for sending message.
-                        Runnable msgSender = new Runnable() {
-                            @Override
-                            public void run() {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Executing " + module.getName() + " on event" + event.
-                                            getEventName());
-                                }
-                                try {
-                                    module.handleEvent(event);
-                                } catch (IdentityEventException e) {
-                                    log.error("Error while invoking notification sending module " + module.
-                                            getName(), e);
-                                }
+                // Only the modules enabled for the event are executed.
+                for (final AbstractEventHandler module : getSubscriptionIndex().getEnabledHandlers(eventContext)) {
+                    // Create a runnable and submit to the thread pool for sending message.
+                    Runnable msgSender = new Runnable() {
+                        @Override
+                        public void run() {
+                            if (log.isDebugEnabled()) {
+                                log.debug("Executing " + module.getName() + " on event" + event.
+                                        getEventName());
                             }
-                        };
-                        IdentityEventServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
-                    }
+                            long startTime = System.nanoTime();
+                            try {
+                                module.handleEvent(event);
+                            } catch (IdentityEventException e) {
+                                log.error("Error while invoking notification sending module " + module.
+                                        getName(), e);
+                            } finally {
+                                EventHandlerMetrics.getInstance().recordHandlerLatency(module.getName(),
+                                        System.nanoTime() - startTime);
+                            }
+                        }
+                    };
+                    IdentityEventServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
                 }
             } catch (InterruptedException e) {
                 log.error("Error while picking up event from event queue", e);
@@ -103,6 +109,16 @@ public class EventDistributionTask implements Runnable {
         }
     }
 
+    private EventHandlerSubscriptionIndex getSubscriptionIndex() {
+
+        EventHandlerSubscriptionIndex index = subscriptionIndex;
+        if (index == null || !index.isBuiltFor(notificationSendingModules)) {
+            index = new EventHandlerSubscriptionIndex(notificationSendingModules);
+            subscriptionIndex = index;
+        }
+        return index;
+    }
+
     public void shutdown() {
         this.running = false;
     }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps per event handler latency histograms for both synchronous and asynchronous event handling, so that slow
+ * handlers can be identified.
+ */
+public class EventHandlerMetrics {
+
+    private static final EventHandlerMetrics instance = new EventHandlerMetrics();
+
+    private final Map<String, LatencyHistogram> handlerLatencies = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+
+    private EventHandlerMetrics() {
+
+    }
+
+    public static EventHandlerMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record the time taken by an event handler to handle an event.
+     *
+     * @param handlerName   Name of the event handler.
+     * @param durationNanos Time taken in nanoseconds.
+     */
+    public void recordHandlerLatency(String handlerName, long durationNanos) {
+
+        handlerLatencies.computeIfAbsent(handlerName, k -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    /**
+     * Record an event that was dropped because the dispatch queue was full.
+     */
+    public void recordDroppedEvent() {
+
+        droppedEventCount.incrementAndGet();
+    }
+
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.get();
+    }
+
+    /**
+     * Get the latency histograms of all the event handlers that have handled at least one event.
+     *
+     * @return Unmodifiable map of handler name to latency histogram.
+     */
+    public Map<String, LatencyHistogram> getHandlerLatencies() {
+
+        return Collections.unmodifiableMap(handlerLatencies);
+    }
+
+    public void reset() {
+
+        handlerLatencies.clear();
+        droppedEventCount.set(0);
+    }
+
+    /**
+     * Fixed bucket latency histogram. Bucket upper bounds are in milliseconds and the last bucket has no upper bound.
+     */
+    public static class LatencyHistogram {
+
+        private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000};
+
+        private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length + 1);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long durationNanos) {
+
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length && durationMillis >= BUCKET_UPPER_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            bucketCounts.incrementAndGet(bucket);
+            count.incrementAndGet();
+            totalNanos.addAndGet(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+        }
+
+        /**
+         * Get the upper bounds of the histogram buckets in milliseconds. The last bucket, which counts the durations
+         * above the largest bound, is not included.
+         *
+         * @return Bucket upper bounds in milliseconds.
+         */
+        public static long[] getBucketUpperBoundsMillis() {
+
+            return BUCKET_UPPER_BOUNDS_MILLIS.clone();
+        }
+
+        public long[] getBucketCounts() {
+
+            long[] counts = new long[bucketCounts.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = bucketCounts.get(i);
+            }
+            return counts;
+        }
+
+        public long getCount() {
+
+            return count.get();
+        }
+
+        public long getTotalNanos() {
+
+            return totalNanos.get();
+        }
+
+        public long getMaxNanos() {
+
+            return maxNanos.get();
+        }
+
+        public long getAverageNanos() {
+
+            long currentCount = count.get();
+            return currentCount == 0 ? 0 : totalNanos.get() / currentCount;
+        }
+    }
+}
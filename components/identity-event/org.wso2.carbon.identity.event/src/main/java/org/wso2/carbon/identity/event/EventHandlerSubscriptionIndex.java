@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.handler.AbstractIdentityMessageHandler;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed index of event handler subscriptions per event name.
+ * <p>
+ * Handlers that rely on the subscription based {@link AbstractEventHandler#canHandle(MessageContext)} and the
+ * configuration based {@link AbstractIdentityMessageHandler#isEnabled(MessageContext)} are resolved once per event
+ * name. Handlers overriding these methods are always included and their methods are evaluated for each event.
+ */
+public class EventHandlerSubscriptionIndex {
+
+    private static final Log log = LogFactory.getLog(EventHandlerSubscriptionIndex.class);
+
+    private final List<AbstractEventHandler> handlers;
+    private final int handlerCount;
+    private final List<AbstractEventHandler> handlerSnapshot;
+    private final Map<String, List<Subscriber>> subscribersByEvent = new ConcurrentHashMap<>();
+    private final Map<String, List<AbstractEventHandler>> enabledHandlersByEvent = new ConcurrentHashMap<>();
+
+    public EventHandlerSubscriptionIndex(List<AbstractEventHandler> handlers) {
+
+        this.handlers = handlers;
+        this.handlerSnapshot = new ArrayList<>(handlers);
+        this.handlerCount = handlerSnapshot.size();
+    }
+
+    /**
+     * Check whether this index was built for the current state of the given handler list.
+     *
+     * @param handlers Registered event handlers.
+     * @return True if the index is up to date with the handler list.
+     */
+    public boolean isBuiltFor(List<AbstractEventHandler> handlers) {
+
+        return this.handlers == handlers && handlerCount == handlers.size();
+    }
+
+    /**
+     * Get the handlers which can handle the given event, in the handler priority order.
+     *
+     * @param eventContext Event message context.
+     * @return Handlers which can handle the event.
+     */
+    public List<Subscriber> getSubscribers(IdentityEventMessageContext eventContext) {
+
+        String eventName = eventContext.getEvent().getEventName();
+        List<Subscriber> candidates = subscribersByEvent.computeIfAbsent(eventName,
+                k -> buildSubscribers(eventContext));
+        List<Subscriber> subscribers = new ArrayList<>(candidates.size());
+        for (Subscriber subscriber : candidates) {
+            if (!subscriber.requiresCanHandleCheck || subscriber.handler.canHandle(eventContext)) {
+                subscribers.add(subscriber);
+            }
+        }
+        return subscribers;
+    }
+
+    /**
+     * Get the enabled handlers for the given event, in the handler priority order.
+     *
+     * @param eventContext Event message context.
+     * @return Enabled handlers.
+     */
+    public List<AbstractEventHandler> getEnabledHandlers(IdentityEventMessageContext eventContext) {
+
+        String eventName = eventContext.getEvent().getEventName();
+        List<AbstractEventHandler> enabledHandlers = enabledHandlersByEvent.get(eventName);
+        if (enabledHandlers == null) {
+            boolean cacheable = true;
+            enabledHandlers = new ArrayList<>();
+            for (AbstractEventHandler handler : handlerSnapshot) {
+                cacheable &= !overrides(handler, AbstractIdentityMessageHandler.class, "isEnabled",
+                        MessageContext.class);
+                if (handler.isEnabled(eventContext)) {
+                    enabledHandlers.add(handler);
+                }
+            }
+            if (!cacheable) {
+                return enabledHandlers;
+            }
+            enabledHandlers = Collections.unmodifiableList(enabledHandlers);
+            enabledHandlersByEvent.putIfAbsent(eventName, enabledHandlers);
+        }
+        return enabledHandlers;
+    }
+
+    private List<Subscriber> buildSubscribers(IdentityEventMessageContext eventContext) {
+
+        String eventName = eventContext.getEvent().getEventName();
+        List<Subscriber> subscribers = new ArrayList<>();
+        for (AbstractEventHandler handler : handlerSnapshot) {
+            boolean customCanHandle = overrides(handler, AbstractEventHandler.class, "canHandle",
+                    MessageContext.class);
+            // The default canHandle implementation only depends on the event name and the handler subscriptions.
+            if (!customCanHandle && !handler.canHandle(eventContext)) {
+                continue;
+            }
+            Boolean async = null;
+            if (!overrides(handler, AbstractEventHandler.class, "isAssociationAsync", String.class)) {
+                try {
+                    async = handler.isAssociationAsync(eventName);
+                } catch (IdentityEventException e) {
+                    log.debug("Error while resolving the association of handler: " + handler.getName() +
+                            " for event: " + eventName + ". It will be resolved per event.", e);
+                }
+            }
+            subscribers.add(new Subscriber(handler, customCanHandle, async));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Resolved " + subscribers.size() + " event handler subscriptions for event: " + eventName);
+        }
+        return Collections.unmodifiableList(subscribers);
+    }
+
+    private static boolean overrides(AbstractEventHandler handler, Class<?> baseClass, String methodName,
+                                     Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != baseClass;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Event handler subscribed to an event.
+     */
+    public static class Subscriber {
+
+        private final AbstractEventHandler handler;
+        private final boolean requiresCanHandleCheck;
+        private final Boolean async;
+
+        Subscriber(AbstractEventHandler handler, boolean requiresCanHandleCheck, Boolean async) {
+
+            this.handler = handler;
+            this.requiresCanHandleCheck = requiresCanHandleCheck;
+            this.async = async;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * Check whether the handler should handle the given event asynchronously.
+         *
+         * @param eventName Event name.
+         * @return True if the handler association is asynchronous.
+         * @throws IdentityEventException If the association could not be resolved.
+         */
+        public boolean isAsync(String eventName) throws IdentityEventException {
+
+            if (async != null) {
+                return async;
+            }
+            return handler.isAssociationAsync(eventName);
+        }
+    }
+}
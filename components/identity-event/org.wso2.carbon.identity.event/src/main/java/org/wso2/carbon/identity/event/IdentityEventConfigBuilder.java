@@ -62,6 +62,18 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Number of ordered lanes used to dispatch asynchronous events. Sharded dispatch is disabled when not set.
+     */
+    private String dispatchLaneCount;
+    /**
+     * Maximum number of events queued per dispatch lane.
+     */
+    private String dispatchLaneQueueSize;
+    /**
+     * Behaviour when a dispatch lane queue is full. One of BLOCK, DROP or CALLER_RUNS.
+     */
+    private String dispatchBackpressurePolicy;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +90,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setDispatchConfigs();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +111,15 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the sharded event dispatch configurations read from configurations
+     */
+    private void setDispatchConfigs() {
+        dispatchLaneCount = (String) notificationMgtConfigProperties.remove("dispatch.lanes");
+        dispatchLaneQueueSize = (String) notificationMgtConfigProperties.remove("dispatch.laneQueueSize");
+        dispatchBackpressurePolicy = (String) notificationMgtConfigProperties.remove("dispatch.backpressurePolicy");
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +244,18 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public String getDispatchLaneCount() {
+        return dispatchLaneCount;
+    }
+
+    public String getDispatchLaneQueueSize() {
+        return dispatchLaneQueueSize;
+    }
+
+    public String getDispatchBackpressurePolicy() {
+        return dispatchBackpressurePolicy;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
@@ -239,6 +239,8 @@ public class IdentityEventConstants {
         public static final String POST_ADD_EXTERNAL_CLAIM = "POST_ADD_EXTERNAL_CLAIM";
         public static final String POST_UPDATE_EXTERNAL_CLAIM = "POST_UPDATE_EXTERNAL_CLAIM";
         public static final String POST_DELETE_EXTERNAL_CLAIM = "POST_DELETE_EXTERNAL_CLAIM";
+        public static final String PRE_IMPORT_CLAIMS = "PRE_IMPORT_CLAIMS";
+        public static final String POST_IMPORT_CLAIMS = "POST_IMPORT_CLAIMS";
         public static final String POST_NON_BASIC_AUTHENTICATION = "POST_NON_BASIC_AUTHENTICATION";
 
         // Loggers related events.
@@ -462,6 +464,8 @@ public class IdentityEventConstants {
         public static final String OLD_CLAIM_DIALECT_URI = "oldClaimDialectUri";
         public static final String NEW_CLAIM_DIALECT_URI = "newClaimDialectUri";
         public static final String EXTERNAL_CLAIM_PROPERTIES = "externalClaimProperties";
+        public static final String LOCAL_CLAIMS = "localClaims";
+        public static final String EXTERNAL_CLAIMS = "externalClaims";
         public static final String PROPERTY_FAILED_LOGIN_ATTEMPTS_CLAIM = "PropertyFailedLoginAttemptsClaim";
         public static final String AUTHENTICATOR_NAME = "authenticatorName";
         public static final String MAPPED_ATTRIBUTES = "mappedAttributes";
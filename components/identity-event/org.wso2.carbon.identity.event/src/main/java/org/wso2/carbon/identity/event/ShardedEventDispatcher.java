@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches asynchronous event handler invocations over a fixed number of ordered lanes.
+ * <p>
+ * Events are assigned to a lane by their tenant domain and user name, so the events of a given user are handled in
+ * the order they were published, while events of different users are handled in parallel. Each lane has a bounded
+ * queue and the {@link BackpressurePolicy} decides what happens when the queue of a lane is full.
+ */
+public class ShardedEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(ShardedEventDispatcher.class);
+
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * Behaviour when the queue of a lane is full.
+     */
+    public enum BackpressurePolicy {
+
+        /**
+         * Block the publishing thread until there is space in the lane queue.
+         */
+        BLOCK,
+        /**
+         * Drop the event and log a warning.
+         */
+        DROP,
+        /**
+         * Handle the event on the publishing thread.
+         */
+        CALLER_RUNS
+    }
+
+    public ShardedEventDispatcher(int laneCount, int laneQueueSize, BackpressurePolicy backpressurePolicy) {
+
+        if (laneCount <= 0 || laneQueueSize <= 0) {
+            throw new IllegalArgumentException("Lane count and lane queue size should be positive.");
+        }
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        RejectedExecutionHandler rejectedExecutionHandler = getRejectedExecutionHandler(backpressurePolicy);
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "identity-event-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneQueueSize), runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }, rejectedExecutionHandler);
+        }
+        log.info("Identity event dispatcher started with " + laneCount + " lanes of queue size " + laneQueueSize +
+                " and " + backpressurePolicy + " backpressure policy.");
+    }
+
+    /**
+     * Queue the given event to be handled by the given handler on the lane of the event.
+     *
+     * @param event   Event to be handled.
+     * @param handler Handler subscribed to the event.
+     */
+    public void dispatch(Event event, AbstractEventHandler handler) {
+
+        getLane(event).execute(new EventHandlerTask(event, handler));
+    }
+
+    /**
+     * Get the number of events waiting in each lane.
+     *
+     * @return Queue depth of each lane.
+     */
+    public int[] getLaneQueueDepths() {
+
+        int[] depths = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            depths[i] = lanes[i].getQueue().size();
+        }
+        return depths;
+    }
+
+    public void shutdown() {
+
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private ThreadPoolExecutor getLane(Event event) {
+
+        return lanes[Math.floorMod(getShardKey(event).hashCode(), lanes.length)];
+    }
+
+    private static String getShardKey(Event event) {
+
+        Map<String, Object> properties = event.getEventProperties();
+        if (properties != null) {
+            Object tenantDomain = properties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+            Object userName = properties.get(IdentityEventConstants.EventProperty.USER_NAME);
+            if (tenantDomain != null || userName != null) {
+                return tenantDomain + "/" + userName;
+            }
+        }
+        return StringUtils.defaultString(event.getEventName());
+    }
+
+    private static RejectedExecutionHandler getRejectedExecutionHandler(BackpressurePolicy backpressurePolicy) {
+
+        switch (backpressurePolicy) {
+            case DROP:
+                return new DropPolicy();
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case BLOCK:
+            default:
+                return new BlockPolicy();
+        }
+    }
+
+    /**
+     * Runs a single event handler for a single event and records the handler latency.
+     */
+    private static class EventHandlerTask implements Runnable {
+
+        private final Event event;
+        private final AbstractEventHandler handler;
+
+        EventHandlerTask(Event event, AbstractEventHandler handler) {
+
+            this.event = event;
+            this.handler = handler;
+        }
+
+        @Override
+        public void run() {
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+            }
+            long startTime = System.nanoTime();
+            try {
+                handler.handleEvent(event);
+            } catch (IdentityEventException e) {
+                log.error("Error while invoking event handler " + handler.getName(), e);
+            } catch (RuntimeException e) {
+                // Keep the lane thread alive for the subsequent events.
+                log.error("Unexpected error while invoking event handler " + handler.getName(), e);
+            } finally {
+                EventHandlerMetrics.getInstance().recordHandlerLatency(handler.getName(),
+                        System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Blocks the publishing thread until the lane queue has space.
+     */
+    private static class BlockPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Identity event dispatcher is shut down.");
+            }
+            try {
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting to queue the event.", e);
+            }
+        }
+    }
+
+    /**
+     * Drops the event when the lane queue is full.
+     */
+    private static class DropPolicy implements RejectedExecutionHandler {
+
+        private final AtomicInteger droppedSinceLastLog = new AtomicInteger();
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+            EventHandlerMetrics.getInstance().recordDroppedEvent();
+            // Avoid flooding the logs while the lane stays saturated.
+            if (droppedSinceLastLog.getAndIncrement() % 1000 == 0) {
+                log.warn("Identity event lane queue is full. Dropping events. Total dropped events: " +
+                        EventHandlerMetrics.getInstance().getDroppedEventCount());
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.wso2.carbon.identity.event.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.ServiceRegistration;
@@ -26,6 +27,7 @@ import org.wso2.carbon.identity.core.handler.MessageHandlerComparator;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
+import org.wso2.carbon.identity.event.ShardedEventDispatcher;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
@@ -34,6 +36,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -48,6 +51,8 @@ public class IdentityEventServiceComponent {
 
     private static Log log = LogFactory.getLog(IdentityEventServiceComponent.class);
 
+    private static final int DEFAULT_DISPATCH_LANE_QUEUE_SIZE = 10000;
+
     private static RealmService realmService;
 
     private ServiceRegistration serviceRegistration = null;
@@ -58,7 +63,10 @@ public class IdentityEventServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()),
+                    buildShardedEventDispatcher(configBuilder)));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,11 +78,44 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
     }
 
+    private ShardedEventDispatcher buildShardedEventDispatcher(IdentityEventConfigBuilder configBuilder) {
+
+        String laneCount = configBuilder.getDispatchLaneCount();
+        if (StringUtils.isBlank(laneCount)) {
+            return null;
+        }
+        try {
+            int lanes = Integer.parseInt(laneCount.trim());
+            if (lanes <= 0) {
+                return null;
+            }
+            int laneQueueSize = DEFAULT_DISPATCH_LANE_QUEUE_SIZE;
+            if (StringUtils.isNotBlank(configBuilder.getDispatchLaneQueueSize())) {
+                laneQueueSize = Integer.parseInt(configBuilder.getDispatchLaneQueueSize().trim());
+            }
+            ShardedEventDispatcher.BackpressurePolicy backpressurePolicy =
+                    ShardedEventDispatcher.BackpressurePolicy.BLOCK;
+            if (StringUtils.isNotBlank(configBuilder.getDispatchBackpressurePolicy())) {
+                backpressurePolicy = ShardedEventDispatcher.BackpressurePolicy.valueOf(
+                        configBuilder.getDispatchBackpressurePolicy().trim().toUpperCase(Locale.ENGLISH));
+            }
+            return new ShardedEventDispatcher(lanes, laneQueueSize, backpressurePolicy);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid sharded event dispatch configuration. Falling back to the event distribution task.",
+                    e);
+            return null;
+        }
+    }
+
     @Reference(
              name = "event.handler", 
              service = org.wso2.carbon.identity.event.handler.AbstractEventHandler.class, 
@@ -22,7 +22,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.EventHandlerMetrics;
+import org.wso2.carbon.identity.event.EventHandlerSubscriptionIndex;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.ShardedEventDispatcher;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -34,6 +37,8 @@ public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
     private EventDistributionTask eventDistributionTask;
+    private ShardedEventDispatcher shardedEventDispatcher;
+    private volatile EventHandlerSubscriptionIndex subscriptionIndex;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
         this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
@@ -42,20 +47,67 @@ public class IdentityEventServiceImpl implements IdentityEventService {
         }
         new Thread(eventDistributionTask).start();
     }
+
+    /**
+     * Creates the event service with a sharded dispatcher for asynchronous handlers. When the dispatcher is given,
+     * each asynchronous handler subscribed to an event is invoked on the ordered lane of the event instead of the
+     * event distribution task.
+     *
+     * @param handlerList            Registered event handlers.
+     * @param threadPoolSize         Thread pool size of the event distribution task.
+     * @param shardedEventDispatcher Sharded dispatcher for asynchronous handlers. Can be null.
+     */
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    ShardedEventDispatcher shardedEventDispatcher) {
+        this(handlerList, threadPoolSize);
+        this.shardedEventDispatcher = shardedEventDispatcher;
+    }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
         List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
+        for (EventHandlerSubscriptionIndex.Subscriber subscriber :
+                getSubscriptionIndex(eventHandlerList).getSubscribers(eventContext)) {
 
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+            AbstractEventHandler handler = subscriber.getHandler();
+            if (subscriber.isAsync(event.getEventName())) {
+                if (shardedEventDispatcher != null) {
+                    shardedEventDispatcher.dispatch(event, handler);
                 } else {
+                    eventDistributionTask.addEventToQueue(event);
+                }
+            } else {
+                long startTime = System.nanoTime();
+                try {
                     handler.handleEvent(event);
+                } finally {
+                    EventHandlerMetrics.getInstance().recordHandlerLatency(handler.getName(),
+                            System.nanoTime() - startTime);
                 }
             }
         }
     }
+
+    /**
+     * Stops the event dispatchers.
+     */
+    public void shutdown() {
+
+        eventDistributionTask.shutdown();
+        if (shardedEventDispatcher != null) {
+            shardedEventDispatcher.shutdown();
+        }
+    }
+
+    private EventHandlerSubscriptionIndex getSubscriptionIndex(List<AbstractEventHandler> eventHandlerList) {
+
+        EventHandlerSubscriptionIndex index = subscriptionIndex;
+        if (index == null || !index.isBuiltFor(eventHandlerList)) {
+            index = new EventHandlerSubscriptionIndex(eventHandlerList);
+            subscriptionIndex = index;
+        }
+        return index;
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class EventHandlerSubscriptionIndexTest {
+
+    private static final String EVENT_A = "EVENT_A";
+    private static final String EVENT_B = "EVENT_B";
+    private static final String EVENT_C = "EVENT_C";
+
+    @Test
+    public void testSubscribersAreResolvedByEventName() throws Exception {
+
+        TestEventHandler asyncHandler = new TestEventHandler("asyncHandler", EVENT_A, true);
+        TestEventHandler syncHandler = new TestEventHandler("syncHandler", EVENT_B, false);
+        EventHandlerSubscriptionIndex index =
+                new EventHandlerSubscriptionIndex(Arrays.asList(asyncHandler, syncHandler));
+
+        List<EventHandlerSubscriptionIndex.Subscriber> subscribers = index.getSubscribers(createContext(EVENT_A));
+        Assert.assertEquals(subscribers.size(), 1);
+        Assert.assertSame(subscribers.get(0).getHandler(), asyncHandler);
+        Assert.assertTrue(subscribers.get(0).isAsync(EVENT_A));
+
+        subscribers = index.getSubscribers(createContext(EVENT_B));
+        Assert.assertEquals(subscribers.size(), 1);
+        Assert.assertSame(subscribers.get(0).getHandler(), syncHandler);
+        Assert.assertFalse(subscribers.get(0).isAsync(EVENT_B));
+
+        Assert.assertTrue(index.getSubscribers(createContext(EVENT_C)).isEmpty());
+    }
+
+    @Test
+    public void testSubscriptionsAreResolvedOncePerEventName() {
+
+        TestEventHandler handler = new TestEventHandler("handler", EVENT_A, false);
+        EventHandlerSubscriptionIndex index = new EventHandlerSubscriptionIndex(Collections.singletonList(handler));
+
+        Assert.assertEquals(index.getSubscribers(createContext(EVENT_A)).size(), 1);
+        // Subscriptions of a handler using the default canHandle are not evaluated again for the same event name.
+        handler.subscriptions.clear();
+        Assert.assertEquals(index.getSubscribers(createContext(EVENT_A)).size(), 1);
+        Assert.assertTrue(index.getSubscribers(createContext(EVENT_B)).isEmpty());
+    }
+
+    @Test
+    public void testCustomCanHandleIsEvaluatedPerEvent() {
+
+        CustomEventHandler customHandler = new CustomEventHandler();
+        TestEventHandler handler = new TestEventHandler("handler", EVENT_A, false);
+        EventHandlerSubscriptionIndex index = new EventHandlerSubscriptionIndex(Arrays.asList(customHandler, handler));
+
+        customHandler.canHandle = true;
+        List<EventHandlerSubscriptionIndex.Subscriber> subscribers = index.getSubscribers(createContext(EVENT_A));
+        Assert.assertEquals(subscribers.size(), 2);
+        Assert.assertSame(subscribers.get(0).getHandler(), customHandler);
+        Assert.assertSame(subscribers.get(1).getHandler(), handler);
+
+        customHandler.canHandle = false;
+        subscribers = index.getSubscribers(createContext(EVENT_A));
+        Assert.assertEquals(subscribers.size(), 1);
+        Assert.assertSame(subscribers.get(0).getHandler(), handler);
+    }
+
+    @Test
+    public void testCustomIsEnabledIsEvaluatedPerEvent() {
+
+        CustomEventHandler customHandler = new CustomEventHandler();
+        TestEventHandler handler = new TestEventHandler("handler", EVENT_A, false);
+        EventHandlerSubscriptionIndex index = new EventHandlerSubscriptionIndex(Arrays.asList(customHandler, handler));
+
+        customHandler.enabled = true;
+        Assert.assertEquals(index.getEnabledHandlers(createContext(EVENT_A)),
+                Arrays.asList(customHandler, handler));
+        customHandler.enabled = false;
+        Assert.assertEquals(index.getEnabledHandlers(createContext(EVENT_A)), Collections.singletonList(handler));
+    }
+
+    @Test
+    public void testIsBuiltFor() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(new TestEventHandler("handler", EVENT_A, false));
+        EventHandlerSubscriptionIndex index = new EventHandlerSubscriptionIndex(handlers);
+
+        Assert.assertTrue(index.isBuiltFor(handlers));
+        Assert.assertFalse(index.isBuiltFor(new ArrayList<>(handlers)));
+        handlers.add(new TestEventHandler("otherHandler", EVENT_B, false));
+        Assert.assertFalse(index.isBuiltFor(handlers));
+    }
+
+    private IdentityEventMessageContext createContext(String eventName) {
+
+        return new IdentityEventMessageContext(new Event(eventName));
+    }
+
+    private static class TestEventHandler extends AbstractEventHandler {
+
+        private final String name;
+        private final List<Subscription> subscriptions = new ArrayList<>();
+
+        TestEventHandler(String name, String eventName, boolean async) {
+
+            this.name = name;
+            Properties subscriptionProperties = new Properties();
+            subscriptionProperties.setProperty(name + ".subscription." + eventName + ".operationAsync",
+                    String.valueOf(async));
+            subscriptions.add(new Subscription(eventName, subscriptionProperties));
+            init(new ModuleConfiguration(new Properties(), subscriptions));
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class CustomEventHandler extends AbstractEventHandler {
+
+        private volatile boolean canHandle;
+        private volatile boolean enabled;
+
+        CustomEventHandler() {
+
+            init(new ModuleConfiguration());
+        }
+
+        @Override
+        public String getName() {
+
+            return "customHandler";
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return canHandle;
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return enabled;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+}
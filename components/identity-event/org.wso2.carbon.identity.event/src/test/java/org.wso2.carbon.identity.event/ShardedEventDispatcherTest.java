@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ShardedEventDispatcherTest {
+
+    @BeforeMethod
+    public void setUp() {
+
+        EventHandlerMetrics.getInstance().reset();
+    }
+
+    @Test
+    public void testEventsOfSameUserAreHandledInOrder() throws Exception {
+
+        int usersCount = 5;
+        int eventsPerUser = 200;
+        RecordingEventHandler handler = new RecordingEventHandler(usersCount * eventsPerUser);
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(3, 100,
+                ShardedEventDispatcher.BackpressurePolicy.BLOCK);
+        try {
+            for (int i = 0; i < eventsPerUser; i++) {
+                for (int user = 0; user < usersCount; user++) {
+                    dispatcher.dispatch(createEvent("user" + user, i), handler);
+                }
+            }
+            Assert.assertTrue(handler.latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            dispatcher.shutdown();
+        }
+
+        for (int user = 0; user < usersCount; user++) {
+            List<Integer> sequence = handler.sequences.get("user" + user);
+            Assert.assertEquals(sequence.size(), eventsPerUser);
+            for (int i = 0; i < eventsPerUser; i++) {
+                Assert.assertEquals(sequence.get(i).intValue(), i);
+            }
+        }
+        EventHandlerMetrics.LatencyHistogram histogram =
+                EventHandlerMetrics.getInstance().getHandlerLatencies().get(handler.getName());
+        Assert.assertNotNull(histogram);
+        Assert.assertEquals(histogram.getCount(), usersCount * eventsPerUser);
+    }
+
+    @Test
+    public void testDropPolicyDropsEventsWhenLaneIsFull() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(1, 1,
+                ShardedEventDispatcher.BackpressurePolicy.DROP);
+        try {
+            // The first event occupies the lane thread, the second one fills the queue.
+            dispatcher.dispatch(createEvent("user", 0), handler);
+            Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+            dispatcher.dispatch(createEvent("user", 1), handler);
+            dispatcher.dispatch(createEvent("user", 2), handler);
+            dispatcher.dispatch(createEvent("user", 3), handler);
+            Assert.assertEquals(EventHandlerMetrics.getInstance().getDroppedEventCount(), 2);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallerRunsPolicyHandlesEventOnCallerThread() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(1, 1,
+                ShardedEventDispatcher.BackpressurePolicy.CALLER_RUNS);
+        try {
+            dispatcher.dispatch(createEvent("user", 0), handler);
+            Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+            dispatcher.dispatch(createEvent("user", 1), handler);
+            // The queue is full, so this event is handled on the current thread.
+            dispatcher.dispatch(createEvent("user", 2), handler);
+            Assert.assertTrue(handler.callerThreadEvents.contains(2));
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventsWithoutUserFallBackToEventNameLane() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release);
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(4, 1,
+                ShardedEventDispatcher.BackpressurePolicy.DROP);
+        try {
+            // Events without a tenant domain or user name are all assigned to the lane of the event name.
+            dispatcher.dispatch(createEventWithoutUser(0), handler);
+            Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+            dispatcher.dispatch(createEventWithoutUser(1), handler);
+            dispatcher.dispatch(createEventWithoutUser(2), handler);
+            dispatcher.dispatch(createEventWithoutUser(3), handler);
+            Assert.assertEquals(EventHandlerMetrics.getInstance().getDroppedEventCount(), 2);
+
+            int busyLanes = 0;
+            for (int depth : dispatcher.getLaneQueueDepths()) {
+                if (depth > 0) {
+                    busyLanes++;
+                    Assert.assertEquals(depth, 1);
+                }
+            }
+            Assert.assertEquals(busyLanes, 1);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    private Event createEventWithoutUser(int sequence) {
+
+        Event event = new Event("TEST_EVENT");
+        event.addEventProperty("sequence", sequence);
+        return event;
+    }
+
+    private Event createEvent(String userName, int sequence) {
+
+        Event event = new Event("TEST_EVENT");
+        event.addEventProperty(IdentityEventConstants.EventProperty.TENANT_DOMAIN, "carbon.super");
+        event.addEventProperty(IdentityEventConstants.EventProperty.USER_NAME, userName);
+        event.addEventProperty("sequence", sequence);
+        return event;
+    }
+
+    private static class RecordingEventHandler extends AbstractEventHandler {
+
+        private final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        private final CountDownLatch latch;
+
+        RecordingEventHandler(int expectedEvents) {
+
+            this.latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+            String userName = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME);
+            sequences.computeIfAbsent(userName, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add((Integer) event.getEventProperties().get("sequence"));
+            latch.countDown();
+        }
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final List<Integer> callerThreadEvents = Collections.synchronizedList(new ArrayList<>());
+        private final Thread callerThread = Thread.currentThread();
+
+        BlockingEventHandler(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            if (Thread.currentThread() == callerThread) {
+                callerThreadEvents.add((Integer) event.getEventProperties().get("sequence"));
+                return;
+            }
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdentityEventException("Interrupted", e);
+            }
+        }
+    }
+}
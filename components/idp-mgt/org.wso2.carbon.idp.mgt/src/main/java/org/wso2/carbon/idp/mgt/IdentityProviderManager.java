@@ -1018,6 +1018,27 @@ public class IdentityProviderManager implements IdpManager {
         return getIdPByName(idPName, tenantDomain, false);
     }
 
+    @Override
+    public IdentityProvider getIdPByName(String idPName, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        if (requiredAttributes == null) {
+            return getIdPByName(idPName, tenantDomain);
+        }
+        if (StringUtils.isEmpty(idPName)) {
+            String msg = "Invalid argument: Identity Provider Name value is empty";
+            throw new IdentityProviderManagementException(msg);
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        IdentityProvider identityProvider = dao.getIdPByName(null, idPName, tenantId, tenantDomain,
+                requiredAttributes);
+        if (identityProvider == null) {
+            // Fall back to the full lookup which resolves the file based and the SSO IDPs.
+            return getIdPByName(idPName, tenantDomain);
+        }
+        return identityProvider;
+    }
+
     @Override
     public IdentityProvider getIdPById(String id, String tenantDomain) throws IdentityProviderManagementException {
 
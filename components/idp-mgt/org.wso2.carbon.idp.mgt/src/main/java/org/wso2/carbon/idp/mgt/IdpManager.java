@@ -263,6 +263,23 @@ public interface IdpManager {
      */
     IdentityProvider getIdPByName(String idPName, String tenantDomain) throws IdentityProviderManagementException;
 
+    /**
+     * Retrieves Identity provider information about a given tenant by Identity Provider name, with only the required
+     * sections of it loaded. The basic attributes and the properties of the Identity provider are always loaded.
+     *
+     * @param idPName            Unique name of the Identity provider of whose information is requested.
+     * @param tenantDomain       Tenant domain whose information is requested.
+     * @param requiredAttributes Sections of the Identity provider to load, e.g. federatedAuthenticators. All the
+     *                           sections are loaded if null.
+     * @return <code>IdentityProvider</code> Identity Provider information.
+     * @throws IdentityProviderManagementException Error when getting Identity Provider information by IdP name.
+     */
+    default IdentityProvider getIdPByName(String idPName, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        return getIdPByName(idPName, tenantDomain);
+    }
+
     /**
      * Returns IDP with given IDP.
      *
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.idp.mgt.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and negative hit counts of the cached identity provider lookups, per lookup type.
+ */
+public class IdPLookupCacheStats {
+
+    private static final IdPLookupCacheStats INSTANCE = new IdPLookupCacheStats();
+
+    private final Map<IdPLookupType, LongAdder> hits = new EnumMap<>(IdPLookupType.class);
+    private final Map<IdPLookupType, LongAdder> misses = new EnumMap<>(IdPLookupType.class);
+    private final Map<IdPLookupType, LongAdder> negativeHits = new EnumMap<>(IdPLookupType.class);
+
+    private IdPLookupCacheStats() {
+
+        for (IdPLookupType lookupType : IdPLookupType.values()) {
+            hits.put(lookupType, new LongAdder());
+            misses.put(lookupType, new LongAdder());
+            negativeHits.put(lookupType, new LongAdder());
+        }
+    }
+
+    public static IdPLookupCacheStats getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Record a lookup served by a cached identity provider.
+     *
+     * @param lookupType Lookup type.
+     */
+    public void recordHit(IdPLookupType lookupType) {
+
+        hits.get(lookupType).increment();
+    }
+
+    /**
+     * Record a lookup which had to reach the database.
+     *
+     * @param lookupType Lookup type.
+     */
+    public void recordMiss(IdPLookupType lookupType) {
+
+        misses.get(lookupType).increment();
+    }
+
+    /**
+     * Record a lookup served by a cached negative result.
+     *
+     * @param lookupType Lookup type.
+     */
+    public void recordNegativeHit(IdPLookupType lookupType) {
+
+        negativeHits.get(lookupType).increment();
+    }
+
+    public long getHitCount(IdPLookupType lookupType) {
+
+        return hits.get(lookupType).sum();
+    }
+
+    public long getMissCount(IdPLookupType lookupType) {
+
+        return misses.get(lookupType).sum();
+    }
+
+    public long getNegativeHitCount(IdPLookupType lookupType) {
+
+        return negativeHits.get(lookupType).sum();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder stats = new StringBuilder();
+        for (IdPLookupType lookupType : IdPLookupType.values()) {
+            stats.append(lookupType).append(": hits=").append(getHitCount(lookupType))
+                    .append(", misses=").append(getMissCount(lookupType))
+                    .append(", negativeHits=").append(getNegativeHitCount(lookupType)).append("; ");
+        }
+        return stats.toString();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Cache for identity provider lookups which did not match any identity provider, so that repeated lookups with
+ * unknown values do not reach the database. Entries are meant to be short lived, and are cleared for the whole
+ * tenant when an identity provider is added or updated.
+ */
+public class IdPNegativeLookupCache extends BaseCache<IdPNegativeLookupCacheKey, Boolean> {
+
+    private static final String CACHE_NAME = "IdPNegativeLookupCache";
+    private static final IdPNegativeLookupCache INSTANCE = new IdPNegativeLookupCache();
+
+    private IdPNegativeLookupCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get identity provider negative lookup cache instance.
+     *
+     * @return Identity provider negative lookup cache instance.
+     */
+    public static IdPNegativeLookupCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for an identity provider lookup which did not match any identity provider.
+ */
+public class IdPNegativeLookupCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -1792538004361285170L;
+
+    private final IdPLookupType lookupType;
+    private final String property;
+    private final String value;
+    private final String authenticator;
+
+    public IdPNegativeLookupCacheKey(IdPLookupType lookupType, String property, String value, String authenticator) {
+
+        this.lookupType = lookupType;
+        this.property = property;
+        this.value = value;
+        this.authenticator = authenticator;
+    }
+
+    public IdPLookupType getLookupType() {
+
+        return lookupType;
+    }
+
+    public String getProperty() {
+
+        return property;
+    }
+
+    public String getValue() {
+
+        return value;
+    }
+
+    public String getAuthenticator() {
+
+        return authenticator;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IdPNegativeLookupCacheKey)) {
+            return false;
+        }
+        IdPNegativeLookupCacheKey that = (IdPNegativeLookupCacheKey) o;
+        return lookupType == that.lookupType && Objects.equals(property, that.property) &&
+                Objects.equals(value, that.value) && Objects.equals(authenticator, that.authenticator);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(lookupType, property, value, authenticator);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for a single section of an identity provider. The identity provider of the entry only carries the
+ * name and the configurations of that section, except for the basic section which carries the attributes and the
+ * properties of the identity provider without any of the other sections.
+ */
+public class IdPSectionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3920871736452981623L;
+
+    private final IdentityProvider identityProvider;
+    private final String section;
+
+    public IdPSectionCacheEntry(IdentityProvider identityProvider, String section) {
+
+        this.identityProvider = identityProvider;
+        this.section = section;
+    }
+
+    public IdentityProvider getIdentityProvider() {
+
+        return identityProvider;
+    }
+
+    /**
+     * Get the section of the identity provider held by this entry.
+     *
+     * @return Section name.
+     */
+    public String getSection() {
+
+        return section;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for a section of an identity provider.
+ */
+public class IdPSectionCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 6114926833021570194L;
+
+    private final String idPName;
+    private final String section;
+
+    public IdPSectionCacheKey(String idPName, String section) {
+
+        this.idPName = idPName;
+        this.section = section;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public String getSection() {
+
+        return section;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IdPSectionCacheKey)) {
+            return false;
+        }
+        IdPSectionCacheKey that = (IdPSectionCacheKey) o;
+        return idPName.equals(that.idPName) && section.equals(that.section);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(idPName, section);
+    }
+}
@@ -22,11 +22,23 @@ import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.json.JSONArray;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.application.common.model.CertificateInfo;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAssociationConfig;
 import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.JustInTimeProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.LocalRole;
+import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
+import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -41,11 +53,18 @@ import org.wso2.carbon.idp.mgt.cache.IdPCacheByHRI;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheBySection;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPLookupCacheStats;
+import org.wso2.carbon.idp.mgt.cache.IdPLookupType;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPNegativeLookupCache;
+import org.wso2.carbon.idp.mgt.cache.IdPNegativeLookupCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPSectionCacheEntry;
+import org.wso2.carbon.idp.mgt.cache.IdPSectionCacheKey;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCache;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.UserDefinedFederatedAuthenticatorsCacheKey;
@@ -55,6 +74,12 @@ import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +92,16 @@ public class CacheBackedIdPMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedIdPMgtDAO.class);
     private static final ExecutorService CACHE_CLEARING_EXECUTOR = Executors.newFixedThreadPool(3);
+    // Sections of an IDP which can be loaded independently.
+    private static final List<String> IDP_SECTIONS = Arrays.asList(IdPManagementConstants.IDP_CLAIMS,
+            IdPManagementConstants.IDP_ROLES, IdPManagementConstants.IDP_GROUPS,
+            IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS, IdPManagementConstants.IDP_PROVISIONING);
+    // Section cache key used when only the basic attributes and properties of an IDP are requested.
+    private static final String BASIC_SECTION = "basic";
+    // Section cache keys of all the cached parts of an IDP.
+    private static final List<String> ALL_SECTIONS = Collections.unmodifiableList(Arrays.asList(BASIC_SECTION,
+            IdPManagementConstants.IDP_CLAIMS, IdPManagementConstants.IDP_ROLES, IdPManagementConstants.IDP_GROUPS,
+            IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS, IdPManagementConstants.IDP_PROVISIONING));
 
     private IdPManagementFacade idPManagementFacade = null;
 
@@ -75,6 +110,8 @@ public class CacheBackedIdPMgtDAO {
     private IdPCacheByAuthProperty idPCacheByAuthProperty = null;
     private IdPCacheByResourceId idPCacheByResourceId = null;
     private IdPCacheByMetadataProperty idPCacheByMetadataProperty = null;
+    private IdPCacheBySection idPCacheBySection = null;
+    private IdPNegativeLookupCache idPNegativeLookupCache = null;
     private UserDefinedFederatedAuthenticatorsCache userDefinedFederatedAuthenticatorsCache = null;
 
     /**
@@ -87,6 +124,8 @@ public class CacheBackedIdPMgtDAO {
         idPCacheByAuthProperty = IdPCacheByAuthProperty.getInstance();
         idPCacheByResourceId = IdPCacheByResourceId.getInstance();
         idPCacheByMetadataProperty = IdPCacheByMetadataProperty.getInstance();
+        idPCacheBySection = IdPCacheBySection.getInstance();
+        idPNegativeLookupCache = IdPNegativeLookupCache.getInstance();
         userDefinedFederatedAuthenticatorsCache = UserDefinedFederatedAuthenticatorsCache.getInstance();
     }
 
@@ -259,6 +298,184 @@ public class CacheBackedIdPMgtDAO {
         return identityProvider;
     }
 
+    /**
+     * Get an identity provider with only the required sections loaded. A cached identity provider which has all the
+     * sections is returned as it is. Otherwise, the basic attributes and each section are cached as separate entries,
+     * so that, e.g. the login flow which only needs the federated authenticators does not load the rest, and an update
+     * of one section does not evict the others. Only the sections which are not in the cache are loaded from the DB.
+     *
+     * @param dbConnection       Database connection.
+     * @param idPName            Name of the identity provider.
+     * @param tenantId           Tenant ID of the identity provider.
+     * @param tenantDomain       Tenant domain of the identity provider.
+     * @param requiredAttributes Sections of the identity provider to load. All the sections are loaded if null.
+     * @return Identity provider with the required sections.
+     * @throws IdentityProviderManagementException Error while retrieving the identity provider.
+     */
+    public IdentityProvider getIdPByName(Connection dbConnection, String idPName, int tenantId, String tenantDomain,
+                                         List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        if (requiredAttributes == null || IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
+            // Resident IDP configurations are derived from all the sections, hence it is always loaded in full.
+            return getIdPByName(dbConnection, idPName, tenantId, tenantDomain);
+        }
+
+        IdPCacheEntry entry = idPCacheByName.getValueFromCache(new IdPNameCacheKey(idPName), tenantDomain);
+        if (entry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache entry found for Identity Provider " + idPName);
+            }
+            IdentityProvider identityProvider = entry.getIdentityProvider();
+            IdPManagementUtil.removeRandomPasswords(identityProvider, false);
+            return identityProvider;
+        }
+
+        Set<String> sections = new HashSet<>(requiredAttributes);
+        sections.retainAll(IDP_SECTIONS);
+        IdentityProvider basicIdP = getCachedIdPSection(idPName, BASIC_SECTION, tenantDomain);
+        Map<String, IdentityProvider> sectionIdPs = new HashMap<>();
+        List<String> missingSections = new ArrayList<>();
+        for (String section : sections) {
+            IdentityProvider sectionIdP = getCachedIdPSection(idPName, section, tenantDomain);
+            if (sectionIdP == null) {
+                missingSections.add(section);
+            } else {
+                sectionIdPs.put(section, sectionIdP);
+            }
+        }
+
+        if (basicIdP == null || !missingSections.isEmpty()) {
+            IdentityProvider identityProvider = idPManagementFacade.getIdPByName(dbConnection, idPName, tenantId,
+                    tenantDomain, missingSections);
+            if (identityProvider == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Entry for Identity Provider " + idPName + " not found in cache or DB");
+                }
+                return null;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Entry fetched from DB for Identity Provider " + idPName + " with sections: " +
+                        missingSections + ". Updating cache");
+            }
+            basicIdP = copyIdPBasicAttributes(identityProvider);
+            addIdPSectionToCache(idPName, BASIC_SECTION, basicIdP, tenantDomain);
+            for (String section : missingSections) {
+                IdentityProvider sectionIdP = new IdentityProvider();
+                sectionIdP.setIdentityProviderName(idPName);
+                copyIdPSection(identityProvider, sectionIdP, section);
+                addIdPSectionToCache(idPName, section, sectionIdP, tenantDomain);
+                sectionIdPs.put(section, sectionIdP);
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("Section cache entries found for Identity Provider " + idPName + " with sections: " + sections);
+        }
+
+        // Assemble a new identity provider, so that the cached sections are not modified.
+        IdentityProvider identityProvider = copyIdPBasicAttributes(basicIdP);
+        for (Map.Entry<String, IdentityProvider> sectionIdP : sectionIdPs.entrySet()) {
+            copyIdPSection(sectionIdP.getValue(), identityProvider, sectionIdP.getKey());
+        }
+        IdPManagementUtil.removeRandomPasswords(identityProvider, false);
+        return identityProvider;
+    }
+
+    /**
+     * Get the cached section of the given identity provider.
+     *
+     * @param idPName      Identity Provider name.
+     * @param section      Section of the identity provider.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @return Identity provider carrying the section, or null if the section is not cached.
+     */
+    private IdentityProvider getCachedIdPSection(String idPName, String section, String tenantDomain) {
+
+        IdPSectionCacheEntry sectionEntry = idPCacheBySection.getValueFromCache(
+                new IdPSectionCacheKey(idPName, section), tenantDomain);
+        return sectionEntry != null ? sectionEntry.getIdentityProvider() : null;
+    }
+
+    private void addIdPSectionToCache(String idPName, String section, IdentityProvider identityProvider,
+                                      String tenantDomain) {
+
+        idPCacheBySection.addToCache(new IdPSectionCacheKey(idPName, section),
+                new IdPSectionCacheEntry(identityProvider, section), tenantDomain);
+    }
+
+    /**
+     * Copy the configurations of the given section from the source identity provider to the target.
+     *
+     * @param source  Identity provider to copy the section from.
+     * @param target  Identity provider to copy the section to.
+     * @param section Section of the identity provider.
+     */
+    private void copyIdPSection(IdentityProvider source, IdentityProvider target, String section) {
+
+        switch (section) {
+            case IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS:
+                target.setFederatedAuthenticatorConfigs(source.getFederatedAuthenticatorConfigs());
+                target.setDefaultAuthenticatorConfig(source.getDefaultAuthenticatorConfig());
+                break;
+            case IdPManagementConstants.IDP_CLAIMS:
+                target.setClaimConfig(source.getClaimConfig());
+                break;
+            case IdPManagementConstants.IDP_PROVISIONING:
+                target.setProvisioningConnectorConfigs(source.getProvisioningConnectorConfigs());
+                break;
+            case IdPManagementConstants.IDP_ROLES:
+                target.setPermissionAndRoleConfig(source.getPermissionAndRoleConfig());
+                break;
+            case IdPManagementConstants.IDP_GROUPS:
+                target.setIdPGroupConfig(source.getIdPGroupConfig());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Create an identity provider which has only the basic attributes and the properties of the given identity
+     * provider, leaving out all the sections. The local claim dialect flag is kept in a new claim configuration, as it
+     * is a basic attribute.
+     *
+     * @param identityProvider Identity provider to copy.
+     * @return Identity provider with the basic attributes and the properties of the given identity provider.
+     */
+    static IdentityProvider copyIdPBasicAttributes(IdentityProvider identityProvider) {
+
+        IdentityProvider copy = new IdentityProvider();
+        copy.setId(identityProvider.getId());
+        copy.setResourceId(identityProvider.getResourceId());
+        copy.setIdentityProviderName(identityProvider.getIdentityProviderName());
+        copy.setIdentityProviderDescription(identityProvider.getIdentityProviderDescription());
+        copy.setDisplayName(identityProvider.getDisplayName());
+        copy.setAlias(identityProvider.getAlias());
+        copy.setPrimary(identityProvider.isPrimary());
+        copy.setFederationHub(identityProvider.isFederationHub());
+        copy.setHomeRealmId(identityProvider.getHomeRealmId());
+        copy.setProvisioningRole(identityProvider.getProvisioningRole());
+        copy.setEnable(identityProvider.isEnable());
+        copy.setImageUrl(identityProvider.getImageUrl());
+        copy.setTemplateId(identityProvider.getTemplateId());
+        copy.setTrustedTokenIssuer(identityProvider.isTrustedTokenIssuer());
+        copy.setIdpProperties(identityProvider.getIdpProperties());
+        copy.setJustInTimeProvisioningConfig(identityProvider.getJustInTimeProvisioningConfig());
+        copy.setFederatedAssociationConfig(identityProvider.getFederatedAssociationConfig());
+        copy.setDefaultProvisioningConnectorConfig(identityProvider.getDefaultProvisioningConnectorConfig());
+        if (ArrayUtils.isNotEmpty(identityProvider.getCertificateInfoArray())) {
+            // Same format as the certificate is stored in, so that all the certificates are kept.
+            copy.setCertificate(new JSONArray(identityProvider.getCertificateInfoArray()).toString());
+        } else {
+            copy.setCertificate(identityProvider.getCertificate());
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        if (identityProvider.getClaimConfig() != null) {
+            claimConfig.setLocalClaimDialect(identityProvider.getClaimConfig().isLocalClaimDialect());
+        }
+        copy.setClaimConfig(claimConfig);
+        return copy;
+    }
+
     /**
      * @param dbConnection Database connection.
      * @param id Id of the identity provider.
@@ -418,12 +635,17 @@ public class CacheBackedIdPMgtDAO {
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
+            IdPLookupCacheStats.getInstance().recordHit(IdPLookupType.AUTHENTICATOR_PROPERTY);
             IdentityProvider identityProvider = entry.getIdentityProvider();
             return identityProvider;
-        } else {
-            log.debug("Cache entry not found for Identity Provider with authenticator property " + property
-                    + " and with value " + value + ". Fetching entry from DB");
         }
+        IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(
+                IdPLookupType.AUTHENTICATOR_PROPERTY, property, value, null);
+        if (isNegativeLookupCached(negativeCacheKey, tenantDomain)) {
+            return null;
+        }
+        log.debug("Cache entry not found for Identity Provider with authenticator property " + property
+                + " and with value " + value + ". Fetching entry from DB");
 
         IdentityProvider identityProvider = idPManagementFacade.getIdPByAuthenticatorPropertyValue(dbConnection, property, value,
                                                                                          tenantId, tenantDomain);
@@ -443,6 +665,7 @@ public class CacheBackedIdPMgtDAO {
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
                     + value + " not found in cache or DB");
+            idPNegativeLookupCache.addToCache(negativeCacheKey, Boolean.TRUE, tenantDomain);
         }
 
         return identityProvider;
@@ -468,12 +691,17 @@ public class CacheBackedIdPMgtDAO {
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
+            IdPLookupCacheStats.getInstance().recordHit(IdPLookupType.AUTHENTICATOR_PROPERTY);
             IdentityProvider identityProvider = entry.getIdentityProvider();
             return identityProvider;
-        } else {
-            log.debug("Cache entry not found for Identity Provider with authenticator property " + property
-                    + " and with value " + value + ". Fetching entry from DB");
         }
+        IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(
+                IdPLookupType.AUTHENTICATOR_PROPERTY, property, value, authenticator);
+        if (isNegativeLookupCached(negativeCacheKey, tenantDomain)) {
+            return null;
+        }
+        log.debug("Cache entry not found for Identity Provider with authenticator property " + property
+                + " and with value " + value + ". Fetching entry from DB");
 
         IdentityProvider identityProvider = idPManagementFacade.getIdPByAuthenticatorPropertyValue(dbConnection, property,
                 value, authenticator, tenantId, tenantDomain);
@@ -492,6 +720,7 @@ public class CacheBackedIdPMgtDAO {
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
                     + value + " not found in cache or DB");
+            idPNegativeLookupCache.addToCache(negativeCacheKey, Boolean.TRUE, tenantDomain);
         }
 
         return identityProvider;
@@ -511,11 +740,16 @@ public class CacheBackedIdPMgtDAO {
         IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
         if (entry != null) {
             log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
+            IdPLookupCacheStats.getInstance().recordHit(IdPLookupType.HOME_REALM_ID);
             return entry.getIdentityProvider();
-        } else {
-            log.debug("Cache entry not found for Identity Provider with Home Realm ID " + realmId
-                    + ". Fetching entry from DB");
         }
+        IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(IdPLookupType.HOME_REALM_ID,
+                null, realmId, null);
+        if (isNegativeLookupCached(negativeCacheKey, tenantDomain)) {
+            return null;
+        }
+        log.debug("Cache entry not found for Identity Provider with Home Realm ID " + realmId
+                + ". Fetching entry from DB");
 
         IdentityProvider identityProvider = idPManagementFacade.getIdPByRealmId(realmId, tenantId, tenantDomain);
 
@@ -528,6 +762,7 @@ public class CacheBackedIdPMgtDAO {
         } else {
             log.debug("Entry for Identity Provider with Home Realm ID " + realmId
                     + " not found in cache or DB");
+            idPNegativeLookupCache.addToCache(negativeCacheKey, Boolean.TRUE, tenantDomain);
         }
 
         return identityProvider;
@@ -553,6 +788,7 @@ public class CacheBackedIdPMgtDAO {
             }
             // Check whether the idp in the cache is enabled.
             if (entry.getIdentityProvider().isEnable()) {
+                IdPLookupCacheStats.getInstance().recordHit(IdPLookupType.ENABLED_HOME_REALM_ID);
                 return entry.getIdentityProvider();
             }
             if (log.isDebugEnabled()) {
@@ -565,6 +801,11 @@ public class CacheBackedIdPMgtDAO {
                         + ". Fetching entry from DB.");
             }
         }
+        IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(
+                IdPLookupType.ENABLED_HOME_REALM_ID, null, realmId, null);
+        if (isNegativeLookupCached(negativeCacheKey, tenantDomain)) {
+            return null;
+        }
 
         IdentityProvider identityProvider = idPManagementFacade.getEnabledIdPByRealmId(realmId, tenantId, tenantDomain);
 
@@ -581,6 +822,7 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Entry for Identity Provider with Home Realm ID " + realmId
                         + " not found in cache or DB.");
             }
+            idPNegativeLookupCache.addToCache(negativeCacheKey, Boolean.TRUE, tenantDomain);
         }
         return identityProvider;
     }
@@ -598,7 +840,10 @@ public class CacheBackedIdPMgtDAO {
 
         userDefinedFederatedAuthenticatorsCache.clearCacheEntry(
                 new UserDefinedFederatedAuthenticatorsCacheKey(tenantId), tenantId);
-        return idPManagementFacade.addIdPWithResourceId(identityProvider, tenantId);
+        String resourceId = idPManagementFacade.addIdPWithResourceId(identityProvider, tenantId);
+        // The new IDP may match lookups which were cached as misses.
+        idPNegativeLookupCache.clear(tenantDomain);
+        return resourceId;
     }
 
     /**
@@ -617,9 +862,11 @@ public class CacheBackedIdPMgtDAO {
                     + currentIdentityProvider.getIdentityProviderName() + " from cache");
         }
         clearIdpCache(currentIdentityProvider.getIdentityProviderName(), currentIdentityProvider.getResourceId(),
-                tenantId, tenantDomain);
+                tenantId, tenantDomain, getUpdatedIdPSections(currentIdentityProvider, newIdentityProvider));
         idPManagementFacade.updateIdPWithResourceId(currentIdentityProvider.getResourceId(),
                 newIdentityProvider, currentIdentityProvider, tenantId);
+        // The updated IDP may match lookups which were cached as misses.
+        idPNegativeLookupCache.clear(tenantDomain);
     }
 
     /**
@@ -799,6 +1046,22 @@ public class CacheBackedIdPMgtDAO {
     public void clearIdpCache(String idPName, String resourceId, int tenantId, String tenantDomain) throws
             IdentityProviderManagementException {
 
+        clearIdpCache(idPName, resourceId, tenantId, tenantDomain, ALL_SECTIONS);
+    }
+
+    /**
+     * Clear the cache entries of the given identity provider, clearing only the given section cache entries of it.
+     *
+     * @param idPName      Identity Provider name.
+     * @param resourceId   Resource ID of the identity provider.
+     * @param tenantId     Tenant ID of the identity provider.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param sections     Sections of the identity provider to clear from the section cache.
+     * @throws IdentityProviderManagementException Error while retrieving the identity provider.
+     */
+    private void clearIdpCache(String idPName, String resourceId, int tenantId, String tenantDomain,
+                               Collection<String> sections) throws IdentityProviderManagementException {
+
         // clearing cache entries related to the IDP.
         IdentityProvider identityProvider;
         if (StringUtils.isNotBlank(resourceId)) {
@@ -813,7 +1076,7 @@ public class CacheBackedIdPMgtDAO {
                         " from cache.");
             }
 
-            clearIdPCacheEntries(identityProvider, idPName, resourceId, tenantDomain, tenantId);
+            clearIdPCacheEntries(identityProvider, idPName, resourceId, tenantDomain, tenantId, sections);
             if (IdPManagementConstants.RESIDENT_IDP.equals(idPName)) {
                 // Since resident IDP properties are inherited, we need to clear the cache of all child organizations.
                 clearDescendantIdpCache(idPName, tenantDomain);
@@ -867,7 +1130,8 @@ public class CacheBackedIdPMgtDAO {
                     int tenantId = IdentityTenantUtil.getTenantId(childOrgId);
                     Optional<IdentityProvider> identityProvider = this.getCachedIdpByName(idPName, childOrgId);
                     identityProvider.ifPresent(
-                            provider -> clearIdPCacheEntries(provider, idPName, null, childOrgId, tenantId));
+                            provider -> clearIdPCacheEntries(provider, idPName, null, childOrgId, tenantId,
+                                    ALL_SECTIONS));
                 }
             } catch (OrganizationManagementException e) {
                 log.error("Error while asynchronously clearing IDP cache for child organizations of " +
@@ -884,9 +1148,10 @@ public class CacheBackedIdPMgtDAO {
      * @param resourceId       Resource ID of the identity provider.
      * @param tenantDomain     Tenant domain of the identity provider.
      * @param tenantId         Tenant ID of the identity provider.
+     * @param sections         Sections of the identity provider to clear from the section cache.
      */
     private void clearIdPCacheEntries(IdentityProvider identityProvider, String idPName, String resourceId,
-                                      String tenantDomain, int tenantId) {
+                                      String tenantDomain, int tenantId, Collection<String> sections) {
 
         IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(idPName);
         idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
@@ -911,6 +1176,352 @@ public class CacheBackedIdPMgtDAO {
 
         userDefinedFederatedAuthenticatorsCache.clearCacheEntry(
                 new UserDefinedFederatedAuthenticatorsCacheKey(tenantId), tenantId);
+        for (String section : sections) {
+            clearIdPSectionCacheEntry(identityProvider.getIdentityProviderName(), section, tenantDomain);
+        }
+    }
+
+    /**
+     * Clear the cache entry of a single section of the given identity provider, leaving the other sections cached.
+     *
+     * @param idPName      Identity Provider name.
+     * @param section      Section of the identity provider.
+     * @param tenantDomain Tenant domain of the identity provider.
+     */
+    private void clearIdPSectionCacheEntry(String idPName, String section, String tenantDomain) {
+
+        idPCacheBySection.clearCacheEntry(new IdPSectionCacheKey(idPName, section), tenantDomain);
+    }
+
+    /**
+     * Get the sections of an identity provider which are changed by updating it to the given identity provider. Only
+     * these section cache entries are cleared on the update, so that, e.g. an update of the federated authenticators
+     * keeps the cached claims and roles. A section is considered changed unless it is equal in both identity
+     * providers, hence a section which cannot be compared is always cleared.
+     *
+     * @param currentIdentityProvider Current Identity Provider information.
+     * @param newIdentityProvider     New Identity Provider information.
+     * @return Section cache keys of the changed sections.
+     */
+    private List<String> getUpdatedIdPSections(IdentityProvider currentIdentityProvider,
+                                               IdentityProvider newIdentityProvider) {
+
+        boolean isResourceIdChanged = StringUtils.isNotBlank(newIdentityProvider.getResourceId()) &&
+                !StringUtils.equals(currentIdentityProvider.getResourceId(), newIdentityProvider.getResourceId());
+        if (isResourceIdChanged || !StringUtils.equals(currentIdentityProvider.getIdentityProviderName(),
+                newIdentityProvider.getIdentityProviderName())) {
+            // Section cache entries are keyed by the IDP name, hence none of them are valid after a rename.
+            return ALL_SECTIONS;
+        }
+
+        List<String> updatedSections = new ArrayList<>();
+        if (!isSameBasicAttributes(currentIdentityProvider, newIdentityProvider)) {
+            updatedSections.add(BASIC_SECTION);
+        }
+        if (!isSameFederatedAuthenticatorConfigs(currentIdentityProvider, newIdentityProvider)) {
+            updatedSections.add(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS);
+        }
+        if (!isSameClaimConfig(currentIdentityProvider.getClaimConfig(), newIdentityProvider.getClaimConfig())) {
+            updatedSections.add(IdPManagementConstants.IDP_CLAIMS);
+        }
+        if (!isSameRoleConfig(currentIdentityProvider.getPermissionAndRoleConfig(),
+                newIdentityProvider.getPermissionAndRoleConfig())) {
+            updatedSections.add(IdPManagementConstants.IDP_ROLES);
+        }
+        if (!isSameGroupConfig(currentIdentityProvider.getIdPGroupConfig(), newIdentityProvider.getIdPGroupConfig())) {
+            updatedSections.add(IdPManagementConstants.IDP_GROUPS);
+        }
+        if (!isSameProvisioningConnectorConfigs(currentIdentityProvider.getProvisioningConnectorConfigs(),
+                newIdentityProvider.getProvisioningConnectorConfigs())) {
+            updatedSections.add(IdPManagementConstants.IDP_PROVISIONING);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Updated sections of Identity Provider " + currentIdentityProvider.getIdentityProviderName() +
+                    ": " + updatedSections);
+        }
+        return updatedSections;
+    }
+
+    private boolean isSameBasicAttributes(IdentityProvider currentIdP, IdentityProvider newIdP) {
+
+        if (!StringUtils.equals(currentIdP.getIdentityProviderDescription(), newIdP.getIdentityProviderDescription())
+                || !StringUtils.equals(currentIdP.getDisplayName(), newIdP.getDisplayName())
+                || !StringUtils.equals(currentIdP.getAlias(), newIdP.getAlias())
+                || !StringUtils.equals(currentIdP.getHomeRealmId(), newIdP.getHomeRealmId())
+                || !StringUtils.equals(currentIdP.getProvisioningRole(), newIdP.getProvisioningRole())
+                || !StringUtils.equals(currentIdP.getImageUrl(), newIdP.getImageUrl())
+                || !StringUtils.equals(currentIdP.getTemplateId(), newIdP.getTemplateId())
+                || currentIdP.isPrimary() != newIdP.isPrimary()
+                || currentIdP.isFederationHub() != newIdP.isFederationHub()
+                || currentIdP.isEnable() != newIdP.isEnable()
+                || currentIdP.isTrustedTokenIssuer() != newIdP.isTrustedTokenIssuer()) {
+            return false;
+        }
+        ClaimConfig currentClaimConfig = currentIdP.getClaimConfig();
+        ClaimConfig newClaimConfig = newIdP.getClaimConfig();
+        if ((currentClaimConfig != null && currentClaimConfig.isLocalClaimDialect()) !=
+                (newClaimConfig != null && newClaimConfig.isLocalClaimDialect())) {
+            return false;
+        }
+        ProvisioningConnectorConfig currentDefaultConnector = currentIdP.getDefaultProvisioningConnectorConfig();
+        ProvisioningConnectorConfig newDefaultConnector = newIdP.getDefaultProvisioningConnectorConfig();
+        if (!StringUtils.equals(currentDefaultConnector != null ? currentDefaultConnector.getName() : null,
+                newDefaultConnector != null ? newDefaultConnector.getName() : null)) {
+            return false;
+        }
+        return isSameCertificates(currentIdP.getCertificateInfoArray(), newIdP.getCertificateInfoArray())
+                && isSameIdPProperties(currentIdP.getIdpProperties(), newIdP.getIdpProperties())
+                && isSameJustInTimeProvisioningConfig(currentIdP.getJustInTimeProvisioningConfig(),
+                newIdP.getJustInTimeProvisioningConfig())
+                && isSameFederatedAssociationConfig(currentIdP.getFederatedAssociationConfig(),
+                newIdP.getFederatedAssociationConfig());
+    }
+
+    private boolean isSameCertificates(CertificateInfo[] currentCertificates, CertificateInfo[] newCertificates) {
+
+        if (ArrayUtils.getLength(currentCertificates) != ArrayUtils.getLength(newCertificates)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentCertificates); i++) {
+            if (!StringUtils.equals(currentCertificates[i].getThumbPrint(), newCertificates[i].getThumbPrint())
+                    || !StringUtils.equals(currentCertificates[i].getCertValue(), newCertificates[i].getCertValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameIdPProperties(IdentityProviderProperty[] currentProperties,
+                                        IdentityProviderProperty[] newProperties) {
+
+        if (ArrayUtils.getLength(currentProperties) != ArrayUtils.getLength(newProperties)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentProperties); i++) {
+            if (!StringUtils.equals(currentProperties[i].getName(), newProperties[i].getName())
+                    || !StringUtils.equals(currentProperties[i].getValue(), newProperties[i].getValue())
+                    || !StringUtils.equals(currentProperties[i].getDisplayName(), newProperties[i].getDisplayName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameJustInTimeProvisioningConfig(JustInTimeProvisioningConfig currentConfig,
+                                                       JustInTimeProvisioningConfig newConfig) {
+
+        if (currentConfig == null || newConfig == null) {
+            return currentConfig == newConfig;
+        }
+        return currentConfig.isProvisioningEnabled() == newConfig.isProvisioningEnabled()
+                && StringUtils.equals(currentConfig.getProvisioningUserStore(), newConfig.getProvisioningUserStore())
+                && currentConfig.isDumbMode() == newConfig.isDumbMode()
+                && currentConfig.isPasswordProvisioningEnabled() == newConfig.isPasswordProvisioningEnabled()
+                && StringUtils.equals(currentConfig.getUserStoreClaimUri(), newConfig.getUserStoreClaimUri())
+                && currentConfig.isModifyUserNameAllowed() == newConfig.isModifyUserNameAllowed()
+                && currentConfig.isPromptConsent() == newConfig.isPromptConsent()
+                && currentConfig.isAssociateLocalUserEnabled() == newConfig.isAssociateLocalUserEnabled()
+                && StringUtils.equals(currentConfig.getAttributeSyncMethod(), newConfig.getAttributeSyncMethod());
+    }
+
+    private boolean isSameFederatedAssociationConfig(FederatedAssociationConfig currentConfig,
+                                                     FederatedAssociationConfig newConfig) {
+
+        if (currentConfig == null || newConfig == null) {
+            return currentConfig == newConfig;
+        }
+        return currentConfig.isEnabled() == newConfig.isEnabled()
+                && Arrays.equals(currentConfig.getLookupAttributes(), newConfig.getLookupAttributes());
+    }
+
+    private boolean isSameFederatedAuthenticatorConfigs(IdentityProvider currentIdP, IdentityProvider newIdP) {
+
+        FederatedAuthenticatorConfig currentDefault = currentIdP.getDefaultAuthenticatorConfig();
+        FederatedAuthenticatorConfig newDefault = newIdP.getDefaultAuthenticatorConfig();
+        if (!StringUtils.equals(currentDefault != null ? currentDefault.getName() : null,
+                newDefault != null ? newDefault.getName() : null)) {
+            return false;
+        }
+        FederatedAuthenticatorConfig[] currentConfigs = currentIdP.getFederatedAuthenticatorConfigs();
+        FederatedAuthenticatorConfig[] newConfigs = newIdP.getFederatedAuthenticatorConfigs();
+        if (ArrayUtils.getLength(currentConfigs) != ArrayUtils.getLength(newConfigs)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentConfigs); i++) {
+            FederatedAuthenticatorConfig currentConfig = currentConfigs[i];
+            FederatedAuthenticatorConfig newConfig = newConfigs[i];
+            // Extended configurations, e.g. of user defined authenticators, carry more than the compared attributes.
+            if (currentConfig == null || newConfig == null
+                    || currentConfig.getClass() != FederatedAuthenticatorConfig.class
+                    || newConfig.getClass() != FederatedAuthenticatorConfig.class) {
+                return false;
+            }
+            if (!StringUtils.equals(currentConfig.getName(), newConfig.getName())
+                    || !StringUtils.equals(currentConfig.getDisplayName(), newConfig.getDisplayName())
+                    || currentConfig.isEnabled() != newConfig.isEnabled()
+                    || currentConfig.getDefinedByType() != newConfig.getDefinedByType()
+                    || !Arrays.equals(currentConfig.getTags(), newConfig.getTags())
+                    || !isSameProperties(currentConfig.getProperties(), newConfig.getProperties())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameProperties(Property[] currentProperties, Property[] newProperties) {
+
+        if (ArrayUtils.getLength(currentProperties) != ArrayUtils.getLength(newProperties)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentProperties); i++) {
+            if (currentProperties[i] == null || newProperties[i] == null) {
+                if (currentProperties[i] != newProperties[i]) {
+                    return false;
+                }
+            } else if (!currentProperties[i].equals(newProperties[i])
+                    || currentProperties[i].isConfidential() != newProperties[i].isConfidential()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameClaimConfig(ClaimConfig currentConfig, ClaimConfig newConfig) {
+
+        if (currentConfig == null || newConfig == null) {
+            return currentConfig == newConfig;
+        }
+        if (!StringUtils.equals(currentConfig.getRoleClaimURI(), newConfig.getRoleClaimURI())
+                || !StringUtils.equals(currentConfig.getUserClaimURI(), newConfig.getUserClaimURI())
+                || currentConfig.isLocalClaimDialect() != newConfig.isLocalClaimDialect()
+                || currentConfig.isAlwaysSendMappedLocalSubjectId() != newConfig.isAlwaysSendMappedLocalSubjectId()
+                || currentConfig.isMappedLocalSubjectMandatory() != newConfig.isMappedLocalSubjectMandatory()
+                || !Arrays.equals(currentConfig.getSpClaimDialects(), newConfig.getSpClaimDialects())) {
+            return false;
+        }
+        Claim[] currentClaims = currentConfig.getIdpClaims();
+        Claim[] newClaims = newConfig.getIdpClaims();
+        if (ArrayUtils.getLength(currentClaims) != ArrayUtils.getLength(newClaims)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentClaims); i++) {
+            if (!isSameClaim(currentClaims[i], newClaims[i])) {
+                return false;
+            }
+        }
+        ClaimMapping[] currentMappings = currentConfig.getClaimMappings();
+        ClaimMapping[] newMappings = newConfig.getClaimMappings();
+        if (ArrayUtils.getLength(currentMappings) != ArrayUtils.getLength(newMappings)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentMappings); i++) {
+            ClaimMapping currentMapping = currentMappings[i];
+            ClaimMapping newMapping = newMappings[i];
+            if (currentMapping == null || newMapping == null) {
+                if (currentMapping != newMapping) {
+                    return false;
+                }
+            } else if (!isSameClaim(currentMapping.getLocalClaim(), newMapping.getLocalClaim())
+                    || !isSameClaim(currentMapping.getRemoteClaim(), newMapping.getRemoteClaim())
+                    || !StringUtils.equals(currentMapping.getDefaultValue(), newMapping.getDefaultValue())
+                    || currentMapping.isRequested() != newMapping.isRequested()
+                    || currentMapping.isMandatory() != newMapping.isMandatory()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameClaim(Claim currentClaim, Claim newClaim) {
+
+        if (currentClaim == null || newClaim == null) {
+            return currentClaim == newClaim;
+        }
+        return StringUtils.equals(currentClaim.getClaimUri(), newClaim.getClaimUri())
+                && currentClaim.getClaimId() == newClaim.getClaimId();
+    }
+
+    private boolean isSameRoleConfig(PermissionsAndRoleConfig currentConfig, PermissionsAndRoleConfig newConfig) {
+
+        if (currentConfig == null || newConfig == null) {
+            return currentConfig == newConfig;
+        }
+        if (ArrayUtils.isNotEmpty(currentConfig.getPermissions()) || ArrayUtils.isNotEmpty(newConfig.getPermissions())
+                || !Arrays.equals(currentConfig.getIdpRoles(), newConfig.getIdpRoles())) {
+            return false;
+        }
+        RoleMapping[] currentMappings = currentConfig.getRoleMappings();
+        RoleMapping[] newMappings = newConfig.getRoleMappings();
+        if (ArrayUtils.getLength(currentMappings) != ArrayUtils.getLength(newMappings)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentMappings); i++) {
+            RoleMapping currentMapping = currentMappings[i];
+            RoleMapping newMapping = newMappings[i];
+            if (currentMapping == null || newMapping == null) {
+                if (currentMapping != newMapping) {
+                    return false;
+                }
+                continue;
+            }
+            LocalRole currentLocalRole = currentMapping.getLocalRole();
+            LocalRole newLocalRole = newMapping.getLocalRole();
+            if (!StringUtils.equals(currentMapping.getRemoteRole(), newMapping.getRemoteRole())) {
+                return false;
+            }
+            if (currentLocalRole == null || newLocalRole == null) {
+                if (currentLocalRole != newLocalRole) {
+                    return false;
+                }
+            } else if (!StringUtils.equals(currentLocalRole.getLocalRoleName(), newLocalRole.getLocalRoleName())
+                    || !StringUtils.equals(currentLocalRole.getUserStoreId(), newLocalRole.getUserStoreId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameGroupConfig(IdPGroup[] currentGroups, IdPGroup[] newGroups) {
+
+        if (ArrayUtils.getLength(currentGroups) != ArrayUtils.getLength(newGroups)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentGroups); i++) {
+            if (currentGroups[i] == null || newGroups[i] == null) {
+                if (currentGroups[i] != newGroups[i]) {
+                    return false;
+                }
+            } else if (!StringUtils.equals(currentGroups[i].getIdpGroupName(), newGroups[i].getIdpGroupName())
+                    || !StringUtils.equals(currentGroups[i].getIdpGroupId(), newGroups[i].getIdpGroupId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSameProvisioningConnectorConfigs(ProvisioningConnectorConfig[] currentConfigs,
+                                                       ProvisioningConnectorConfig[] newConfigs) {
+
+        if (ArrayUtils.getLength(currentConfigs) != ArrayUtils.getLength(newConfigs)) {
+            return false;
+        }
+        for (int i = 0; i < ArrayUtils.getLength(currentConfigs); i++) {
+            ProvisioningConnectorConfig currentConfig = currentConfigs[i];
+            ProvisioningConnectorConfig newConfig = newConfigs[i];
+            if (currentConfig == null || newConfig == null) {
+                if (currentConfig != newConfig) {
+                    return false;
+                }
+            } else if (!StringUtils.equals(currentConfig.getName(), newConfig.getName())
+                    || currentConfig.isEnabled() != newConfig.isEnabled()
+                    || currentConfig.isBlocking() != newConfig.isBlocking()
+                    || currentConfig.isRulesEnabled() != newConfig.isRulesEnabled()
+                    || !isSameProperties(currentConfig.getProvisioningProperties(),
+                    newConfig.getProvisioningProperties())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -949,6 +1560,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            clearIdPSectionCacheEntry(identityProviderName, IdPManagementConstants.IDP_ROLES, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -987,6 +1599,7 @@ public class CacheBackedIdPMgtDAO {
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(
                     identityProvider.getIdentityProviderName());
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            clearIdPSectionCacheEntry(identityProviderName, IdPManagementConstants.IDP_ROLES, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1022,6 +1635,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            clearIdPSectionCacheEntry(identityProviderName, IdPManagementConstants.IDP_CLAIMS, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1058,6 +1672,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            clearIdPSectionCacheEntry(identityProviderName, IdPManagementConstants.IDP_CLAIMS, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1169,12 +1784,17 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Cache entry IDP name: " + idPName + " found for IDP metadata property name: "
                         + property + " value: " + value);
             }
+            IdPLookupCacheStats.getInstance().recordHit(IdPLookupType.METADATA_PROPERTY);
             return idPName;
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache entry not found for IDP metadata property name: "
-                        + property + " value: " + value + ". Fetching entry from DB");
-            }
+        }
+        IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(IdPLookupType.METADATA_PROPERTY,
+                property, value, null);
+        if (isNegativeLookupCached(negativeCacheKey, tenantDomain)) {
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache entry not found for IDP metadata property name: "
+                    + property + " value: " + value + ". Fetching entry from DB");
         }
 
         idPName = idPManagementFacade.getIdPNameByMetadataProperty(dbConnection, property, value, tenantId);
@@ -1188,11 +1808,34 @@ public class CacheBackedIdPMgtDAO {
             if (log.isDebugEnabled()) {
                 log.debug("DB entry not found for IDP metadata property name: " + property + " value: " + value);
             }
+            idPNegativeLookupCache.addToCache(negativeCacheKey, Boolean.TRUE, tenantDomain);
         }
 
         return idPName;
     }
 
+    /**
+     * Check whether a lookup which is not served by the IDP caches is cached as a miss, and record the lookup in
+     * the lookup cache stats.
+     *
+     * @param negativeCacheKey Negative lookup cache key of the lookup.
+     * @param tenantDomain     Tenant domain of the lookup.
+     * @return True if the lookup is cached as a miss.
+     */
+    private boolean isNegativeLookupCached(IdPNegativeLookupCacheKey negativeCacheKey, String tenantDomain) {
+
+        if (idPNegativeLookupCache.getValueFromCache(negativeCacheKey, tenantDomain) != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Negative cache entry found for Identity Provider lookup: "
+                        + negativeCacheKey.getLookupType() + " with value: " + negativeCacheKey.getValue());
+            }
+            IdPLookupCacheStats.getInstance().recordNegativeHit(negativeCacheKey.getLookupType());
+            return true;
+        }
+        IdPLookupCacheStats.getInstance().recordMiss(negativeCacheKey.getLookupType());
+        return false;
+    }
+
     private String getIDPIssuerName(IdentityProvider identityProvider) {
 
         IdentityProviderProperty[] identityProviderProperties = identityProvider.getIdpProperties();
@@ -678,6 +678,7 @@ public class IdPManagementDAO {
             throws SQLException, IdentityProviderManagementServerException {
 
         List<IdentityProvider> identityProviderList = new ArrayList<>();
+        List<IdentityProvider> loadedIdentityProviders = new ArrayList<>();
         while (resultSet.next()) {
             IdentityProvider identityProvider = new IdentityProvider();
             // First set the basic attributes such as id, name, description, isEnabled, image url, uuid.
@@ -704,9 +705,18 @@ public class IdPManagementDAO {
                     .equals(identityProvider.getIdentityProviderName())) {
                 identityProviderList.add(identityProvider);
             }
-            List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
-                    Integer.parseInt(resultSet.getString("ID")), tenantId);
-            identityProvider.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+            loadedIdentityProviders.add(identityProvider);
+        }
+
+        // Load the properties of the whole page at once rather than with a query per identity provider.
+        List<Integer> idpIds = loadedIdentityProviders.stream()
+                .map(identityProvider -> Integer.parseInt(identityProvider.getId()))
+                .collect(Collectors.toList());
+        Map<Integer, List<IdentityProviderProperty>> idpProperties =
+                getIdentityPropertiesByIdpIds(dbConnection, idpIds, tenantId);
+        for (IdentityProvider identityProvider : loadedIdentityProviders) {
+            identityProvider.setIdpProperties(idpProperties.get(Integer.parseInt(identityProvider.getId()))
+                    .toArray(new IdentityProviderProperty[0]));
         }
         return identityProviderList;
     }
@@ -1037,6 +1047,108 @@ public class IdPManagementDAO {
         PreparedStatement prepStmt = null;
         ResultSet rs = null;
         List<IdentityProviderProperty> idpProperties = new ArrayList<IdentityProviderProperty>();
+
+        try {
+            String sqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID_H2 :
+                    IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID;
+            prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setInt(1, idpId);
+            rs = prepStmt.executeQuery();
+            while (rs.next()) {
+                idpProperties.add(buildIdentityProviderProperty(rs));
+            }
+            correctIdentityProperties(dbConnection, idpId, tenantId, idpProperties);
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving IDP properties for IDP ID: " + idpId, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(null, rs, prepStmt);
+        }
+        return idpProperties;
+    }
+
+    /**
+     * Get the Identity properties of a set of identity providers with one query per batch of IDs, instead of one
+     * query per identity provider.
+     *
+     * @param dbConnection Database connection.
+     * @param idpIds       IDs of the identity providers.
+     * @param tenantId     Tenant ID of the identity providers.
+     * @return Identity provider properties against the identity provider ID. Every given ID has an entry.
+     * @throws SQLException Error while retrieving the properties.
+     */
+    private Map<Integer, List<IdentityProviderProperty>> getIdentityPropertiesByIdpIds(Connection dbConnection,
+                                                                                       List<Integer> idpIds,
+                                                                                       int tenantId)
+            throws SQLException {
+
+        Map<Integer, List<IdentityProviderProperty>> idpProperties = new HashMap<>();
+        for (Integer idpId : idpIds) {
+            idpProperties.put(idpId, new ArrayList<>());
+        }
+        String sqlStmt;
+        try {
+            sqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS_H2 :
+                    IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS;
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving IDP properties for IDP IDs: " + idpIds, e);
+        }
+        for (List<Integer> batch : partitionIdpIds(idpIds)) {
+            String query = sqlStmt.replace(IdPManagementConstants.IDP_ID_LIST_PLACEHOLDER,
+                    String.join(",", Collections.nCopies(batch.size(), "?")));
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(query)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    prepStmt.setInt(i + 1, batch.get(i));
+                }
+                try (ResultSet rs = prepStmt.executeQuery()) {
+                    while (rs.next()) {
+                        idpProperties.get(rs.getInt("IDP_ID")).add(buildIdentityProviderProperty(rs));
+                    }
+                }
+            }
+        }
+        for (Map.Entry<Integer, List<IdentityProviderProperty>> entry : idpProperties.entrySet()) {
+            correctIdentityProperties(dbConnection, entry.getKey(), tenantId, entry.getValue());
+        }
+        return idpProperties;
+    }
+
+    /**
+     * Split the given identity provider IDs into batches that fit into a single IN clause.
+     *
+     * @param idpIds Identity provider IDs.
+     * @return Batches of identity provider IDs.
+     */
+    private List<List<Integer>> partitionIdpIds(List<Integer> idpIds) {
+
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int i = 0; i < idpIds.size(); i += IdPManagementConstants.IDP_ID_BATCH_SIZE) {
+            batches.add(idpIds.subList(i, Math.min(i + IdPManagementConstants.IDP_ID_BATCH_SIZE, idpIds.size())));
+        }
+        return batches;
+    }
+
+    private IdentityProviderProperty buildIdentityProviderProperty(ResultSet rs) throws SQLException {
+
+        IdentityProviderProperty property = new IdentityProviderProperty();
+        property.setName(rs.getString("NAME"));
+        property.setValue(rs.getString("VALUE"));
+        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return property;
+    }
+
+    /**
+     * Correct the recovery related properties of an identity provider if they are inconsistent.
+     *
+     * @param dbConnection  Database connection.
+     * @param idpId         Identity provider ID.
+     * @param tenantId      Tenant ID of the identity provider.
+     * @param idpProperties Properties of the identity provider, as stored in the database.
+     * @throws SQLException Error while persisting the corrected properties.
+     */
+    private void correctIdentityProperties(Connection dbConnection, int idpId, int tenantId,
+                                           List<IdentityProviderProperty> idpProperties)
+            throws SQLException {
+
         boolean isRecoveryNotificationPasswordRecoveryEnabled = false;
         boolean isEmailLinkNotificationPasswordRecoveryEnabled = false;
         boolean isEmailOTPNotificationPasswordRecoveryEnabled = false;
@@ -1051,80 +1163,56 @@ public class IdPManagementDAO {
         boolean isAdminForcePasswordResetSMSOTPEnabled = false;
         boolean isAdminForcePasswordResetOfflineEnabled = false;
 
-        try {
-            String sqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID_H2 :
-                    IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID;
-            prepStmt = dbConnection.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, idpId);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                IdentityProviderProperty property = new IdentityProviderProperty();
-                property.setName(rs.getString("NAME"));
-                if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(property.getName())) {
-                    isRecoveryNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailLinkNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailOTPNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsOtpNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_LINK_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetEmailLinkEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_OTP_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetEmailOTPEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_SMS_OTP_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetSMSOTPEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_OFFLINE_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetOfflineEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                property.setValue(rs.getString("VALUE"));
-                property.setDisplayName(rs.getString("DISPLAY_NAME"));
-                idpProperties.add(property);
+        for (IdentityProviderProperty property : idpProperties) {
+            boolean value = Boolean.parseBoolean(property.getValue());
+            if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(property.getName())) {
+                isRecoveryNotificationPasswordRecoveryEnabled = value;
             }
-            // If recovery notification are inconsistent, correct the configurations.
-            if (isRecoveryNotificationPasswordRecoveryEnabled && !isEmailLinkNotificationPasswordRecoveryEnabled &&
-                    !isEmailOTPNotificationPasswordRecoveryEnabled && !isSmsOtpNotificationPasswordRecoveryEnabled) {
-                performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+            if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
+                isEmailLinkNotificationPasswordRecoveryEnabled = value;
             }
-            // If username recovery configs are inconsistent, correct the configurations.
-            if (isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled && !isSmsUsernameRecoveryEnabled) {
-                performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+            if (IdPManagementConstants.EMAIL_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
+                isEmailOTPNotificationPasswordRecoveryEnabled = value;
             }
-            // If admin force password reset configs are inconsistent, correct the configurations.
-            if (!isAdminForcePasswordResetEmailLinkEnabled && !isAdminForcePasswordResetEmailOTPEnabled
-                    && !isAdminForcePasswordResetSMSOTPEnabled && !isAdminForcePasswordResetOfflineEnabled) {
-                performConfigCorrectionForAdminForcedPasswordResetConfigs(idpProperties);
+            if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
+                isSmsOtpNotificationPasswordRecoveryEnabled = value;
+            }
+            if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isUsernameRecoveryEnabled = value;
+            }
+            if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isEmailUsernameRecoveryEnabled = value;
+            }
+            if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
+                isSmsUsernameRecoveryEnabled = value;
+            }
+            if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_LINK_PROPERTY.equals(property.getName())) {
+                isAdminForcePasswordResetEmailLinkEnabled = value;
+            }
+            if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_OTP_PROPERTY.equals(property.getName())) {
+                isAdminForcePasswordResetEmailOTPEnabled = value;
+            }
+            if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_SMS_OTP_PROPERTY.equals(property.getName())) {
+                isAdminForcePasswordResetSMSOTPEnabled = value;
+            }
+            if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_OFFLINE_PROPERTY.equals(property.getName())) {
+                isAdminForcePasswordResetOfflineEnabled = value;
             }
-        } catch (DataAccessException e) {
-            throw new SQLException("Error while retrieving IDP properties for IDP ID: " + idpId, e);
-        } finally {
-            IdentityDatabaseUtil.closeAllConnections(null, rs, prepStmt);
         }
-        return idpProperties;
+        // If recovery notification are inconsistent, correct the configurations.
+        if (isRecoveryNotificationPasswordRecoveryEnabled && !isEmailLinkNotificationPasswordRecoveryEnabled &&
+                !isEmailOTPNotificationPasswordRecoveryEnabled && !isSmsOtpNotificationPasswordRecoveryEnabled) {
+            performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+        // If username recovery configs are inconsistent, correct the configurations.
+        if (isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled && !isSmsUsernameRecoveryEnabled) {
+            performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+        // If admin force password reset configs are inconsistent, correct the configurations.
+        if (!isAdminForcePasswordResetEmailLinkEnabled && !isAdminForcePasswordResetEmailOTPEnabled
+                && !isAdminForcePasswordResetSMSOTPEnabled && !isAdminForcePasswordResetOfflineEnabled) {
+            performConfigCorrectionForAdminForcedPasswordResetConfigs(idpProperties);
+        }
     }
 
     /**
@@ -2448,7 +2536,29 @@ public class IdPManagementDAO {
     public IdentityProvider getIdPByName(Connection dbConnection, String idPName, int tenantId,
                                          String tenantDomain) throws IdentityProviderManagementException {
 
-        IdentityProvider idp = getIDP(dbConnection, idPName, -1, null, tenantId, tenantDomain);
+        return getIdPByName(dbConnection, idPName, tenantId, tenantDomain, null);
+    }
+
+    /**
+     * Retrieves an IDP from name, loading only the required sections of it. The basic attributes and the properties
+     * of the IDP are always loaded.
+     *
+     * @param dbConnection       Database connection.
+     * @param idPName            IDP name.
+     * @param tenantId           Tenant ID of the IDP.
+     * @param tenantDomain       Tenant Domain of the IDP.
+     * @param requiredAttributes Sections of the IDP to load, from {@link IdPManagementConstants#IDP_CLAIMS},
+     *                           {@link IdPManagementConstants#IDP_ROLES}, {@link IdPManagementConstants#IDP_GROUPS},
+     *                           {@link IdPManagementConstants#IDP_FEDERATED_AUTHENTICATORS} and
+     *                           {@link IdPManagementConstants#IDP_PROVISIONING}. All the sections are loaded if null.
+     * @return An Identity Provider with given name.
+     * @throws IdentityProviderManagementException IdentityProviderManagementException
+     */
+    public IdentityProvider getIdPByName(Connection dbConnection, String idPName, int tenantId,
+                                         String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        IdentityProvider idp = getIDP(dbConnection, idPName, -1, null, tenantId, tenantDomain, requiredAttributes);
         if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
             fillResidentIdpProperties(idp, tenantDomain);
         }
@@ -3210,7 +3320,7 @@ public class IdPManagementDAO {
     public IdentityProvider getIDPbyId(Connection dbConnection, int idpId, int tenantId,
                                        String tenantDomain) throws IdentityProviderManagementException {
 
-        IdentityProvider idp = getIDP(dbConnection, null, idpId, null, tenantId, tenantDomain);
+        IdentityProvider idp = getIDP(dbConnection, null, idpId, null, tenantId, tenantDomain, null);
         if (idp != null
                 && IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idp.getIdentityProviderName())) {
             fillResidentIdpProperties(idp, tenantDomain);
@@ -3231,7 +3341,27 @@ public class IdPManagementDAO {
     public IdentityProvider getIDPbyResourceId(Connection dbConnection, String resourceId, int tenantId,
                                        String tenantDomain) throws IdentityProviderManagementException {
 
-        IdentityProvider idp = getIDP(dbConnection, null, -1, resourceId, tenantId, tenantDomain);
+        return getIDPbyResourceId(dbConnection, resourceId, tenantId, tenantDomain, null);
+    }
+
+    /**
+     * Retrieves an IDP by it's resource ID, loading only the required sections of it. The basic attributes and the
+     * properties of the IDP are always loaded.
+     *
+     * @param dbConnection       Database Connection.
+     * @param resourceId         Identity Provider Resource ID.
+     * @param tenantId           Tenant ID of the IDP.
+     * @param tenantDomain       Tenant Domain of the IDP.
+     * @param requiredAttributes Sections of the IDP to load. All the sections are loaded if null.
+     * @return An Identity Provider with given resource ID.
+     * @throws IdentityProviderManagementException IdentityProviderManagementException
+     */
+    public IdentityProvider getIDPbyResourceId(Connection dbConnection, String resourceId, int tenantId,
+                                               String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        IdentityProvider idp = getIDP(dbConnection, null, -1, resourceId, tenantId, tenantDomain,
+                requiredAttributes);
         if (idp != null
                 && IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idp.getIdentityProviderName())) {
             fillResidentIdpProperties(idp, tenantDomain);
@@ -3274,11 +3404,13 @@ public class IdPManagementDAO {
      * @param idpId
      * @param tenantId
      * @param tenantDomain
+     * @param requiredAttributes Sections of the IDP to load. All the sections are loaded if null.
      * @return
      * @throws IdentityProviderManagementException
      */
     private IdentityProvider getIDP(Connection dbConnection, String idPName, int idpId, String resourceId, int
-                                            tenantId, String tenantDomain) throws IdentityProviderManagementException {
+                                            tenantId, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
 
         PreparedStatement prepStmt = null;
         ResultSet rs = null;
@@ -3317,147 +3449,211 @@ public class IdPManagementDAO {
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                federatedIdp = new IdentityProvider();
-                idpId = rs.getInt("ID");
-                federatedIdp.setId(Integer.toString(idpId));
-                idPName = rs.getString("NAME");
-                federatedIdp.setIdentityProviderName(idPName);
-                resourceId = rs.getString("UUID");
-                federatedIdp.setResourceId(resourceId);
-                federatedIdp.setImageUrl(rs.getString("IMAGE_URL"));
+                federatedIdp = buildIdentityProvider(dbConnection, rs, tenantId, requiredAttributes);
+                idPName = federatedIdp.getIdentityProviderName();
+                setIdentityProviderProperties(dbConnection, federatedIdp, getIdentityPropertiesByIdpId(dbConnection,
+                        Integer.parseInt(federatedIdp.getId()), tenantId), tenantDomain);
+            }
+            return federatedIdp;
+        } catch (SQLException e) {
+            throw new IdentityProviderManagementException("Error occurred while retrieving Identity Provider " +
+                    "information for tenant : " + tenantDomain + " and Identity Provider name : " + idPName, e);
+        } catch (ConnectorException e) {
+            throw new IdentityProviderManagementException("Error occurred while retrieving the identity connector " +
+                    "configurations.", e);
+        } catch (SecretManagementException e) {
+            throw new IdentityProviderManagementException("Error while retrieving secrets of Identity provider : " +
+                    idPName + " in tenant : " + tenantDomain, e);
+        } catch (OrganizationManagementException e) {
+            throw new IdentityProviderManagementException("Error while checking if the tenant: " + tenantDomain +
+                    " is an organization.", e);
+        } finally {
+            if (dbConnectionInitialized) {
+                IdentityDatabaseUtil.closeAllConnections(dbConnection, rs, prepStmt);
+            } else {
+                IdentityDatabaseUtil.closeAllConnections(null, rs, prepStmt);
+            }
+        }
+    }
 
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_PRIMARY"))) {
-                    federatedIdp.setPrimary(true);
-                } else {
-                    federatedIdp.setPrimary(false);
-                }
+    /**
+     * Build an identity provider from the current row of the given result set, loading only the required sections.
+     * Properties are not set here, so that they can be loaded for a set of identity providers at once.
+     *
+     * @param dbConnection       Database connection.
+     * @param rs                 Result set positioned on an IDP row.
+     * @param tenantId           Tenant ID of the identity provider.
+     * @param requiredAttributes Sections to load. All the sections are loaded if null.
+     * @return Identity provider.
+     * @throws SQLException                        Error while retrieving the sections.
+     * @throws IdentityProviderManagementException Error while retrieving the sections.
+     * @throws SecretManagementException           Error while decrypting the authenticator secrets.
+     */
+    private IdentityProvider buildIdentityProvider(Connection dbConnection, ResultSet rs, int tenantId,
+                                                   List<String> requiredAttributes)
+            throws SQLException, IdentityProviderManagementException, SecretManagementException {
+
+        IdentityProvider federatedIdp = new IdentityProvider();
+        int idpId = rs.getInt("ID");
+        federatedIdp.setId(Integer.toString(idpId));
+        String idPName = rs.getString("NAME");
+        federatedIdp.setIdentityProviderName(idPName);
+        if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
+            // Resident IDP configurations are derived from all the sections, hence always load it in full.
+            requiredAttributes = null;
+        }
+        federatedIdp.setResourceId(rs.getString("UUID"));
+        federatedIdp.setImageUrl(rs.getString("IMAGE_URL"));
 
-                federatedIdp.setHomeRealmId(rs.getString("HOME_REALM_ID"));
-                federatedIdp.setCertificate(getBlobValue(rs.getBinaryStream("CERTIFICATE")));
-                federatedIdp.setAlias(rs.getString("ALIAS"));
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_PRIMARY"))) {
+            federatedIdp.setPrimary(true);
+        } else {
+            federatedIdp.setPrimary(false);
+        }
 
-                JustInTimeProvisioningConfig jitProConfig = new JustInTimeProvisioningConfig();
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("INBOUND_PROV_ENABLED"))) {
-                    jitProConfig.setProvisioningEnabled(true);
-                } else {
-                    jitProConfig.setProvisioningEnabled(false);
-                }
+        federatedIdp.setHomeRealmId(rs.getString("HOME_REALM_ID"));
+        federatedIdp.setCertificate(getBlobValue(rs.getBinaryStream("CERTIFICATE")));
+        federatedIdp.setAlias(rs.getString("ALIAS"));
 
-                jitProConfig.setProvisioningUserStore(rs.getString("INBOUND_PROV_USER_STORE_ID"));
-                federatedIdp.setJustInTimeProvisioningConfig(jitProConfig);
+        JustInTimeProvisioningConfig jitProConfig = new JustInTimeProvisioningConfig();
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("INBOUND_PROV_ENABLED"))) {
+            jitProConfig.setProvisioningEnabled(true);
+        } else {
+            jitProConfig.setProvisioningEnabled(false);
+        }
 
-                String userClaimUri = rs.getString("USER_CLAIM_URI");
-                String roleClaimUri = rs.getString("ROLE_CLAIM_URI");
+        jitProConfig.setProvisioningUserStore(rs.getString("INBOUND_PROV_USER_STORE_ID"));
+        federatedIdp.setJustInTimeProvisioningConfig(jitProConfig);
 
-                String defaultAuthenticatorName = rs.getString("DEFAULT_AUTHENTICATOR_NAME");
-                String defaultProvisioningConnectorConfigName = rs.getString("DEFAULT_PRO_CONNECTOR_NAME");
-                federatedIdp.setIdentityProviderDescription(rs.getString("DESCRIPTION"));
+        String userClaimUri = rs.getString("USER_CLAIM_URI");
+        String roleClaimUri = rs.getString("ROLE_CLAIM_URI");
 
-                // IS_FEDERATION_HUB_IDP
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_FEDERATION_HUB"))) {
-                    federatedIdp.setFederationHub(true);
-                } else {
-                    federatedIdp.setFederationHub(false);
-                }
+        String defaultAuthenticatorName = rs.getString("DEFAULT_AUTHENTICATOR_NAME");
+        String defaultProvisioningConnectorConfigName = rs.getString("DEFAULT_PRO_CONNECTOR_NAME");
+        federatedIdp.setIdentityProviderDescription(rs.getString("DESCRIPTION"));
 
-                if (federatedIdp.getClaimConfig() == null) {
-                    federatedIdp.setClaimConfig(new ClaimConfig());
-                }
+        // IS_FEDERATION_HUB_IDP
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_FEDERATION_HUB"))) {
+            federatedIdp.setFederationHub(true);
+        } else {
+            federatedIdp.setFederationHub(false);
+        }
 
-                // IS_LOCAL_CLAIM_DIALECT
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_LOCAL_CLAIM_DIALECT"))) {
-                    federatedIdp.getClaimConfig().setLocalClaimDialect(true);
-                } else {
-                    federatedIdp.getClaimConfig().setLocalClaimDialect(false);
-                }
+        if (federatedIdp.getClaimConfig() == null) {
+            federatedIdp.setClaimConfig(new ClaimConfig());
+        }
 
-                federatedIdp.setProvisioningRole(rs.getString("PROVISIONING_ROLE"));
+        // IS_LOCAL_CLAIM_DIALECT
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_LOCAL_CLAIM_DIALECT"))) {
+            federatedIdp.getClaimConfig().setLocalClaimDialect(true);
+        } else {
+            federatedIdp.getClaimConfig().setLocalClaimDialect(false);
+        }
 
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_ENABLED"))) {
-                    federatedIdp.setEnable(true);
-                } else {
-                    federatedIdp.setEnable(false);
-                }
+        federatedIdp.setProvisioningRole(rs.getString("PROVISIONING_ROLE"));
 
-                federatedIdp.setDisplayName(rs.getString("DISPLAY_NAME"));
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_ENABLED"))) {
+            federatedIdp.setEnable(true);
+        } else {
+            federatedIdp.setEnable(false);
+        }
 
-                if (defaultProvisioningConnectorConfigName != null) {
-                    ProvisioningConnectorConfig defaultProConnector = new ProvisioningConnectorConfig();
-                    defaultProConnector.setName(defaultProvisioningConnectorConfigName);
-                    federatedIdp.setDefaultProvisioningConnectorConfig(defaultProConnector);
-                }
+        federatedIdp.setDisplayName(rs.getString("DISPLAY_NAME"));
 
-                // get federated authenticators.
-                federatedIdp.setFederatedAuthenticatorConfigs(getFederatedAuthenticatorConfigs(
-                        dbConnection, idPName, federatedIdp, tenantId));
+        if (defaultProvisioningConnectorConfigName != null) {
+            ProvisioningConnectorConfig defaultProConnector = new ProvisioningConnectorConfig();
+            defaultProConnector.setName(defaultProvisioningConnectorConfigName);
+            federatedIdp.setDefaultProvisioningConnectorConfig(defaultProConnector);
+        }
 
-                // Retrieve encrypted secrets from DB, decrypt and set to the system federated authenticator configs.
-                if (federatedIdp.getFederatedAuthenticatorConfigs().length > 0 &&
-                        federatedIdp.getFederatedAuthenticatorConfigs()[0].getDefinedByType() == DefinedByType.SYSTEM) {
-                    federatedIdp = idpSecretsProcessorService.decryptAssociatedSecrets(federatedIdp);
-                }
+        if (isAttributeRequired(requiredAttributes, IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS)) {
+            // get federated authenticators.
+            federatedIdp.setFederatedAuthenticatorConfigs(getFederatedAuthenticatorConfigs(
+                    dbConnection, idPName, federatedIdp, tenantId));
 
-                if (defaultAuthenticatorName != null && federatedIdp.getFederatedAuthenticatorConfigs() != null) {
-                    federatedIdp.setDefaultAuthenticatorConfig(IdentityApplicationManagementUtil
-                            .getFederatedAuthenticator(federatedIdp.getFederatedAuthenticatorConfigs(),
-                                    defaultAuthenticatorName));
-                }
+            // Retrieve encrypted secrets from DB, decrypt and set to the system federated authenticator configs.
+            if (federatedIdp.getFederatedAuthenticatorConfigs().length > 0 &&
+                    federatedIdp.getFederatedAuthenticatorConfigs()[0].getDefinedByType() == DefinedByType.SYSTEM) {
+                federatedIdp = idpSecretsProcessorService.decryptAssociatedSecrets(federatedIdp);
+            }
 
-                if (federatedIdp.getClaimConfig().isLocalClaimDialect()) {
-                    federatedIdp.setClaimConfig(getLocalIdPDefaultClaimValues(dbConnection,
-                            idPName, userClaimUri, roleClaimUri, idpId, tenantId));
-                } else {
-                    // get claim configuration.
-                    federatedIdp.setClaimConfig(getIdPClaimConfiguration(dbConnection, idPName,
-                            userClaimUri, roleClaimUri, idpId, tenantId));
-                }
+            if (defaultAuthenticatorName != null && federatedIdp.getFederatedAuthenticatorConfigs() != null) {
+                federatedIdp.setDefaultAuthenticatorConfig(IdentityApplicationManagementUtil
+                        .getFederatedAuthenticator(federatedIdp.getFederatedAuthenticatorConfigs(),
+                                defaultAuthenticatorName));
+            }
+        }
 
-                // get provisioning connectors.
-                federatedIdp.setProvisioningConnectorConfigs(getProvisioningConnectorConfigs(
-                        dbConnection, idPName, idpId, tenantId));
+        if (isAttributeRequired(requiredAttributes, IdPManagementConstants.IDP_CLAIMS)) {
+            if (federatedIdp.getClaimConfig().isLocalClaimDialect()) {
+                federatedIdp.setClaimConfig(getLocalIdPDefaultClaimValues(dbConnection,
+                        idPName, userClaimUri, roleClaimUri, idpId, tenantId));
+            } else {
+                // get claim configuration.
+                federatedIdp.setClaimConfig(getIdPClaimConfiguration(dbConnection, idPName,
+                        userClaimUri, roleClaimUri, idpId, tenantId));
+            }
+        }
 
-                // get permission and role configuration.
-                federatedIdp.setPermissionAndRoleConfig(getPermissionsAndRoleConfiguration(
-                        dbConnection, idPName, idpId, tenantId));
+        if (isAttributeRequired(requiredAttributes, IdPManagementConstants.IDP_PROVISIONING)) {
+            // get provisioning connectors.
+            federatedIdp.setProvisioningConnectorConfigs(getProvisioningConnectorConfigs(
+                    dbConnection, idPName, idpId, tenantId));
+        }
 
-                // Get federated idp groups.
-                federatedIdp.setIdPGroupConfig(getIdPGroupConfiguration(dbConnection, idpId));
+        if (isAttributeRequired(requiredAttributes, IdPManagementConstants.IDP_ROLES)) {
+            // get permission and role configuration.
+            federatedIdp.setPermissionAndRoleConfig(getPermissionsAndRoleConfiguration(
+                    dbConnection, idPName, idpId, tenantId));
+        }
 
-                List<IdentityProviderProperty> propertyList = filterIdentityProperties(federatedIdp,
-                        getIdentityPropertiesByIdpId(dbConnection, idpId, tenantId));
-                if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
-                    // Resolve resident IdP properties from the organization hierarchy if inheritance is enabled.
-                    if (OrganizationManagementUtil.isOrganization(tenantDomain) &&
-                            Utils.isLoginAndRegistrationConfigInheritanceEnabled(tenantDomain)) {
-                        propertyList = resolveResidentIdpProperties(tenantDomain, federatedIdp, dbConnection);
-                    }
-                    // Populate non-existing properties with default values.
-                    propertyList = resolveConnectorProperties(propertyList, tenantDomain);
-                }
+        if (isAttributeRequired(requiredAttributes, IdPManagementConstants.IDP_GROUPS)) {
+            // Get federated idp groups.
+            federatedIdp.setIdPGroupConfig(getIdPGroupConfiguration(dbConnection, idpId));
+        }
+        return federatedIdp;
+    }
 
-                federatedIdp.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+    /**
+     * Set the properties of the given identity provider. Resident identity provider properties are resolved from
+     * the organization hierarchy and the connector defaults.
+     *
+     * @param dbConnection  Database connection.
+     * @param federatedIdp  Identity provider.
+     * @param idpProperties Properties of the identity provider, as stored in the database.
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @throws IdentityProviderManagementException Error while resolving the resident identity provider properties.
+     * @throws ConnectorException                  Error while retrieving the connector configurations.
+     * @throws OrganizationManagementException     Error while checking whether the tenant is an organization.
+     */
+    private void setIdentityProviderProperties(Connection dbConnection, IdentityProvider federatedIdp,
+                                               List<IdentityProviderProperty> idpProperties, String tenantDomain)
+            throws IdentityProviderManagementException, ConnectorException, OrganizationManagementException {
 
+        List<IdentityProviderProperty> propertyList = filterIdentityProperties(federatedIdp, idpProperties);
+        if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(federatedIdp.getIdentityProviderName())) {
+            // Resolve resident IdP properties from the organization hierarchy if inheritance is enabled.
+            if (OrganizationManagementUtil.isOrganization(tenantDomain) &&
+                    Utils.isLoginAndRegistrationConfigInheritanceEnabled(tenantDomain)) {
+                propertyList = resolveResidentIdpProperties(tenantDomain, federatedIdp, dbConnection);
             }
-            return federatedIdp;
-        } catch (SQLException e) {
-            throw new IdentityProviderManagementException("Error occurred while retrieving Identity Provider " +
-                    "information for tenant : " + tenantDomain + " and Identity Provider name : " + idPName, e);
-        } catch (ConnectorException e) {
-            throw new IdentityProviderManagementException("Error occurred while retrieving the identity connector " +
-                    "configurations.", e);
-        } catch (SecretManagementException e) {
-            throw new IdentityProviderManagementException("Error while retrieving secrets of Identity provider : " +
-                    idPName + " in tenant : " + tenantDomain, e);
-        } catch (OrganizationManagementException e) {
-            throw new IdentityProviderManagementException("Error while checking if the tenant: " + tenantDomain +
-                    " is an organization.", e);
-        } finally {
-            if (dbConnectionInitialized) {
-                IdentityDatabaseUtil.closeAllConnections(dbConnection, rs, prepStmt);
-            } else {
-                IdentityDatabaseUtil.closeAllConnections(null, rs, prepStmt);
-            }
+            // Populate non-existing properties with default values.
+            propertyList = resolveConnectorProperties(propertyList, tenantDomain);
         }
+
+        federatedIdp.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+    }
+
+    /**
+     * Check whether the given section of an identity provider has to be loaded.
+     *
+     * @param requiredAttributes Required attributes. Null means every section is required.
+     * @param attribute          Section attribute.
+     * @return True if the section has to be loaded.
+     */
+    private boolean isAttributeRequired(List<String> requiredAttributes, String attribute) {
+
+        return requiredAttributes == null || requiredAttributes.contains(attribute);
     }
 
     /**
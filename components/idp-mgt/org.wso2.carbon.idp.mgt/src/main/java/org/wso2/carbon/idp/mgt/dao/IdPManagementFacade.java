@@ -103,6 +103,14 @@ public class IdPManagementFacade {
         return populateEndpointConfig(dao.getIdPByName(dbConnection, idPName, tenantId, tenantDomain), tenantDomain);
     }
 
+    public IdentityProvider getIdPByName(Connection dbConnection, String idPName, int tenantId, String tenantDomain,
+                                         List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        return populateEndpointConfig(dao.getIdPByName(dbConnection, idPName, tenantId, tenantDomain,
+                requiredAttributes), tenantDomain);
+    }
+
     public IdentityProvider getIDPbyId(Connection dbConnection, int idpId, int tenantId, String tenantDomain)
             throws IdentityProviderManagementException {
 
@@ -116,6 +124,14 @@ public class IdPManagementFacade {
                 tenantDomain);
     }
 
+    public IdentityProvider getIDPbyResourceId(Connection dbConnection, String resourceId, int tenantId,
+                                               String tenantDomain, List<String> requiredAttributes)
+            throws IdentityProviderManagementException {
+
+        return populateEndpointConfig(dao.getIDPbyResourceId(dbConnection, resourceId, tenantId, tenantDomain,
+                requiredAttributes), tenantDomain);
+    }
+
     public String getIDPNameByResourceId(String resourceId) throws IdentityProviderManagementException {
 
         return dao.getIDPNameByResourceId(resourceId);
@@ -50,11 +50,18 @@ import org.wso2.carbon.idp.mgt.cache.IdPCacheByHRI;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheBySection;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPLookupCacheStats;
+import org.wso2.carbon.idp.mgt.cache.IdPLookupType;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPNegativeLookupCache;
+import org.wso2.carbon.idp.mgt.cache.IdPNegativeLookupCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPSectionCacheEntry;
+import org.wso2.carbon.idp.mgt.cache.IdPSectionCacheKey;
 import org.wso2.carbon.idp.mgt.internal.IdpMgtServiceComponentHolder;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.util.ActionMgtTestUtil;
@@ -75,7 +82,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.idp.mgt.util.IdPManagementConstants.RESET_PROVISIONING_ENTITIES_ON_CONFIG_UPDATE;
@@ -477,6 +486,115 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPByNameWithRequiredAttributes() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            cacheBackedIdPMgtDAO.clearIdpCache("testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+
+            List<String> requiredAttributes =
+                    Collections.singletonList(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS);
+            IdentityProvider idpResult = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1",
+                    SUPER_TENANT_ID, SUPER_TENANT_DOMAIN, requiredAttributes);
+            assertEquals(idpResult.getFederatedAuthenticatorConfigs().length, 1);
+            assertNull(idpFromCacheByName("testIdP1"), "Full IDP should not be cached for a projection.");
+
+            IdPSectionCacheKey sectionCacheKey = new IdPSectionCacheKey("testIdP1",
+                    IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS);
+            IdPSectionCacheEntry sectionCacheEntry = IdPCacheBySection.getInstance()
+                    .getValueFromCache(sectionCacheKey, SUPER_TENANT_DOMAIN);
+            assertEquals(sectionCacheEntry.getIdentityProvider().getIdentityProviderName(), "testIdP1");
+            IdPSectionCacheKey claimsCacheKey = new IdPSectionCacheKey("testIdP1", IdPManagementConstants.IDP_CLAIMS);
+            assertNull(IdPCacheBySection.getInstance().getValueFromCache(claimsCacheKey, SUPER_TENANT_DOMAIN),
+                    "Sections which are not required should not be cached.");
+
+            // Only the missing section is loaded, while the cached section is reused.
+            IdentityProvider idpWithClaims = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1",
+                    SUPER_TENANT_ID, SUPER_TENANT_DOMAIN, Arrays.asList(IdPManagementConstants.IDP_CLAIMS,
+                            IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS));
+            assertEquals(idpWithClaims.getFederatedAuthenticatorConfigs().length, 1);
+            assertNotNull(IdPCacheBySection.getInstance().getValueFromCache(claimsCacheKey, SUPER_TENANT_DOMAIN));
+            assertSame(IdPCacheBySection.getInstance().getValueFromCache(sectionCacheKey, SUPER_TENANT_DOMAIN)
+                    .getIdentityProvider(), sectionCacheEntry.getIdentityProvider());
+            assertNull(sectionCacheEntry.getIdentityProvider().getClaimConfig(),
+                    "Cached sections should not be modified while assembling the IDP.");
+
+            cacheBackedIdPMgtDAO.clearIdpCache("testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+            assertNull(IdPCacheBySection.getInstance().getValueFromCache(sectionCacheKey, SUPER_TENANT_DOMAIN),
+                    "Section cache entry should be cleared with the IDP cache.");
+            assertNull(IdPCacheBySection.getInstance().getValueFromCache(claimsCacheKey, SUPER_TENANT_DOMAIN),
+                    "Section cache entry should be cleared with the IDP cache.");
+        }
+    }
+
+    @Test
+    public void testUpdateIdPFederatedAuthenticatorsKeepsOtherSections() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            identityUtil.when(() -> IdentityUtil.getProperty(RESET_PROVISIONING_ENTITIES_ON_CONFIG_UPDATE))
+                    .thenReturn("false");
+            addTestIdps();
+            cacheBackedIdPMgtDAO.clearIdpCache("testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+
+            cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN,
+                    Arrays.asList(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS,
+                            IdPManagementConstants.IDP_CLAIMS, IdPManagementConstants.IDP_ROLES));
+            IdPSectionCacheKey basicCacheKey = new IdPSectionCacheKey("testIdP1", "basic");
+            IdPSectionCacheKey authenticatorsCacheKey = new IdPSectionCacheKey("testIdP1",
+                    IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS);
+            IdPSectionCacheKey claimsCacheKey = new IdPSectionCacheKey("testIdP1", IdPManagementConstants.IDP_CLAIMS);
+            IdPSectionCacheKey rolesCacheKey = new IdPSectionCacheKey("testIdP1", IdPManagementConstants.IDP_ROLES);
+            IdPSectionCacheEntry claimsCacheEntry = IdPCacheBySection.getInstance()
+                    .getValueFromCache(claimsCacheKey, SUPER_TENANT_DOMAIN);
+            IdPSectionCacheEntry rolesCacheEntry = IdPCacheBySection.getInstance()
+                    .getValueFromCache(rolesCacheKey, SUPER_TENANT_DOMAIN);
+            assertNotNull(claimsCacheEntry);
+            assertNotNull(rolesCacheEntry);
+
+            // Update only a property of the federated authenticator.
+            IdentityProvider currentIdP = idPManagementDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            IdentityProvider newIdP = idPManagementDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            for (Property property : newIdP.getFederatedAuthenticatorConfigs()[0].getProperties()) {
+                if ("Property2".equals(property.getName())) {
+                    property.setValue("value2Updated");
+                }
+            }
+            cacheBackedIdPMgtDAO.updateIdP(newIdP, currentIdP, SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+
+            assertNull(IdPCacheBySection.getInstance().getValueFromCache(authenticatorsCacheKey, SUPER_TENANT_DOMAIN),
+                    "Updated section should be cleared from the cache.");
+            assertNotNull(IdPCacheBySection.getInstance().getValueFromCache(basicCacheKey, SUPER_TENANT_DOMAIN),
+                    "Basic attributes which are not updated should be kept in the cache.");
+            assertSame(IdPCacheBySection.getInstance().getValueFromCache(claimsCacheKey, SUPER_TENANT_DOMAIN),
+                    claimsCacheEntry, "Sections which are not updated should be kept in the cache.");
+            assertSame(IdPCacheBySection.getInstance().getValueFromCache(rolesCacheKey, SUPER_TENANT_DOMAIN),
+                    rolesCacheEntry, "Sections which are not updated should be kept in the cache.");
+
+            // Only the updated section is reloaded from the DB.
+            IdentityProvider updatedIdP = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1",
+                    SUPER_TENANT_ID, SUPER_TENANT_DOMAIN,
+                    Collections.singletonList(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS));
+            boolean isPropertyUpdated = false;
+            for (Property property : updatedIdP.getFederatedAuthenticatorConfigs()[0].getProperties()) {
+                if ("Property2".equals(property.getName())) {
+                    isPropertyUpdated = "value2Updated".equals(property.getValue());
+                }
+            }
+            assertTrue(isPropertyUpdated, "Updated section should be reloaded from the DB.");
+        }
+    }
+
     @DataProvider
     public Object[][] getIdPByIdData() {
 
@@ -1955,6 +2073,41 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test
+    public void testNegativeLookupCache() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            IdPLookupCacheStats stats = IdPLookupCacheStats.getInstance();
+            long missCount = stats.getMissCount(IdPLookupType.HOME_REALM_ID);
+            long negativeHitCount = stats.getNegativeHitCount(IdPLookupType.HOME_REALM_ID);
+            assertNull(cacheBackedIdPMgtDAO.getIdPByRealmId("negativeRealm", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN));
+            IdPNegativeLookupCacheKey negativeCacheKey = new IdPNegativeLookupCacheKey(IdPLookupType.HOME_REALM_ID,
+                    null, "negativeRealm", null);
+            assertEquals(IdPNegativeLookupCache.getInstance().getValueFromCache(negativeCacheKey,
+                    SUPER_TENANT_DOMAIN), Boolean.TRUE, "Lookup miss is not cached.");
+            assertNull(cacheBackedIdPMgtDAO.getIdPByRealmId("negativeRealm", SUPER_TENANT_ID, SUPER_TENANT_DOMAIN));
+            assertEquals(stats.getMissCount(IdPLookupType.HOME_REALM_ID), missCount + 1);
+            assertEquals(stats.getNegativeHitCount(IdPLookupType.HOME_REALM_ID), negativeHitCount + 1);
+
+            // Adding an IDP with the realm should invalidate the cached miss.
+            IdentityProvider idp = new IdentityProvider();
+            idp.setIdentityProviderName("negativeRealmIdP");
+            idp.setHomeRealmId("negativeRealm");
+            cacheBackedIdPMgtDAO.addIdP(idp, SUPER_TENANT_ID, SUPER_TENANT_DOMAIN);
+            assertNull(IdPNegativeLookupCache.getInstance().getValueFromCache(negativeCacheKey, SUPER_TENANT_DOMAIN),
+                    "Cached lookup miss is not cleared when adding an IDP.");
+            IdentityProvider idpResult = cacheBackedIdPMgtDAO.getIdPByRealmId("negativeRealm", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            assertEquals(idpResult.getIdentityProviderName(), "negativeRealmIdP");
+        }
+    }
+
     @Test
     public void testDeleteIdPActionException() throws Exception {
 
@@ -71,6 +71,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -1026,6 +1027,34 @@ public class IdPManagementDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPByNameWithRequiredAttributes() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            IdentityProvider fullIdp = idPManagementDAO.getIdPByName(connection, "testIdP1", SAMPLE_TENANT_ID,
+                    TENANT_DOMAIN);
+            IdentityProvider projectedIdp = idPManagementDAO.getIdPByName(connection, "testIdP1", SAMPLE_TENANT_ID,
+                    TENANT_DOMAIN, Collections.singletonList(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS));
+
+            assertEquals(projectedIdp.getId(), fullIdp.getId());
+            assertEquals(projectedIdp.getHomeRealmId(), fullIdp.getHomeRealmId());
+            assertEquals(projectedIdp.getFederatedAuthenticatorConfigs().length, 1);
+            assertEquals(projectedIdp.getFederatedAuthenticatorConfigs()[0].getProperties().length,
+                    fullIdp.getFederatedAuthenticatorConfigs()[0].getProperties().length);
+            assertEquals(projectedIdp.getIdpProperties().length, fullIdp.getIdpProperties().length);
+            assertEquals(projectedIdp.getProvisioningConnectorConfigs().length, 0);
+            assertNull(projectedIdp.getPermissionAndRoleConfig());
+            assertNull(projectedIdp.getIdPGroupConfig());
+            assertEquals(fullIdp.getIdPGroupConfig().length, 2);
+        }
+    }
+
     @DataProvider
     public Object[][] getIDPbyResourceIdData() {
 
@@ -82,6 +82,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -177,8 +178,8 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLES
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLES_BY_TENANT_POSTGRESQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_AUDIENCE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_BY_NAME_AND_AUDIENCE_SQL;
-import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_LIST_OF_GROUP_SQL;
-import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_LIST_OF_IDP_GROUPS_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_LIST_OF_GROUP_NAMES_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_LIST_OF_IDP_GROUP_IDS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_ID_LIST_OF_USER_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_GROUP_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_IDP_GROUPS_SQL;
@@ -188,6 +189,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_UM_ID_BY_UUID;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SCOPE_BY_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_HYBRID_ROLE_WITH_MAIN_ROLE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_ROLE_MAIN_ROLE_ID_SQL;
@@ -217,6 +219,7 @@ public class RoleDAOImpl implements RoleDAO {
     private static final String ASSOCIATED_APPLICATIONS = "associatedApplications";
     private static final String PROPERTIES = "properties";
     private static final String IS_FRAGMENT_APP = "isFragmentApp";
+    private static final int IN_CLAUSE_BATCH_SIZE = 100;
 
     @Override
     public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
@@ -594,21 +597,83 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        List<String> permissions = new ArrayList<>();
-        List<Permission> permissionList = new ArrayList<>();
-        for (String roleId : roleIds) {
-            if (isOrganization(tenantDomain) && isSharedRole(roleId, tenantDomain)) {
-                permissionList.addAll(getPermissionsOfSharedRole(roleId, tenantDomain));
-            } else {
-                permissionList.addAll(getPermissions(roleId, tenantDomain));
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        List<String> nonSharedRoleIds = roleIds;
+        Set<String> sharedRolePermissions = new LinkedHashSet<>();
+        if (isOrganization(tenantDomain)) {
+            // Shared roles take the permissions of their main roles. Resolve them for all the roles at once.
+            Map<String, String> sharedToMainRoleIds = getSharedRoleToMainRoleMappingsBySubOrg(roleIds, tenantDomain);
+            if (!sharedToMainRoleIds.isEmpty()) {
+                nonSharedRoleIds = roleIds.stream().filter(roleId -> !sharedToMainRoleIds.containsKey(roleId))
+                        .collect(Collectors.toList());
+                List<String> mainRoleIds = new ArrayList<>(new HashSet<>(sharedToMainRoleIds.values()));
+                for (String permission : getPermissionNamesOfRoles(mainRoleIds, tenantDomain)) {
+                    if (isValidSubOrgPermission(permission)) {
+                        sharedRolePermissions.add(permission);
+                    }
+                }
+            }
+        }
+
+        Set<String> permissions = new LinkedHashSet<>(getPermissionNamesOfRoles(nonSharedRoleIds, tenantDomain));
+        permissions.addAll(sharedRolePermissions);
+        return new ArrayList<>(permissions);
+    }
+
+    /**
+     * Get the distinct permission names of the given roles with a single query per batch of roles.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Permission names of the roles.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private List<String> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        Set<String> permissions = new LinkedHashSet<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (List<String> roleIdBatch : partition(roleIds)) {
+                String query = GET_SCOPE_BY_ROLES_SQL +
+                        String.join(", ", Collections.nCopies(roleIdBatch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    for (int i = 0; i < roleIdBatch.size(); i++) {
+                        statement.setString(i + 1, roleIdBatch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            permissions.add(resultSet.getString(1));
+                        }
+                    }
+                }
             }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions for role ids: " + String.join(", ", roleIds)
+                    + " and tenantDomain : " + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
+        return new ArrayList<>(permissions);
+    }
 
-        List<Permission> distinctPermissions = permissionList.stream().distinct().collect(Collectors.toList());
-        for (Permission permission : distinctPermissions) {
-            permissions.add(permission.getName());
+    /**
+     * Split the given values into batches which can be bound to a single IN clause.
+     *
+     * @param values Values.
+     * @param <T>    Type of the values.
+     * @return Batches of values.
+     */
+    private static <T> List<List<T>> partition(List<T> values) {
+
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += IN_CLAUSE_BATCH_SIZE) {
+            batches.add(values.subList(i, Math.min(i + IN_CLAUSE_BATCH_SIZE, values.size())));
         }
-        return permissions;
+        return batches;
     }
 
     @Override
@@ -1313,31 +1378,45 @@ public class RoleDAOImpl implements RoleDAO {
             throws IdentityRoleManagementException {
 
         Map<String, String> groupIdsToNames = getGroupNamesByIDs(groupIds, tenantDomain);
-        List<String> groupNamesList = new ArrayList<>(groupIdsToNames.values());
         String primaryDomainName = IdentityUtil.getPrimaryDomainName();
         if (primaryDomainName != null) {
             primaryDomainName = primaryDomainName.toUpperCase(Locale.ENGLISH);
         }
+        // Group the names by user store domain, so that the roles of each domain are resolved with one query.
+        Map<String, List<String>> groupNamesByDomain = new HashMap<>();
+        for (String groupName : groupIdsToNames.values()) {
+            // Add domain if not set.
+            groupName = UserCoreUtil.addDomainToName(groupName, primaryDomainName);
+            // Get domain from name.
+            String domainName = UserCoreUtil.extractDomainFromName(groupName);
+            if (domainName != null) {
+                domainName = domainName.toUpperCase(Locale.ENGLISH);
+            }
+            groupNamesByDomain.computeIfAbsent(domainName, domain -> new ArrayList<>())
+                    .add(UserCoreUtil.removeDomainFromName(groupName));
+        }
+        if (groupNamesByDomain.isEmpty()) {
+            return new ArrayList<>();
+        }
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        List<String> roleIds = new ArrayList<>();
-        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
-             NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_ROLE_ID_LIST_OF_GROUP_SQL)) {
-            for (String groupName : groupNamesList) {
-                // Add domain if not set.
-                groupName = UserCoreUtil.addDomainToName(groupName, primaryDomainName);
-                // Get domain from name.
-                String domainName = UserCoreUtil.extractDomainFromName(groupName);
-                if (domainName != null) {
-                    domainName = domainName.toUpperCase(Locale.ENGLISH);
-                }
-                String nameWithoutDomain = UserCoreUtil.removeDomainFromName(groupName);
-                statement.setString(RoleConstants.RoleTableColumns.UM_GROUP_NAME, nameWithoutDomain);
-                statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
-                statement.setString(RoleConstants.RoleTableColumns.UM_DOMAIN_NAME, domainName);
-                try (ResultSet resultSet = statement.executeQuery()) {
-                    while (resultSet.next()) {
-                        String roleId = resultSet.getString(1);
-                        roleIds.add(roleId);
+        Set<String> roleIds = new LinkedHashSet<>();
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            for (Map.Entry<String, List<String>> domainGroupNames : groupNamesByDomain.entrySet()) {
+                for (List<String> groupNameBatch : partition(domainGroupNames.getValue())) {
+                    String query = GET_ROLE_ID_LIST_OF_GROUP_NAMES_SQL +
+                            String.join(", ", Collections.nCopies(groupNameBatch.size(), "?")) + ")";
+                    try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                        statement.setInt(1, tenantId);
+                        statement.setInt(2, tenantId);
+                        statement.setString(3, domainGroupNames.getKey());
+                        for (int i = 0; i < groupNameBatch.size(); i++) {
+                            statement.setString(i + 4, groupNameBatch.get(i));
+                        }
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                roleIds.add(resultSet.getString(1));
+                            }
+                        }
                     }
                 }
             }
@@ -1347,25 +1426,31 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return roleIds.stream().distinct().collect(Collectors.toList());
+        return new ArrayList<>(roleIds);
     }
 
     @Override
     public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        if (CollectionUtils.isEmpty(groupIds)) {
+            return new ArrayList<>();
+        }
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        List<String> roleIds = new ArrayList<>();
-        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
-             NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                     GET_ROLE_ID_LIST_OF_IDP_GROUPS_SQL)) {
-            for (String groupId : groupIds) {
-                statement.setString(RoleConstants.RoleTableColumns.UM_GROUP_ID, groupId);
-                statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
-                try (ResultSet resultSet = statement.executeQuery()) {
-                    while (resultSet.next()) {
-                        String roleId = resultSet.getString(1);
-                        roleIds.add(roleId);
+        Set<String> roleIds = new LinkedHashSet<>();
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            for (List<String> groupIdBatch : partition(groupIds)) {
+                String query = GET_ROLE_ID_LIST_OF_IDP_GROUP_IDS_SQL +
+                        String.join(", ", Collections.nCopies(groupIdBatch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    statement.setInt(1, tenantId);
+                    for (int i = 0; i < groupIdBatch.size(); i++) {
+                        statement.setString(i + 2, groupIdBatch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            roleIds.add(resultSet.getString(1));
+                        }
                     }
                 }
             }
@@ -1375,7 +1460,7 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return roleIds.stream().distinct().collect(Collectors.toList());
+        return new ArrayList<>(roleIds);
     }
 
     @Override
@@ -1452,20 +1537,23 @@ public class RoleDAOImpl implements RoleDAO {
         if (CollectionUtils.isEmpty(roleIds)) {
             return rolesMap;
         }
-        String query = GET_SHARED_ROLE_TO_MAIN_ROLE_MAPPINGS_BY_SUBORG_SQL +
-                String.join(", ", Collections.nCopies(roleIds.size(), "?")) + ")";
-        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
-             NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
-
-            statement.setInt(1, IdentityTenantUtil.getTenantId(subOrgTenantDomain));
-            for (int i = 0; i < roleIds.size(); i++) {
-                statement.setString(i + 2, roleIds.get(i));
-            }
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    String sharedRoleId = resultSet.getString(1);
-                    String mainRoleId = resultSet.getString(2);
-                    rolesMap.put(sharedRoleId, mainRoleId);
+        int subOrgTenantId = IdentityTenantUtil.getTenantId(subOrgTenantDomain);
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            for (List<String> roleIdBatch : partition(roleIds)) {
+                String query = GET_SHARED_ROLE_TO_MAIN_ROLE_MAPPINGS_BY_SUBORG_SQL +
+                        String.join(", ", Collections.nCopies(roleIdBatch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    statement.setInt(1, subOrgTenantId);
+                    for (int i = 0; i < roleIdBatch.size(); i++) {
+                        statement.setString(i + 2, roleIdBatch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            String sharedRoleId = resultSet.getString(1);
+                            String mainRoleId = resultSet.getString(2);
+                            rolesMap.put(sharedRoleId, mainRoleId);
+                        }
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -173,6 +173,11 @@ public class SQLQueries {
             "gr.UM_DOMAIN_ID = d.UM_DOMAIN_ID WHERE gr.UM_GROUP_NAME=:UM_GROUP_NAME; AND " +
             "gr.UM_TENANT_ID =:UM_TENANT_ID; AND d.UM_TENANT_ID =:UM_TENANT_ID; AND d.UM_DOMAIN_NAME =:UM_DOMAIN_NAME;";
 
+    public static final String GET_ROLE_ID_LIST_OF_GROUP_NAMES_SQL = "SELECT DISTINCT r.UM_UUID FROM " +
+            "UM_HYBRID_ROLE r INNER JOIN UM_HYBRID_GROUP_ROLE gr ON r.UM_ID = gr.UM_ROLE_ID INNER JOIN " +
+            "UM_DOMAIN d ON gr.UM_DOMAIN_ID = d.UM_DOMAIN_ID WHERE gr.UM_TENANT_ID = ? AND d.UM_TENANT_ID = ? AND " +
+            "d.UM_DOMAIN_NAME = ? AND gr.UM_GROUP_NAME IN (";
+
     public static final String ADD_GROUP_TO_ROLE_SQL = "INSERT INTO UM_HYBRID_GROUP_ROLE (UM_GROUP_NAME, UM_ROLE_ID, "
             + "UM_TENANT_ID, UM_DOMAIN_ID) VALUES (:UM_GROUP_NAME;,(SELECT UM_ID FROM UM_HYBRID_ROLE WHERE "
             + "UM_ROLE_NAME=:UM_ROLE_NAME; AND UM_AUDIENCE_REF_ID=:UM_AUDIENCE_REF_ID; AND " +
@@ -221,6 +226,10 @@ public class SQLQueries {
             "JOIN UM_IDP_GROUP_ROLE ON UM_HYBRID_ROLE.UM_ID = UM_IDP_GROUP_ROLE.UM_ROLE_ID WHERE " +
             "UM_IDP_GROUP_ROLE.UM_GROUP_ID =:UM_GROUP_ID; AND UM_IDP_GROUP_ROLE.UM_TENANT_ID =:UM_TENANT_ID;";
 
+    public static final String GET_ROLE_ID_LIST_OF_IDP_GROUP_IDS_SQL = "SELECT DISTINCT UM_UUID FROM UM_HYBRID_ROLE " +
+            "INNER JOIN UM_IDP_GROUP_ROLE ON UM_HYBRID_ROLE.UM_ID = UM_IDP_GROUP_ROLE.UM_ROLE_ID WHERE " +
+            "UM_IDP_GROUP_ROLE.UM_TENANT_ID = ? AND UM_IDP_GROUP_ROLE.UM_GROUP_ID IN (";
+
     public static final String UPDATE_ROLE_NAME_SQL = "UPDATE UM_HYBRID_ROLE SET UM_ROLE_NAME=:NEW_UM_ROLE_NAME; " +
             "WHERE UM_UUID=:UM_UUID; AND UM_TENANT_ID=:UM_TENANT_ID;";
 
@@ -79,6 +79,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -133,6 +135,8 @@ public class RoleDAOTest {
     private static final String IS_FRAGMENT_APP = "isFragmentApp";
     private static final String SHARED_APP_ROLE_NAME = "shared-app-role-name-01";
     private static final String SHARED_APP_ID = "shared-app-id";
+    // More IDs than fit in a single IN clause of the role queries.
+    private static final int MANY_IDS_COUNT = 150;
 
     private static Map<String, BasicDataSource> dataSourceMap = new HashMap<>();
     private List<String> userNamesList = new ArrayList<>();
@@ -583,6 +587,32 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetPermissionListOfMultipleRoles() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        RoleBasicInfo role1 = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo role2 = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+
+        // Both roles have the same permissions, which should be returned only once.
+        List<String> rolePermissions = roleDAO.getPermissionListOfRoles(Arrays.asList(role1.getId(),
+                role2.getId()), SAMPLE_TENANT_DOMAIN);
+        Assert.assertEquals(new HashSet<>(rolePermissions), new HashSet<>(getPermissionNameList(permissions)));
+        Assert.assertEquals(rolePermissions.size(), permissions.size());
+        Assert.assertTrue(roleDAO.getPermissionListOfRoles(new ArrayList<>(), SAMPLE_TENANT_DOMAIN).isEmpty());
+    }
+
     @Test
     public void testGetPermissionListOfSharedRolesInSubOrganization() throws Exception {
 
@@ -618,6 +648,41 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetSharedRoleToMainRoleMappingsOfManyRoles() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+
+        RoleBasicInfo roleBasicInfo = addRole("sharing-org-role-with-permission-002", APPLICATION_AUD,
+                SAMPLE_APP_ID, roleDAO);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SAMPLE_SUB_ORG_TENANT_DOMAIN)).thenReturn(2);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(2)).thenReturn(SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        RoleBasicInfo sharedRoleBasicInfo = addRole("sharing-org-role-with-permission-002", APPLICATION_AUD,
+                "test-app-id-3", SAMPLE_SUB_ORG_TENANT_DOMAIN, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>(), roleDAO, true);
+        roleDAO.addMainRoleToSharedRoleRelationship(roleBasicInfo.getId(), sharedRoleBasicInfo.getId(),
+                SAMPLE_TENANT_DOMAIN, SAMPLE_SUB_ORG_TENANT_DOMAIN);
+
+        // The shared role is placed after more role IDs than fit in a single IN clause.
+        List<String> roleIds = getNonExistingIds("role-id", MANY_IDS_COUNT);
+        roleIds.add(sharedRoleBasicInfo.getId());
+        Map<String, String> sharedToMainRoleIds =
+                roleDAO.getSharedRoleToMainRoleMappingsBySubOrg(roleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN);
+        assertEquals(sharedToMainRoleIds.size(), 1);
+        assertEquals(sharedToMainRoleIds.get(sharedRoleBasicInfo.getId()), roleBasicInfo.getId());
+    }
+
     @Test
     public void testUpdatePermissionListOfRole() throws Exception {
 
@@ -1066,6 +1131,81 @@ public class RoleDAOTest {
         assertEquals(roles.size(), 1);
     }
 
+    @Test
+    public void testGetRoleIdListOfManyGroups() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        RoleBasicInfo role1 = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo role2 = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+
+        // The assigned groups are placed after more groups than fit in a single IN clause, and a group of a
+        // secondary user store is added to resolve the roles of more than one domain.
+        Map<String, String> groupIdsToNames = new LinkedHashMap<>();
+        for (String groupId : getNonExistingIds("group-id", MANY_IDS_COUNT)) {
+            groupIdsToNames.put(groupId, groupId + "-name");
+        }
+        groupIdsToNames.put("secondary-group-id", "SECONDARY/secondary-group");
+        groupIdsToNames.putAll(groupNamesMap);
+        GroupIDResolver groupIDResolver = mock(GroupIDResolver.class);
+        setPrivateFinalField(RoleDAOImpl.class, "groupIDResolver", roleDAO, groupIDResolver);
+        when(groupIDResolver.getNamesByIDs(anyList(), anyString())).thenReturn(groupIdsToNames);
+
+        List<String> roles = roleDAO.getRoleIdListOfGroups(new ArrayList<>(groupIdsToNames.keySet()),
+                SAMPLE_TENANT_DOMAIN);
+        // Both roles are assigned to both groups, and are returned only once.
+        assertEquals(new HashSet<>(roles), new HashSet<>(Arrays.asList(role1.getId(), role2.getId())));
+        assertEquals(roles.size(), 2);
+    }
+
+    @Test
+    public void testGetRoleIdListOfManyIdpGroups() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        RoleBasicInfo role1 = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo role2 = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        doNothing().when(roleDAO).validateGroupIds(anyList(), anyString());
+        roleDAO.updateIdpGroupListOfRole(role1.getId(),
+                Collections.singletonList(new IdpGroup("test-group1-id", "test-idp-id")), new ArrayList<>(),
+                SAMPLE_TENANT_DOMAIN);
+        roleDAO.updateIdpGroupListOfRole(role2.getId(),
+                Arrays.asList(new IdpGroup("test-group1-id", "test-idp-id"),
+                        new IdpGroup("test-group2-id", "test-idp-id")), new ArrayList<>(), SAMPLE_TENANT_DOMAIN);
+
+        // The assigned groups are placed on both sides of a full IN clause batch.
+        List<String> groupIds = new ArrayList<>();
+        groupIds.add("test-group1-id");
+        groupIds.addAll(getNonExistingIds("idp-group-id", MANY_IDS_COUNT));
+        groupIds.add("test-group2-id");
+        List<String> roles = roleDAO.getRoleIdListOfIdpGroups(groupIds, SAMPLE_TENANT_DOMAIN);
+        assertEquals(new HashSet<>(roles), new HashSet<>(Arrays.asList(role1.getId(), role2.getId())));
+        assertEquals(roles.size(), 2);
+        assertTrue(roleDAO.getRoleIdListOfIdpGroups(new ArrayList<>(), SAMPLE_TENANT_DOMAIN).isEmpty());
+    }
+
     @Test
     public void testDeleteRolesByApplication() throws Exception {
 
@@ -1307,6 +1447,15 @@ public class RoleDAOTest {
         }
     }
 
+    private List<String> getNonExistingIds(String prefix, int count) {
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(prefix + "-" + i);
+        }
+        return ids;
+    }
+
     private void mockCacheClearing(RoleDAOImpl roleDAO) throws Exception {
 
         UserRolesCache mockUserRolesCache = mock(UserRolesCache.class);
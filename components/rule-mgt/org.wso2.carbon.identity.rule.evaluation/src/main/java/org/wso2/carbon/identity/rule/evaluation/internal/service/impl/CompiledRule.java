@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, evaluation ready form of an {@link ORCombinedRule}.
+ * Operators are resolved and expression values are parsed into their typed forms once, when the rule is compiled,
+ * instead of on every evaluation.
+ */
+public class CompiledRule {
+
+    // Operators
+    private static final String EQUALS = "equals";
+    private static final String NOT_EQUALS = "notEquals";
+
+    private final OperatorRegistry operatorRegistry;
+    private final CompiledExpression[][] andRules;
+
+    private CompiledRule(OperatorRegistry operatorRegistry, CompiledExpression[][] andRules) {
+
+        this.operatorRegistry = operatorRegistry;
+        this.andRules = andRules;
+    }
+
+    /**
+     * Compile the given rule.
+     *
+     * @param orRule           Rule to compile.
+     * @param operatorRegistry Operator registry to resolve the operators of the expressions.
+     * @return Compiled rule.
+     */
+    public static CompiledRule compile(ORCombinedRule orRule, OperatorRegistry operatorRegistry) {
+
+        List<ANDCombinedRule> rules = orRule.getRules();
+        CompiledExpression[][] andRules = new CompiledExpression[rules.size()][];
+        for (int i = 0; i < rules.size(); i++) {
+            List<Expression> expressions = rules.get(i).getExpressions();
+            CompiledExpression[] compiledExpressions = new CompiledExpression[expressions.size()];
+            for (int j = 0; j < expressions.size(); j++) {
+                compiledExpressions[j] = new CompiledExpression(expressions.get(j), operatorRegistry);
+            }
+            andRules[i] = compiledExpressions;
+        }
+        return new CompiledRule(operatorRegistry, andRules);
+    }
+
+    /**
+     * Check whether this rule was compiled against the given operator registry.
+     *
+     * @param operatorRegistry Operator registry.
+     * @return True if the operators of this rule were resolved from the given registry.
+     */
+    public boolean isCompiledWith(OperatorRegistry operatorRegistry) {
+
+        return this.operatorRegistry == operatorRegistry;
+    }
+
+    /**
+     * Evaluate the compiled rule.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        for (CompiledExpression[] andRule : andRules) {
+            if (evaluateANDCombinedRule(andRule, evaluationData)) {
+                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            }
+        }
+        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+    }
+
+    private static boolean evaluateANDCombinedRule(CompiledExpression[] andRule, Map<String, FieldValue> evaluationData)
+            throws RuleEvaluationException {
+
+        for (CompiledExpression expression : andRule) {
+            if (!expression.evaluate(evaluationData)) {
+                return false; // If any expression fails, the ANDCombinedRule fails
+            }
+        }
+        return true; // All expressions passed, the ANDCombinedRule passes
+    }
+
+    /**
+     * Expression with its operator resolved and its value parsed for each value type.
+     */
+    private static class CompiledExpression {
+
+        private final String field;
+        private final String operatorName;
+        private final Operator operator;
+        private final String stringValue;
+        private final Boolean booleanValue;
+        private final Double numberValue;
+
+        CompiledExpression(Expression expression, OperatorRegistry operatorRegistry) {
+
+            this.field = expression.getField();
+            this.operatorName = expression.getOperator();
+            this.operator = operatorRegistry.getOperator(operatorName);
+            this.stringValue = expression.getValue().getFieldValue();
+            this.booleanValue = Boolean.parseBoolean(stringValue);
+            this.numberValue = parseNumber(stringValue);
+        }
+
+        boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+            if (operator == null) {
+                throw new RuleEvaluationException("Operator not found: " + operatorName);
+            }
+
+            // Evaluate based on the value type of the field
+            ValueType valueType = fieldValue.getValueType();
+            if (valueType == ValueType.STRING || valueType == ValueType.REFERENCE) {
+                return operator.apply(fieldValue.getValue(), stringValue);
+            } else if (valueType == ValueType.BOOLEAN) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (valueType == ValueType.NUMBER) {
+                // A value which could not be parsed at compile time fails the same way it did before compilation.
+                return operator.apply(fieldValue.getValue(),
+                        numberValue != null ? numberValue : Double.parseDouble(stringValue));
+            } else if (valueType == ValueType.LIST) {
+                return applyOperatorForList((List<?>) fieldValue.getValue());
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + valueType);
+        }
+
+        private boolean applyOperatorForList(List<?> list) {
+
+            if (EQUALS.equals(operatorName)) {
+                return list.contains(stringValue);
+            } else if (NOT_EQUALS.equals(operatorName)) {
+                return !list.contains(stringValue);
+            }
+
+            throw new IllegalStateException("Unsupported operator: " + operatorName + " for LIST value type");
+        }
+
+        private static Double parseNumber(String value) {
+
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -28,10 +28,13 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRule;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.util.RuleBuilder;
@@ -61,6 +64,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class RuleEvaluatorTest {
@@ -149,6 +153,28 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test
+    public void testCompiledRuleIsReusedAcrossEvaluations() throws Exception {
+
+        Rule rule = createRuleWithTwoANDExpressionsAndOneORExpressionUsingReferenceAndNumberValueTypes();
+
+        CompiledRule compiledRule = ruleEvaluator.getCompiledRule(rule);
+        assertSame(new RuleEvaluator(operatorRegistry).getCompiledRule(rule), compiledRule);
+        assertTrue(ruleEvaluator.evaluate(rule, createEvaluationData("testapp1", 10)));
+        assertFalse(ruleEvaluator.evaluate(rule, createEvaluationData("testapp2", 10)));
+        assertSame(ruleEvaluator.getCompiledRule(rule), compiledRule);
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void testEvaluateInvalidNumberValue() throws Exception {
+
+        Rule invalidRule = new ORCombinedRule.Builder().addRule(new ANDCombinedRule.Builder()
+                .addExpression(new Expression.Builder().field("riskScore").operator("equals")
+                        .value(new Value(Value.Type.NUMBER, "high")).build()).build()).build();
+
+        ruleEvaluator.evaluate(invalidRule, createEvaluationData("testapp", 10));
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
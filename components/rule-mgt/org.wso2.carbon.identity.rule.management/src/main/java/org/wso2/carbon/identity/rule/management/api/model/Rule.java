@@ -31,6 +31,7 @@ public abstract class Rule {
     protected String id;
     protected Condition condition;
     protected boolean isActive;
+    private transient volatile Object compiledForm;
 
     /**
      * @JsonIgnore annotation is used to ignore the id field when serializing and deserializing the object,
@@ -57,6 +58,28 @@ public abstract class Rule {
         return isActive;
     }
 
+    /**
+     * Get the compiled form of the rule held by the rule evaluation component. It is not part of the rule definition
+     * and is not serialized.
+     *
+     * @return Compiled form of the rule, or null if the rule is not compiled yet.
+     */
+    @JsonIgnore
+    public Object getCompiledForm() {
+
+        return compiledForm;
+    }
+
+    /**
+     * Set the compiled form of the rule, so that the rule is compiled once per rule instance.
+     *
+     * @param compiledForm Compiled form of the rule.
+     */
+    @JsonIgnore
+    public void setCompiledForm(Object compiledForm) {
+
+        this.compiledForm = compiledForm;
+    }
 
     public abstract List<Expression> getExpressions();
 }
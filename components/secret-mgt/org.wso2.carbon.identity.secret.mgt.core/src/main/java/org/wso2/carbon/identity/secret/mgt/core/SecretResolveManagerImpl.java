@@ -21,8 +21,10 @@ package org.wso2.carbon.identity.secret.mgt.core;
 import org.apache.commons.codec.Charsets;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementException;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementServerException;
+import org.wso2.carbon.identity.secret.mgt.core.internal.SecretManagerComponentDataHolder;
 import org.wso2.carbon.identity.secret.mgt.core.model.ResolvedSecret;
 import org.wso2.carbon.identity.secret.mgt.core.model.Secret;
 
@@ -53,16 +55,27 @@ public class SecretResolveManagerImpl implements SecretResolveManager {
         resolvedSecret.setCreatedTime(secret.getCreatedTime());
         resolvedSecret.setLastModified(secret.getLastModified());
         resolvedSecret.setTenantDomain(secret.getTenantDomain());
-        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName()));
+        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secret));
         return resolvedSecret;
     }
 
-    private String getDecryptedSecretValue(String secretValue, String name) throws SecretManagementServerException {
+    private String getDecryptedSecretValue(Secret secret) throws SecretManagementServerException {
 
+        ResolvedSecretCache resolvedSecretCache = getResolvedSecretCache();
         try {
-            return decrypt(secretValue);
+            if (!resolvedSecretCache.isEnabled()) {
+                return new String(decrypt(secret.getSecretValue()), Charsets.UTF_8);
+            }
+            String secretValue = resolvedSecretCache.getValueFromCache(secret.getSecretId(), secret.getSecretValue());
+            if (secretValue != null) {
+                return secretValue;
+            }
+            byte[] decryptedSecretValue = decrypt(secret.getSecretValue());
+            secretValue = new String(decryptedSecretValue, Charsets.UTF_8);
+            resolvedSecretCache.addToCache(secret.getSecretId(), secret.getSecretValue(), decryptedSecretValue);
+            return secretValue;
         } catch (CryptoException e) {
-            throw handleServerException(ERROR_CODE_GET_SECRET, name, e);
+            throw handleServerException(ERROR_CODE_GET_SECRET, secret.getSecretName(), e);
         }
     }
 
@@ -72,9 +85,14 @@ public class SecretResolveManagerImpl implements SecretResolveManager {
      * @param cipherText cipher text secret.
      * @return decrypted secret.
      */
-    private String decrypt(String cipherText) throws CryptoException {
+    private byte[] decrypt(String cipherText) throws CryptoException {
 
-        return new String(CryptoUtil.getDefaultCryptoUtil().base64DecodeAndDecrypt(
-                cipherText), Charsets.UTF_8);
+        getResolvedSecretCache().recordDecrypt();
+        return CryptoUtil.getDefaultCryptoUtil().base64DecodeAndDecrypt(cipherText);
+    }
+
+    private ResolvedSecretCache getResolvedSecretCache() {
+
+        return SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache();
     }
 }
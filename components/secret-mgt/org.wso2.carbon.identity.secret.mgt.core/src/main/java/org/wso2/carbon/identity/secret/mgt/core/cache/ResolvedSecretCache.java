@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.secret.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node local cache for decrypted secret values. Unlike {@link SecretByIdCache} and {@link SecretByNameCache}, this
+ * cache holds plaintext, hence it is never distributed, entries expire after a short lifetime, and the plaintext is
+ * kept in byte arrays which are cleared as soon as an entry is removed.
+ * <p>
+ * An entry is served only if the ciphertext it was decrypted from matches the current ciphertext of the secret, so an
+ * update made on another node takes effect as soon as the ciphertext caches are invalidated. The cache is disabled by
+ * default.
+ * <p>
+ * Expired entries are removed and cleared when a value is added, at most once per timeout, and by a clean up task
+ * which runs once per timeout while the component is active. The clean up task also logs the cache metrics at the
+ * configured interval.
+ */
+public class ResolvedSecretCache {
+
+    private static final Log log = LogFactory.getLog(ResolvedSecretCache.class);
+
+    private static final String ENABLE_CONFIG = "SecretManagement.ResolvedSecretCache.Enable";
+    private static final String TIMEOUT_CONFIG = "SecretManagement.ResolvedSecretCache.TimeoutInSeconds";
+    private static final String CAPACITY_CONFIG = "SecretManagement.ResolvedSecretCache.Capacity";
+    private static final String METRICS_LOG_INTERVAL_CONFIG =
+            "SecretManagement.ResolvedSecretCache.MetricsLogIntervalInSeconds";
+    private static final int DEFAULT_TIMEOUT_IN_SECONDS = 60;
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final int DEFAULT_METRICS_LOG_INTERVAL_IN_SECONDS = 300;
+    private static final long MIN_CLEAN_UP_INTERVAL_IN_MILLIS = 1000;
+
+    private final boolean enabled;
+    private final long timeoutInMillis;
+    private final int capacity;
+    private final long metricsLogIntervalInMillis;
+    private final Map<String, ResolvedSecretEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong decryptCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private long nextSweepTime;
+    private long lastMetricsLogTime;
+    private ScheduledExecutorService cleanUpScheduler;
+
+    public ResolvedSecretCache(boolean enabled, long timeoutInMillis, int capacity) {
+
+        this(enabled, timeoutInMillis, capacity, 0);
+    }
+
+    public ResolvedSecretCache(boolean enabled, long timeoutInMillis, int capacity, long metricsLogIntervalInMillis) {
+
+        this.enabled = enabled;
+        this.timeoutInMillis = timeoutInMillis;
+        this.capacity = capacity;
+        this.metricsLogIntervalInMillis = metricsLogIntervalInMillis;
+    }
+
+    /**
+     * Build the cache from the identity configuration.
+     *
+     * @return Configured cache.
+     */
+    public static ResolvedSecretCache buildFromConfig() {
+
+        return new ResolvedSecretCache(Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_CONFIG)),
+                TimeUnit.SECONDS.toMillis(getIntConfig(TIMEOUT_CONFIG, DEFAULT_TIMEOUT_IN_SECONDS)),
+                getIntConfig(CAPACITY_CONFIG, DEFAULT_CAPACITY),
+                TimeUnit.SECONDS.toMillis(getIntConfig(METRICS_LOG_INTERVAL_CONFIG,
+                        DEFAULT_METRICS_LOG_INTERVAL_IN_SECONDS)));
+    }
+
+    /**
+     * Start the task which removes the expired entries and logs the cache metrics. The task is started only if the
+     * cache is enabled.
+     */
+    public synchronized void startCleanUp() {
+
+        if (!enabled || capacity <= 0 || cleanUpScheduler != null) {
+            return;
+        }
+        long cleanUpInterval = Math.max(timeoutInMillis, MIN_CLEAN_UP_INTERVAL_IN_MILLIS);
+        lastMetricsLogTime = System.currentTimeMillis();
+        cleanUpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ResolvedSecretCacheCleanUp");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleanUpScheduler.scheduleWithFixedDelay(this::cleanUp, cleanUpInterval, cleanUpInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the clean up task and remove all decrypted values.
+     */
+    public synchronized void stopCleanUp() {
+
+        if (cleanUpScheduler != null) {
+            cleanUpScheduler.shutdownNow();
+            cleanUpScheduler = null;
+        }
+        clear();
+    }
+
+    /**
+     * Whether decrypted secret values should be cached.
+     *
+     * @return true if the cache is enabled.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the decrypted value of a secret.
+     *
+     * @param secretId   Id of the secret.
+     * @param cipherText Current ciphertext of the secret.
+     * @return Decrypted value, or null if there is no live entry decrypted from the given ciphertext.
+     */
+    public String getValueFromCache(String secretId, String cipherText) {
+
+        synchronized (this) {
+            ResolvedSecretEntry entry = entries.get(secretId);
+            if (entry != null) {
+                if (entry.expiryTime > System.currentTimeMillis() && entry.cipherText.equals(cipherText)) {
+                    hitCount.incrementAndGet();
+                    return new String(entry.plainText, StandardCharsets.UTF_8);
+                }
+                entries.remove(secretId);
+                entry.clear();
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Add the decrypted value of a secret. The cache takes ownership of the given plaintext array and clears it when
+     * the entry is removed.
+     *
+     * @param secretId   Id of the secret.
+     * @param cipherText Ciphertext the value was decrypted from.
+     * @param plainText  Decrypted value.
+     */
+    public void addToCache(String secretId, String cipherText, byte[] plainText) {
+
+        if (secretId == null || cipherText == null || capacity <= 0) {
+            Arrays.fill(plainText, (byte) 0);
+            return;
+        }
+        synchronized (this) {
+            long currentTime = System.currentTimeMillis();
+            if (currentTime >= nextSweepTime) {
+                removeExpiredEntries(currentTime);
+                nextSweepTime = currentTime + timeoutInMillis;
+            }
+            ResolvedSecretEntry previousEntry = entries.put(secretId, new ResolvedSecretEntry(cipherText, plainText,
+                    currentTime + timeoutInMillis));
+            if (previousEntry != null) {
+                previousEntry.clear();
+            }
+            Iterator<ResolvedSecretEntry> iterator = entries.values().iterator();
+            while (entries.size() > capacity && iterator.hasNext()) {
+                iterator.next().clear();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove the decrypted value of a secret.
+     *
+     * @param secretId Id of the secret.
+     */
+    public synchronized void clearCacheEntry(String secretId) {
+
+        ResolvedSecretEntry entry = entries.remove(secretId);
+        if (entry != null) {
+            entry.clear();
+        }
+    }
+
+    /**
+     * Remove all decrypted values.
+     */
+    public synchronized void clear() {
+
+        entries.values().forEach(ResolvedSecretEntry::clear);
+        entries.clear();
+    }
+
+    /**
+     * Remove and clear the expired decrypted values.
+     *
+     * @return Number of removed entries.
+     */
+    public synchronized int removeExpiredEntries() {
+
+        return removeExpiredEntries(System.currentTimeMillis());
+    }
+
+    /**
+     * Get the number of decrypted values held in the cache.
+     *
+     * @return Entry count.
+     */
+    public synchronized int getSize() {
+
+        return entries.size();
+    }
+
+    /**
+     * Record a decryption of a secret value.
+     */
+    public void recordDecrypt() {
+
+        decryptCount.incrementAndGet();
+    }
+
+    /**
+     * Get the number of secret values decrypted since the server started.
+     *
+     * @return Decrypt count.
+     */
+    public long getDecryptCount() {
+
+        return decryptCount.get();
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return Hit count.
+     */
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    /**
+     * Get the number of lookups which were not served from the cache.
+     *
+     * @return Miss count.
+     */
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the number of entries removed on expiry by the sweeps.
+     *
+     * @return Expired entry count.
+     */
+    public long getExpiredCount() {
+
+        return expiredCount.get();
+    }
+
+    /**
+     * Get the ratio of lookups served from the cache.
+     *
+     * @return Hit ratio between 0 and 1.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private int removeExpiredEntries(long currentTime) {
+
+        int removedCount = 0;
+        Iterator<ResolvedSecretEntry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            ResolvedSecretEntry entry = iterator.next();
+            if (entry.expiryTime <= currentTime) {
+                entry.clear();
+                iterator.remove();
+                removedCount++;
+            }
+        }
+        expiredCount.addAndGet(removedCount);
+        return removedCount;
+    }
+
+    private void cleanUp() {
+
+        // An exception thrown from a scheduled task cancels its later runs.
+        try {
+            int removedCount = removeExpiredEntries();
+            if (log.isDebugEnabled() && removedCount > 0) {
+                log.debug("Removed " + removedCount + " expired entries from the resolved secret cache.");
+            }
+            long currentTime = System.currentTimeMillis();
+            if (metricsLogIntervalInMillis > 0 && currentTime - lastMetricsLogTime >= metricsLogIntervalInMillis) {
+                lastMetricsLogTime = currentTime;
+                log.info(String.format("Resolved secret cache metrics: size=%d, hits=%d, misses=%d, " +
+                                "hitRatio=%.2f, decrypts=%d, expired=%d", getSize(), getHitCount(), getMissCount(),
+                        getHitRatio(), getDecryptCount(), getExpiredCount()));
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while cleaning up the resolved secret cache.", e);
+        }
+    }
+
+    private static int getIntConfig(String configName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(configName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + configName + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static class ResolvedSecretEntry {
+
+        private final String cipherText;
+        private final byte[] plainText;
+        private final long expiryTime;
+
+        private ResolvedSecretEntry(String cipherText, byte[] plainText, long expiryTime) {
+
+            this.cipherText = cipherText;
+            this.plainText = plainText;
+            this.expiryTime = expiryTime;
+        }
+
+        private void clear() {
+
+            Arrays.fill(plainText, (byte) 0);
+        }
+    }
+}
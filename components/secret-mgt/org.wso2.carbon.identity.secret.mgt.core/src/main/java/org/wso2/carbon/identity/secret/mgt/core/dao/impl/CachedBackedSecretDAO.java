@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.secret.mgt.core.cache.SecretByNameCacheKey;
 import org.wso2.carbon.identity.secret.mgt.core.cache.SecretCacheEntry;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementException;
+import org.wso2.carbon.identity.secret.mgt.core.internal.SecretManagerComponentDataHolder;
 import org.wso2.carbon.identity.secret.mgt.core.model.Secret;
 import org.wso2.carbon.identity.secret.mgt.core.model.SecretType;
 
@@ -108,6 +109,7 @@ public class CachedBackedSecretDAO implements SecretDAO {
 
         secretDAO.deleteSecretById(secretId, tenantId);
         deleteCacheBySecretId(secretId, tenantId);
+        SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache().clearCacheEntry(secretId);
     }
 
     @Override
@@ -245,6 +247,8 @@ public class CachedBackedSecretDAO implements SecretDAO {
 
         secretByIdCache.clearCacheEntry(secretByIdCacheKey, secret.getTenantDomain());
         secretByNameCache.clearCacheEntry(secretByNameCacheKey, secret.getTenantDomain());
+        SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache()
+                .clearCacheEntry(secret.getSecretId());
     }
 
     private void deleteCacheBySecretId(String secretId, int tenantId) throws SecretManagementException {
@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -32,6 +33,7 @@ import org.wso2.carbon.identity.secret.mgt.core.SecretManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretManagerImpl;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManagerImpl;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.CachedBackedSecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.SecretDAOImpl;
@@ -62,6 +64,9 @@ public class SecretManagerComponent {
     protected void activate(ComponentContext componentContext) {
 
         BundleContext bundleContext = componentContext.getBundleContext();
+        ResolvedSecretCache resolvedSecretCache = ResolvedSecretCache.buildFromConfig();
+        resolvedSecretCache.startCleanUp();
+        SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(resolvedSecretCache);
         SecretDAO secretDAO = new SecretDAOImpl();
         bundleContext.registerService(SecretDAO.class.getName(),
                 new CachedBackedSecretDAO(secretDAO), null);
@@ -73,6 +78,12 @@ public class SecretManagerComponent {
                 (isSecretManagementEnabled());
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache().stopCleanUp();
+    }
+
     @Reference(
             name = "secret.dao",
             service = org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO.class,
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.secret.mgt.core.internal;
 
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -34,6 +35,7 @@ public class SecretManagerComponentDataHolder {
     private boolean secretManagementEnabled;
     private RealmService realmService;
     private List<SecretDAO> secretDAOS = new ArrayList<>();
+    private ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(false, 0, 0);
 
     public static SecretManagerComponentDataHolder getInstance() {
 
@@ -69,4 +71,14 @@ public class SecretManagerComponentDataHolder {
 
         this.secretDAOS = secretDAOS;
     }
+
+    public ResolvedSecretCache getResolvedSecretCache() {
+
+        return resolvedSecretCache;
+    }
+
+    public void setResolvedSecretCache(ResolvedSecretCache resolvedSecretCache) {
+
+        this.resolvedSecretCache = resolvedSecretCache;
+    }
 }
@@ -30,7 +30,11 @@ import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
+import org.wso2.carbon.identity.secret.mgt.core.cache.SecretByIdCache;
+import org.wso2.carbon.identity.secret.mgt.core.cache.SecretByNameCache;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
+import org.wso2.carbon.identity.secret.mgt.core.dao.impl.CachedBackedSecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.SecretDAOImpl;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementClientException;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementServerException;
@@ -44,11 +48,14 @@ import org.wso2.carbon.identity.secret.mgt.core.util.TestUtils;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
@@ -61,6 +68,7 @@ import static org.wso2.carbon.identity.secret.mgt.core.util.TestUtils.spyConnect
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.fail;
 
 public class SecretManagerTest {
@@ -443,6 +451,63 @@ public class SecretManagerTest {
                 "Existing id should be equal to the replaced id");
     }
 
+    @Test(priority = 28)
+    public void testGetResolvedSecretWithResolvedSecretCache() throws Exception {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, TimeUnit.MINUTES.toMillis(1), 10);
+        SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(resolvedSecretCache);
+        try {
+            SecretType secretType = secretManager.addSecretType(getSampleSecretTypeAdd(SAMPLE_SECRET_TYPE_NAME1,
+                    SAMPLE_SECRET_TYPE_DESCRIPTION1));
+            encryptSecret(SAMPLE_SECRET_VALUE1);
+            Secret secretCreated = secretManager.addSecret(secretType.getName(),
+                    getSampleSecretAdd(SAMPLE_SECRET_NAME1, SAMPLE_SECRET_VALUE1));
+            // The cache clears the plaintext arrays it owns, hence every decryption returns a new array.
+            when(mockCryptoUtil.base64DecodeAndDecrypt(ENCRYPTED_VALUE1))
+                    .thenAnswer(invocation -> SAMPLE_SECRET_VALUE1.getBytes(Charsets.UTF_8));
+            when(mockCryptoUtil.base64DecodeAndDecrypt(ENCRYPTED_VALUE2))
+                    .thenAnswer(invocation -> SAMPLE_SECRET_VALUE2.getBytes(Charsets.UTF_8));
+
+            // The first resolve decrypts the secret and the next one is served from the cache.
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE1);
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE1);
+            verify(mockCryptoUtil, times(1)).base64DecodeAndDecrypt(ENCRYPTED_VALUE1);
+            assertEquals(resolvedSecretCache.getHitCount(), 1);
+            assertEquals(resolvedSecretCache.getMissCount(), 1);
+
+            // An update which does not clear the cached value, as on another node, changes the ciphertext, hence
+            // the cached value is not served and the new ciphertext is decrypted.
+            encryptSecret(SAMPLE_SECRET_VALUE2);
+            secretManager.updateSecretValue(secretType.getName(), SAMPLE_SECRET_NAME1, SAMPLE_SECRET_VALUE2);
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE2);
+            verify(mockCryptoUtil, times(1)).base64DecodeAndDecrypt(ENCRYPTED_VALUE2);
+
+            // An update through the cache backed DAO clears the cached value.
+            try (MockedStatic<SecretByIdCache> secretByIdCache = mockStatic(SecretByIdCache.class);
+                 MockedStatic<SecretByNameCache> secretByNameCache = mockStatic(SecretByNameCache.class)) {
+                secretByIdCache.when(SecretByIdCache::getInstance).thenReturn(mock(SecretByIdCache.class));
+                secretByNameCache.when(SecretByNameCache::getInstance).thenReturn(mock(SecretByNameCache.class));
+                SecretManagerComponentDataHolder.getInstance().setSecretDAOS(
+                        Collections.singletonList(new CachedBackedSecretDAO(new SecretDAOImpl())));
+                secretManager = new SecretManagerImpl();
+                secretResolveManager = new SecretResolveManagerImpl();
+
+                encryptSecret(SAMPLE_SECRET_VALUE1);
+                secretManager.updateSecretValue(secretType.getName(), SAMPLE_SECRET_NAME1, SAMPLE_SECRET_VALUE1);
+                assertNull(resolvedSecretCache.getValueFromCache(secretCreated.getSecretId(), ENCRYPTED_VALUE2));
+                assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                        .getResolvedSecretValue(), SAMPLE_SECRET_VALUE1);
+                verify(mockCryptoUtil, times(2)).base64DecodeAndDecrypt(ENCRYPTED_VALUE1);
+            }
+        } finally {
+            SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(
+                    new ResolvedSecretCache(false, 0, 0));
+        }
+    }
+
     private void prepareConfigs() {
 
         SecretDAO secretDAO = new SecretDAOImpl();
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.secret.mgt.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link ResolvedSecretCache}.
+ */
+public class ResolvedSecretCacheTest {
+
+    private static final String SECRET_ID_1 = "secret-id-1";
+    private static final String SECRET_ID_2 = "secret-id-2";
+    private static final String CIPHER_TEXT_1 = "cipher-text-1";
+    private static final String CIPHER_TEXT_2 = "cipher-text-2";
+    private static final String SECRET_VALUE_1 = "secret-value-1";
+    private static final String SECRET_VALUE_2 = "secret-value-2";
+
+    @Test
+    public void testGetValueFromCache() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 60000, 10);
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1));
+
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, getBytes(SECRET_VALUE_1));
+        assertEquals(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1), SECRET_VALUE_1);
+        assertEquals(resolvedSecretCache.getHitCount(), 1);
+        assertEquals(resolvedSecretCache.getMissCount(), 1);
+        assertEquals(resolvedSecretCache.getHitRatio(), 0.5);
+    }
+
+    @Test
+    public void testEntryIsClearedWhenCipherTextChanges() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 60000, 10);
+        byte[] plainText = getBytes(SECRET_VALUE_1);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, plainText);
+
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_2));
+        assertEquals(plainText, new byte[plainText.length]);
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1));
+    }
+
+    @Test
+    public void testEntryExpires() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 0, 10);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, getBytes(SECRET_VALUE_1));
+
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1));
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemovedOnAdd() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 0, 10);
+        byte[] plainText = getBytes(SECRET_VALUE_1);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, plainText);
+        resolvedSecretCache.addToCache(SECRET_ID_2, CIPHER_TEXT_2, getBytes(SECRET_VALUE_2));
+
+        assertEquals(plainText, new byte[plainText.length]);
+        assertEquals(resolvedSecretCache.getSize(), 1);
+        assertEquals(resolvedSecretCache.getExpiredCount(), 1);
+    }
+
+    @Test
+    public void testRemoveExpiredEntries() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 0, 10);
+        byte[] plainText = getBytes(SECRET_VALUE_1);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, plainText);
+
+        assertEquals(resolvedSecretCache.removeExpiredEntries(), 1);
+        assertEquals(plainText, new byte[plainText.length]);
+        assertEquals(resolvedSecretCache.getSize(), 0);
+
+        ResolvedSecretCache liveCache = new ResolvedSecretCache(true, 60000, 10);
+        liveCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, getBytes(SECRET_VALUE_1));
+        assertEquals(liveCache.removeExpiredEntries(), 0);
+        assertEquals(liveCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1), SECRET_VALUE_1);
+    }
+
+    @Test
+    public void testCapacityIsBounded() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 60000, 1);
+        byte[] plainText = getBytes(SECRET_VALUE_1);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, plainText);
+        resolvedSecretCache.addToCache(SECRET_ID_2, CIPHER_TEXT_2, getBytes(SECRET_VALUE_2));
+
+        assertEquals(plainText, new byte[plainText.length]);
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1));
+        assertEquals(resolvedSecretCache.getValueFromCache(SECRET_ID_2, CIPHER_TEXT_2), SECRET_VALUE_2);
+    }
+
+    @Test
+    public void testClearCacheEntry() {
+
+        ResolvedSecretCache resolvedSecretCache = new ResolvedSecretCache(true, 60000, 10);
+        byte[] plainText = getBytes(SECRET_VALUE_1);
+        resolvedSecretCache.addToCache(SECRET_ID_1, CIPHER_TEXT_1, plainText);
+        resolvedSecretCache.clearCacheEntry(SECRET_ID_1);
+
+        assertEquals(plainText, new byte[plainText.length]);
+        assertNull(resolvedSecretCache.getValueFromCache(SECRET_ID_1, CIPHER_TEXT_1));
+    }
+
+    private byte[] getBytes(String value) {
+
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -38,7 +38,19 @@ public enum ErrorMessage {
     CONFIG_FILE_RETRIEVAL_ERROR("EVENTPUBLISHER-65005", "Error while retrieving the configuration file.",
             "Error while retrieving the configuration file: %s."),
     CONFIG_FILE_PERMISSION_DENIED("EVENTPUBLISHER-65006", "Permission denied while accessing the configuration file.",
-            "Permission denied while accessing the configuration file: %s.");
+            "Permission denied while accessing the configuration file: %s."),
+    ERROR_CODE_EVENT_DELIVERY_QUEUE_FULL("EVENTPUBLISHER-65007", "Event delivery queue is full.",
+            "Event delivery queue of the channel: %s is full. The event is dropped."),
+    ERROR_CODE_EVENT_DELIVERY_STOPPED("EVENTPUBLISHER-65008", "Event delivery is stopped.",
+            "Event delivery is stopped. The event of the channel: %s is dropped."),
+    ERROR_CODE_EVENT_DELIVERY_CAPACITY_EXCEEDED("EVENTPUBLISHER-65009", "Event delivery capacity is exceeded.",
+            "Maximum number of events pending delivery is reached. The event of the channel: %s is dropped."),
+    ERROR_CODE_ADDING_OUTBOX_EVENT("EVENTPUBLISHER-65010", "Error while adding the event to the outbox.",
+            "Error while adding the event of the event URI: %s to the event outbox."),
+    ERROR_CODE_RETRIEVING_OUTBOX_EVENTS("EVENTPUBLISHER-65011", "Error while retrieving the events in the outbox.",
+            "Error while retrieving the events of the adapter: %s from the event outbox."),
+    ERROR_CODE_DELETING_OUTBOX_EVENT("EVENTPUBLISHER-65012", "Error while deleting the event in the outbox.",
+            "Error while deleting the event: %s from the event outbox.");
 
     private final String code;
     private final String message;
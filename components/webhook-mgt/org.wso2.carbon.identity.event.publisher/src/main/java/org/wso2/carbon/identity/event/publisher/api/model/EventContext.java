@@ -27,6 +27,7 @@ public class EventContext {
     private final String eventUri;
     private final String eventProfileName;
     private final String eventProfileVersion;
+    private final String endpoint;
 
     private EventContext(Builder builder) {
 
@@ -34,6 +35,7 @@ public class EventContext {
         this.eventUri = builder.eventUri;
         this.eventProfileName = builder.eventProfileName;
         this.eventProfileVersion = builder.eventProfileVersion;
+        this.endpoint = builder.endpoint;
     }
 
     public String getTenantDomain() {
@@ -56,6 +58,16 @@ public class EventContext {
         return eventProfileVersion;
     }
 
+    /**
+     * Get the endpoint to which the event is delivered.
+     *
+     * @return Delivery endpoint, or null if the event is delivered to all the endpoints subscribed to it.
+     */
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
     public static Builder builder() {
 
         return new Builder();
@@ -70,6 +82,7 @@ public class EventContext {
         private String eventUri;
         private String eventProfileName;
         private String eventProfileVersion;
+        private String endpoint;
 
         public Builder() {
 
@@ -99,6 +112,12 @@ public class EventContext {
             return this;
         }
 
+        public Builder endpoint(String endpoint) {
+
+            this.endpoint = endpoint;
+            return this;
+        }
+
         public EventContext build() {
 
             return new EventContext(this);
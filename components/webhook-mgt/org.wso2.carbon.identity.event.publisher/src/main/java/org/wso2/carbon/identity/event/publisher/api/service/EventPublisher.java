@@ -22,6 +22,9 @@ import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherExce
 import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
 import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * The EventPublisher interface.
  */
@@ -43,6 +46,50 @@ public interface EventPublisher {
      */
     void publish(SecurityEventTokenPayload payload, EventContext eventContext) throws EventPublisherException;
 
+    /**
+     * Check whether the event publisher delivers a batch of events atomically through
+     * {@link #publishBatch(List, EventContext)}. Events are handed over in batches only to publishers returning true.
+     *
+     * @return true if batches are supported, false otherwise.
+     */
+    default boolean supportsBatch() {
+
+        return false;
+    }
+
+    /**
+     * Publish a batch of events sharing the same event context to the intermediate hub. Only invoked on publishers
+     * supporting batches, which must accept or reject the batch as a whole, since a batch failing with a server
+     * error is published again in full. By default, the events are published one by one.
+     *
+     * @param payloads     Event payloads.
+     * @param eventContext Event Context.
+     * @throws EventPublisherException If an error occurs while publishing the events.
+     */
+    default void publishBatch(List<SecurityEventTokenPayload> payloads, EventContext eventContext)
+            throws EventPublisherException {
+
+        for (SecurityEventTokenPayload payload : payloads) {
+            publish(payload, eventContext);
+        }
+    }
+
+    /**
+     * Get the endpoints to which the event of the given event context is delivered, such as the endpoints of the
+     * webhooks subscribed to the event. When endpoints are returned, the event is queued once per endpoint with the
+     * endpoint set in the event context, and {@link #publish(SecurityEventTokenPayload, EventContext)} must then
+     * deliver the event to that endpoint only, so each endpoint is given its own delivery queue, concurrency limit,
+     * retries and metrics. By default, no endpoints are returned and the event is queued once for the tenant and
+     * event URI, leaving the delivery to the subscribed endpoints to the publisher.
+     *
+     * @param eventContext Event Context.
+     * @return Delivery endpoints, or an empty list if the publisher delivers the event to its endpoints itself.
+     */
+    default List<String> getDeliveryEndpoints(EventContext eventContext) {
+
+        return Collections.emptyList();
+    }
+
     /**
      * Check whether the event publisher can handle the given event context.
      *
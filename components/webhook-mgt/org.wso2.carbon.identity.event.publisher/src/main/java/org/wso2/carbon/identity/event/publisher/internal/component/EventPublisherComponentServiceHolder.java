@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.event.publisher.internal.component;
 
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.EventDeliveryDispatcher;
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.service.EventAdapterMetadataService;
 
@@ -36,6 +37,7 @@ public class EventPublisherComponentServiceHolder {
     private List<EventPublisher> eventPublishers = new ArrayList<>();
     private EventAdapterMetadataService eventAdapterMetadataService;
     private Adapter webhookAdapter;
+    private volatile EventDeliveryDispatcher eventDeliveryDispatcher;
 
     private EventPublisherComponentServiceHolder() {
 
@@ -125,4 +127,24 @@ public class EventPublisherComponentServiceHolder {
 
         this.webhookAdapter = webhookAdapter;
     }
+
+    /**
+     * Get the event delivery dispatcher.
+     *
+     * @return EventDeliveryDispatcher instance, or null if the component is not active.
+     */
+    public EventDeliveryDispatcher getEventDeliveryDispatcher() {
+
+        return eventDeliveryDispatcher;
+    }
+
+    /**
+     * Set the event delivery dispatcher.
+     *
+     * @param eventDeliveryDispatcher EventDeliveryDispatcher instance.
+     */
+    public void setEventDeliveryDispatcher(EventDeliveryDispatcher eventDeliveryDispatcher) {
+
+        this.eventDeliveryDispatcher = eventDeliveryDispatcher;
+    }
 }
@@ -30,6 +30,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisherService;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.EventDeliveryDispatcher;
 import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventPublisherServiceImpl;
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.service.EventAdapterMetadataService;
@@ -61,6 +62,9 @@ public class EventPublisherServiceComponent {
                     .getCurrentActiveAdapter();
             EventPublisherComponentServiceHolder.getInstance()
                     .setWebhookAdapter(adapter);
+            EventPublisherComponentServiceHolder.getInstance()
+                    .setEventDeliveryDispatcher(EventDeliveryDispatcher.buildFromConfig(
+                            EventPublisherComponentServiceHolder.getInstance()::getEventPublishers));
 
             // Register the EventPublisherService
             bundleContext.registerService(EventPublisherService.class.getName(),
@@ -81,6 +85,12 @@ public class EventPublisherServiceComponent {
     protected void deactivate(ComponentContext context) {
 
         try {
+            EventDeliveryDispatcher eventDeliveryDispatcher =
+                    EventPublisherComponentServiceHolder.getInstance().getEventDeliveryDispatcher();
+            EventPublisherComponentServiceHolder.getInstance().setEventDeliveryDispatcher(null);
+            if (eventDeliveryDispatcher != null) {
+                eventDeliveryDispatcher.shutdown();
+            }
             LOG.debug("EventPublisherService is deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating EventPublisherService", e);
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.constant;
+
+/**
+ * SQL constants of the webhook event outbox.
+ */
+public final class EventOutboxSQLConstants {
+
+    public static final String EVENT_OUTBOX_TABLE = "IDN_WEBHOOK_EVENT_OUTBOX";
+
+    private EventOutboxSQLConstants() {
+
+    }
+
+    /**
+     * This class is used to store column names.
+     */
+    public static final class Column {
+
+        public static final String ID = "ID";
+        public static final String TENANT_ID = "TENANT_ID";
+        public static final String EVENT_URI = "EVENT_URI";
+        public static final String EVENT_PROFILE_NAME = "EVENT_PROFILE_NAME";
+        public static final String EVENT_PROFILE_VERSION = "EVENT_PROFILE_VERSION";
+        public static final String ENDPOINT = "ENDPOINT";
+        public static final String PAYLOAD = "PAYLOAD";
+        public static final String QUEUED_TIME = "QUEUED_TIME";
+
+        private Column() {
+
+        }
+    }
+
+    /**
+     * This class is used to store SQL queries.
+     */
+    public static final class Query {
+
+        public static final String ADD_EVENT =
+                "INSERT INTO IDN_WEBHOOK_EVENT_OUTBOX (ID, ADAPTER, TENANT_ID, EVENT_URI, EVENT_PROFILE_NAME, " +
+                        "EVENT_PROFILE_VERSION, ENDPOINT, PAYLOAD, QUEUED_TIME) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        public static final String GET_EVENTS_OF_ADAPTER =
+                "SELECT ID, TENANT_ID, EVENT_URI, EVENT_PROFILE_NAME, EVENT_PROFILE_VERSION, ENDPOINT, PAYLOAD, " +
+                        "QUEUED_TIME FROM IDN_WEBHOOK_EVENT_OUTBOX WHERE ADAPTER = ? ORDER BY QUEUED_TIME";
+
+        public static final String DELETE_EVENT = "DELETE FROM IDN_WEBHOOK_EVENT_OUTBOX WHERE ID = ?";
+
+        private Query() {
+
+        }
+    }
+}
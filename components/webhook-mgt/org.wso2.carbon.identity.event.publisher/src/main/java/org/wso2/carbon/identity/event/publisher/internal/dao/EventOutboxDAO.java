@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.dao;
+
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherServerException;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * DAO interface of the webhook event outbox, which holds the events that could not be queued for delivery.
+ */
+public interface EventOutboxDAO {
+
+    /**
+     * Add an event to the outbox.
+     *
+     * @param event Event to add.
+     * @throws EventPublisherServerException If an error occurs while adding the event.
+     */
+    void addEvent(OutboxEvent event) throws EventPublisherServerException;
+
+    /**
+     * Get the oldest events of an adapter in the outbox.
+     *
+     * @param adapter Name of the adapter the events are published with.
+     * @param limit   Maximum number of events to return.
+     * @return Events ordered by the time they were queued.
+     * @throws EventPublisherServerException If an error occurs while retrieving the events.
+     */
+    List<OutboxEvent> getEvents(String adapter, int limit) throws EventPublisherServerException;
+
+    /**
+     * Delete an event from the outbox. An event is replayed only by the node which deleted it.
+     *
+     * @param id ID of the event.
+     * @return true if the event was deleted by this call, false if it was already deleted.
+     * @throws EventPublisherServerException If an error occurs while deleting the event.
+     */
+    boolean deleteEvent(String id) throws EventPublisherServerException;
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.dao.impl;
+
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.publisher.api.constant.ErrorMessage;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherServerException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.internal.constant.EventOutboxSQLConstants;
+import org.wso2.carbon.identity.event.publisher.internal.dao.EventOutboxDAO;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.OutboxEvent;
+import org.wso2.carbon.identity.event.publisher.internal.util.EventPublisherExceptionHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC based implementation of the webhook event outbox.
+ */
+public class EventOutboxDAOImpl implements EventOutboxDAO {
+
+    @Override
+    public void addEvent(OutboxEvent event) throws EventPublisherServerException {
+
+        EventContext eventContext = event.getEventContext();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    EventOutboxSQLConstants.Query.ADD_EVENT)) {
+                statement.setString(1, event.getId());
+                statement.setString(2, event.getAdapter());
+                statement.setInt(3, IdentityTenantUtil.getTenantId(eventContext.getTenantDomain()));
+                statement.setString(4, eventContext.getEventUri());
+                statement.setString(5, eventContext.getEventProfileName());
+                statement.setString(6, eventContext.getEventProfileVersion());
+                statement.setString(7, eventContext.getEndpoint());
+                statement.setBytes(8, event.getEventPayload());
+                statement.setLong(9, event.getQueuedTime());
+                statement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw EventPublisherExceptionHandler.handleServerException(
+                    ErrorMessage.ERROR_CODE_ADDING_OUTBOX_EVENT, e, eventContext.getEventUri());
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> getEvents(String adapter, int limit) throws EventPublisherServerException {
+
+        List<OutboxEvent> events = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement statement = connection.prepareStatement(
+                     EventOutboxSQLConstants.Query.GET_EVENTS_OF_ADAPTER)) {
+            statement.setMaxRows(limit);
+            statement.setString(1, adapter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    EventContext eventContext = EventContext.builder()
+                            .tenantDomain(IdentityTenantUtil.getTenantDomain(
+                                    resultSet.getInt(EventOutboxSQLConstants.Column.TENANT_ID)))
+                            .eventUri(resultSet.getString(EventOutboxSQLConstants.Column.EVENT_URI))
+                            .eventProfileName(resultSet.getString(EventOutboxSQLConstants.Column.EVENT_PROFILE_NAME))
+                            .eventProfileVersion(
+                                    resultSet.getString(EventOutboxSQLConstants.Column.EVENT_PROFILE_VERSION))
+                            .endpoint(resultSet.getString(EventOutboxSQLConstants.Column.ENDPOINT))
+                            .build();
+                    events.add(new OutboxEvent(resultSet.getString(EventOutboxSQLConstants.Column.ID), adapter,
+                            eventContext, resultSet.getBytes(EventOutboxSQLConstants.Column.PAYLOAD),
+                            resultSet.getLong(EventOutboxSQLConstants.Column.QUEUED_TIME)));
+                }
+            }
+        } catch (SQLException e) {
+            throw EventPublisherExceptionHandler.handleServerException(
+                    ErrorMessage.ERROR_CODE_RETRIEVING_OUTBOX_EVENTS, e, adapter);
+        }
+        return events;
+    }
+
+    @Override
+    public boolean deleteEvent(String id) throws EventPublisherServerException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    EventOutboxSQLConstants.Query.DELETE_EVENT)) {
+                statement.setString(1, id);
+                int deletedEvents = statement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return deletedEvents > 0;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw EventPublisherExceptionHandler.handleServerException(
+                    ErrorMessage.ERROR_CODE_DELETING_OUTBOX_EVENT, e, id);
+        }
+    }
+}
@@ -0,0 +1,742 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.publisher.internal.delivery;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.publisher.api.constant.ErrorMessage;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherServerException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+import org.wso2.carbon.identity.event.publisher.internal.constant.EventOutboxSQLConstants;
+import org.wso2.carbon.identity.event.publisher.internal.dao.EventOutboxDAO;
+import org.wso2.carbon.identity.event.publisher.internal.dao.impl.EventOutboxDAOImpl;
+import org.wso2.carbon.identity.event.publisher.internal.util.EventPublisherExceptionHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronously delivers events to the event publishers.
+ * <p>
+ * Events are queued per delivery channel in a bounded queue, so a burst of events or a slow receiver cannot grow the
+ * heap without bound and cannot hold up the delivery of the other channels. A channel is the endpoint of a tenant the
+ * events are delivered to, for publishers returning the delivery endpoints of their events, and the event URI of a
+ * tenant otherwise. The number of events pending delivery across all channels is capped as well, and channels idle
+ * for the configured timeout are evicted. Each channel is drained by at most a configured number of concurrent
+ * deliveries. Consecutive events of a channel that share the same event context are handed over as a batch to
+ * publishers supporting batches. Deliveries failing with a server error are retried with an exponential backoff,
+ * without holding a concurrency slot of the channel while waiting, and delivery metrics are kept and periodically
+ * logged per channel.
+ * <p>
+ * When the event outbox table is available, events which cannot be queued, and events still pending delivery on
+ * shutdown, are added to the outbox instead of being dropped. The outbox is periodically replayed into the channels
+ * with free capacity, starting right after activation. Replayed events are queued behind the events of the channel
+ * already queued, hence the delivery order of a channel is not kept across the outbox.
+ */
+public class EventDeliveryDispatcher {
+
+    private static final Log log = LogFactory.getLog(EventDeliveryDispatcher.class);
+
+    private static final String POOL_SIZE_CONFIG = "Webhooks.EventDelivery.PoolSize";
+    private static final String QUEUE_CAPACITY_CONFIG = "Webhooks.EventDelivery.QueueCapacity";
+    private static final String MAX_CONCURRENCY_CONFIG = "Webhooks.EventDelivery.MaxConcurrencyPerChannel";
+    private static final String MAX_BATCH_SIZE_CONFIG = "Webhooks.EventDelivery.MaxBatchSize";
+    private static final String MAX_PENDING_EVENTS_CONFIG = "Webhooks.EventDelivery.MaxPendingEvents";
+    private static final String CHANNEL_IDLE_TIMEOUT_CONFIG = "Webhooks.EventDelivery.ChannelIdleTimeoutInMillis";
+    private static final String MAX_RETRIES_CONFIG = "Webhooks.EventDelivery.MaxRetries";
+    private static final String RETRY_BACKOFF_CONFIG = "Webhooks.EventDelivery.RetryBackoffInMillis";
+    private static final String OUTBOX_ENABLED_CONFIG = "Webhooks.EventDelivery.Outbox.Enable";
+    private static final String OUTBOX_POLL_INTERVAL_CONFIG = "Webhooks.EventDelivery.Outbox.PollIntervalInMillis";
+    private static final String METRICS_LOG_INTERVAL_CONFIG = "Webhooks.EventDelivery.MetricsLogIntervalInMillis";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_MAX_CONCURRENCY = 2;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1;
+    private static final int DEFAULT_MAX_PENDING_EVENTS = 100000;
+    private static final int DEFAULT_CHANNEL_IDLE_TIMEOUT_IN_MILLIS = 300000;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final int DEFAULT_RETRY_BACKOFF_IN_MILLIS = 1000;
+    private static final int DEFAULT_OUTBOX_POLL_INTERVAL_IN_MILLIS = 30000;
+    private static final int DEFAULT_METRICS_LOG_INTERVAL_IN_MILLIS = 300000;
+    private static final long MAX_RETRY_BACKOFF_IN_MILLIS = 60000;
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 10;
+
+    private final ScheduledExecutorService executorService;
+    private final int queueCapacity;
+    private final int maxConcurrency;
+    private final int maxBatchSize;
+    private final int maxRetries;
+    private final long retryBackoffInMillis;
+    private final int maxPendingEvents;
+    private final long channelIdleTimeoutInMillis;
+    private final EventOutboxDAO eventOutboxDAO;
+    private final Supplier<List<EventPublisher>> eventPublishers;
+    private final Map<String, DeliveryChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    public EventDeliveryDispatcher() {
+
+        this(DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_BATCH_SIZE,
+                DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    public EventDeliveryDispatcher(int poolSize, int queueCapacity, int maxConcurrency, int maxBatchSize,
+                                   int maxRetries, long retryBackoffInMillis) {
+
+        this(poolSize, queueCapacity, maxConcurrency, maxBatchSize, maxRetries, retryBackoffInMillis,
+                DEFAULT_MAX_PENDING_EVENTS, DEFAULT_CHANNEL_IDLE_TIMEOUT_IN_MILLIS);
+    }
+
+    public EventDeliveryDispatcher(int poolSize, int queueCapacity, int maxConcurrency, int maxBatchSize,
+                                   int maxRetries, long retryBackoffInMillis, int maxPendingEvents,
+                                   long channelIdleTimeoutInMillis) {
+
+        this(poolSize, queueCapacity, maxConcurrency, maxBatchSize, maxRetries, retryBackoffInMillis,
+                maxPendingEvents, channelIdleTimeoutInMillis, null, Collections::emptyList,
+                DEFAULT_OUTBOX_POLL_INTERVAL_IN_MILLIS, DEFAULT_METRICS_LOG_INTERVAL_IN_MILLIS);
+    }
+
+    /**
+     * Create a dispatcher.
+     *
+     * @param eventOutboxDAO             Event outbox, or null to drop the events which cannot be queued.
+     * @param eventPublishers            Event publishers available to replay the events in the outbox.
+     * @param outboxPollIntervalInMillis Interval between the replays of the event outbox.
+     * @param metricsLogIntervalInMillis Interval between the logs of the delivery metrics, or zero to not log them.
+     */
+    public EventDeliveryDispatcher(int poolSize, int queueCapacity, int maxConcurrency, int maxBatchSize,
+                                   int maxRetries, long retryBackoffInMillis, int maxPendingEvents,
+                                   long channelIdleTimeoutInMillis, EventOutboxDAO eventOutboxDAO,
+                                   Supplier<List<EventPublisher>> eventPublishers, long outboxPollIntervalInMillis,
+                                   long metricsLogIntervalInMillis) {
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Math.max(1, poolSize));
+        // Retries waiting on shutdown are added to the event outbox instead of holding up the shutdown.
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executorService = executor;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffInMillis = Math.max(0, retryBackoffInMillis);
+        this.maxPendingEvents = Math.max(1, maxPendingEvents);
+        this.channelIdleTimeoutInMillis = Math.max(1, channelIdleTimeoutInMillis);
+        this.eventOutboxDAO = eventOutboxDAO;
+        this.eventPublishers = eventPublishers;
+        executorService.scheduleWithFixedDelay(this::evictIdleChannels, this.channelIdleTimeoutInMillis,
+                this.channelIdleTimeoutInMillis, TimeUnit.MILLISECONDS);
+        if (eventOutboxDAO != null) {
+            executorService.scheduleWithFixedDelay(this::replayOutbox, 0, Math.max(1, outboxPollIntervalInMillis),
+                    TimeUnit.MILLISECONDS);
+        }
+        if (metricsLogIntervalInMillis > 0) {
+            executorService.scheduleWithFixedDelay(this::logDeliveryMetrics, metricsLogIntervalInMillis,
+                    metricsLogIntervalInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Build the dispatcher from the identity configuration. The event outbox is used if it is enabled and its table
+     * exists in the identity database.
+     *
+     * @param eventPublishers Event publishers available to replay the events in the outbox.
+     * @return Configured dispatcher.
+     */
+    public static EventDeliveryDispatcher buildFromConfig(Supplier<List<EventPublisher>> eventPublishers) {
+
+        EventOutboxDAO eventOutboxDAO = null;
+        if (!Boolean.FALSE.toString().equalsIgnoreCase(IdentityUtil.getProperty(OUTBOX_ENABLED_CONFIG))) {
+            try {
+                if (IdentityDatabaseUtil.isTableExists(EventOutboxSQLConstants.EVENT_OUTBOX_TABLE)) {
+                    eventOutboxDAO = new EventOutboxDAOImpl();
+                } else {
+                    log.warn("Table: " + EventOutboxSQLConstants.EVENT_OUTBOX_TABLE + " does not exist. Events " +
+                            "which cannot be queued for delivery are dropped.");
+                }
+            } catch (RuntimeException e) {
+                log.error("Error while checking the availability of the event outbox. Events which cannot be " +
+                        "queued for delivery are dropped.", e);
+            }
+        }
+        return new EventDeliveryDispatcher(getIntConfig(POOL_SIZE_CONFIG, DEFAULT_POOL_SIZE),
+                getIntConfig(QUEUE_CAPACITY_CONFIG, DEFAULT_QUEUE_CAPACITY),
+                getIntConfig(MAX_CONCURRENCY_CONFIG, DEFAULT_MAX_CONCURRENCY),
+                getIntConfig(MAX_BATCH_SIZE_CONFIG, DEFAULT_MAX_BATCH_SIZE),
+                getIntConfig(MAX_RETRIES_CONFIG, DEFAULT_MAX_RETRIES),
+                getIntConfig(RETRY_BACKOFF_CONFIG, DEFAULT_RETRY_BACKOFF_IN_MILLIS),
+                getIntConfig(MAX_PENDING_EVENTS_CONFIG, DEFAULT_MAX_PENDING_EVENTS),
+                getIntConfig(CHANNEL_IDLE_TIMEOUT_CONFIG, DEFAULT_CHANNEL_IDLE_TIMEOUT_IN_MILLIS),
+                eventOutboxDAO, eventPublishers,
+                getIntConfig(OUTBOX_POLL_INTERVAL_CONFIG, DEFAULT_OUTBOX_POLL_INTERVAL_IN_MILLIS),
+                getIntConfig(METRICS_LOG_INTERVAL_CONFIG, DEFAULT_METRICS_LOG_INTERVAL_IN_MILLIS));
+    }
+
+    /**
+     * Queue an event for delivery, once per delivery endpoint returned by the event publisher. An event which cannot
+     * be queued is added to the event outbox, if available.
+     *
+     * @param eventPublisher Event publisher to deliver the event with.
+     * @param eventPayload   Event payload.
+     * @param eventContext   Event context.
+     * @throws EventPublisherServerException If the event could neither be queued nor added to the event outbox, or
+     *                                       the dispatcher is shut down.
+     */
+    public void submit(EventPublisher eventPublisher, SecurityEventTokenPayload eventPayload,
+                       EventContext eventContext) throws EventPublisherServerException {
+
+        if (shutdown) {
+            throw EventPublisherExceptionHandler.handleServerException(
+                    ErrorMessage.ERROR_CODE_EVENT_DELIVERY_STOPPED, getChannelKey(eventContext));
+        }
+
+        List<String> endpoints = eventPublisher.getDeliveryEndpoints(eventContext);
+        if (endpoints == null || endpoints.isEmpty()) {
+            queue(new PendingEvent(eventPublisher, eventPayload, eventContext, System.currentTimeMillis()), false);
+            return;
+        }
+
+        EventPublisherServerException error = null;
+        for (String endpoint : endpoints) {
+            EventContext endpointContext = EventContext.builder()
+                    .tenantDomain(eventContext.getTenantDomain())
+                    .eventUri(eventContext.getEventUri())
+                    .eventProfileName(eventContext.getEventProfileName())
+                    .eventProfileVersion(eventContext.getEventProfileVersion())
+                    .endpoint(endpoint)
+                    .build();
+            try {
+                queue(new PendingEvent(eventPublisher, eventPayload, endpointContext, System.currentTimeMillis()),
+                        false);
+            } catch (EventPublisherServerException e) {
+                // The event is still queued for the remaining endpoints.
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Get the delivery metrics of a channel.
+     *
+     * @param eventContext Event context of an event of the channel.
+     * @return Delivery metrics, or null if no event was submitted to the channel since it was last evicted.
+     */
+    public EventDeliveryMetrics getDeliveryMetrics(EventContext eventContext) {
+
+        DeliveryChannel channel = channels.get(getChannelKey(eventContext));
+        return channel == null ? null : channel.metrics;
+    }
+
+    /**
+     * Get the delivery metrics of all the channels.
+     *
+     * @return Delivery metrics by channel.
+     */
+    public Map<String, EventDeliveryMetrics> getDeliveryMetrics() {
+
+        Map<String, EventDeliveryMetrics> deliveryMetrics = new HashMap<>();
+        for (Map.Entry<String, DeliveryChannel> channel : channels.entrySet()) {
+            deliveryMetrics.put(channel.getKey(), channel.getValue().metrics);
+        }
+        return deliveryMetrics;
+    }
+
+    /**
+     * Get the number of events waiting in the delivery queue of a channel.
+     *
+     * @param eventContext Event context of an event of the channel.
+     * @return Number of pending events.
+     */
+    public int getPendingEventCount(EventContext eventContext) {
+
+        DeliveryChannel channel = channels.get(getChannelKey(eventContext));
+        return channel == null ? 0 : channel.queue.size();
+    }
+
+    /**
+     * Get the number of events pending delivery across all channels, including the events being delivered.
+     *
+     * @return Number of pending events.
+     */
+    public int getPendingEventCount() {
+
+        return pendingEvents.get();
+    }
+
+    /**
+     * Stop accepting events and wait for a bounded time for the queued events to be delivered. The events which are
+     * still pending delivery, including the events waiting for a retry, are then added to the event outbox.
+     */
+    public void shutdown() {
+
+        shutdown = true;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        for (Map.Entry<String, DeliveryChannel> entry : channels.entrySet()) {
+            DeliveryChannel channel = entry.getValue();
+            List<PendingEvent> undeliveredEvents = new ArrayList<>();
+            for (DeliveryBatch batch : channel.waitingRetries) {
+                if (channel.waitingRetries.remove(batch)) {
+                    undeliveredEvents.addAll(batch.events);
+                }
+            }
+            DeliveryBatch batch;
+            while ((batch = channel.readyRetries.poll()) != null) {
+                undeliveredEvents.addAll(batch.events);
+            }
+            channel.queue.drainTo(undeliveredEvents);
+            if (undeliveredEvents.isEmpty()) {
+                continue;
+            }
+
+            int spilledEvents = spill(channel, undeliveredEvents);
+            complete(channel, undeliveredEvents.size());
+            if (spilledEvents > 0) {
+                log.info(spilledEvents + " events of the channel: " + entry.getKey() +
+                        " were added to the event outbox to be delivered later.");
+            }
+            if (spilledEvents < undeliveredEvents.size()) {
+                channel.metrics.recordFailed(undeliveredEvents.size() - spilledEvents);
+                log.warn((undeliveredEvents.size() - spilledEvents) + " events of the channel: " + entry.getKey() +
+                        " were not delivered before shutting down.");
+            }
+        }
+    }
+
+    /**
+     * Queue an event in its channel, or add it to the event outbox if the channel cannot take it.
+     */
+    private void queue(PendingEvent event, boolean replayed) throws EventPublisherServerException {
+
+        String channelKey = getChannelKey(event.eventContext);
+        ErrorMessage[] rejection = new ErrorMessage[1];
+        // Queued while holding the map entry, so the channel cannot be evicted in between.
+        DeliveryChannel channel = channels.compute(channelKey, (key, existingChannel) -> {
+            DeliveryChannel deliveryChannel = existingChannel != null ? existingChannel :
+                    new DeliveryChannel(queueCapacity);
+            if (pendingEvents.incrementAndGet() > maxPendingEvents) {
+                pendingEvents.decrementAndGet();
+                rejection[0] = ErrorMessage.ERROR_CODE_EVENT_DELIVERY_CAPACITY_EXCEEDED;
+            } else if (!deliveryChannel.queue.offer(event)) {
+                pendingEvents.decrementAndGet();
+                rejection[0] = ErrorMessage.ERROR_CODE_EVENT_DELIVERY_QUEUE_FULL;
+            }
+            deliveryChannel.lastActiveTime = System.currentTimeMillis();
+            return deliveryChannel;
+        });
+        if (rejection[0] == null) {
+            channel.metrics.recordQueued();
+            if (replayed) {
+                channel.metrics.recordReplayed();
+            }
+            scheduleDrain(channel);
+            return;
+        }
+
+        if (spill(channel, Collections.singletonList(event)) == 1) {
+            return;
+        }
+        channel.metrics.recordDropped();
+        throw EventPublisherExceptionHandler.handleServerException(rejection[0], channelKey);
+    }
+
+    /**
+     * Add events to the event outbox.
+     *
+     * @return Number of events added, which are the first events of the given events.
+     */
+    private int spill(DeliveryChannel channel, List<PendingEvent> events) {
+
+        if (eventOutboxDAO == null) {
+            return 0;
+        }
+        int spilledEvents = 0;
+        try {
+            for (PendingEvent event : events) {
+                eventOutboxDAO.addEvent(new OutboxEvent(UUID.randomUUID().toString(),
+                        event.eventPublisher.getAssociatedAdapter(), event.eventContext,
+                        SecurityEventTokenPayloadSerializer.serialize(event.eventPayload), event.queuedTime));
+                spilledEvents++;
+            }
+        } catch (EventPublisherServerException | IOException | RuntimeException e) {
+            log.error("Error while adding " + (events.size() - spilledEvents) + " events to the event outbox.", e);
+        }
+        channel.metrics.recordSpilled(spilledEvents);
+        return spilledEvents;
+    }
+
+    /**
+     * Queue the oldest events in the event outbox into the channels which can take them.
+     */
+    private void replayOutbox() {
+
+        try {
+            for (EventPublisher eventPublisher : new ArrayList<>(eventPublishers.get())) {
+                replayOutbox(eventPublisher);
+            }
+        } catch (EventPublisherServerException | RuntimeException e) {
+            log.error("Error while replaying the events in the event outbox.", e);
+        }
+    }
+
+    private void replayOutbox(EventPublisher eventPublisher) throws EventPublisherServerException {
+
+        int limit = Math.min(queueCapacity, maxPendingEvents - pendingEvents.get());
+        if (shutdown || limit <= 0) {
+            return;
+        }
+        for (OutboxEvent outboxEvent : eventOutboxDAO.getEvents(eventPublisher.getAssociatedAdapter(), limit)) {
+            if (shutdown || pendingEvents.get() >= maxPendingEvents) {
+                return;
+            }
+            DeliveryChannel channel = channels.get(getChannelKey(outboxEvent.getEventContext()));
+            if (channel != null && channel.queue.remainingCapacity() == 0) {
+                continue;
+            }
+            // Claimed by deleting it, so an event is replayed by a single node.
+            if (!eventOutboxDAO.deleteEvent(outboxEvent.getId())) {
+                continue;
+            }
+
+            SecurityEventTokenPayload eventPayload;
+            try {
+                eventPayload = SecurityEventTokenPayloadSerializer.deserialize(outboxEvent.getEventPayload());
+            } catch (IOException e) {
+                log.error("Error while reading the event: " + outboxEvent.getId() + " in the event outbox. " +
+                        "The event is dropped.", e);
+                continue;
+            }
+            try {
+                queue(new PendingEvent(eventPublisher, eventPayload, outboxEvent.getEventContext(),
+                        outboxEvent.getQueuedTime()), true);
+            } catch (EventPublisherServerException e) {
+                log.error("Error while replaying the event: " + outboxEvent.getId() + " in the event outbox. " +
+                        "The event is dropped.", e);
+            }
+        }
+    }
+
+    /**
+     * Start draining the channel if it has events ready for delivery and is below its concurrency limit.
+     */
+    private void scheduleDrain(DeliveryChannel channel) {
+
+        while (channel.hasReadyEvents()) {
+            int inFlight = channel.inFlight.get();
+            if (inFlight >= maxConcurrency) {
+                return;
+            }
+            if (channel.inFlight.compareAndSet(inFlight, inFlight + 1)) {
+                try {
+                    executorService.execute(() -> drain(channel));
+                } catch (RejectedExecutionException e) {
+                    channel.inFlight.decrementAndGet();
+                    log.error("Event delivery task was rejected. " + channel.queue.size() +
+                            " events are pending delivery.", e);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Deliver the batches of the channel whose retries are due and the queued events, until none are left.
+     */
+    private void drain(DeliveryChannel channel) {
+
+        DeliveryBatch batch;
+        while ((batch = pollBatch(channel)) != null) {
+            deliver(channel, batch);
+        }
+        channel.inFlight.decrementAndGet();
+        // An event may have been queued after the last poll while this slot was still taken.
+        scheduleDrain(channel);
+    }
+
+    /**
+     * Hand a batch whose retry is due back to its channel, to be delivered with a concurrency slot of the channel.
+     */
+    private void onRetryDue(DeliveryChannel channel, DeliveryBatch batch) {
+
+        if (channel.waitingRetries.remove(batch)) {
+            channel.readyRetries.offer(batch);
+            scheduleDrain(channel);
+        }
+    }
+
+    private void deliver(DeliveryChannel channel, DeliveryBatch batch) {
+
+        PendingEvent firstEvent = batch.events.get(0);
+        EventPublisher eventPublisher = firstEvent.eventPublisher;
+        int eventCount = batch.events.size();
+        long startTime = System.currentTimeMillis();
+        try {
+            if (eventCount == 1) {
+                eventPublisher.publish(firstEvent.eventPayload, firstEvent.eventContext);
+            } else {
+                List<SecurityEventTokenPayload> eventPayloads = new ArrayList<>(eventCount);
+                for (PendingEvent event : batch.events) {
+                    eventPayloads.add(event.eventPayload);
+                }
+                eventPublisher.publishBatch(eventPayloads, firstEvent.eventContext);
+            }
+            long endTime = System.currentTimeMillis();
+            long[] lags = new long[eventCount];
+            for (int i = 0; i < lags.length; i++) {
+                lags[i] = endTime - batch.events.get(i).queuedTime;
+            }
+            channel.metrics.recordDelivered(endTime - startTime, lags);
+            complete(channel, eventCount);
+            return;
+        } catch (EventPublisherServerException e) {
+            if (batch.attempt < maxRetries && !shutdown && scheduleRetry(channel, batch, e)) {
+                return;
+            }
+            int spilledEvents = shutdown ? spill(channel, batch.events) : 0;
+            if (spilledEvents < eventCount) {
+                log.error("Error while publishing " + eventCount + " events with publisher: " +
+                        eventPublisher.getClass().getName() + " after " + (batch.attempt + 1) + " attempts.", e);
+                channel.metrics.recordFailed(eventCount - spilledEvents);
+            }
+            complete(channel, eventCount);
+            return;
+        } catch (EventPublisherException e) {
+            log.error("Error while publishing event with publisher: " + eventPublisher.getClass().getName(), e);
+        } catch (RuntimeException e) {
+            log.error("Error occurred in async event publishing: " + e.getMessage(), e);
+        }
+        channel.metrics.recordFailed(eventCount);
+        complete(channel, eventCount);
+    }
+
+    /**
+     * Schedule a retry of a batch. The concurrency slot of the channel is not held while the retry waits.
+     *
+     * @return true if the retry has been scheduled, false otherwise.
+     */
+    private boolean scheduleRetry(DeliveryChannel channel, DeliveryBatch batch, EventPublisherServerException e) {
+
+        long backoff = getRetryBackoff(batch.attempt);
+        DeliveryBatch retry = new DeliveryBatch(batch.events, batch.attempt + 1);
+        channel.waitingRetries.add(retry);
+        try {
+            executorService.schedule(() -> onRetryDue(channel, retry), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            channel.waitingRetries.remove(retry);
+            log.debug("Event delivery retry was rejected as the dispatcher is shutting down.", ex);
+            return false;
+        }
+        channel.metrics.recordRetried(batch.events.size());
+        if (log.isDebugEnabled()) {
+            log.debug("Error while publishing " + batch.events.size() + " events with publisher: " +
+                    batch.events.get(0).eventPublisher.getClass().getName() + ". Retrying in " + backoff + "ms.", e);
+        }
+        return true;
+    }
+
+    private void complete(DeliveryChannel channel, int eventCount) {
+
+        pendingEvents.addAndGet(-eventCount);
+        channel.lastActiveTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Remove the channels which have no queued, waiting or in flight events and have been idle for the configured
+     * timeout.
+     */
+    private void evictIdleChannels() {
+
+        long idleSince = System.currentTimeMillis() - channelIdleTimeoutInMillis;
+        for (String channelKey : channels.keySet()) {
+            channels.computeIfPresent(channelKey, (key, channel) -> channel.inFlight.get() == 0 &&
+                    !channel.hasReadyEvents() && channel.waitingRetries.isEmpty() &&
+                    channel.lastActiveTime <= idleSince ? null : channel);
+        }
+    }
+
+    private void logDeliveryMetrics() {
+
+        for (Map.Entry<String, EventDeliveryMetrics> metrics : getDeliveryMetrics().entrySet()) {
+            log.info("Event delivery metrics of the channel: " + metrics.getKey() + " - " + metrics.getValue());
+        }
+    }
+
+    /**
+     * Poll the next batch of the channel, which is a batch whose retry is due, or else the next consecutive queued
+     * events of the channel that can be published together.
+     *
+     * @return Next batch, or null if the channel has no events ready for delivery.
+     */
+    private DeliveryBatch pollBatch(DeliveryChannel channel) {
+
+        DeliveryBatch retry = channel.readyRetries.poll();
+        if (retry != null) {
+            return retry;
+        }
+        List<PendingEvent> events = new ArrayList<>();
+        synchronized (channel) {
+            PendingEvent firstEvent = channel.queue.poll();
+            if (firstEvent == null) {
+                return null;
+            }
+            events.add(firstEvent);
+            if (firstEvent.eventPublisher.supportsBatch()) {
+                PendingEvent nextEvent;
+                while (events.size() < maxBatchSize && (nextEvent = channel.queue.peek()) != null &&
+                        firstEvent.canBatchWith(nextEvent)) {
+                    events.add(channel.queue.poll());
+                }
+            }
+        }
+        return new DeliveryBatch(events, 0);
+    }
+
+    private long getRetryBackoff(int attempt) {
+
+        long backoff = retryBackoffInMillis << Math.min(attempt, 20);
+        return Math.min(backoff, MAX_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    private static String getChannelKey(EventContext eventContext) {
+
+        if (eventContext.getEndpoint() != null) {
+            return eventContext.getTenantDomain() + ":" + eventContext.getEndpoint();
+        }
+        return eventContext.getTenantDomain() + ":" + eventContext.getEventUri();
+    }
+
+    private static int getIntConfig(String configName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(configName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + configName + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static class DeliveryChannel {
+
+        private final BlockingQueue<PendingEvent> queue;
+        private final Queue<DeliveryBatch> readyRetries = new ConcurrentLinkedQueue<>();
+        private final Set<DeliveryBatch> waitingRetries = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final EventDeliveryMetrics metrics = new EventDeliveryMetrics();
+        private volatile long lastActiveTime = System.currentTimeMillis();
+
+        private DeliveryChannel(int queueCapacity) {
+
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        }
+
+        private boolean hasReadyEvents() {
+
+            return !readyRetries.isEmpty() || !queue.isEmpty();
+        }
+    }
+
+    /**
+     * Events delivered together, with the number of attempts made to deliver them.
+     */
+    private static class DeliveryBatch {
+
+        private final List<PendingEvent> events;
+        private final int attempt;
+
+        private DeliveryBatch(List<PendingEvent> events, int attempt) {
+
+            this.events = events;
+            this.attempt = attempt;
+        }
+    }
+
+    private static class PendingEvent {
+
+        private final EventPublisher eventPublisher;
+        private final SecurityEventTokenPayload eventPayload;
+        private final EventContext eventContext;
+        private final long queuedTime;
+
+        private PendingEvent(EventPublisher eventPublisher, SecurityEventTokenPayload eventPayload,
+                             EventContext eventContext, long queuedTime) {
+
+            this.eventPublisher = eventPublisher;
+            this.eventPayload = eventPayload;
+            this.eventContext = eventContext;
+            this.queuedTime = queuedTime;
+        }
+
+        private boolean canBatchWith(PendingEvent event) {
+
+            if (eventPublisher != event.eventPublisher) {
+                return false;
+            }
+            return eventContext == event.eventContext ||
+                    (StringUtils.equals(eventContext.getTenantDomain(), event.eventContext.getTenantDomain()) &&
+                            StringUtils.equals(eventContext.getEventUri(), event.eventContext.getEventUri()) &&
+                            StringUtils.equals(eventContext.getEventProfileName(),
+                                    event.eventContext.getEventProfileName()) &&
+                            StringUtils.equals(eventContext.getEventProfileVersion(),
+                                    event.eventContext.getEventProfileVersion()) &&
+                            StringUtils.equals(eventContext.getEndpoint(), event.eventContext.getEndpoint()));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.publisher.internal.delivery;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery metrics of the events of a delivery channel.
+ */
+public class EventDeliveryMetrics {
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong deliveryCallCount = new AtomicLong();
+    private final AtomicLong totalDeliveryLatency = new AtomicLong();
+    private final AtomicLong totalDeliveryLag = new AtomicLong();
+    private final AtomicLong maxDeliveryLag = new AtomicLong();
+
+    void recordQueued() {
+
+        queuedCount.incrementAndGet();
+    }
+
+    void recordDropped() {
+
+        droppedCount.incrementAndGet();
+    }
+
+    void recordSpilled(int eventCount) {
+
+        spilledCount.addAndGet(eventCount);
+    }
+
+    void recordReplayed() {
+
+        replayedCount.incrementAndGet();
+    }
+
+    void recordRetried(int eventCount) {
+
+        retriedCount.addAndGet(eventCount);
+    }
+
+    void recordFailed(int eventCount) {
+
+        failedCount.addAndGet(eventCount);
+    }
+
+    /**
+     * Record a successful delivery call.
+     *
+     * @param latency Time taken by the delivery call in milliseconds.
+     * @param lags    Time each delivered event spent from being queued to being delivered, in milliseconds.
+     */
+    void recordDelivered(long latency, long... lags) {
+
+        deliveryCallCount.incrementAndGet();
+        totalDeliveryLatency.addAndGet(latency);
+        deliveredCount.addAndGet(lags.length);
+        for (long lag : lags) {
+            totalDeliveryLag.addAndGet(lag);
+            maxDeliveryLag.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    /**
+     * Get the number of events accepted for delivery.
+     *
+     * @return Number of queued events.
+     */
+    public long getQueuedCount() {
+
+        return queuedCount.get();
+    }
+
+    /**
+     * Get the number of events delivered.
+     *
+     * @return Number of delivered events.
+     */
+    public long getDeliveredCount() {
+
+        return deliveredCount.get();
+    }
+
+    /**
+     * Get the number of events given up on after a non retryable error or after exhausting the retries.
+     *
+     * @return Number of failed events.
+     */
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of event delivery retries.
+     *
+     * @return Number of retried events.
+     */
+    public long getRetriedCount() {
+
+        return retriedCount.get();
+    }
+
+    /**
+     * Get the number of events rejected since the delivery queue was full and the events could not be added to the
+     * event outbox.
+     *
+     * @return Number of dropped events.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    /**
+     * Get the number of events added to the event outbox since they could not be queued or delivered.
+     *
+     * @return Number of spilled events.
+     */
+    public long getSpilledCount() {
+
+        return spilledCount.get();
+    }
+
+    /**
+     * Get the number of events queued again from the event outbox.
+     *
+     * @return Number of replayed events.
+     */
+    public long getReplayedCount() {
+
+        return replayedCount.get();
+    }
+
+    /**
+     * Get the average time taken by a successful delivery call.
+     *
+     * @return Average delivery latency in milliseconds.
+     */
+    public long getAverageDeliveryLatency() {
+
+        long calls = deliveryCallCount.get();
+        return calls == 0 ? 0 : totalDeliveryLatency.get() / calls;
+    }
+
+    /**
+     * Get the average time from an event being queued to it being delivered.
+     *
+     * @return Average delivery lag in milliseconds.
+     */
+    public long getAverageDeliveryLag() {
+
+        long delivered = deliveredCount.get();
+        return delivered == 0 ? 0 : totalDeliveryLag.get() / delivered;
+    }
+
+    /**
+     * Get the maximum time from an event being queued to it being delivered.
+     *
+     * @return Maximum delivery lag in milliseconds.
+     */
+    public long getMaxDeliveryLag() {
+
+        return maxDeliveryLag.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "queued: " + getQueuedCount() + ", delivered: " + getDeliveredCount() + ", failed: " +
+                getFailedCount() + ", retried: " + getRetriedCount() + ", dropped: " + getDroppedCount() +
+                ", spilled: " + getSpilledCount() + ", replayed: " + getReplayedCount() +
+                ", average latency: " + getAverageDeliveryLatency() + "ms, average lag: " + getAverageDeliveryLag() +
+                "ms, max lag: " + getMaxDeliveryLag() + "ms";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.delivery;
+
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+
+/**
+ * Event spilled to the event outbox, as the delivery queue could not take it, to be replayed later.
+ */
+public class OutboxEvent {
+
+    private final String id;
+    private final String adapter;
+    private final EventContext eventContext;
+    private final byte[] eventPayload;
+    private final long queuedTime;
+
+    public OutboxEvent(String id, String adapter, EventContext eventContext, byte[] eventPayload, long queuedTime) {
+
+        this.id = id;
+        this.adapter = adapter;
+        this.eventContext = eventContext;
+        this.eventPayload = eventPayload;
+        this.queuedTime = queuedTime;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getAdapter() {
+
+        return adapter;
+    }
+
+    public EventContext getEventContext() {
+
+        return eventContext;
+    }
+
+    /**
+     * Get the event payload serialized with {@link SecurityEventTokenPayloadSerializer}.
+     *
+     * @return Serialized event payload.
+     */
+    public byte[] getEventPayload() {
+
+        return eventPayload;
+    }
+
+    public long getQueuedTime() {
+
+        return queuedTime;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.delivery;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.carbon.identity.event.publisher.api.model.EventPayload;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.model.common.Subject;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serializes the security event token payloads of the events spilled to the event outbox.
+ * <p>
+ * A payload is stored as the JSON it is published as. As the concrete event payload and subject types are defined
+ * by the event handlers, a payload read back holds the events and the subject as generic JSON objects, which are
+ * published as the same JSON.
+ */
+public final class SecurityEventTokenPayloadSerializer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> JSON_OBJECT_TYPE =
+            new TypeReference<LinkedHashMap<String, Object>>() { };
+
+    private static final String ISS = "iss";
+    private static final String JTI = "jti";
+    private static final String IAT = "iat";
+    private static final String AUD = "aud";
+    private static final String TXN = "txn";
+    private static final String RCI = "rci";
+    private static final String SUB_ID = "sub_id";
+    private static final String EVENTS = "events";
+    private static final String FORMAT = "format";
+
+    private SecurityEventTokenPayloadSerializer() {
+
+    }
+
+    /**
+     * Serialize a payload.
+     *
+     * @param eventPayload Security event token payload.
+     * @return Serialized payload.
+     * @throws IOException If the payload cannot be serialized.
+     */
+    public static byte[] serialize(SecurityEventTokenPayload eventPayload) throws IOException {
+
+        return OBJECT_MAPPER.writeValueAsBytes(eventPayload);
+    }
+
+    /**
+     * Deserialize a payload serialized with {@link #serialize(SecurityEventTokenPayload)}.
+     *
+     * @param serializedPayload Serialized payload.
+     * @return Security event token payload.
+     * @throws IOException If the payload cannot be deserialized.
+     */
+    public static SecurityEventTokenPayload deserialize(byte[] serializedPayload) throws IOException {
+
+        JsonNode payload = OBJECT_MAPPER.readTree(serializedPayload);
+        if (payload == null || !payload.isObject()) {
+            throw new IOException("Serialized security event token payload is not a JSON object.");
+        }
+
+        SecurityEventTokenPayload.Builder builder = SecurityEventTokenPayload.builder()
+                .iss(getText(payload, ISS))
+                .jti(getText(payload, JTI))
+                .iat(payload.path(IAT).asLong())
+                .aud(getText(payload, AUD))
+                .txn(getText(payload, TXN))
+                .rci(getText(payload, RCI));
+
+        JsonNode subId = payload.get(SUB_ID);
+        if (subId != null && subId.isObject()) {
+            builder.subId(new SerializedSubject(OBJECT_MAPPER.convertValue(subId, JSON_OBJECT_TYPE)));
+        }
+
+        JsonNode events = payload.get(EVENTS);
+        if (events != null && events.isObject()) {
+            Map<String, EventPayload> eventPayloads = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = events.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> event = fields.next();
+                eventPayloads.put(event.getKey(),
+                        new SerializedEventPayload(OBJECT_MAPPER.convertValue(event.getValue(), JSON_OBJECT_TYPE)));
+            }
+            builder.events(eventPayloads);
+        }
+        return builder.build();
+    }
+
+    private static String getText(JsonNode node, String fieldName) {
+
+        JsonNode field = node.get(fieldName);
+        return field == null || field.isNull() ? null : field.asText();
+    }
+
+    /**
+     * Event payload read back from its JSON.
+     */
+    private static class SerializedEventPayload extends EventPayload {
+
+        private final Map<String, Object> properties;
+
+        private SerializedEventPayload(Map<String, Object> properties) {
+
+            this.properties = properties;
+        }
+
+        @JsonAnyGetter
+        public Map<String, Object> getProperties() {
+
+            return properties;
+        }
+    }
+
+    /**
+     * Subject read back from its JSON.
+     */
+    private static class SerializedSubject extends Subject {
+
+        private SerializedSubject(Map<String, Object> properties) {
+
+            Object format = properties.remove(FORMAT);
+            setFormat(format == null ? null : format.toString());
+            setProperties(properties);
+        }
+    }
+}
@@ -0,0 +1,561 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.event.publisher.internal;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.publisher.api.constant.ErrorMessage;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherClientException;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherServerException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+import org.wso2.carbon.identity.event.publisher.internal.dao.EventOutboxDAO;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.EventDeliveryDispatcher;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.EventDeliveryMetrics;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Test class for EventDeliveryDispatcher.
+ */
+public class EventDeliveryDispatcherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String EVENT_URI = "https://schemas.identity.wso2.org/events/login";
+
+    private EventDeliveryDispatcher dispatcher;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeliveryIsRetriedOnServerError() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 3, 10);
+        StubEventPublisher publisher = new StubEventPublisher(2, false);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> metrics.getDeliveredCount() == 1);
+        Assert.assertEquals(publisher.publishCalls.get(), 3);
+        Assert.assertEquals(metrics.getQueuedCount(), 1);
+        Assert.assertEquals(metrics.getRetriedCount(), 2);
+        Assert.assertEquals(metrics.getDeliveredCount(), 1);
+        Assert.assertEquals(metrics.getFailedCount(), 0);
+    }
+
+    @Test
+    public void testDeliveryIsNotRetriedOnClientError() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 3, 10);
+        StubEventPublisher publisher = new StubEventPublisher(1, true);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> metrics.getFailedCount() == 1);
+        Assert.assertEquals(publisher.publishCalls.get(), 1);
+        Assert.assertEquals(metrics.getRetriedCount(), 0);
+        Assert.assertEquals(metrics.getDeliveredCount(), 0);
+    }
+
+    @Test
+    public void testDeliveryGivesUpAfterMaxRetries() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 2, 10);
+        StubEventPublisher publisher = new StubEventPublisher(Integer.MAX_VALUE, false);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> metrics.getFailedCount() == 1);
+        Assert.assertEquals(publisher.publishCalls.get(), 3);
+        Assert.assertEquals(metrics.getRetriedCount(), 2);
+    }
+
+    @Test
+    public void testFullQueueRejectsEvents() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 2, 1, 1, 0, 10);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.block();
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.blockedCalls.getCount() == 0);
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(EVENT_URI));
+        dispatcher.submit(publisher, buildPayload("jti3"), buildEventContext(EVENT_URI));
+        try {
+            dispatcher.submit(publisher, buildPayload("jti4"), buildEventContext(EVENT_URI));
+            Assert.fail("Expected EventPublisherServerException");
+        } catch (EventPublisherServerException e) {
+            Assert.assertEquals(e.getErrorCode(), ErrorMessage.ERROR_CODE_EVENT_DELIVERY_QUEUE_FULL.getCode());
+        }
+        Assert.assertEquals(dispatcher.getPendingEventCount(buildEventContext(EVENT_URI)), 2);
+
+        // Other channels are not affected by the full queue.
+        String otherEventUri = "https://schemas.identity.wso2.org/events/registration";
+        dispatcher.submit(publisher, buildPayload("jti5"), buildEventContext(otherEventUri));
+
+        publisher.release();
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        EventDeliveryMetrics otherMetrics = dispatcher.getDeliveryMetrics(buildEventContext(otherEventUri));
+        waitFor(() -> metrics.getDeliveredCount() == 3 && otherMetrics.getDeliveredCount() == 1);
+        Assert.assertEquals(metrics.getDroppedCount(), 1);
+        Assert.assertEquals(metrics.getQueuedCount(), 3);
+    }
+
+    @Test
+    public void testQueuedEventsAreBatched() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 10, 0, 10);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.supportBatch();
+        publisher.block();
+        EventContext eventContext = buildEventContext(EVENT_URI);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), eventContext);
+        waitFor(() -> publisher.blockedCalls.getCount() == 0);
+        dispatcher.submit(publisher, buildPayload("jti2"), eventContext);
+        dispatcher.submit(publisher, buildPayload("jti3"), buildEventContext(EVENT_URI));
+        dispatcher.submit(publisher, buildPayload("jti4"), eventContext);
+
+        publisher.release();
+        waitFor(() -> publisher.deliveredEvents.size() == 4);
+        Assert.assertEquals(publisher.batchSizes.size(), 1);
+        Assert.assertEquals(publisher.batchSizes.get(0).intValue(), 3);
+        Assert.assertEquals(publisher.deliveredEvents.get(3), "jti4");
+    }
+
+    @Test
+    public void testEventsAreNotBatchedWithoutBatchSupport() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 10, 0, 10);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.rejectEvent("jti2");
+        publisher.block();
+        EventContext eventContext = buildEventContext(EVENT_URI);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), eventContext);
+        waitFor(() -> publisher.blockedCalls.getCount() == 0);
+        dispatcher.submit(publisher, buildPayload("jti2"), eventContext);
+        dispatcher.submit(publisher, buildPayload("jti3"), eventContext);
+        dispatcher.submit(publisher, buildPayload("jti4"), eventContext);
+
+        publisher.release();
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> metrics.getDeliveredCount() + metrics.getFailedCount() == 4);
+        // The rejected event in the middle neither drops nor re-sends the events around it.
+        Assert.assertTrue(publisher.batchSizes.isEmpty());
+        Assert.assertEquals(publisher.deliveredEvents, Arrays.asList("jti1", "jti3", "jti4"));
+        Assert.assertEquals(publisher.publishCalls.get(), 4);
+        Assert.assertEquals(metrics.getFailedCount(), 1);
+    }
+
+    @Test
+    public void testMaxPendingEventsRejectsEvents() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 0, 10, 2, 60000);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.block();
+        String otherEventUri = "https://schemas.identity.wso2.org/events/registration";
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(otherEventUri));
+        try {
+            dispatcher.submit(publisher, buildPayload("jti3"), buildEventContext(EVENT_URI));
+            Assert.fail("Expected EventPublisherServerException");
+        } catch (EventPublisherServerException e) {
+            Assert.assertEquals(e.getErrorCode(),
+                    ErrorMessage.ERROR_CODE_EVENT_DELIVERY_CAPACITY_EXCEEDED.getCode());
+        }
+        Assert.assertEquals(dispatcher.getPendingEventCount(), 2);
+
+        publisher.release();
+        waitFor(() -> dispatcher.getPendingEventCount() == 0);
+        dispatcher.submit(publisher, buildPayload("jti4"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.deliveredEvents.size() == 3);
+    }
+
+    @Test
+    public void testIdleChannelsAreEvicted() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 0, 10, 10, 50);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.deliveredEvents.size() == 1);
+        waitFor(() -> dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI)) == null);
+
+        // An evicted channel is created again for the next event.
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.deliveredEvents.size() == 2);
+    }
+
+    @Test
+    public void testFullQueueSpillsEventsToOutbox() throws Exception {
+
+        InMemoryEventOutboxDAO eventOutboxDAO = new InMemoryEventOutboxDAO();
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        dispatcher = new EventDeliveryDispatcher(2, 2, 1, 1, 0, 10, 100, 60000, eventOutboxDAO,
+                () -> Collections.singletonList(publisher), 20, 0);
+        publisher.block();
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.blockedCalls.getCount() == 0);
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(EVENT_URI));
+        dispatcher.submit(publisher, buildPayload("jti3"), buildEventContext(EVENT_URI));
+        // Not rejected, but kept in the outbox until the queue has free capacity.
+        dispatcher.submit(publisher, buildPayload("jti4"), buildEventContext(EVENT_URI));
+
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        Assert.assertEquals(metrics.getSpilledCount(), 1);
+        Assert.assertEquals(metrics.getDroppedCount(), 0);
+        Assert.assertEquals(eventOutboxDAO.size(), 1);
+
+        publisher.release();
+        waitFor(() -> publisher.deliveredEvents.size() == 4);
+        Assert.assertEquals(publisher.deliveredEvents.get(3), "jti4");
+        Assert.assertEquals(eventOutboxDAO.size(), 0);
+        Assert.assertEquals(metrics.getReplayedCount(), 1);
+    }
+
+    @Test
+    public void testOutboxIsReplayedOnStart() throws Exception {
+
+        InMemoryEventOutboxDAO eventOutboxDAO = new InMemoryEventOutboxDAO();
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        EventDeliveryDispatcher previousDispatcher = new EventDeliveryDispatcher(1, 10, 1, 1, 3, 60000, 100, 60000,
+                eventOutboxDAO, Collections::emptyList, 60000, 0);
+        publisher.rejectEvent("jti1", false);
+        previousDispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        EventDeliveryMetrics previousMetrics = previousDispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> previousMetrics.getRetriedCount() == 1);
+
+        // The event waiting for a retry is kept in the outbox on shutdown.
+        previousDispatcher.shutdown();
+        Assert.assertEquals(eventOutboxDAO.size(), 1);
+        Assert.assertEquals(previousMetrics.getSpilledCount(), 1);
+        Assert.assertEquals(previousMetrics.getFailedCount(), 0);
+
+        publisher.acceptEvent("jti1");
+        dispatcher = new EventDeliveryDispatcher(1, 10, 1, 1, 3, 10, 100, 60000, eventOutboxDAO,
+                () -> Collections.singletonList(publisher), 60000, 0);
+        waitFor(() -> publisher.deliveredEvents.contains("jti1"));
+        Assert.assertEquals(eventOutboxDAO.size(), 0);
+    }
+
+    @Test
+    public void testMaxPendingEventsSpillsEventsToOutbox() throws Exception {
+
+        InMemoryEventOutboxDAO eventOutboxDAO = new InMemoryEventOutboxDAO();
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 0, 10, 1, 60000, eventOutboxDAO,
+                () -> Collections.singletonList(publisher), 20, 0);
+        publisher.block();
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(EVENT_URI));
+        Assert.assertEquals(dispatcher.getPendingEventCount(), 1);
+
+        publisher.release();
+        waitFor(() -> publisher.deliveredEvents.size() == 2);
+        Assert.assertEquals(eventOutboxDAO.size(), 0);
+    }
+
+    @Test
+    public void testWaitingRetryDoesNotHoldConcurrencySlot() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 1, 60000);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.rejectEvent("jti1", false);
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(buildEventContext(EVENT_URI));
+        waitFor(() -> metrics.getRetriedCount() == 1);
+
+        // The only concurrency slot of the channel is free while the retry of the first event waits.
+        dispatcher.submit(publisher, buildPayload("jti2"), buildEventContext(EVENT_URI));
+        waitFor(() -> publisher.deliveredEvents.contains("jti2"));
+        Assert.assertEquals(dispatcher.getPendingEventCount(), 1);
+    }
+
+    @Test
+    public void testEventsAreQueuedPerDeliveryEndpoint() throws Exception {
+
+        dispatcher = new EventDeliveryDispatcher(2, 10, 1, 1, 1, 60000);
+        StubEventPublisher publisher = new StubEventPublisher(0, false);
+        publisher.deliverTo("https://receiver1.example.com/events", "https://receiver2.example.com/events");
+        publisher.rejectEndpoint("https://receiver1.example.com/events");
+
+        dispatcher.submit(publisher, buildPayload("jti1"), buildEventContext(EVENT_URI));
+
+        EventDeliveryMetrics failingMetrics = dispatcher.getDeliveryMetrics(
+                buildEventContext(EVENT_URI, "https://receiver1.example.com/events"));
+        EventDeliveryMetrics metrics = dispatcher.getDeliveryMetrics(
+                buildEventContext(EVENT_URI, "https://receiver2.example.com/events"));
+        waitFor(() -> failingMetrics.getRetriedCount() == 1 && metrics.getDeliveredCount() == 1);
+        Assert.assertEquals(publisher.deliveredEndpoints,
+                Collections.singletonList("https://receiver2.example.com/events"));
+        Assert.assertEquals(failingMetrics.getDeliveredCount(), 0);
+        Assert.assertEquals(dispatcher.getDeliveryMetrics().size(), 2);
+    }
+
+    @Test
+    public void testSubmitAfterShutdown() {
+
+        dispatcher = new EventDeliveryDispatcher(1, 10, 1, 1, 0, 10);
+        dispatcher.shutdown();
+        try {
+            dispatcher.submit(new StubEventPublisher(0, false), buildPayload("jti1"),
+                    buildEventContext(EVENT_URI));
+            Assert.fail("Expected EventPublisherServerException");
+        } catch (EventPublisherServerException e) {
+            Assert.assertEquals(e.getErrorCode(), ErrorMessage.ERROR_CODE_EVENT_DELIVERY_STOPPED.getCode());
+        }
+    }
+
+    private static SecurityEventTokenPayload buildPayload(String jti) {
+
+        return SecurityEventTokenPayload.builder().iss("issuer").jti(jti).build();
+    }
+
+    private static EventContext buildEventContext(String eventUri) {
+
+        return buildEventContext(eventUri, null);
+    }
+
+    private static EventContext buildEventContext(String eventUri, String endpoint) {
+
+        return EventContext.builder().tenantDomain(TENANT_DOMAIN).eventUri(eventUri).eventProfileName("WSO2")
+                .eventProfileVersion("v1").endpoint(endpoint).build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Condition was not met in time.");
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    /**
+     * Event publisher simulating a receiver which fails a given number of calls before accepting events.
+     */
+    private static class StubEventPublisher implements EventPublisher {
+
+        private final AtomicInteger publishCalls = new AtomicInteger();
+        private final List<String> deliveredEvents = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<String> deliveredEndpoints = new CopyOnWriteArrayList<>();
+        private final int failingCalls;
+        private final boolean clientError;
+        private final CountDownLatch blockedCalls = new CountDownLatch(1);
+        private final Set<String> rejectedEvents = ConcurrentHashMap.newKeySet();
+        private final Set<String> unavailableEvents = ConcurrentHashMap.newKeySet();
+        private final Set<String> unavailableEndpoints = ConcurrentHashMap.newKeySet();
+        private volatile List<String> endpoints = Collections.emptyList();
+        private volatile CountDownLatch releaseLatch;
+        private volatile boolean batchSupported;
+
+        private StubEventPublisher(int failingCalls, boolean clientError) {
+
+            this.failingCalls = failingCalls;
+            this.clientError = clientError;
+        }
+
+        private void block() {
+
+            releaseLatch = new CountDownLatch(1);
+        }
+
+        private void release() {
+
+            releaseLatch.countDown();
+        }
+
+        private void supportBatch() {
+
+            batchSupported = true;
+        }
+
+        private void rejectEvent(String jti) {
+
+            rejectEvent(jti, true);
+        }
+
+        private void rejectEvent(String jti, boolean clientError) {
+
+            (clientError ? rejectedEvents : unavailableEvents).add(jti);
+        }
+
+        private void acceptEvent(String jti) {
+
+            rejectedEvents.remove(jti);
+            unavailableEvents.remove(jti);
+        }
+
+        private void deliverTo(String... endpoints) {
+
+            this.endpoints = Arrays.asList(endpoints);
+        }
+
+        private void rejectEndpoint(String endpoint) {
+
+            unavailableEndpoints.add(endpoint);
+        }
+
+        @Override
+        public String getAssociatedAdapter() {
+
+            return "stubAdapter";
+        }
+
+        @Override
+        public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                throws EventPublisherException {
+
+            if (eventContext.getEndpoint() != null) {
+                if (unavailableEndpoints.contains(eventContext.getEndpoint())) {
+                    publishCalls.incrementAndGet();
+                    throw new EventPublisherServerException("E", "Server error", "Endpoint is unavailable.");
+                }
+                deliveredEndpoints.add(eventContext.getEndpoint());
+            }
+            receive(payload);
+        }
+
+        @Override
+        public void publishBatch(List<SecurityEventTokenPayload> payloads, EventContext eventContext)
+                throws EventPublisherException {
+
+            batchSizes.add(payloads.size());
+            for (SecurityEventTokenPayload payload : payloads) {
+                receive(payload);
+            }
+        }
+
+        @Override
+        public boolean supportsBatch() {
+
+            return batchSupported;
+        }
+
+        @Override
+        public List<String> getDeliveryEndpoints(EventContext eventContext) {
+
+            return endpoints;
+        }
+
+        @Override
+        public boolean canHandleEvent(EventContext eventContext) {
+
+            return true;
+        }
+
+        private void receive(SecurityEventTokenPayload payload) throws EventPublisherException {
+
+            if (releaseLatch != null) {
+                blockedCalls.countDown();
+                try {
+                    releaseLatch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (rejectedEvents.contains(payload.getJti())) {
+                publishCalls.incrementAndGet();
+                throw new EventPublisherClientException("E", "Client error", "Event is rejected by the receiver.");
+            }
+            if (unavailableEvents.contains(payload.getJti())) {
+                publishCalls.incrementAndGet();
+                throw new EventPublisherServerException("E", "Server error", "Receiver is unavailable.");
+            }
+            if (publishCalls.incrementAndGet() <= failingCalls) {
+                if (clientError) {
+                    throw new EventPublisherClientException("E", "Client error", "Rejected by the receiver.");
+                }
+                throw new EventPublisherServerException("E", "Server error", "Receiver is unavailable.");
+            }
+            deliveredEvents.add(payload.getJti());
+        }
+    }
+
+    /**
+     * Event outbox keeping the events in memory, in the order they are added.
+     */
+    private static class InMemoryEventOutboxDAO implements EventOutboxDAO {
+
+        private final Map<String, OutboxEvent> events = new LinkedHashMap<>();
+
+        private synchronized int size() {
+
+            return events.size();
+        }
+
+        @Override
+        public synchronized void addEvent(OutboxEvent event) {
+
+            events.put(event.getId(), event);
+        }
+
+        @Override
+        public synchronized List<OutboxEvent> getEvents(String adapter, int limit) {
+
+            List<OutboxEvent> adapterEvents = new ArrayList<>();
+            for (OutboxEvent event : events.values()) {
+                if (adapterEvents.size() < limit && adapter.equals(event.getAdapter())) {
+                    adapterEvents.add(event);
+                }
+            }
+            return adapterEvents;
+        }
+
+        @Override
+        public synchronized boolean deleteEvent(String id) {
+
+            return events.remove(id) != null;
+        }
+    }
+}
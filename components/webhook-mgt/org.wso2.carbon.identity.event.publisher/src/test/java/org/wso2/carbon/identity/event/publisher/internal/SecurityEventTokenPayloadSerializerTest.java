@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.publisher.api.model.EventPayload;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.model.common.ComplexSubject;
+import org.wso2.carbon.identity.event.publisher.api.model.common.SimpleSubject;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.SecurityEventTokenPayloadSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test class for SecurityEventTokenPayloadSerializer.
+ */
+public class SecurityEventTokenPayloadSerializerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testDeserializedPayloadIsPublishedAsTheSameJson() throws Exception {
+
+        SecurityEventTokenPayload eventPayload = SecurityEventTokenPayload.builder()
+                .iss("https://localhost:9443/oauth2/token")
+                .jti("jti1")
+                .iat(1700000000000L)
+                .rci("rci1")
+                .subId(ComplexSubject.builder()
+                        .tenant(SimpleSubject.createOpaqueSubject("carbon.super"))
+                        .user(SimpleSubject.createOpaqueSubject("user1"))
+                        .build())
+                .events(Collections.singletonMap("https://schemas.identity.wso2.org/events/login",
+                        new LoginEventPayload("user1", Arrays.asList("BasicAuthenticator", "TOTP"))))
+                .build();
+
+        byte[] serializedPayload = SecurityEventTokenPayloadSerializer.serialize(eventPayload);
+        SecurityEventTokenPayload deserializedPayload =
+                SecurityEventTokenPayloadSerializer.deserialize(serializedPayload);
+
+        Assert.assertEquals(deserializedPayload.getJti(), "jti1");
+        Assert.assertEquals(deserializedPayload.getIat(), 1700000000000L);
+        Assert.assertNull(deserializedPayload.getAud());
+        Assert.assertEquals(deserializedPayload.getSubId().getFormat(), eventPayload.getSubId().getFormat());
+        Assert.assertEquals(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsBytes(deserializedPayload)),
+                OBJECT_MAPPER.readTree(serializedPayload));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testDeserializeInvalidPayload() throws Exception {
+
+        SecurityEventTokenPayloadSerializer.deserialize("[]".getBytes());
+    }
+
+    /**
+     * Event payload of a login event.
+     */
+    private static class LoginEventPayload extends EventPayload {
+
+        private final String userId;
+        private final List<String> authenticators;
+
+        private LoginEventPayload(String userId, List<String> authenticators) {
+
+            this.userId = userId;
+            this.authenticators = authenticators;
+        }
+
+        public String getUserId() {
+
+            return userId;
+        }
+
+        public List<String> getAuthenticators() {
+
+            return authenticators;
+        }
+    }
+}
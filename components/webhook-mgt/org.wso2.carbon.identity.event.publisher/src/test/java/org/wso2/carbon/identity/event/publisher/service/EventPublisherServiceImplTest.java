@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -34,6 +35,7 @@ import org.wso2.carbon.identity.event.publisher.api.model.common.SimpleSubject;
 import org.wso2.carbon.identity.event.publisher.api.model.common.Subject;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
 import org.wso2.carbon.identity.event.publisher.internal.component.EventPublisherComponentServiceHolder;
+import org.wso2.carbon.identity.event.publisher.internal.delivery.EventDeliveryDispatcher;
 import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventPublisherServiceImpl;
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 
@@ -67,6 +69,7 @@ public class EventPublisherServiceImplTest {
 
     private List<EventPublisher> eventPublishers;
     private EventPublisherServiceImpl eventPublisherService;
+    private EventDeliveryDispatcher eventDeliveryDispatcher;
 
     @BeforeClass
     public void setupClass() {
@@ -81,6 +84,8 @@ public class EventPublisherServiceImplTest {
         Adapter webhookAdapterMock = Mockito.mock(Adapter.class);
         Mockito.when(webhookAdapterMock.getName()).thenReturn("webSubHubAdapter");
         serviceHolder.setWebhookAdapter(webhookAdapterMock);
+        eventDeliveryDispatcher = new EventDeliveryDispatcher();
+        serviceHolder.setEventDeliveryDispatcher(eventDeliveryDispatcher);
 
         eventPublisherService = EventPublisherServiceImpl.getInstance();
     }
@@ -99,6 +104,13 @@ public class EventPublisherServiceImplTest {
         EventPublisherComponentServiceHolder.getInstance().setEventPublishers(null);
     }
 
+    @AfterClass
+    public void tearDownClass() {
+
+        EventPublisherComponentServiceHolder.getInstance().setEventDeliveryDispatcher(null);
+        eventDeliveryDispatcher.shutdown();
+    }
+
     @Test
     public void testPublishWithException() throws Exception {
 
@@ -146,6 +158,23 @@ public class EventPublisherServiceImplTest {
         }
     }
 
+    @Test
+    public void testPublishWhenEventDeliveryIsStopped() throws Exception {
+
+        when(mockEventPublisher1.getAssociatedAdapter()).thenReturn("webSubHubAdapter");
+
+        EventPublisherComponentServiceHolder.getInstance().setEventDeliveryDispatcher(null);
+        try {
+            eventPublisherService.publish(mockEventPayload, mockEventContext);
+            Assert.fail("Expected EventPublisherException");
+        } catch (EventPublisherException e) {
+            Assert.assertEquals(e.getErrorCode(), ErrorMessage.ERROR_CODE_EVENT_DELIVERY_STOPPED.getCode());
+        } finally {
+            EventPublisherComponentServiceHolder.getInstance().setEventDeliveryDispatcher(eventDeliveryDispatcher);
+        }
+        verify(mockEventPublisher1, never()).publish(any(), any());
+    }
+
     @Test
     public void testCanHandleEventSuccess() throws Exception {
 
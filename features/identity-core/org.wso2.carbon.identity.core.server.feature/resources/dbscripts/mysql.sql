@@ -1647,6 +1647,19 @@ CREATE TABLE IF NOT EXISTS IDN_WEBHOOK_TOPIC (
     UNIQUE (TOPIC, TENANT_ID)
 )DEFAULT CHARACTER SET latin1 ENGINE INNODB;
 
+CREATE TABLE IF NOT EXISTS IDN_WEBHOOK_EVENT_OUTBOX (
+    ID CHAR(36) NOT NULL,
+    ADAPTER VARCHAR(255) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    EVENT_URI VARCHAR(255) NOT NULL,
+    EVENT_PROFILE_NAME VARCHAR(100),
+    EVENT_PROFILE_VERSION VARCHAR(15),
+    ENDPOINT VARCHAR(2048),
+    PAYLOAD LONGBLOB NOT NULL,
+    QUEUED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (ID)
+)DEFAULT CHARACTER SET latin1 ENGINE INNODB;
+
 CREATE TABLE IF NOT EXISTS APP_GROUP_ASSOCIATION (
     ID INTEGER NOT NULL AUTO_INCREMENT,
     APP_ID INTEGER NOT NULL,
@@ -1826,6 +1839,9 @@ CREATE TABLE IF NOT EXISTS IDN_ASYNC_OPERATION_STATUS (
 	CREATED_AT TIMESTAMP NOT NULL,
 	LAST_MODIFIED TIMESTAMP NOT NULL,
 	POLICY VARCHAR(127),
+	SUCCESS_COUNT INTEGER,
+	FAILED_COUNT INTEGER,
+	PARTIALLY_COMPLETED_COUNT INTEGER,
 
 	PRIMARY KEY (OPERATION_ID),
 	CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
@@ -1951,6 +1967,9 @@ CREATE INDEX IDX_TK_VALUE_TYPE ON IDN_OAUTH2_TOKEN_BINDING (TOKEN_BINDING_VALUE,
 -- IDN_FED_AUTH_SESSION_MAPPING --
 CREATE INDEX IDX_FEDERATED_AUTH_SESSION_ID ON IDN_FED_AUTH_SESSION_MAPPING (SESSION_ID);
 
+-- SP_APP --
+CREATE INDEX IDX_SP_APP_TENANT_NAME_ID ON SP_APP (TENANT_ID, APP_NAME, ID);
+
 -- IDN_REMOTE_FETCH_REVISIONS --
 CREATE INDEX IDX_REMOTE_FETCH_REVISION_CONFIG_ID ON IDN_REMOTE_FETCH_REVISIONS (CONFIG_ID);
 
@@ -1976,6 +1995,9 @@ CREATE INDEX IDX_AUTH_PROP_AUTH_ID ON IDP_AUTHENTICATOR_PROPERTY (AUTHENTICATOR_
 -- IDN_CONFIG_FILE --
 CREATE INDEX IDX_CON_FILE_RES_ID ON IDN_CONFIG_FILE (RESOURCE_ID);
 
+-- IDN_CONFIG_ATTRIBUTE --
+CREATE INDEX IDX_CON_ATTR_KEY_RES_ID ON IDN_CONFIG_ATTRIBUTE (ATTR_KEY, RESOURCE_ID);
+
 -- SCOPE --
 CREATE INDEX API_ID_NAME_INDEX ON SCOPE (API_ID, NAME);
 
@@ -1998,6 +2020,9 @@ CREATE INDEX IDX_IDN_WEBHOOK_CHANNELS_WID ON IDN_WEBHOOK_CHANNELS (WEBHOOK_ID);
 -- WEBHOOK TOPIC --
 CREATE INDEX IDX_IDN_WEBHOOK_TOPIC_TOPIC ON IDN_WEBHOOK_TOPIC (TOPIC);
 
+-- WEBHOOK EVENT OUTBOX --
+CREATE INDEX IDX_IDN_WEBHOOK_OUTBOX_A_QT ON IDN_WEBHOOK_EVENT_OUTBOX (ADAPTER, QUEUED_TIME);
+
 -- SAML --
 CREATE INDEX IDX_SAML2_SP_TENANT_ID ON IDN_SAML2_SERVICE_PROVIDER (TENANT_ID);
 CREATE INDEX IDX_SAML2_SP_PROPERTIES ON IDN_SAML2_SP_PROPERTIES (SP_ID);
@@ -2454,6 +2454,19 @@ CREATE OR REPLACE TRIGGER IDN_WEBHOOK_TOPIC_TRIGGER
             SELECT IDN_WEBHOOK_TOPIC_SEQ.nextval INTO :NEW.ID FROM dual;
         END;
 /
+CREATE TABLE IDN_WEBHOOK_EVENT_OUTBOX (
+    ID CHAR(36) NOT NULL,
+    ADAPTER VARCHAR(255) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    EVENT_URI VARCHAR(255) NOT NULL,
+    EVENT_PROFILE_NAME VARCHAR(100),
+    EVENT_PROFILE_VERSION VARCHAR(15),
+    ENDPOINT VARCHAR(2048),
+    PAYLOAD BLOB NOT NULL,
+    QUEUED_TIME NUMBER(19) NOT NULL,
+    PRIMARY KEY (ID)
+)
+/
 CREATE TABLE APP_GROUP_ASSOCIATION (
   ID INTEGER NOT NULL,
   APP_ID INTEGER NOT NULL,
@@ -2780,6 +2793,9 @@ CREATE TABLE IDN_ASYNC_OPERATION_STATUS (
     CREATED_AT TIMESTAMP NOT NULL,
     LAST_MODIFIED TIMESTAMP NOT NULL,
     POLICY VARCHAR(127),
+    SUCCESS_COUNT INTEGER,
+    FAILED_COUNT INTEGER,
+    PARTIALLY_COMPLETED_COUNT INTEGER,
     PRIMARY KEY (OPERATION_ID),
     CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
 )
@@ -2982,6 +2998,8 @@ CREATE INDEX IDX_FEDERATED_AUTH_SESSION_ID ON IDN_FED_AUTH_SESSION_MAPPING (SESS
 -- SP_APP --
 CREATE INDEX IDX_SP_APP_NAME_CI ON SP_APP (LOWER(APP_NAME))
   /
+CREATE INDEX IDX_SP_APP_TENANT_NAME_ID ON SP_APP (TENANT_ID, APP_NAME, ID)
+  /
 -- IDN_REMOTE_FETCH_REVISIONS --
 CREATE INDEX IDX_REMOTE_FETCH_REVISION_CONFIG_ID ON IDN_REMOTE_FETCH_REVISIONS (CONFIG_ID)
 /
@@ -3008,6 +3026,9 @@ CREATE INDEX IDX_AUTH_PROP_AUTH_ID ON IDP_AUTHENTICATOR_PROPERTY (AUTHENTICATOR_
 -- IDN_CONFIG_FILE --
 CREATE INDEX IDX_CON_FILE_RES_ID ON IDN_CONFIG_FILE (RESOURCE_ID)
 /
+-- IDN_CONFIG_ATTRIBUTE --
+CREATE INDEX IDX_CON_ATTR_KEY_RES_ID ON IDN_CONFIG_ATTRIBUTE (ATTR_KEY, RESOURCE_ID)
+/
 -- SCOPE --
 CREATE INDEX API_ID_NAME_INDEX ON SCOPE (API_ID, NAME)
 /
@@ -3039,6 +3060,10 @@ CREATE INDEX IDX_IDN_WEBHOOK_CHANNELS_WID ON IDN_WEBHOOK_CHANNELS (WEBHOOK_ID)
 CREATE INDEX IDX_IDN_WEBHOOK_TOPIC_TOPIC ON IDN_WEBHOOK_TOPIC (TOPIC)
 /
 
+-- WEBHOOK EVENT OUTBOX --
+CREATE INDEX IDX_IDN_WEBHOOK_OUTBOX_A_QT ON IDN_WEBHOOK_EVENT_OUTBOX (ADAPTER, QUEUED_TIME)
+/
+
 -- SAML --
 CREATE INDEX IDX_SAML2_SP_TENANT_ID ON IDN_SAML2_SERVICE_PROVIDER (TENANT_ID)
 /